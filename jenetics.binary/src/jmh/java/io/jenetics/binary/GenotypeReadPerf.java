@@ -0,0 +1,155 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.lang.String.format;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.util.IO;
+
+/**
+ * Compares the binary genotype reader with the Java serialization and the
+ * XML reader.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenotypeReadPerf {
+
+	private static final Reader<Genotype<DoubleGene>> READER = Reader.doc(
+		Readers.Genotype.reader(Readers.DoubleChromosome.reader())
+	);
+
+	@State(Scope.Benchmark)
+	public static class IOState {
+
+		@Param({"1", "10", "100", "1000", "10000"})
+		public int chromosomeCount;
+
+		public byte[] objectData;
+		public byte[] xmlData;
+		public byte[] binaryData;
+		public ByteBuffer binaryBuffer;
+
+		@Setup
+		public void setup() throws Exception {
+			final Genotype<DoubleGene> genotype = Genotype.of(
+				DoubleChromosome.of(0.0, 1.0, 100),
+				chromosomeCount
+			);
+
+			objectData = IO.object.toByteArray(genotype);
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			io.jenetics.xml.Writers.Genotype.write(
+				out,
+				genotype,
+				io.jenetics.xml.Writers.DoubleChromosome.writer()
+			);
+			xmlData = out.toByteArray();
+
+			out = new ByteArrayOutputStream();
+			Writers.Genotype.write(
+				out,
+				genotype,
+				Writers.DoubleChromosome.writer()
+			);
+			binaryData = out.toByteArray();
+			binaryBuffer = ByteBuffer.allocateDirect(binaryData.length);
+			binaryBuffer.put(binaryData).flip();
+
+			System.out.println(format(
+				"Size[chromosomes=%s, object=%s, xml=%s, binary=%s]",
+				chromosomeCount,
+				mib(objectData.length),
+				mib(xmlData.length),
+				mib(binaryData.length)
+			));
+		}
+
+		private static String mib(final int size) {
+			return format("%.4f MiB", (double)size/(1024*1024));
+		}
+
+	}
+
+	@Benchmark
+	public Object object(final IOState state) throws Exception {
+		return IO.object.read(new ByteArrayInputStream(state.objectData));
+	}
+
+	@Benchmark
+	public Object xml(final IOState state) throws Exception {
+		return io.jenetics.xml.Readers.Genotype.read(
+			new ByteArrayInputStream(state.xmlData),
+			io.jenetics.xml.Readers.DoubleChromosome.reader()
+		);
+	}
+
+	@Benchmark
+	public Object binary(final IOState state) throws Exception {
+		return Readers.Genotype.read(
+			new ByteArrayInputStream(state.binaryData),
+			Readers.DoubleChromosome.reader()
+		);
+	}
+
+	@Benchmark
+	public Object binaryBuffer(final IOState state) throws Exception {
+		return READER.read(state.binaryBuffer.duplicate());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(GenotypeReadPerf.class.getSimpleName())
+			.warmupIterations(10)
+			.measurementIterations(25)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
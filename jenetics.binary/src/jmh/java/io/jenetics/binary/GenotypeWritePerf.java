@@ -0,0 +1,115 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.util.IO;
+
+/**
+ * Compares the binary genotype writer with the Java serialization and the
+ * XML writer.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenotypeWritePerf {
+
+	@State(Scope.Benchmark)
+	public static class IOState {
+
+		@Param({"1", "10", "100", "1000", "10000"})
+		public int chromosomeCount;
+
+		public Genotype<DoubleGene> genotype;
+
+		@Setup
+		public void setup() {
+			genotype = Genotype.of(
+				DoubleChromosome.of(0.0, 1.0, 100),
+				chromosomeCount
+			);
+		}
+
+	}
+
+	@Benchmark
+	public Object object(final IOState state) throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.object.write(state.genotype, out);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public Object xml(final IOState state) throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		io.jenetics.xml.Writers.Genotype.write(
+			out,
+			state.genotype,
+			io.jenetics.xml.Writers.DoubleChromosome.writer()
+		);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public Object binary(final IOState state) throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotype.write(
+			out,
+			state.genotype,
+			Writers.DoubleChromosome.writer()
+		);
+		return out.toByteArray();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(GenotypeWritePerf.class.getSimpleName())
+			.warmupIterations(10)
+			.measurementIterations(25)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
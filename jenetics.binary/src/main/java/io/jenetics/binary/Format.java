@@ -0,0 +1,177 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.lang.String.format;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Definition of the binary format: magic number, format version, type tags and
+ * helper methods for reading and writing primitive arrays. All values are
+ * written in <em>big-endian</em> byte order, as defined by {@link DataOutput}.
+ *
+ * <pre>
+ * document   := MAGIC VERSION object
+ * object     := TAG payload
+ * </pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class Format {
+	private Format() {}
+
+	/**
+	 * The magic number of a binary document: {@code "JNTC"}.
+	 */
+	static final int MAGIC = 0x4A4E5443;
+
+	/**
+	 * The current binary format version.
+	 */
+	static final byte VERSION = 1;
+
+	// Type tags of the written objects.
+	static final byte BIT_CHROMOSOME = 1;
+	static final byte CHARACTER_CHROMOSOME = 2;
+	static final byte INTEGER_CHROMOSOME = 3;
+	static final byte LONG_CHROMOSOME = 4;
+	static final byte DOUBLE_CHROMOSOME = 5;
+	static final byte PERMUTATION_CHROMOSOME = 6;
+	static final byte GENOTYPE = 16;
+	static final byte GENOTYPES = 17;
+
+	/* *************************************************************************
+	 * Reading methods.
+	 * ************************************************************************/
+
+	static void readHeader(final ByteBuffer buffer) throws IOException {
+		buffer.order(ByteOrder.BIG_ENDIAN);
+
+		final int magic = buffer.getInt();
+		if (magic != MAGIC) {
+			throw new IOException(format(
+				"Invalid magic number 0x%08X.", magic
+			));
+		}
+		final byte version = buffer.get();
+		if (version != VERSION) {
+			throw new IOException(format(
+				"Unsupported format version %d, expected version %d.",
+				version, VERSION
+			));
+		}
+	}
+
+	static void readTag(final ByteBuffer buffer, final byte tag)
+		throws IOException
+	{
+		final byte value = buffer.get();
+		if (value != tag) {
+			throw new IOException(format(
+				"Expected type tag %d, but got %d.", tag, value
+			));
+		}
+	}
+
+	static int readLength(final ByteBuffer buffer) throws IOException {
+		final int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()*8L) {
+			throw new IOException(format("Invalid length %d.", length));
+		}
+		return length;
+	}
+
+	static char[] readChars(final ByteBuffer buffer, final int length) {
+		final char[] values = new char[length];
+		buffer.asCharBuffer().get(values);
+		buffer.position(buffer.position() + length*Character.BYTES);
+		return values;
+	}
+
+	static int[] readInts(final ByteBuffer buffer, final int length) {
+		final int[] values = new int[length];
+		buffer.asIntBuffer().get(values);
+		buffer.position(buffer.position() + length*Integer.BYTES);
+		return values;
+	}
+
+	static long[] readLongs(final ByteBuffer buffer, final int length) {
+		final long[] values = new long[length];
+		buffer.asLongBuffer().get(values);
+		buffer.position(buffer.position() + length*Long.BYTES);
+		return values;
+	}
+
+	static double[] readDoubles(final ByteBuffer buffer, final int length) {
+		final double[] values = new double[length];
+		buffer.asDoubleBuffer().get(values);
+		buffer.position(buffer.position() + length*Double.BYTES);
+		return values;
+	}
+
+
+	/* *************************************************************************
+	 * Writing methods.
+	 * ************************************************************************/
+
+	static void writeHeader(final DataOutput out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+	}
+
+	static void writeChars(final DataOutput out, final char[] values)
+		throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(values.length*Character.BYTES);
+		buffer.asCharBuffer().put(values);
+		out.write(buffer.array());
+	}
+
+	static void writeInts(final DataOutput out, final int[] values)
+		throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(values.length*Integer.BYTES);
+		buffer.asIntBuffer().put(values);
+		out.write(buffer.array());
+	}
+
+	static void writeLongs(final DataOutput out, final long[] values)
+		throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(values.length*Long.BYTES);
+		buffer.asLongBuffer().put(values);
+		out.write(buffer.array());
+	}
+
+	static void writeDoubles(final DataOutput out, final double[] values)
+		throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(values.length*Double.BYTES);
+		buffer.asDoubleBuffer().put(values);
+		out.write(buffer.array());
+	}
+
+}
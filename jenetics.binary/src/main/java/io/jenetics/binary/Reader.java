@@ -0,0 +1,107 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * Binary reader interface, used for reading objects in the binary format of
+ * this module. The data is read directly from a {@link ByteBuffer}, which
+ * allows to read memory mapped files without copying the file content first.
+ *
+ * <pre>{@code
+ * try (FileChannel channel = FileChannel.open(path)) {
+ *     final ByteBuffer buffer = channel.map(READ_ONLY, 0, channel.size());
+ *     final List<Genotype<DoubleGene>> population = Reader
+ *         .doc(Readers.Genotypes.reader(Readers.DoubleChromosome.reader()))
+ *         .read(buffer);
+ * }
+ * }</pre>
+ *
+ * @see Writer
+ *
+ * @param <T> the type of the read object
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface Reader<T> {
+
+	/**
+	 * Read the data of type {@code T} from the given byte {@code buffer},
+	 * starting at the current buffer position. After reading, the buffer is
+	 * positioned after the read object.
+	 *
+	 * @param buffer the byte buffer to read the object from
+	 * @return the read object
+	 * @throws IOException if the buffer doesn't contain a valid object
+	 * @throws NullPointerException if the given {@code buffer} is {@code null}
+	 */
+	T read(final ByteBuffer buffer) throws IOException;
+
+	/**
+	 * Create a new reader for the new mapped type {@code B}.
+	 *
+	 * @param mapper the mapper function
+	 * @param <B> the target type of the new reader
+	 * @return a new reader
+	 * @throws NullPointerException if the given {@code mapper} function is
+	 *         {@code null}
+	 */
+	default <B> Reader<B> map(final Function<? super T, ? extends B> mapper) {
+		requireNonNull(mapper);
+		return buffer -> mapper.apply(read(buffer));
+	}
+
+	/**
+	 * Return a reader which reads and validates the document header, the
+	 * magic number and the format version, before the object is read with the
+	 * given {@code reader}. The byte order of the given buffer is set to
+	 * <em>big-endian</em>. Invalid data, e.g. a truncated buffer or invalid
+	 * gene values, leads to an {@link IOException}.
+	 *
+	 * @param reader the reader of the document object
+	 * @param <T> the type of the read object
+	 * @return a new document reader
+	 * @throws NullPointerException if the given {@code reader} is {@code null}
+	 */
+	static <T> Reader<T> doc(final Reader<? extends T> reader) {
+		requireNonNull(reader);
+
+		return buffer -> {
+			try {
+				Format.readHeader(buffer);
+				return reader.read(buffer);
+			} catch (BufferUnderflowException e) {
+				throw new IOException("Premature end of binary data.", e);
+			} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+				throw new IOException(e);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,562 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongGene;
+import io.jenetics.util.CharSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * This class contains static fields and methods, for creating chromosome- and
+ * genotype readers for different gene types. The binary counterpart of the
+ * {@code io.jenetics.xml.Readers} class.
+ *
+ * <pre>{@code
+ * final Reader<Genotype<BitGene> bgr =
+ *     Readers.Genotype.reader(Readers.BitChromosome.reader()));
+ *
+ * final Reader<Genotype<IntegerGene>> igr =
+ *     Readers.Genotype.reader(Readers.IntegerChromosome.reader()));
+ *
+ * final Reader<Genotype<DoubleGene>> dgr =
+ *     Readers.Genotype.reader(Readers.DoubleChromosome.reader()));
+ * }</pre>
+ *
+ * @see Writers
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Readers {
+	private Readers() {}
+
+	/**
+	 * Bit chromosome reader methods, which reads the binary layout written by
+	 * {@link Writers.BitChromosome}.
+	 */
+	public static final class BitChromosome {
+		private BitChromosome() {}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.BitChromosome} objects.
+		 *
+		 * @return a chromosome reader
+		 */
+		public static Reader<io.jenetics.BitChromosome> reader() {
+			return buffer -> {
+				Format.readTag(buffer, Format.BIT_CHROMOSOME);
+				final int length = Format.readLength(buffer);
+				final double p = buffer.getDouble();
+				final int size = Format.readLength(buffer);
+
+				final ByteBuffer bits = buffer.slice();
+				bits.limit(size);
+				buffer.position(buffer.position() + size);
+
+				return io.jenetics.BitChromosome.of(BitSet.valueOf(bits), length, p);
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.BitChromosome} from the given input
+		 * stream.
+		 *
+		 * @param in the data source of the bit-chromosome
+		 * @return the bit-chromosome read from the input stream
+		 * @throws IOException if reading the chromosome fails
+		 * @throws NullPointerException if the given input stream is {@code null}
+		 */
+		public static io.jenetics.BitChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readDoc(in, reader());
+		}
+	}
+
+	/**
+	 * Character chromosome reader methods, which reads the binary layout
+	 * written by {@link Writers.CharacterChromosome}.
+	 */
+	public static final class CharacterChromosome {
+		private CharacterChromosome() {}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.CharacterChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome reader
+		 */
+		public static Reader<io.jenetics.CharacterChromosome> reader() {
+			return buffer -> {
+				Format.readTag(buffer, Format.CHARACTER_CHROMOSOME);
+				final int length = Format.readLength(buffer);
+				final char[] valid = Format.readChars(buffer, Format.readLength(buffer));
+				final char[] alleles = Format.readChars(buffer, length);
+
+				return io.jenetics.CharacterChromosome.of(
+					new String(alleles),
+					new CharSeq(valid)
+				);
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.CharacterChromosome} from the given
+		 * input stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if reading the chromosome fails
+		 * @throws NullPointerException if the given input stream is {@code null}
+		 */
+		public static io.jenetics.CharacterChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readDoc(in, reader());
+		}
+	}
+
+	/**
+	 * Integer chromosome reader methods, which reads the binary layout
+	 * written by {@link Writers.IntegerChromosome}.
+	 */
+	public static final class IntegerChromosome {
+		private IntegerChromosome() {}
+
+		/**
+		 * Return the default allele reader for the {@code IntegerChromosome}.
+		 *
+		 * @return the default allele reader
+		 */
+		public static Reader<Integer> alleleReader() {
+			return ByteBuffer::getInt;
+		}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.IntegerChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome reader
+		 */
+		public static Reader<io.jenetics.IntegerChromosome> reader() {
+			return buffer -> {
+				Format.readTag(buffer, Format.INTEGER_CHROMOSOME);
+				final int length = Format.readLength(buffer);
+				final int min = buffer.getInt();
+				final int max = buffer.getInt();
+				final int[] alleles = Format.readInts(buffer, length);
+
+				final IntegerGene[] genes = new IntegerGene[length];
+				for (int i = 0; i < length; ++i) {
+					genes[i] = IntegerGene.of(alleles[i], min, max);
+				}
+
+				return io.jenetics.IntegerChromosome.of(genes);
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.IntegerChromosome} from the given
+		 * input stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if reading the chromosome fails
+		 * @throws NullPointerException if the given input stream is {@code null}
+		 */
+		public static io.jenetics.IntegerChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readDoc(in, reader());
+		}
+	}
+
+	/**
+	 * Long chromosome reader methods, which reads the binary layout written
+	 * by {@link Writers.LongChromosome}.
+	 */
+	public static final class LongChromosome {
+		private LongChromosome() {}
+
+		/**
+		 * Return the default allele reader for the {@code LongChromosome}.
+		 *
+		 * @return the default allele reader
+		 */
+		public static Reader<Long> alleleReader() {
+			return ByteBuffer::getLong;
+		}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.LongChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome reader
+		 */
+		public static Reader<io.jenetics.LongChromosome> reader() {
+			return buffer -> {
+				Format.readTag(buffer, Format.LONG_CHROMOSOME);
+				final int length = Format.readLength(buffer);
+				final long min = buffer.getLong();
+				final long max = buffer.getLong();
+				final long[] alleles = Format.readLongs(buffer, length);
+
+				final LongGene[] genes = new LongGene[length];
+				for (int i = 0; i < length; ++i) {
+					genes[i] = LongGene.of(alleles[i], min, max);
+				}
+
+				return io.jenetics.LongChromosome.of(genes);
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.LongChromosome} from the given input
+		 * stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if reading the chromosome fails
+		 * @throws NullPointerException if the given input stream is {@code null}
+		 */
+		public static io.jenetics.LongChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readDoc(in, reader());
+		}
+	}
+
+	/**
+	 * Double chromosome reader methods, which reads the binary layout written
+	 * by {@link Writers.DoubleChromosome}.
+	 */
+	public static final class DoubleChromosome {
+		private DoubleChromosome() {}
+
+		/**
+		 * Return the default allele reader for the {@code DoubleChromosome}.
+		 *
+		 * @return the default allele reader
+		 */
+		public static Reader<Double> alleleReader() {
+			return ByteBuffer::getDouble;
+		}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.DoubleChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome reader
+		 */
+		public static Reader<io.jenetics.DoubleChromosome> reader() {
+			return buffer -> {
+				Format.readTag(buffer, Format.DOUBLE_CHROMOSOME);
+				final int length = Format.readLength(buffer);
+				final double min = buffer.getDouble();
+				final double max = buffer.getDouble();
+				final double[] alleles = Format.readDoubles(buffer, length);
+
+				final DoubleGene[] genes = new DoubleGene[length];
+				for (int i = 0; i < length; ++i) {
+					genes[i] = DoubleGene.of(alleles[i], min, max);
+				}
+
+				return io.jenetics.DoubleChromosome.of(genes);
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.DoubleChromosome} from the given input
+		 * stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if reading the chromosome fails
+		 * @throws NullPointerException if the given input stream is {@code null}
+		 */
+		public static io.jenetics.DoubleChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readDoc(in, reader());
+		}
+	}
+
+	/**
+	 * Permutation chromosome reader methods, which reads the binary layout
+	 * written by {@link Writers.PermutationChromosome}.
+	 */
+	public static final class PermutationChromosome {
+		private PermutationChromosome() {}
+
+		/**
+		 * Return a reader for permutation chromosomes with the given allele
+		 * reader.
+		 *
+		 * @param alleleReader the allele reader
+		 * @param <A> the allele type
+		 * @return a permutation chromosome reader
+		 * @throws NullPointerException if the given allele reader is
+		 *        {@code null}
+		 */
+		public static <A> Reader<io.jenetics.PermutationChromosome<A>>
+		reader(final Reader<? extends A> alleleReader) {
+			requireNonNull(alleleReader);
+
+			return buffer -> {
+				Format.readTag(buffer, Format.PERMUTATION_CHROMOSOME);
+				final int length = Format.readLength(buffer);
+				final int size = Format.readLength(buffer);
+
+				final MSeq<A> valid = MSeq.ofLength(size);
+				for (int i = 0; i < size; ++i) {
+					valid.set(i, alleleReader.read(buffer));
+				}
+				final ISeq<A> validAlleles = valid.toISeq();
+				final int[] order = Format.readInts(buffer, length);
+
+				final MSeq<EnumGene<A>> genes = MSeq.ofLength(length);
+				for (int i = 0; i < length; ++i) {
+					genes.set(i, EnumGene.of(order[i], validAlleles));
+				}
+
+				return new io.jenetics.PermutationChromosome<>(genes.toISeq());
+			};
+		}
+
+		/**
+		 * Reads a new {@link io.jenetics.PermutationChromosome} from the given
+		 * input stream.
+		 *
+		 * @param <A> the allele type
+		 * @param in the data source of the chromosome
+		 * @param alleleReader the allele reader
+		 * @return a new permutation chromosome
+		 * @throws IOException if reading the chromosome fails
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <A> io.jenetics.PermutationChromosome<A>
+		read(final InputStream in, final Reader<? extends A> alleleReader)
+			throws IOException
+		{
+			return readDoc(in, reader(alleleReader));
+		}
+	}
+
+	/**
+	 * Genotype reader methods, which reads the binary layout written by
+	 * {@link Writers.Genotype}.
+	 */
+	public static final class Genotype {
+		private Genotype() {}
+
+		/**
+		 * Create a genotype reader with he given chromosome reader.
+		 *
+		 * @param chromosomeReader the underlying chromosome reader
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a genotype reader with he given chromosome reader
+		 * @throws NullPointerException if the given {@code chromosomeReader} is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Reader<io.jenetics.Genotype<G>>
+		reader(final Reader<? extends C> chromosomeReader) {
+			requireNonNull(chromosomeReader);
+
+			return buffer -> {
+				Format.readTag(buffer, Format.GENOTYPE);
+				final int length = Format.readLength(buffer);
+				if (length == 0) {
+					throw new IOException("Genotype must not be empty.");
+				}
+
+				final List<C> chromosomes = new ArrayList<>(length);
+				for (int i = 0; i < length; ++i) {
+					chromosomes.add(chromosomeReader.read(buffer));
+				}
+
+				return io.jenetics.Genotype.of(chromosomes);
+			};
+		}
+
+		/**
+		 * Reads a genotype by using the given chromosome reader.
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param in the input stream to read the genotype from
+		 * @param chromosomeReader the used chromosome reader
+		 * @return a genotype by using the given chromosome reader
+		 * @throws IOException if reading the genotype fails
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		io.jenetics.Genotype<G>
+		read(final InputStream in, final Reader<? extends C> chromosomeReader)
+			throws IOException
+		{
+			return readDoc(in, Genotype.<A, G, C>reader(chromosomeReader));
+		}
+	}
+
+	/**
+	 * Genotypes reader methods, which reads the binary layout written by
+	 * {@link Writers.Genotypes}.
+	 */
+	public static final class Genotypes {
+		private Genotypes() {}
+
+		/**
+		 * Return a genotypes reader using the given chromosome reader.
+		 *
+		 * @param chromosomeReader the underlying chromosome reader
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a genotypes reader using the given chromosome reader
+		 * @throws NullPointerException if the given {@code chromosomeReader} is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Reader<List<io.jenetics.Genotype<G>>>
+		reader(final Reader<? extends C> chromosomeReader) {
+			final Reader<io.jenetics.Genotype<G>> genotypeReader =
+				Genotype.reader(chromosomeReader);
+
+			return buffer -> {
+				Format.readTag(buffer, Format.GENOTYPES);
+				final int length = Format.readLength(buffer);
+
+				final List<io.jenetics.Genotype<G>> genotypes =
+					new ArrayList<>(length);
+				for (int i = 0; i < length; ++i) {
+					genotypes.add(genotypeReader.read(buffer));
+				}
+
+				return genotypes;
+			};
+		}
+
+		/**
+		 * Reads the genotypes by using the given chromosome reader.
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param in the input stream to read the genotype from
+		 * @param chromosomeReader the used chromosome reader
+		 * @return a genotype by using the given chromosome reader
+		 * @throws IOException if reading the genotypes fails
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		List<io.jenetics.Genotype<G>>
+		read(final InputStream in, final Reader<? extends C> chromosomeReader)
+			throws IOException
+		{
+			return readDoc(in, Genotypes.<A, G, C>reader(chromosomeReader));
+		}
+	}
+
+	/**
+	 * Reads the genotypes by using the given chromosome reader.
+	 *
+	 * @see Genotypes#read(InputStream, Reader)
+	 *
+	 * @param <A> the allele type
+	 * @param <G> the gene type
+	 * @param <C> the chromosome type
+	 * @param in the input stream to read the genotype from
+	 * @param chromosomeReader the used chromosome reader
+	 * @return a genotype by using the given chromosome reader
+	 * @throws IOException if reading the genotypes fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <
+		A,
+		G extends Gene<A, G>,
+		C extends Chromosome<G>
+	>
+	List<io.jenetics.Genotype<G>>
+	read(final InputStream in, final Reader<? extends C> chromosomeReader)
+		throws IOException
+	{
+		return Genotypes.<A, G, C>read(in, chromosomeReader);
+	}
+
+	// Reads the whole input stream and the object, including the document
+	// header, from the read bytes.
+	private static <T> T readDoc(
+		final InputStream in,
+		final Reader<? extends T> reader
+	)
+		throws IOException
+	{
+		requireNonNull(in);
+
+		final ByteBuffer buffer = ByteBuffer.wrap(in.readAllBytes());
+		final T result = Reader.<T>doc(reader).read(buffer);
+		if (buffer.hasRemaining()) {
+			throw new IOException(format(
+				"Found %d unread bytes after the end of the object.",
+				buffer.remaining()
+			));
+		}
+
+		return result;
+	}
+
+}
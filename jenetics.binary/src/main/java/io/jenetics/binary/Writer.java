@@ -0,0 +1,94 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Binary writer interface, used for writing objects in the binary format of
+ * this module. Every written object starts with a type tag, followed by the
+ * object data. Numeric alleles are written as primitive arrays.
+ *
+ * <pre>{@code
+ * final IntegerChromosome ch = IntegerChromosome.of(MIN_VALUE, MAX_VALUE, 3);
+ * try (DataOutputStream out = new DataOutputStream(stream)) {
+ *     Writer.doc(Writers.IntegerChromosome.writer()).write(out, ch);
+ * }
+ * }</pre>
+ *
+ * @see Reader
+ *
+ * @param <T> the type of the written object
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface Writer<T> {
+
+	/**
+	 * Write the data of type {@code T} to the given data output.
+	 *
+	 * @param out the data output, where the value is written to
+	 * @param data the value to write
+	 * @throws IOException if writing the data fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	void write(final DataOutput out, final T data) throws IOException;
+
+	/**
+	 * Maps this writer to a different base type.
+	 *
+	 * @param mapper the mapper function
+	 * @param <B> the new data type of returned writer
+	 * @return a writer with changed type
+	 * @throws NullPointerException if the given {@code mapper} function is
+	 *         {@code null}
+	 */
+	default <B> Writer<B> map(final Function<? super B, ? extends T> mapper) {
+		requireNonNull(mapper);
+		return (out, data) -> write(out, mapper.apply(data));
+	}
+
+	/**
+	 * Return a writer which writes the document header, the magic number and
+	 * the format version, before the object is written with the given
+	 * {@code writer}.
+	 *
+	 * @param writer the writer of the document object
+	 * @param <T> the type of the written object
+	 * @return a new document writer
+	 * @throws NullPointerException if the given {@code writer} is {@code null}
+	 */
+	static <T> Writer<T> doc(final Writer<? super T> writer) {
+		requireNonNull(writer);
+
+		return (out, data) -> {
+			Format.writeHeader(out);
+			writer.write(out, data);
+		};
+	}
+
+}
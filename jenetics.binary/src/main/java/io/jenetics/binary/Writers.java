@@ -0,0 +1,600 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
+import io.jenetics.Chromosome;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+
+/**
+ * This class contains static fields and methods, for creating chromosome- and
+ * genotype writers for different gene types. The binary counterpart of the
+ * {@code io.jenetics.xml.Writers} class.
+ *
+ * <pre>{@code
+ * final Writer<Genotype<BitGene> bgw =
+ *     Writers.Genotype.writer(Writers.BitChromosome.writer()));
+ *
+ * final Writer<Genotype<IntegerGene>> igw =
+ *     Writers.Genotype.writer(Writers.IntegerChromosome.writer()));
+ *
+ * final Writer<Genotype<DoubleGene>> dgw =
+ *     Writers.Genotype.writer(Writers.DoubleChromosome.writer()));
+ * }</pre>
+ *
+ * @see Readers
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Writers {
+	private Writers() {}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.BitChromosome} objects.
+	 * <p>
+	 * <b>Binary layout</b>
+	 * <pre>
+	 * tag:byte length:int ones-probability:double size:int bytes:byte[size]
+	 * </pre>
+	 */
+	public static final class BitChromosome {
+		private BitChromosome() {}
+
+		/**
+		 * Return a binary writer for {@link io.jenetics.BitChromosome} objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.BitChromosome> writer() {
+			return (out, data) -> {
+				final byte[] bits = data.toByteArray();
+				out.writeByte(Format.BIT_CHROMOSOME);
+				out.writeInt(data.length());
+				out.writeDouble(data.oneProbability());
+				out.writeInt(bits.length);
+				out.write(bits);
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.BitChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the bit-chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the given arguments is
+		 *         {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.BitChromosome data
+		)
+			throws IOException
+		{
+			writeDoc(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.CharacterChromosome} objects.
+	 * <p>
+	 * <b>Binary layout</b>
+	 * <pre>
+	 * tag:byte length:int valid-length:int valid-alleles:char[valid-length]
+	 *     alleles:char[length]
+	 * </pre>
+	 */
+	public static final class CharacterChromosome {
+		private CharacterChromosome() {}
+
+		/**
+		 * Return a binary writer for {@link io.jenetics.CharacterChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.CharacterChromosome> writer() {
+			return (out, data) -> {
+				final char[] valid = data.gene().validChars()
+					.toString()
+					.toCharArray();
+
+				out.writeByte(Format.CHARACTER_CHROMOSOME);
+				out.writeInt(data.length());
+				out.writeInt(valid.length);
+				Format.writeChars(out, valid);
+				Format.writeChars(out, data.toArray());
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.CharacterChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the given arguments is
+		 *         {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.CharacterChromosome data
+		)
+			throws IOException
+		{
+			writeDoc(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.IntegerChromosome} objects.
+	 * <p>
+	 * <b>Binary layout</b>
+	 * <pre>
+	 * tag:byte length:int min:int max:int alleles:int[length]
+	 * </pre>
+	 */
+	public static final class IntegerChromosome {
+		private IntegerChromosome() {}
+
+		/**
+		 * Return the default integer allele writer for the
+		 * {@code IntegerChromosome}.
+		 *
+		 * @return the default integer allele writer
+		 */
+		public static Writer<Integer> alleleWriter() {
+			return DataOutput::writeInt;
+		}
+
+		/**
+		 * Return a binary writer for {@link io.jenetics.IntegerChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.IntegerChromosome> writer() {
+			return (out, data) -> {
+				out.writeByte(Format.INTEGER_CHROMOSOME);
+				out.writeInt(data.length());
+				out.writeInt(data.min());
+				out.writeInt(data.max());
+				Format.writeInts(out, data.toArray());
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.IntegerChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the given arguments is
+		 *         {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.IntegerChromosome data
+		)
+			throws IOException
+		{
+			writeDoc(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.LongChromosome} objects.
+	 * <p>
+	 * <b>Binary layout</b>
+	 * <pre>
+	 * tag:byte length:int min:long max:long alleles:long[length]
+	 * </pre>
+	 */
+	public static final class LongChromosome {
+		private LongChromosome() {}
+
+		/**
+		 * Return the default long allele writer for the
+		 * {@code LongChromosome}.
+		 *
+		 * @return the default long allele writer
+		 */
+		public static Writer<Long> alleleWriter() {
+			return DataOutput::writeLong;
+		}
+
+		/**
+		 * Return a binary writer for {@link io.jenetics.LongChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.LongChromosome> writer() {
+			return (out, data) -> {
+				out.writeByte(Format.LONG_CHROMOSOME);
+				out.writeInt(data.length());
+				out.writeLong(data.min());
+				out.writeLong(data.max());
+				Format.writeLongs(out, data.toArray());
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.LongChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the given arguments is
+		 *         {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.LongChromosome data
+		)
+			throws IOException
+		{
+			writeDoc(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.DoubleChromosome} objects.
+	 * <p>
+	 * <b>Binary layout</b>
+	 * <pre>
+	 * tag:byte length:int min:double max:double alleles:double[length]
+	 * </pre>
+	 */
+	public static final class DoubleChromosome {
+		private DoubleChromosome() {}
+
+		/**
+		 * Return the default double allele writer for the
+		 * {@code DoubleChromosome}.
+		 *
+		 * @return the default double allele writer
+		 */
+		public static Writer<Double> alleleWriter() {
+			return DataOutput::writeDouble;
+		}
+
+		/**
+		 * Return a binary writer for {@link io.jenetics.DoubleChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.DoubleChromosome> writer() {
+			return (out, data) -> {
+				out.writeByte(Format.DOUBLE_CHROMOSOME);
+				out.writeInt(data.length());
+				out.writeDouble(data.min());
+				out.writeDouble(data.max());
+				Format.writeDoubles(out, data.toArray());
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.DoubleChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the given arguments is
+		 *         {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.DoubleChromosome data
+		)
+			throws IOException
+		{
+			writeDoc(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.PermutationChromosome} objects.
+	 * <p>
+	 * <b>Binary layout</b>
+	 * <pre>
+	 * tag:byte length:int valid-length:int valid-alleles:allele[valid-length]
+	 *     order:int[length]
+	 * </pre>
+	 */
+	public static final class PermutationChromosome {
+		private PermutationChromosome() {}
+
+		/**
+		 * Create a writer for permutation-chromosomes. How to write the valid
+		 * alleles is defined by the given {@link Writer}.
+		 *
+		 * @param alleleWriter the allele writer
+		 * @param <A> the allele type
+		 * @return a new permutation chromosome writer
+		 * @throws NullPointerException if the given allele {@code writer} is
+		 *         {@code null}
+		 */
+		public static <A> Writer<io.jenetics.PermutationChromosome<A>>
+		writer(final Writer<? super A> alleleWriter) {
+			requireNonNull(alleleWriter);
+
+			return (out, data) -> {
+				out.writeByte(Format.PERMUTATION_CHROMOSOME);
+				out.writeInt(data.length());
+				out.writeInt(data.validAlleles().length());
+				for (A allele : data.validAlleles()) {
+					alleleWriter.write(out, allele);
+				}
+				Format.writeInts(
+					out,
+					data.stream().mapToInt(EnumGene::alleleIndex).toArray()
+				);
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.PermutationChromosome} to the
+		 * given output stream.
+		 *
+		 * @param <A> the allele type
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @param alleleWriter the allele writer
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the given arguments is
+		 *         {@code null}
+		 */
+		public static <A> void write(
+			final OutputStream out,
+			final io.jenetics.PermutationChromosome<A> data,
+			final Writer<? super A> alleleWriter
+		)
+			throws IOException
+		{
+			writeDoc(out, data, writer(alleleWriter));
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.Genotype} objects.
+	 * <p>
+	 * <b>Binary layout</b>
+	 * <pre>
+	 * tag:byte length:int chromosomes:chromosome[length]
+	 * </pre>
+	 */
+	public static final class Genotype {
+		private Genotype() {}
+
+		/**
+		 * Create a writer for genotypes of arbitrary chromosomes. How to write
+		 * the genotypes chromosomes is defined by the given {@link Writer}.
+		 *
+		 * @param writer the chromosome writer
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a new genotype writer
+		 * @throws NullPointerException if the given chromosome {@code writer}
+		 *         is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Writer<io.jenetics.Genotype<G>> writer(final Writer<? super C> writer) {
+			requireNonNull(writer);
+
+			return (out, data) -> {
+				out.writeByte(Format.GENOTYPE);
+				out.writeInt(data.length());
+				for (Chromosome<G> chromosome : data) {
+					writer.write(out, cast(chromosome));
+				}
+			};
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <A, B> B cast(final A value) {
+			return (B)value;
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.Genotype} to the given output
+		 * stream.
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param out the target output stream
+		 * @param data the genotype to write
+		 * @param chromosomeWriter the chromosome writer used to write the
+		 *        genotypes
+		 * @throws IOException if the genotype could not be written
+		 * @throws NullPointerException if the one of the arguments is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final OutputStream out,
+			final io.jenetics.Genotype<G> data,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws IOException
+		{
+			writeDoc(out, data, Genotype.<A, G, C>writer(chromosomeWriter));
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.Genotype} collections.
+	 * <p>
+	 * <b>Binary layout</b>
+	 * <pre>
+	 * tag:byte length:int genotypes:genotype[length]
+	 * </pre>
+	 */
+	public static final class Genotypes {
+		private Genotypes() {}
+
+		/**
+		 * Create a writer for a collection of genotypes. How to write the
+		 * genotypes chromosomes is defined by the given {@link Writer}.
+		 *
+		 * @param writer the chromosome writer
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a new genotypes writer
+		 * @throws NullPointerException if the given chromosome {@code writer}
+		 *         is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Writer<Collection<io.jenetics.Genotype<G>>>
+		writer(final Writer<? super C> writer) {
+			final Writer<io.jenetics.Genotype<G>> genotypeWriter =
+				Genotype.writer(writer);
+
+			return (out, data) -> {
+				out.writeByte(Format.GENOTYPES);
+				out.writeInt(data.size());
+				for (io.jenetics.Genotype<G> genotype : data) {
+					genotypeWriter.write(out, genotype);
+				}
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.Genotype} collection to the given
+		 * output stream.
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param out the target output stream
+		 * @param data the genotypes to write
+		 * @param chromosomeWriter the chromosome writer used to write the
+		 *        genotypes
+		 * @throws IOException if the genotypes could not be written
+		 * @throws NullPointerException if the one of the arguments is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final OutputStream out,
+			final Collection<io.jenetics.Genotype<G>> data,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws IOException
+		{
+			writeDoc(out, data, Genotypes.<A, G, C>writer(chromosomeWriter));
+		}
+	}
+
+	/**
+	 * Write the given {@link io.jenetics.Genotype} collection to the given
+	 * output stream.
+	 *
+	 * @see Genotypes#write(OutputStream, Collection, Writer)
+	 *
+	 * @param <A> the allele type
+	 * @param <G> the gene type
+	 * @param <C> the chromosome type
+	 * @param out the target output stream
+	 * @param data the genotypes to write
+	 * @param chromosomeWriter the chromosome writer used to write the
+	 *        genotypes
+	 * @throws IOException if the genotypes could not be written
+	 * @throws NullPointerException if the one of the arguments is
+	 *         {@code null}
+	 */
+	public static <
+		A,
+		G extends Gene<A, G>,
+		C extends Chromosome<G>
+	>
+	void write(
+		final OutputStream out,
+		final Collection<io.jenetics.Genotype<G>> data,
+		final Writer<? super C> chromosomeWriter
+	)
+		throws IOException
+	{
+		Genotypes.<A, G, C>write(out, data, chromosomeWriter);
+	}
+
+	// Writes the given data object, including the document header. The given
+	// output stream is flushed, but not closed.
+	private static <T> void writeDoc(
+		final OutputStream out,
+		final T data,
+		final Writer<? super T> writer
+	)
+		throws IOException
+	{
+		requireNonNull(out);
+		requireNonNull(data);
+
+		final DataOutputStream dout =
+			new DataOutputStream(new BufferedOutputStream(out));
+		Writer.<T>doc(writer).write(dout, data);
+		dout.flush();
+	}
+
+}
@@ -19,6 +19,8 @@
  */
 package io.jenetics.ext;
 
+import java.util.Arrays;
+
 import io.jenetics.AbstractChromosome;
 import io.jenetics.util.ISeq;
 
@@ -38,7 +40,32 @@ public abstract class AbstractTreeChromosome<A, G extends AbstractTreeGene<A, G>
 
 	protected AbstractTreeChromosome(final ISeq<? extends G> genes) {
 		super(genes);
-		genes.forEach(g -> g.bind(this));
+
+		final int[] parents = parents(genes);
+		for (int i = 0; i < genes.length(); ++i) {
+			genes.get(i).bind(this, parents[i]);
+		}
+	}
+
+	// Parent index of every gene, computed in a single pass over the genes.
+	// Genes without parent, like the root gene, get the index -1.
+	private static int[] parents(
+		final ISeq<? extends AbstractTreeGene<?, ?>> genes
+	) {
+		final int[] parents = new int[genes.length()];
+		Arrays.fill(parents, -1);
+
+		for (int i = 0; i < genes.length(); ++i) {
+			final AbstractTreeGene<?, ?> gene = genes.get(i);
+			for (int j = 0; j < gene.childCount(); ++j) {
+				final int child = gene.childOffset() + j;
+				if (child < parents.length && parents[child] == -1) {
+					parents[child] = i;
+				}
+			}
+		}
+
+		return parents;
 	}
 
 }
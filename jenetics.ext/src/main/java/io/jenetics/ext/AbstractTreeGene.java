@@ -52,6 +52,9 @@ public abstract class AbstractTreeGene<A, G extends AbstractTreeGene<A, G>>
 
 	private BaseSeq<G> _genes;
 
+	// Index of the parent gene, -1 for the root gene and -2 if unknown.
+	private int _parent = -2;
+
 	/**
 	 * Creates a new tree-gene from the given data.
 	 *
@@ -121,6 +124,19 @@ public abstract class AbstractTreeGene<A, G extends AbstractTreeGene<A, G>>
 	 */
 	protected void bind(final BaseSeq<G> genes) {
 		_genes = requireNonNull(genes);
+		_parent = -2;
+	}
+
+	/**
+	 * Attaches the given genes to this gene, together with the index of the
+	 * parent gene, which allows to look up the parent in constant time.
+	 *
+	 * @param genes the genes of the attached chromosome
+	 * @param parent the index of the parent gene, or -1 for the root gene
+	 */
+	void bind(final BaseSeq<G> genes, final int parent) {
+		bind(genes);
+		_parent = parent;
 	}
 
 	@Override
@@ -134,7 +150,9 @@ public abstract class AbstractTreeGene<A, G extends AbstractTreeGene<A, G>>
 	}
 
 	/**
-	 * Return the <em>parent</em> node of this tree node.
+	 * Return the <em>parent</em> node of this tree node. This implementation
+	 * have a runtime complexity of O(1), if the gene has been attached by an
+	 * {@link AbstractTreeChromosome}.
 	 *
 	 * @return the parent node, or {@code Optional.empty()} if this node is the
 	 *         root of the tree
@@ -144,6 +162,13 @@ public abstract class AbstractTreeGene<A, G extends AbstractTreeGene<A, G>>
 	public Optional<G> parent() {
 		checkTreeState();
 
+		if (_parent >= 0) {
+			return Optional.of(_genes.get(_parent));
+		}
+		if (_parent == -1) {
+			return Optional.empty();
+		}
+
 		return _genes.stream()
 			.filter(g -> g.childStream().anyMatch(this::identical))
 			.findFirst();
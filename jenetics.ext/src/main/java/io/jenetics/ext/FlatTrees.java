@@ -0,0 +1,185 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+import io.jenetics.ext.util.FlatTree;
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Helper methods for manipulating flattened tree genes directly, without
+ * creating an intermediate {@link io.jenetics.ext.util.TreeNode} object graph.
+ * The tree genes are stored in breadth-first order, where the nodes of a
+ * sub-tree are stored level-wise in continuous ranges.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class FlatTrees {
+	private FlatTrees() {}
+
+	/**
+	 * Return the number of nodes of the sub-tree with the given root
+	 * {@code node} index. Since the nodes of every level of the sub-tree are
+	 * stored continuously, the runtime is proportional to the size of the
+	 * sub-tree.
+	 *
+	 * @param tree the flattened tree nodes
+	 * @param node the index of the sub-tree root
+	 * @return the number of nodes of the sub-tree
+	 */
+	static int size(
+		final BaseSeq<? extends FlatTree<?, ?>> tree,
+		final int node
+	) {
+		int size = 0;
+		int start = node;
+		int end = node + 1;
+
+		while (start < end) {
+			size += end - start;
+
+			int next = -1;
+			int last = -1;
+			for (int i = start; i < end; ++i) {
+				final FlatTree<?, ?> n = tree.get(i);
+				if (n.childCount() > 0) {
+					if (next == -1) {
+						next = n.childOffset();
+					}
+					last = n.childOffset() + n.childCount();
+				}
+			}
+
+			start = next;
+			end = last;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Replaces the sub-tree at the given {@code node} index of the given
+	 * {@code tree} with the sub-tree at the {@code otherNode} index of the
+	 * {@code other} tree. The result is created in a single breadth-first
+	 * pass over the resulting nodes.
+	 *
+	 * @param tree the flattened tree genes where the sub-tree is replaced
+	 * @param node the sub-tree index of the replaced sub-tree
+	 * @param other the flattened tree genes containing the inserted sub-tree
+	 * @param otherNode the index of the inserted sub-tree
+	 * @param <G> the tree gene type
+	 * @return the flattened genes of the resulting tree
+	 */
+	static <G extends TreeGene<?, G>> ISeq<G> replace(
+		final BaseSeq<G> tree,
+		final int node,
+		final BaseSeq<G> other,
+		final int otherNode
+	) {
+		final int size = tree.length() - size(tree, node) +
+			size(other, otherNode);
+
+		// Non-negative values are indexes of 'tree' nodes, negative values
+		// are the complement of the indexes of 'other' nodes.
+		final int[] queue = new int[size];
+		queue[0] = node == 0 ? ~otherNode : 0;
+
+		final MSeq<G> genes = MSeq.ofLength(size);
+		int offset = 1;
+		for (int i = 0; i < size; ++i) {
+			final int index = queue[i];
+			final G gene = index >= 0 ? tree.get(index) : other.get(~index);
+			final int count = gene.childCount();
+
+			for (int j = 0; j < count; ++j) {
+				final int child = gene.childOffset() + j;
+				queue[offset + j] = index >= 0
+					? child == node ? ~otherNode : child
+					: ~child;
+			}
+
+			genes.set(i, gene(gene, count > 0 ? offset : -1, count));
+			offset += count;
+		}
+
+		return genes.toISeq();
+	}
+
+	private static <G extends TreeGene<?, G>> G gene(
+		final G gene,
+		final int childOffset,
+		final int childCount
+	) {
+		return newInstance(gene, gene.allele(), childOffset, childCount);
+	}
+
+	// The allele type of the gene is not part of the type signature, which
+	// makes the raw call necessary.
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <G extends TreeGene<?, G>> G newInstance(
+		final G template,
+		final Object allele,
+		final int childOffset,
+		final int childCount
+	) {
+		return (G)((TreeGene)template)
+			.newInstance(allele, childOffset, childCount);
+	}
+
+	/**
+	 * Create the flattened tree genes from the given {@code tree}, without
+	 * creating an intermediate {@link io.jenetics.ext.util.FlatTreeNode}.
+	 *
+	 * @param tree the source tree
+	 * @param template the gene used for creating the new genes
+	 * @param <G> the tree gene type
+	 * @return the flattened tree genes
+	 */
+	static <G extends TreeGene<?, G>> ISeq<G> genes(
+		final Tree<?, ?> tree,
+		final G template
+	) {
+		final MSeq<G> genes = MSeq.ofLength(tree.size());
+
+		int offset = 1;
+		int index = 0;
+		for (Tree<?, ?> node : tree) {
+			final int count = node.childCount();
+			genes.set(
+				index++,
+				newInstance(
+					template,
+					node.value(),
+					count > 0 ? offset : -1,
+					count
+				)
+			);
+			offset += count;
+		}
+
+		return genes.toISeq();
+	}
+
+}
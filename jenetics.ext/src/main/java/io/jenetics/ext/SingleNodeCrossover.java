@@ -23,7 +23,9 @@ import static java.lang.String.format;
 
 import java.util.Random;
 
+import io.jenetics.Chromosome;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 
 import io.jenetics.ext.util.TreeNode;
@@ -66,7 +68,7 @@ import io.jenetics.ext.util.TreeNode;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 3.9
  */
 public class SingleNodeCrossover<
@@ -84,6 +86,32 @@ public class SingleNodeCrossover<
 		this(DEFAULT_ALTER_PROBABILITY);
 	}
 
+	/**
+	 * Swaps two randomly chosen sub-trees directly on the flattened tree
+	 * genes of the given chromosomes, without creating intermediate
+	 * {@link TreeNode} objects.
+	 *
+	 * @since 6.1
+	 */
+	@Override
+	protected void crossover(
+		final MSeq<Chromosome<G>> that,
+		final MSeq<Chromosome<G>> other,
+		final int index
+	) {
+		final Chromosome<G> c1 = that.get(index);
+		final Chromosome<G> c2 = other.get(index);
+
+		if (c1.length() > 1 && c2.length() > 1) {
+			final Random random = RandomRegistry.random();
+			final int n1 = random.nextInt(c1.length() - 1) + 1;
+			final int n2 = random.nextInt(c2.length() - 1) + 1;
+
+			that.set(index, c1.newInstance(FlatTrees.replace(c1, n1, c2, n2)));
+			other.set(index, c2.newInstance(FlatTrees.replace(c2, n2, c1, n1)));
+		}
+	}
+
 	@Override
 	protected <A> int crossover(final TreeNode<A> that, final TreeNode<A> other) {
 		return swap(that, other);
@@ -27,11 +27,10 @@ import io.jenetics.Chromosome;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.Recombinator;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 
-import io.jenetics.ext.util.FlatTree;
-import io.jenetics.ext.util.FlatTreeNode;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -41,7 +40,7 @@ import io.jenetics.ext.util.TreeNode;
  * Only the {@link #crossover(TreeNode, TreeNode)} method must be implemented.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public abstract class TreeCrossover<
@@ -97,10 +96,33 @@ public abstract class TreeCrossover<
 		return order();
 	}
 
+	/**
+	 * Performs the crossover of the tree chromosomes at the given chromosome
+	 * {@code index}. The default implementation transforms the flattened tree
+	 * genes into {@link TreeNode} objects, calls the
+	 * {@link #crossover(TreeNode, TreeNode)} template method and flattens the
+	 * altered trees again. Implementations which are able to work directly
+	 * on the flattened tree genes can override this method, which avoids the
+	 * creation of the intermediate tree objects.
+	 *
+	 * @since 6.1
+	 *
+	 * @param that the chromosomes of the first genotype
+	 * @param other the chromosomes of the second genotype
+	 * @param index the index of the chromosome to recombine
+	 */
+	protected void crossover(
+		final MSeq<Chromosome<G>> that,
+		final MSeq<Chromosome<G>> other,
+		final int index
+	) {
+		nodeCrossover(that, other, index);
+	}
+
 	// Since the allele type "A" is not part of the type signature, we have to
 	// do some unchecked casts to make it "visible" again. The implementor of
 	// the abstract "crossover" method usually don't have to do additional casts.
-	private <A> void crossover(
+	private <A> void nodeCrossover(
 		final MSeq<Chromosome<G>> c1,
 		final MSeq<Chromosome<G>> c2,
 		final int index
@@ -112,31 +134,15 @@ public abstract class TreeCrossover<
 
 		crossover(tree1, tree2);
 
-		final var flat1 = FlatTreeNode.of(tree1);
-		final var flat2 = FlatTreeNode.of(tree2);
-
-		@SuppressWarnings("unchecked")
-		final var template = (TreeGene<A, ?>)c1.get(0).gene();
+		final G template = c1.get(0).gene();
 
-		final var genes1 = flat1.map(tree -> gene(template, tree));
-		final var genes2 = flat2.map(tree -> gene(template, tree));
+		final ISeq<G> genes1 = FlatTrees.genes(tree1, template);
+		final ISeq<G> genes2 = FlatTrees.genes(tree2, template);
 
 		c1.set(index, c1.get(index).newInstance(genes1));
 		c2.set(index, c2.get(index).newInstance(genes2));
 	}
 
-	@SuppressWarnings("unchecked")
-	private <A> G gene(
-		final TreeGene<A, ?> template,
-		final FlatTree<? extends A, ?> tree
-	) {
-		return (G)template.newInstance(
-			tree.value(),
-			tree.childOffset(),
-			tree.childCount()
-		);
-	}
-
 	/**
 	 * Template method which performs the crossover. The arguments given are
 	 * mutable non null trees.
@@ -26,14 +26,13 @@ import io.jenetics.Mutator;
 import io.jenetics.MutatorResult;
 import io.jenetics.internal.math.Probabilities;
 
-import io.jenetics.ext.util.FlatTreeNode;
 import io.jenetics.ext.util.TreeNode;
 
 /**
  * Abstract class for mutating tree chromosomes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.1
  * @since 4.1
  */
 public abstract class TreeMutator<
@@ -73,12 +72,24 @@ public abstract class TreeMutator<
 			: MutatorResult.of(chromosome);
 	}
 
-	private MutatorResult<Chromosome<G>> mutate(final Chromosome<G> chromosome) {
+	/**
+	 * Mutates the given tree chromosome. The default implementation
+	 * transforms the flattened tree genes into a {@link TreeNode}, calls the
+	 * {@link #mutate(TreeNode)} template method and flattens the mutated tree
+	 * directly into new tree genes. Implementations which are able to work on
+	 * the flattened tree genes can override this method, which avoids the
+	 * creation of the intermediate tree objects.
+	 *
+	 * @since 6.1
+	 *
+	 * @param chromosome the chromosome to mutate
+	 * @return the mutation result
+	 */
+	protected MutatorResult<Chromosome<G>> mutate(final Chromosome<G> chromosome) {
 		final TreeNode<A> tree = TreeNode.ofTree(chromosome.gene());
 		mutate(tree);
 
-		final var flat = FlatTreeNode.of(tree);
-		final var genes = flat.map(t -> chromosome.gene().newInstance(t));
+		final var genes = FlatTrees.genes(tree, chromosome.gene());
 		return MutatorResult.of(chromosome.newInstance(genes), 1);
 	}
 
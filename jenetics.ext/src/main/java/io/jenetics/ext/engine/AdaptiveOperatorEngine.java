@@ -0,0 +1,514 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Evolution engine, which adapts the application probabilities of a
+ * portfolio of alterers and offspring selectors online. For every generation,
+ * one alterer and one offspring selector are chosen randomly, according to
+ * their current probabilities. After the generation has been evaluated, both
+ * operators are rewarded with the fitness improvement they achieved, per
+ * second of consumed CPU time. The fitness improvement is measured as the
+ * summed improvement of the newly created offspring over the mean fitness of
+ * the previous population. The consumed CPU time is the CPU time of the
+ * selection and the alteration step, plus the evaluation time of the
+ * generation.
+ * <p>
+ * The adaptation is done without rebuilding the underlying {@link Engine}.
+ * The engine is created only once, with an offspring selector and alterer
+ * which delegate to the currently chosen operators.
+ *
+ * <pre>{@code
+ * final AdaptiveOperatorEngine<DoubleGene, Double> engine =
+ *     AdaptiveOperatorEngine.builder(Engine.builder(problem).minimizing())
+ *         .alterer(new Mutator<>(0.2))
+ *         .alterer(new MeanAlterer<>(0.3))
+ *         .alterer(new GaussianMutator<>(0.1))
+ *         .selector(new TournamentSelector<>(3))
+ *         .selector(new RouletteWheelSelector<>())
+ *         .strategy(Strategy.ADAPTIVE_PURSUIT)
+ *         .build();
+ *
+ * final Phenotype<DoubleGene, Double> best = engine.stream()
+ *     .limit(Limits.bySteadyFitness(50))
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * @implNote
+ * The operator statistics are shared by all evolution streams created by
+ * this engine. Running more than one stream of the same engine concurrently
+ * is allowed, but the rewards can then no longer be assigned exactly to the
+ * operators which caused them.
+ *
+ * @see <a href="https://doi.org/10.1145/1068009.1068251">
+ *      D. Thierens: An Adaptive Pursuit Strategy for Allocating Operator
+ *      Probabilities</a>
+ *
+ * @param <G> the gene type
+ * @param <N> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class AdaptiveOperatorEngine<
+	G extends Gene<?, G>,
+	N extends Number & Comparable<? super N>
+>
+	implements EvolutionStreamable<G, N>
+{
+
+	/**
+	 * The strategy used for adapting the operator probabilities.
+	 */
+	public enum Strategy {
+
+		/**
+		 * The operator probabilities are proportional to the estimated
+		 * operator qualities.
+		 */
+		PROBABILITY_MATCHING,
+
+		/**
+		 * The probability of the operator with the highest estimated quality
+		 * is increased towards a maximal probability, the probabilities of
+		 * all other operators are decreased towards the minimal probability.
+		 */
+		ADAPTIVE_PURSUIT
+
+	}
+
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	private final Engine<G, N> _engine;
+	private final OperatorPortfolio<Alterer<G, N>> _alterers;
+	private final OperatorPortfolio<Selector<G, N>> _selectors;
+
+	// The operators chosen for the currently running generation.
+	private volatile Choice _choice;
+
+	private AdaptiveOperatorEngine(
+		final Engine.Builder<G, N> builder,
+		final OperatorPortfolio<Alterer<G, N>> alterers,
+		final OperatorPortfolio<Selector<G, N>> selectors
+	) {
+		_alterers = requireNonNull(alterers);
+		_selectors = requireNonNull(selectors);
+		_engine = builder.copy()
+			.offspringSelector(new OffspringSelector())
+			.alterers(new OffspringAlterer())
+			.interceptor(new Adaption().compose(builder.interceptor()))
+			.build();
+	}
+
+	/**
+	 * Return the underlying evolution engine.
+	 *
+	 * @return the underlying evolution engine
+	 */
+	public Engine<G, N> engine() {
+		return _engine;
+	}
+
+	/**
+	 * Return the alterer portfolio of this engine.
+	 *
+	 * @return the alterer portfolio of this engine
+	 */
+	public ISeq<Alterer<G, N>> alterers() {
+		return _alterers.operators();
+	}
+
+	/**
+	 * Return the offspring selector portfolio of this engine.
+	 *
+	 * @return the offspring selector portfolio of this engine
+	 */
+	public ISeq<Selector<G, N>> selectors() {
+		return _selectors.operators();
+	}
+
+	/**
+	 * Return the current application probabilities of the
+	 * {@link #alterers()}.
+	 *
+	 * @return the current alterer probabilities
+	 */
+	public double[] altererProbabilities() {
+		return _alterers.probabilities();
+	}
+
+	/**
+	 * Return the current application probabilities of the
+	 * {@link #selectors()}.
+	 *
+	 * @return the current selector probabilities
+	 */
+	public double[] selectorProbabilities() {
+		return _selectors.probabilities();
+	}
+
+	@Override
+	public EvolutionStream<G, N>
+	stream(final Supplier<EvolutionStart<G, N>> start) {
+		return _engine.stream(start);
+	}
+
+	@Override
+	public EvolutionStream<G, N> stream(final EvolutionInit<G> init) {
+		return _engine.stream(init);
+	}
+
+	private static long cpuTime() {
+		return THREADS.isCurrentThreadCpuTimeSupported()
+			? THREADS.getCurrentThreadCpuTime()
+			: System.nanoTime();
+	}
+
+	/**
+	 * The operators chosen for one generation, together with the consumed CPU
+	 * time of the selection and alteration step.
+	 */
+	private static final class Choice {
+		final int alterer;
+		final int selector;
+		final double reference;
+		final AtomicLong nanos = new AtomicLong();
+
+		Choice(final int alterer, final int selector, final double reference) {
+			this.alterer = alterer;
+			this.selector = selector;
+			this.reference = reference;
+		}
+	}
+
+	private final class Adaption implements EvolutionInterceptor<G, N> {
+
+		@Override
+		public EvolutionStart<G, N> before(final EvolutionStart<G, N> start) {
+			_choice = new Choice(
+				_alterers.next(RandomRegistry.random()),
+				_selectors.next(RandomRegistry.random()),
+				start.population().stream()
+					.filter(Phenotype::isEvaluated)
+					.mapToDouble(pt -> pt.fitness().doubleValue())
+					.average()
+					.orElse(Double.NaN)
+			);
+
+			return start;
+		}
+
+		@Override
+		public EvolutionResult<G, N> after(final EvolutionResult<G, N> result) {
+			final Choice choice = _choice;
+			if (choice != null && !Double.isNaN(choice.reference)) {
+				final double sign = result.optimize() == Optimize.MAXIMUM ? 1 : -1;
+				final double improvement = result.population().stream()
+					.filter(pt -> pt.generation() == result.generation())
+					.filter(Phenotype::isEvaluated)
+					.mapToDouble(pt ->
+						Math.max(0, sign*(pt.fitness().doubleValue() - choice.reference)))
+					.sum();
+
+				final long nanos = choice.nanos.get() +
+					result.durations().evaluationDuration().toNanos();
+				final double reward = improvement/Math.max(nanos/1e9, 1e-9);
+
+				_alterers.reward(choice.alterer, reward);
+				_selectors.reward(choice.selector, reward);
+			}
+
+			return result;
+		}
+	}
+
+	private final class OffspringSelector implements Selector<G, N> {
+
+		@Override
+		public ISeq<Phenotype<G, N>> select(
+			final Seq<Phenotype<G, N>> population,
+			final int count,
+			final Optimize opt
+		) {
+			final Choice choice = _choice;
+			final long start = cpuTime();
+			try {
+				return _selectors.get(choice.selector)
+					.select(population, count, opt);
+			} finally {
+				choice.nanos.addAndGet(cpuTime() - start);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return format("AdaptiveSelector[%s]", _selectors.operators());
+		}
+	}
+
+	private final class OffspringAlterer implements Alterer<G, N> {
+
+		@Override
+		public AltererResult<G, N> alter(
+			final Seq<Phenotype<G, N>> population,
+			final long generation
+		) {
+			final Choice choice = _choice;
+			final long start = cpuTime();
+			try {
+				return _alterers.get(choice.alterer)
+					.alter(population, generation);
+			} finally {
+				choice.nanos.addAndGet(cpuTime() - start);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return format("AdaptiveAlterer[%s]", _alterers.operators());
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new adaptive engine builder. The given engine builder defines
+	 * all engine parameters, except the offspring selector and the alterer.
+	 * If no alterer or selector is added to the returned builder, the one of
+	 * the given engine builder is used.
+	 *
+	 * @param builder the builder of the underlying evolution engine
+	 * @param <G> the gene type
+	 * @param <N> the fitness type
+	 * @return a new adaptive engine builder
+	 * @throws NullPointerException if the given {@code builder} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, N extends Number & Comparable<? super N>>
+	Builder<G, N> builder(final Engine.Builder<G, N> builder) {
+		return new Builder<>(builder);
+	}
+
+
+	/* *************************************************************************
+	 * Adaptive engine builder.
+	 * ************************************************************************/
+
+	/**
+	 * Builder class for the {@link AdaptiveOperatorEngine}.
+	 *
+	 * @param <G> the gene type
+	 * @param <N> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		N extends Number & Comparable<? super N>
+	> {
+
+		private final Engine.Builder<G, N> _builder;
+		private final List<Alterer<G, N>> _alterers = new ArrayList<>();
+		private final List<Selector<G, N>> _selectors = new ArrayList<>();
+
+		private Strategy _strategy = Strategy.ADAPTIVE_PURSUIT;
+		private double _minProbability = Double.NaN;
+		private double _adaptationRate = 0.3;
+		private double _learningRate = 0.3;
+
+		private Builder(final Engine.Builder<G, N> builder) {
+			_builder = requireNonNull(builder).copy();
+		}
+
+		/**
+		 * Adds an alterer to the alterer portfolio.
+		 *
+		 * @param alterer the alterer to add
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code alterer} is
+		 *         {@code null}
+		 */
+		public Builder<G, N> alterer(final Alterer<G, N> alterer) {
+			_alterers.add(requireNonNull(alterer));
+			return this;
+		}
+
+		/**
+		 * Adds an offspring selector to the selector portfolio.
+		 *
+		 * @param selector the selector to add
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code selector} is
+		 *         {@code null}
+		 */
+		public Builder<G, N> selector(final Selector<G, N> selector) {
+			_selectors.add(requireNonNull(selector));
+			return this;
+		}
+
+		/**
+		 * Set the strategy used for adapting the operator probabilities.
+		 * <i>Default value is set to {@link Strategy#ADAPTIVE_PURSUIT}.</i>
+		 *
+		 * @param strategy the adaption strategy
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code strategy} is
+		 *         {@code null}
+		 */
+		public Builder<G, N> strategy(final Strategy strategy) {
+			_strategy = requireNonNull(strategy);
+			return this;
+		}
+
+		/**
+		 * Set the minimal application probability of every operator.
+		 * <i>Default value is set to {@code 0.1/k}, where {@code k} is the
+		 * number of operators of the portfolio.</i>
+		 *
+		 * @param probability the minimal operator probability
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code probability} is not
+		 *         within the range {@code [0, 1)}
+		 */
+		public Builder<G, N> minProbability(final double probability) {
+			if (probability < 0 || probability >= 1) {
+				throw new IllegalArgumentException(format(
+					"Minimal probability must be in [0, 1): %f", probability
+				));
+			}
+			_minProbability = probability;
+			return this;
+		}
+
+		/**
+		 * Set the adaptation rate of the operator quality estimates.
+		 * <i>Default value is set to {@code 0.3}.</i>
+		 *
+		 * @param rate the adaptation rate
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code rate} is not within
+		 *         the range {@code (0, 1]}
+		 */
+		public Builder<G, N> adaptationRate(final double rate) {
+			_adaptationRate = rate(rate);
+			return this;
+		}
+
+		/**
+		 * Set the learning rate of the adaptive pursuit strategy.
+		 * <i>Default value is set to {@code 0.3}.</i>
+		 *
+		 * @param rate the learning rate
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code rate} is not within
+		 *         the range {@code (0, 1]}
+		 */
+		public Builder<G, N> learningRate(final double rate) {
+			_learningRate = rate(rate);
+			return this;
+		}
+
+		private static double rate(final double rate) {
+			if (rate <= 0 || rate > 1) {
+				throw new IllegalArgumentException(format(
+					"Rate must be in (0, 1]: %f", rate
+				));
+			}
+			return rate;
+		}
+
+		private <T> OperatorPortfolio<T> portfolio(
+			final List<T> operators,
+			final T fallback
+		) {
+			final ISeq<T> ops = operators.isEmpty()
+				? ISeq.of(fallback)
+				: ISeq.of(operators);
+
+			final double minProbability = Double.isNaN(_minProbability)
+				? 0.1/ops.size()
+				: _minProbability;
+			if (minProbability*ops.size() > 1) {
+				throw new IllegalArgumentException(format(
+					"Minimal probability %f is too big for %d operators.",
+					minProbability, ops.size()
+				));
+			}
+
+			return new OperatorPortfolio<>(
+				ops,
+				_strategy,
+				minProbability,
+				_adaptationRate,
+				_learningRate
+			);
+		}
+
+		/**
+		 * Builds a new adaptive engine from the set properties.
+		 *
+		 * @return a new adaptive engine
+		 * @throws IllegalArgumentException if the minimal probability is too
+		 *         big for the number of operators
+		 */
+		public AdaptiveOperatorEngine<G, N> build() {
+			return new AdaptiveOperatorEngine<>(
+				_builder,
+				portfolio(_alterers, _builder.alterer()),
+				portfolio(_selectors, _builder.offspringSelector())
+			);
+		}
+
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.time.Duration;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import io.jenetics.engine.EvolutionMetrics;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * Metrics sink, which emits the engine metrics as <em>Java Flight Recorder</em>
+ * events. The events are only committed while a flight recording is running,
+ * which has the corresponding event enabled. Otherwise the overhead of this
+ * sink is negligible.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .metrics(JfrEvolutionMetrics.instance())
+ *     .build();
+ * }</pre>
+ *
+ * The recording can be started with the JVM option
+ * {@code -XX:StartFlightRecording}, or programmatically with the
+ * {@link jdk.jfr.Recording} class. All events are grouped in the
+ * {@code Jenetics/Engine} category.
+ *
+ * @see EvolutionMetrics
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class JfrEvolutionMetrics implements EvolutionMetrics {
+
+	private static final JfrEvolutionMetrics INSTANCE = new JfrEvolutionMetrics();
+
+	private JfrEvolutionMetrics() {
+	}
+
+	@Override
+	public void stage(
+		final long generation,
+		final Stage stage,
+		final Duration duration,
+		final long allocatedBytes
+	) {
+		final StageEvent event = new StageEvent();
+		if (event.shouldCommit()) {
+			event.generation = generation;
+			event.stage = stage.name();
+			event.elapsed = duration.toNanos();
+			event.allocated = allocatedBytes;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void evaluation(final long generation, final long nanos) {
+		final EvaluationEvent event = new EvaluationEvent();
+		if (event.shouldCommit()) {
+			event.generation = generation;
+			event.latency = nanos;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void queueWait(final long nanos) {
+		final QueueWaitEvent event = new QueueWaitEvent();
+		if (event.shouldCommit()) {
+			event.wait = nanos;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void generation(final EvolutionResult<?, ?> result) {
+		final GenerationEvent event = new GenerationEvent();
+		if (event.shouldCommit()) {
+			event.generation = result.generation();
+			event.populationSize = result.population().size();
+			event.killCount = result.killCount();
+			event.invalidCount = result.invalidCount();
+			event.alterCount = result.alterCount();
+			event.bestFitness = String.valueOf(result.bestFitness());
+			event.commit();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "JfrEvolutionMetrics";
+	}
+
+	/**
+	 * Return the <em>Java Flight Recorder</em> metrics sink.
+	 *
+	 * @return the JFR metrics sink
+	 */
+	public static JfrEvolutionMetrics instance() {
+		return INSTANCE;
+	}
+
+
+	/* *************************************************************************
+	 * JFR event definitions.
+	 * ************************************************************************/
+
+	@Name("io.jenetics.engine.Stage")
+	@Label("Evolution Stage")
+	@Description("Execution of one stage of an evolution step.")
+	@Category({"Jenetics", "Engine"})
+	@StackTrace(false)
+	static final class StageEvent extends Event {
+		@Label("Generation")
+		long generation;
+
+		@Label("Stage")
+		String stage;
+
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+
+		@Label("Allocated")
+		@DataAmount(DataAmount.BYTES)
+		long allocated;
+	}
+
+	@Name("io.jenetics.engine.Evaluation")
+	@Label("Fitness Evaluation")
+	@Description("Fitness evaluation of one individual.")
+	@Category({"Jenetics", "Engine"})
+	@StackTrace(false)
+	static final class EvaluationEvent extends Event {
+		@Label("Generation")
+		long generation;
+
+		@Label("Latency")
+		@Timespan(Timespan.NANOSECONDS)
+		long latency;
+	}
+
+	@Name("io.jenetics.engine.QueueWait")
+	@Label("Evaluation Queue Wait")
+	@Description("Waiting time of an evaluation task in the executor queue.")
+	@Category({"Jenetics", "Engine"})
+	@StackTrace(false)
+	static final class QueueWaitEvent extends Event {
+		@Label("Wait")
+		@Timespan(Timespan.NANOSECONDS)
+		long wait;
+	}
+
+	@Name("io.jenetics.engine.Generation")
+	@Label("Evolution Generation")
+	@Description("Result of one evolution step.")
+	@Category({"Jenetics", "Engine"})
+	@StackTrace(false)
+	static final class GenerationEvent extends Event {
+		@Label("Generation")
+		long generation;
+
+		@Label("Population Size")
+		int populationSize;
+
+		@Label("Kill Count")
+		int killCount;
+
+		@Label("Invalid Count")
+		int invalidCount;
+
+		@Label("Alter Count")
+		int alterCount;
+
+		@Label("Best Fitness")
+		String bestFitness;
+	}
+
+}
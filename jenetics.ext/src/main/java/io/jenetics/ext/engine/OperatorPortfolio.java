@@ -0,0 +1,160 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.engine.AdaptiveOperatorEngine.Strategy;
+
+/**
+ * Holds a set of (evolutionary) operators, together with their estimated
+ * quality and their current application probability. The probabilities are
+ * adapted with every received reward, according to the given
+ * {@link Strategy}.
+ *
+ * @see <a href="https://doi.org/10.1145/1068009.1068251">
+ *      D. Thierens: An Adaptive Pursuit Strategy for Allocating Operator
+ *      Probabilities</a>
+ *
+ * @param <T> the operator type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class OperatorPortfolio<T> {
+
+	private final ISeq<T> _operators;
+	private final Strategy _strategy;
+	private final double _minProbability;
+	private final double _adaptationRate;
+	private final double _learningRate;
+
+	private final double[] _qualities;
+	private final double[] _probabilities;
+
+	OperatorPortfolio(
+		final ISeq<T> operators,
+		final Strategy strategy,
+		final double minProbability,
+		final double adaptationRate,
+		final double learningRate
+	) {
+		_operators = requireNonNull(operators);
+		_strategy = requireNonNull(strategy);
+		_minProbability = minProbability;
+		_adaptationRate = adaptationRate;
+		_learningRate = learningRate;
+
+		_qualities = new double[operators.size()];
+		_probabilities = new double[operators.size()];
+		Arrays.fill(_probabilities, 1.0/operators.size());
+	}
+
+	ISeq<T> operators() {
+		return _operators;
+	}
+
+	T get(final int index) {
+		return _operators.get(index);
+	}
+
+	/**
+	 * Return the index of the next operator to apply, chosen according to the
+	 * current operator probabilities.
+	 *
+	 * @param random the random engine used for choosing the operator
+	 * @return the index of the next operator
+	 */
+	synchronized int next(final Random random) {
+		final double value = random.nextDouble();
+
+		double sum = 0;
+		for (int i = 0; i < _probabilities.length - 1; ++i) {
+			sum += _probabilities[i];
+			if (value < sum) {
+				return i;
+			}
+		}
+		return _probabilities.length - 1;
+	}
+
+	/**
+	 * Updates the quality estimate of the operator with the given
+	 * {@code index} and adapts the operator probabilities.
+	 *
+	 * @param index the index of the rewarded operator
+	 * @param reward the (non-negative) reward of the operator
+	 */
+	synchronized void reward(final int index, final double reward) {
+		_qualities[index] += _adaptationRate*(reward - _qualities[index]);
+
+		final int k = _probabilities.length;
+		switch (_strategy) {
+			case PROBABILITY_MATCHING:
+				double sum = 0;
+				for (double quality : _qualities) {
+					sum += quality;
+				}
+				for (int i = 0; i < k; ++i) {
+					_probabilities[i] = sum > 0
+						? _minProbability +
+							(1 - k*_minProbability)*_qualities[i]/sum
+						: 1.0/k;
+				}
+				break;
+			case ADAPTIVE_PURSUIT:
+				int best = 0;
+				for (int i = 1; i < k; ++i) {
+					if (_qualities[i] > _qualities[best]) {
+						best = i;
+					}
+				}
+
+				// No operator has shown any improvement yet.
+				if (_qualities[best] <= 0) {
+					break;
+				}
+
+				final double maxProbability = 1 - (k - 1)*_minProbability;
+				for (int i = 0; i < k; ++i) {
+					final double target = i == best
+						? maxProbability
+						: _minProbability;
+					_probabilities[i] += _learningRate*(target - _probabilities[i]);
+				}
+				break;
+		}
+	}
+
+	synchronized double[] probabilities() {
+		return _probabilities.clone();
+	}
+
+	synchronized double[] qualities() {
+		return _qualities.clone();
+	}
+
+}
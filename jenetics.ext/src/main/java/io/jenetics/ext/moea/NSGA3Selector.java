@@ -0,0 +1,586 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * This selector implements the <em>reference-point</em> based, non-dominated
+ * sorting selection of the <em>NSGA-III</em> algorithm. In contrast to the
+ * {@link NSGA2Selector}, which uses the crowding distance for preserving the
+ * diversity of the last accepted front, this selector associates the
+ * individuals with a set of structured (Das and Dennis) reference points and
+ * prefers individuals from less crowded <em>niches</em>. This makes it the
+ * better choice for problems with more than three objectives.
+ * <pre>{@code
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .selector(NSGA3Selector.ofVec(6))
+ *     .build();
+ * }</pre>
+ * <p>
+ *  <b>Reference:</b><em>
+ *      K. Deb and H. Jain. 2014. An Evolutionary Many-Objective Optimization
+ *      Algorithm Using Reference-Point-Based Nondominated Sorting Approach,
+ *      Part I: Solving Problems With Box Constraints. Trans. Evol. Comp 18, 4
+ *      (Aug. 2014), 577-601. DOI=<a href="http://dx.doi.org/10.1109/TEVC.2013.2281535">
+ *          10.1109/TEVC.2013.2281535</a></em>
+ *
+ * @implNote
+ * The normalization, association and niching steps are performed on
+ * primitive {@code double[]} and {@code int[]} arrays. The (translated)
+ * objective values are calculated with the given {@link ElementDistance}
+ * function, relative to the <em>ideal</em> point of the population.
+ *
+ * @see NSGA2Selector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public class NSGA3Selector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	private static final double EPSILON = 1.0E-10;
+	private static final double WEIGHT_EPSILON = 1.0E-6;
+
+	private final Comparator<? super C> _dominance;
+	private final ElementComparator<? super C> _comparator;
+	private final ElementDistance<? super C> _distance;
+	private final ToIntFunction<? super C> _dimension;
+	private final int _divisions;
+
+	/**
+	 * Creates a new {@code NSGA3Selector} with the functions needed for
+	 * handling the multi-objective result type {@code C}. For the {@link Vec}
+	 * classes, a selector is created like in the following example:
+	 * <pre>{@code
+	 * new NSGA3Selector<>(
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length,
+	 *     6
+	 * );
+	 * }</pre>
+	 *
+	 * @see #ofVec(int)
+	 *
+	 * @param dominance the pareto dominance comparator
+	 * @param comparator the vector element comparator
+	 * @param distance the vector element distance
+	 * @param dimension the dimensionality of vector type {@code C}
+	 * @param divisions the number of divisions along each objective axis, used
+	 *        for creating the structured reference points
+	 * @throws NullPointerException if one of the functions is {@code null}
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public NSGA3Selector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final int divisions
+	) {
+		_dominance = requireNonNull(dominance);
+		_comparator = requireNonNull(comparator);
+		_distance = requireNonNull(distance);
+		_dimension = requireNonNull(dimension);
+
+		if (divisions < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of divisions must be greater than zero: %d",
+				divisions
+			));
+		}
+		_divisions = divisions;
+	}
+
+	/**
+	 * Return the number of divisions used for creating the reference points.
+	 *
+	 * @return the number of divisions used for creating the reference points
+	 */
+	public int divisions() {
+		return _divisions;
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+
+		final List<Phenotype<G, C>> result = new ArrayList<>();
+		if (count > 0 && !population.isEmpty()) {
+			final int[] idx = order(population, count, opt);
+			while (result.size() < count) {
+				IntStream.of(idx)
+					.limit(count - result.size())
+					.mapToObj(population)
+					.forEach(result::add);
+			}
+		}
+
+		return ISeq.of(result);
+	}
+
+	/**
+	 * Return the population indexes in the order they are selected. The
+	 * returned array contains at least {@code min(count, population.size())}
+	 * elements.
+	 */
+	private int[] order(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		final Comparator<Phenotype<G, C>> dominance =
+			(a, b) -> _dominance.compare(a.fitness(), b.fitness());
+
+		final int size = population.size();
+		final int[] rank = Pareto.rank(
+			population,
+			opt == Optimize.MAXIMUM
+				? dominance
+				: dominance.reversed()
+		);
+
+		// Sort the population indexes by its rank.
+		final int[] idx = ProxySorter.sort(rank);
+
+		// Find the last front, which is needed for filling the selection.
+		final int limit = Math.min(count, size);
+		final int last = rank[idx[limit - 1]];
+		int start = limit - 1;
+		while (start > 0 && rank[idx[start - 1]] == last) --start;
+		int end = limit;
+		while (end < size && rank[idx[end]] == last) ++end;
+
+		// No niching needed, if the last front fits exactly.
+		if (end == limit) {
+			return idx;
+		}
+
+		final int[] niched = niching(population, idx, start, end, opt);
+		System.arraycopy(niched, 0, idx, start, niched.length);
+		return idx;
+	}
+
+	/**
+	 * Performs the normalization, association and niching step of the
+	 * NSGA-III algorithm. The individuals {@code idx[0, start)} are already
+	 * accepted and the individuals {@code idx[start, end)} form the last
+	 * front. The returned array contains the individuals of the last front in
+	 * the order they are chosen by the niching procedure.
+	 */
+	private int[] niching(
+		final Seq<Phenotype<G, C>> population,
+		final int[] idx,
+		final int start,
+		final int end,
+		final Optimize opt
+	) {
+		final int dim = _dimension.applyAsInt(population.get(idx[0]).fitness());
+		final double[] points = normalize(population, idx, end, dim, opt);
+		final double[] refs = referencePoints(dim, _divisions);
+		final int nrefs = refs.length/dim;
+
+		// Associate every individual with its nearest reference point.
+		final int[] niche = new int[end];
+		final double[] dist = new double[end];
+		associate(points, end, refs, nrefs, dim, niche, dist);
+
+		// Niche count of the already accepted individuals.
+		final int[] rho = new int[nrefs];
+		for (int i = 0; i < start; ++i) {
+			++rho[niche[i]];
+		}
+
+		// Group the members of the last front by their reference point.
+		final int[] members = new int[end - start];
+		final int[] offsets = new int[nrefs + 1];
+		final int[] sizes = new int[nrefs];
+		for (int i = start; i < end; ++i) {
+			++offsets[niche[i] + 1];
+		}
+		for (int j = 0; j < nrefs; ++j) {
+			offsets[j + 1] += offsets[j];
+		}
+		for (int i = start; i < end; ++i) {
+			final int j = niche[i];
+			members[offsets[j] + sizes[j]++] = i;
+		}
+
+		final Random random = RandomRegistry.random();
+		final int[] result = new int[end - start];
+		final int[] candidates = new int[nrefs];
+
+		for (int k = 0; k < result.length; ++k) {
+			// Find the reference points with the minimal niche count, which
+			// still have members in the last front.
+			int min = Integer.MAX_VALUE;
+			int n = 0;
+			for (int j = 0; j < nrefs; ++j) {
+				if (sizes[j] > 0) {
+					if (rho[j] < min) {
+						min = rho[j];
+						n = 0;
+					}
+					if (rho[j] == min) {
+						candidates[n++] = j;
+					}
+				}
+			}
+
+			final int j = candidates[n == 1 ? 0 : random.nextInt(n)];
+			final int offset = offsets[j];
+
+			int pos;
+			if (rho[j] == 0) {
+				pos = offset;
+				for (int m = offset + 1; m < offset + sizes[j]; ++m) {
+					if (dist[members[m]] < dist[members[pos]]) {
+						pos = m;
+					}
+				}
+			} else {
+				pos = offset + random.nextInt(sizes[j]);
+			}
+
+			result[k] = idx[members[pos]];
+			members[pos] = members[offset + --sizes[j]];
+			++rho[j];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return the normalized objective values of the first {@code end}
+	 * individuals, as flat array of {@code end*dim} values.
+	 */
+	private double[] normalize(
+		final Seq<Phenotype<G, C>> population,
+		final int[] idx,
+		final int end,
+		final int dim,
+		final Optimize opt
+	) {
+		// Find the ideal point, one individual per objective.
+		final int[] ideal = new int[dim];
+		for (int m = 0; m < dim; ++m) {
+			int best = 0;
+			for (int i = 1; i < end; ++i) {
+				final int cmp = _comparator.compare(
+					population.get(idx[i]).fitness(),
+					population.get(idx[best]).fitness(),
+					m
+				);
+				if (opt == Optimize.MAXIMUM ? cmp > 0 : cmp < 0) {
+					best = i;
+				}
+			}
+			ideal[m] = best;
+		}
+
+		// Translate the objectives, so that the ideal point is the origin.
+		final double[] points = new double[end*dim];
+		for (int i = 0; i < end; ++i) {
+			final C value = population.get(idx[i]).fitness();
+			for (int m = 0; m < dim; ++m) {
+				final C best = population.get(idx[ideal[m]]).fitness();
+				points[i*dim + m] = max(
+					0.0,
+					opt == Optimize.MAXIMUM
+						? _distance.distance(best, value, m)
+						: _distance.distance(value, best, m)
+				);
+			}
+		}
+
+		final double[] intercepts = intercepts(points, end, dim);
+		for (int i = 0; i < end; ++i) {
+			for (int m = 0; m < dim; ++m) {
+				points[i*dim + m] /= intercepts[m];
+			}
+		}
+
+		return points;
+	}
+
+	/**
+	 * Calculates the intercepts of the hyperplane, spanned by the extreme
+	 * points, with the objective axes. If the hyperplane is degenerated, the
+	 * maximal (translated) objective values are used instead.
+	 */
+	static double[] intercepts(
+		final double[] points,
+		final int size,
+		final int dim
+	) {
+		// Find the extreme points using the achievement scalarizing function.
+		final double[] extremes = new double[dim*dim];
+		for (int axis = 0; axis < dim; ++axis) {
+			int extreme = 0;
+			double asfmin = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < size; ++i) {
+				double asf = 0;
+				for (int m = 0; m < dim; ++m) {
+					final double w = m == axis ? 1.0 : WEIGHT_EPSILON;
+					asf = max(asf, points[i*dim + m]/w);
+				}
+				if (asf < asfmin) {
+					asfmin = asf;
+					extreme = i;
+				}
+			}
+			System.arraycopy(points, extreme*dim, extremes, axis*dim, dim);
+		}
+
+		final double[] intercepts = new double[dim];
+		final double[] b = solve(extremes, dim);
+
+		boolean degenerated = b == null;
+		for (int m = 0; m < dim && !degenerated; ++m) {
+			intercepts[m] = 1.0/b[m];
+			degenerated = !(intercepts[m] > EPSILON) ||
+				Double.isInfinite(intercepts[m]);
+		}
+
+		if (degenerated) {
+			for (int m = 0; m < dim; ++m) {
+				double nadir = 0;
+				for (int i = 0; i < size; ++i) {
+					nadir = max(nadir, points[i*dim + m]);
+				}
+				intercepts[m] = nadir > EPSILON ? nadir : 1.0;
+			}
+		}
+
+		return intercepts;
+	}
+
+	/**
+	 * Solves the linear equation system {@code A*x = 1}, using Gaussian
+	 * elimination with partial pivoting. The matrix {@code A} is changed and
+	 * {@code null} is returned if {@code A} is singular.
+	 */
+	private static double[] solve(final double[] a, final int n) {
+		final double[] x = new double[n];
+		Arrays.fill(x, 1.0);
+
+		for (int col = 0; col < n; ++col) {
+			int pivot = col;
+			for (int row = col + 1; row < n; ++row) {
+				if (abs(a[row*n + col]) > abs(a[pivot*n + col])) {
+					pivot = row;
+				}
+			}
+			if (abs(a[pivot*n + col]) < EPSILON) {
+				return null;
+			}
+			if (pivot != col) {
+				for (int k = 0; k < n; ++k) {
+					final double t = a[col*n + k];
+					a[col*n + k] = a[pivot*n + k];
+					a[pivot*n + k] = t;
+				}
+				final double t = x[col];
+				x[col] = x[pivot];
+				x[pivot] = t;
+			}
+			for (int row = col + 1; row < n; ++row) {
+				final double f = a[row*n + col]/a[col*n + col];
+				for (int k = col; k < n; ++k) {
+					a[row*n + k] -= f*a[col*n + k];
+				}
+				x[row] -= f*x[col];
+			}
+		}
+
+		for (int row = n - 1; row >= 0; --row) {
+			double sum = x[row];
+			for (int k = row + 1; k < n; ++k) {
+				sum -= a[row*n + k]*x[k];
+			}
+			x[row] = sum/a[row*n + row];
+		}
+
+		return x;
+	}
+
+	/**
+	 * Associates every normalized point with the reference line with the
+	 * smallest perpendicular distance.
+	 */
+	private static void associate(
+		final double[] points,
+		final int size,
+		final double[] refs,
+		final int nrefs,
+		final int dim,
+		final int[] niche,
+		final double[] dist
+	) {
+		// Pre-compute the squared norm of the reference directions.
+		final double[] norms = new double[nrefs];
+		for (int j = 0; j < nrefs; ++j) {
+			double norm = 0;
+			for (int m = 0; m < dim; ++m) {
+				norm += refs[j*dim + m]*refs[j*dim + m];
+			}
+			norms[j] = norm;
+		}
+
+		for (int i = 0; i < size; ++i) {
+			double pnorm = 0;
+			for (int m = 0; m < dim; ++m) {
+				pnorm += points[i*dim + m]*points[i*dim + m];
+			}
+
+			int nearest = 0;
+			double mindist = Double.POSITIVE_INFINITY;
+			for (int j = 0; j < nrefs; ++j) {
+				double dot = 0;
+				for (int m = 0; m < dim; ++m) {
+					dot += points[i*dim + m]*refs[j*dim + m];
+				}
+
+				final double d = pnorm - dot*dot/norms[j];
+				if (d < mindist) {
+					mindist = d;
+					nearest = j;
+				}
+			}
+
+			niche[i] = nearest;
+			dist[i] = max(0.0, mindist);
+		}
+	}
+
+	/**
+	 * Creates the structured reference points, as described by Das and
+	 * Dennis. The points are lying on the {@code (dim - 1)}-dimensional unit
+	 * simplex and are returned as flat array of {@code H*dim} values, where
+	 * {@code H = binomial(dim + divisions - 1, divisions)}.
+	 *
+	 * @param dim the number of objectives
+	 * @param divisions the number of divisions along each objective axis
+	 * @return the reference points as flat array
+	 */
+	static double[] referencePoints(final int dim, final int divisions) {
+		final List<double[]> points = new ArrayList<>();
+		referencePoints(new int[dim], 0, divisions, divisions, points);
+
+		final double[] result = new double[points.size()*dim];
+		for (int i = 0; i < points.size(); ++i) {
+			System.arraycopy(points.get(i), 0, result, i*dim, dim);
+		}
+		return result;
+	}
+
+	private static void referencePoints(
+		final int[] point,
+		final int index,
+		final int left,
+		final int divisions,
+		final List<double[]> points
+	) {
+		if (index == point.length - 1) {
+			point[index] = left;
+			final double[] p = new double[point.length];
+			for (int m = 0; m < point.length; ++m) {
+				p[m] = (double)point[m]/divisions;
+			}
+			points.add(p);
+		} else {
+			for (int k = 0; k <= left; ++k) {
+				point[index] = k;
+				referencePoints(point, index + 1, left - k, divisions, points);
+			}
+		}
+	}
+
+	/**
+	 * Return a new selector for the given result type {@code V}. This method is
+	 * a shortcut for
+	 * <pre>{@code
+	 * new NSGA3Selector<>(
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length,
+	 *     divisions
+	 * );
+	 * }</pre>
+	 *
+	 * @param divisions the number of divisions along each objective axis, used
+	 *        for creating the structured reference points
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new selector for the given result type {@code V}
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	NSGA3Selector<G, V> ofVec(final int divisions) {
+		return new NSGA3Selector<>(
+			Vec::dominance,
+			Vec::compare,
+			Vec::distance,
+			Vec::length,
+			divisions
+		);
+	}
+
+}
@@ -0,0 +1,357 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.rewriting.TreePattern.Decl;
+import io.jenetics.ext.rewriting.TreePattern.Val;
+import io.jenetics.ext.rewriting.TreePattern.Var;
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * Tree Rewrite System, which indexes its rules by the root value of the
+ * rule patterns. In contrast to the {@link TRS}, which re-matches every rule
+ * at every node of the whole tree until no rule fires any more, this rewriter
+ * brings the tree into its normal form in a single, <em>innermost</em>
+ * traversal.
+ * <ul>
+ *     <li>Only the rules, whose left pattern root matches the value of the
+ *     visited node (or is a variable) are tried, in the order the rules are
+ *     given.</li>
+ *     <li>After a rewrite, only the newly created nodes are visited again.
+ *     The sub-trees bound to the pattern variables are re-used and not
+ *     copied.</li>
+ *     <li>Sub-trees, which are known to be in normal form, are memoized and
+ *     never matched again.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * final TreeRewriter<String> trs = IndexedTRS.parse(
+ *     "add(0,$x) -> $x",
+ *     "add(S($x),$y) -> S(add($x,$y))",
+ *     "mul(0,$x) -> 0",
+ *     "mul(S($x),$y) -> add(mul($x,$y),$y)"
+ * );
+ *
+ * final TreeNode<String> tree = TreeNode.parse("add(S(0),S(mul(S(0),S(S(0)))))");
+ * final int rewrites = trs.rewrite(tree);
+ * assert tree.equals(TreeNode.parse("S(S(S(S(0))))"));
+ * }</pre>
+ *
+ * @apiNote
+ * For <em>confluent</em> rewrite systems, the result of this rewriter is the
+ * same as the result of the {@link TRS}. If the rules are not confluent, the
+ * innermost strategy might lead to a different normal form.
+ *
+ * @implNote
+ * This class is immutable and thread-safe.
+ *
+ * @see TRS
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class IndexedTRS<V> implements TreeRewriter<V> {
+
+	private final ISeq<TreeRewriteRule<V>> _rules;
+
+	// Rule indexes, grouped by the root value of the left pattern. Rules
+	// with a variable as pattern root are part of every group.
+	private final Map<V, int[]> _index;
+	private final int[] _wildcards;
+
+	/**
+	 * Create a new indexed TRS from the given rewrite rules.
+	 *
+	 * @param rules the rewrite rules the TRS consists of
+	 * @throws NullPointerException if the given {@code rules} are {@code null}
+	 * @throws IllegalArgumentException if the given {@code rules} sequence is
+	 *         empty
+	 */
+	public IndexedTRS(final ISeq<TreeRewriteRule<V>> rules) {
+		if (rules.isEmpty()) {
+			throw new IllegalArgumentException("Rewrite rules must not be empty.");
+		}
+		_rules = rules;
+
+		_wildcards = IntStream.range(0, rules.length())
+			.filter(i -> root(rules.get(i)) instanceof Var)
+			.toArray();
+
+		final Map<V, int[]> index = new HashMap<>();
+		for (int i = 0; i < rules.length(); ++i) {
+			final Decl<V> root = root(rules.get(i));
+			if (root instanceof Val) {
+				final V value = ((Val<V>)root).value();
+				index.computeIfAbsent(value, v -> IntStream
+					.range(0, rules.length())
+					.filter(j -> matches(rules.get(j), v))
+					.toArray());
+			}
+		}
+		_index = index;
+	}
+
+	private static <V> Decl<V> root(final TreeRewriteRule<V> rule) {
+		return rule.left().pattern().value();
+	}
+
+	private static <V> boolean matches(final TreeRewriteRule<V> rule, final V value) {
+		final Decl<V> root = root(rule);
+		return root instanceof Var ||
+			Objects.equals(((Val<V>)root).value(), value);
+	}
+
+	/**
+	 * Return the rewrite rules of {@code this} TRS.
+	 *
+	 * @return the rewrite rules of {@code this} TRS
+	 */
+	public ISeq<TreeRewriteRule<V>> rules() {
+		return _rules;
+	}
+
+	@Override
+	public int rewrite(final TreeNode<V> tree, final int limit) {
+		requireNonNull(tree);
+		if (limit < 0) {
+			throw new IllegalArgumentException(format(
+				"Limit is smaller then zero: %d", limit
+			));
+		}
+
+		final Rewriting rewriting = new Rewriting(limit);
+		rewriting.normalize(tree);
+		return rewriting.count;
+	}
+
+	/**
+	 * Maps {@code this} TRS from type {@code V} to type {@code B}.
+	 *
+	 * @param mapper the type mapper
+	 * @param <B> the target type
+	 * @return a new TRS for the mapped type
+	 * @throws NullPointerException if the {@code mapper} is {@code null}
+	 */
+	public <B> IndexedTRS<B> map(final Function<? super V, ? extends B> mapper) {
+		return new IndexedTRS<>(_rules.map(rule -> rule.map(mapper)));
+	}
+
+	@Override
+	public int hashCode() {
+		return _rules.hashCode();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj == this ||
+			obj instanceof IndexedTRS &&
+			_rules.equals(((IndexedTRS)obj)._rules);
+	}
+
+	@Override
+	public String toString() {
+		return _rules.stream()
+			.map(Objects::toString)
+			.collect(Collectors.joining("; "));
+	}
+
+	/**
+	 * The state of one {@code rewrite} call.
+	 */
+	private final class Rewriting {
+		private final int limit;
+		private final Set<TreeNode<V>> normal =
+			Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private int count = 0;
+
+		private Rewriting(final int limit) {
+			this.limit = limit;
+		}
+
+		// Brings the given node into its normal form and returns the node,
+		// which is now at the position of the given one.
+		private TreeNode<V> normalize(final TreeNode<V> tree) {
+			TreeNode<V> node = tree;
+
+			while (!normal.contains(node)) {
+				for (int i = 0; i < node.childCount(); ++i) {
+					normalize(node.childAt(i));
+				}
+				if (count >= limit) {
+					return node;
+				}
+
+				final Optional<Rewrite> rewrite = rewrite(node);
+				if (rewrite.isPresent()) {
+					node = replace(node, rewrite.get().expand(node));
+					++count;
+				} else {
+					normal.add(node);
+				}
+			}
+
+			return node;
+		}
+
+		private Optional<Rewrite> rewrite(final TreeNode<V> node) {
+			final int[] rules = _index.getOrDefault(node.value(), _wildcards);
+
+			for (int i : rules) {
+				final TreeRewriteRule<V> rule = _rules.get(i);
+				final Optional<TreeMatchResult<V>> result =
+					rule.left().match(node);
+
+				if (result.isPresent()) {
+					return Optional.of(new Rewrite(rule, result.get().vars()));
+				}
+			}
+
+			return Optional.empty();
+		}
+
+		private TreeNode<V> replace(
+			final TreeNode<V> node,
+			final TreeNode<V> replacement
+		) {
+			final Optional<TreeNode<V>> parent = node.parent();
+
+			if (parent.isPresent()) {
+				final TreeNode<V> p = parent.get();
+				p.replace(p.indexOf(node), replacement.detach());
+				return replacement;
+			} else {
+				final ISeq<TreeNode<V>> children = replacement.childStream()
+					.collect(ISeq.toISeq());
+
+				node.removeAllChildren();
+				node.value(replacement.value());
+				children.forEach(node::attach);
+				return node;
+			}
+		}
+	}
+
+	/**
+	 * A matched rule and its variable bindings.
+	 */
+	private final class Rewrite {
+		private final TreeRewriteRule<V> rule;
+		private final Map<Var<V>, Tree<V, ?>> vars;
+		private final Set<Tree<V, ?>> used =
+			Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private Rewrite(
+			final TreeRewriteRule<V> rule,
+			final Map<Var<V>, Tree<V, ?>> vars
+		) {
+			this.rule = rule;
+			this.vars = vars;
+		}
+
+		// Expands the right pattern of the rule. The bound sub-trees are
+		// moved into the new tree, if possible. They are copied if they are
+		// used more than once or if the variable is bound to the rewritten
+		// node itself.
+		private TreeNode<V> expand(final TreeNode<V> node) {
+			return expand(rule.right().pattern(), node);
+		}
+
+		@SuppressWarnings("unchecked")
+		private TreeNode<V> expand(
+			final Tree<Decl<V>, ?> template,
+			final TreeNode<V> node
+		) {
+			final Decl<V> decl = template.value();
+
+			if (decl instanceof Var) {
+				final Tree<V, ?> bound = vars.get(decl);
+				assert bound != null;
+
+				return bound != node && bound instanceof TreeNode && used.add(bound)
+					? (TreeNode<V>)bound
+					: TreeNode.ofTree(bound);
+			} else {
+				final TreeNode<V> tree = TreeNode.of(((Val<V>)decl).value());
+				for (int i = 0; i < template.childCount(); ++i) {
+					tree.attach(expand(template.childAt(i), node));
+				}
+				return tree;
+			}
+		}
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new indexed TRS from the given rewrite rules and type mapper.
+	 *
+	 * @param mapper the tree value type mapper
+	 * @param rules the rewrite rules
+	 * @param <V> the tree value type the rewriter is working on
+	 * @return a new indexed TRS
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code rules} sequence is
+	 *         empty
+	 */
+	public static <V> IndexedTRS<V> parse(
+		final Function<? super String, ? extends V> mapper,
+		final String... rules
+	) {
+		return new IndexedTRS<>(
+			ISeq.of(rules)
+				.map(rule -> TreeRewriteRule.parse(rule, mapper))
+		);
+	}
+
+	/**
+	 * Create a new indexed TRS from the given rewrite rules.
+	 *
+	 * @param rules the rewrite rules
+	 * @return a new indexed TRS
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code rules} sequence is
+	 *         empty
+	 */
+	public static IndexedTRS<String> parse(final String... rules) {
+		return parse(Function.identity(), rules);
+	}
+
+}
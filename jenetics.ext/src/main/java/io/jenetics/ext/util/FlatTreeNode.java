@@ -39,6 +39,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 
 /**
  * Default implementation of the {@link FlatTree} interface. Beside the
@@ -53,7 +54,7 @@ import io.jenetics.util.ISeq;
  * This class is immutable and thread-safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 3.9
  */
 public final class FlatTreeNode<V>
@@ -68,16 +69,91 @@ public final class FlatTreeNode<V>
 	private final int[] _childOffsets;
 	private final int[] _childCounts;
 
+	// Navigation data, shared by all nodes of the tree.
+	private final Navigation _navigation;
+
 	private FlatTreeNode(
 		final int index,
 		final Object[] elements,
 		final int[] childOffsets,
-		final int[] childCounts
+		final int[] childCounts,
+		final Navigation navigation
 	) {
 		_index = index;
 		_elements = requireNonNull(elements);
 		_childOffsets = requireNonNull(childOffsets);
 		_childCounts = requireNonNull(childCounts);
+		_navigation = requireNonNull(navigation);
+	}
+
+	private static <V> FlatTreeNode<V> root(
+		final Object[] elements,
+		final int[] childOffsets,
+		final int[] childCounts
+	) {
+		return new FlatTreeNode<>(
+			0,
+			elements,
+			childOffsets,
+			childCounts,
+			new Navigation()
+		);
+	}
+
+	/**
+	 * The parent indexes, the levels and the node views of the tree. They
+	 * are only created when they are needed by the navigation methods. This
+	 * keeps trees cheap, which are only created for evaluating or copying
+	 * their values. Since the navigation data are derived from the immutable
+	 * tree structure, the unsynchronized initialization is safe. In the worst
+	 * case, the data are created more than once.
+	 */
+	private static final class Navigation {
+		private volatile int[][] _links;
+		private volatile FlatTreeNode<?>[] _nodes;
+
+		// Returns the parent indexes and the levels of all nodes.
+		int[][] links(final int[] childOffsets, final int[] childCounts) {
+			int[][] links = _links;
+			if (links == null) {
+				final int[] parents = new int[childCounts.length];
+				final int[] levels = new int[childCounts.length];
+
+				// The parent of a node is always stored on the left side of
+				// its children, which allows a single pass over the nodes.
+				parents[0] = -1;
+				for (int i = 0; i < childCounts.length; ++i) {
+					for (int j = 0; j < childCounts[i]; ++j) {
+						parents[childOffsets[i] + j] = i;
+						levels[childOffsets[i] + j] = levels[i] + 1;
+					}
+				}
+
+				links = new int[][]{parents, levels};
+				_links = links;
+			}
+
+			return links;
+		}
+
+		FlatTreeNode<?>[] nodes(final FlatTreeNode<?> node) {
+			FlatTreeNode<?>[] nodes = _nodes;
+			if (nodes == null) {
+				nodes = new FlatTreeNode<?>[node._elements.length];
+				nodes[node._index] = node;
+				_nodes = nodes;
+			}
+
+			return nodes;
+		}
+	}
+
+	private int[] parents() {
+		return _navigation.links(_childOffsets, _childCounts)[0];
+	}
+
+	private int[] levels() {
+		return _navigation.links(_childOffsets, _childCounts)[1];
 	}
 
 	/**
@@ -97,13 +173,28 @@ public final class FlatTreeNode<V>
 		return _index == 0;
 	}
 
+	// The node views are immutable, which makes the unsynchronized caching
+	// safe. In the worst case, a node view is created more than once.
+	@SuppressWarnings("unchecked")
 	private FlatTreeNode<V> nodeAt(final int index) {
-		return new FlatTreeNode<>(
-			index,
-			_elements,
-			_childOffsets,
-			_childCounts
-		);
+		if (index == _index) {
+			return this;
+		}
+
+		final FlatTreeNode<?>[] nodes = _navigation.nodes(this);
+		FlatTreeNode<V> node = (FlatTreeNode<V>)nodes[index];
+		if (node == null) {
+			node = new FlatTreeNode<>(
+				index,
+				_elements,
+				_childOffsets,
+				_childCounts,
+				_navigation
+			);
+			nodes[index] = node;
+		}
+
+		return node;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -112,24 +203,94 @@ public final class FlatTreeNode<V>
 		return (V)_elements[_index];
 	}
 
+	/**
+	 * Return the parent node of {@code this} node. This implementation have a
+	 * runtime complexity of O(1), once the parent indexes of the tree have
+	 * been computed by the first call of a navigation method.
+	 *
+	 * @return the parent node, or {@code Optional.empty()} if this node is the
+	 *         root of the tree
+	 */
 	@Override
 	public Optional<FlatTreeNode<V>> parent() {
-		int index = -1;
-		for (int i = _index; --i >= 0 && index == -1;) {
-			if (isParent(i)) {
-				index = i;
-			}
-		}
-
+		final int index = parents()[_index];
 		return index != -1
 			? Optional.of(nodeAt(index))
 			: Optional.empty();
 	}
 
-	private boolean isParent(final int index) {
-		return _childCounts[index] > 0 &&
-			_childOffsets[index] <= _index &&
-			_childOffsets[index] + _childCounts[index] > _index;
+	/**
+	 * Returns the number of levels above this node. This implementation have a
+	 * runtime complexity of O(1), once the levels of the tree have been
+	 * computed by the first call of a navigation method.
+	 *
+	 * @return the number of levels above this node
+	 */
+	@Override
+	public int level() {
+		return levels()[_index];
+	}
+
+	/**
+	 * Returns the depth of the tree rooted at this node. This implementation
+	 * have a runtime complexity of O(1) for the root node and is proportional
+	 * to the size of the sub-tree otherwise.
+	 *
+	 * @return the depth of the tree whose root is this node
+	 */
+	@Override
+	public int depth() {
+		return _index == 0
+			? levels()[_elements.length - 1]
+			: FlatTree.super.depth();
+	}
+
+	@Override
+	public int indexOf(final Tree<?, ?> child) {
+		if (child instanceof FlatTreeNode &&
+			((FlatTreeNode<?>)child)._elements == _elements)
+		{
+			final int index = ((FlatTreeNode<?>)child)._index;
+			return parents()[index] == _index
+				? index - _childOffsets[_index]
+				: -1;
+		}
+
+		return FlatTree.super.indexOf(child);
+	}
+
+	/**
+	 * Return the path of {@code this} child node from the root node. This
+	 * implementation have a runtime complexity of O(h), where {@code h} is the
+	 * level of {@code this} node.
+	 *
+	 * @return the path of {@code this} child node from the root node.
+	 */
+	@Override
+	public Path childPath() {
+		final int[] parents = parents();
+		final int[] path = new int[levels()[_index]];
+		for (int i = _index, j = path.length; --j >= 0; i = parents[i]) {
+			path[j] = i - _childOffsets[parents[i]];
+		}
+
+		return Path.of(path);
+	}
+
+	@Override
+	public Path path() {
+		return childPath();
+	}
+
+	@Override
+	public ISeq<FlatTreeNode<V>> pathElements() {
+		final int[] parents = parents();
+		final MSeq<FlatTreeNode<V>> path = MSeq.ofLength(levels()[_index] + 1);
+		for (int i = _index, j = path.length(); --j >= 0; i = parents[i]) {
+			path.set(j, nodeAt(i));
+		}
+
+		return path.toISeq();
 	}
 
 	@Override
@@ -278,12 +439,7 @@ public final class FlatTreeNode<V>
 			++index;
 		}
 
-		return new FlatTreeNode<>(
-			0,
-			elements,
-			childOffsets,
-			childCounts
-		);
+		return root(elements, childOffsets, childCounts);
 	}
 
 	/**
@@ -376,8 +532,7 @@ public final class FlatTreeNode<V>
 	static FlatTreeNode read(final ObjectInput in)
 		throws IOException, ClassNotFoundException
 	{
-		return new FlatTreeNode(
-			0,
+		return root(
 			readObjectArray(in),
 			readIntArray(in),
 			readIntArray(in)
@@ -21,6 +21,7 @@ package io.jenetics.ext;
 
 import java.util.Random;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -49,5 +50,31 @@ public class AbstractTreeGeneTest extends TreeTestBase<Integer, IntTreeGene> {
 		return new IntTreeChromosome(genes).root();
 	}
 
+	@Test
+	public void parent() {
+		final TreeNode<Integer> root = TreeNode.of(0);
+		TreeNodeTest.fill(root, 5, new Random(123));
+
+		final FlatTreeNode<Integer> flattened = FlatTreeNode.of(root);
+		final ISeq<IntTreeGene> genes = flattened.stream()
+			.map(n -> new IntTreeGene(n.value(), n.childOffset(), n.childCount()))
+			.collect(ISeq.toISeq());
+		final IntTreeChromosome chromosome = new IntTreeChromosome(genes);
+		final ISeq<FlatTreeNode<Integer>> nodes = flattened.flattenedNodes();
+
+		// Parent nodes always have children, which makes the child offset
+		// unique for identifying them.
+		for (int i = 0; i < chromosome.length(); ++i) {
+			final IntTreeGene gene = chromosome.get(i);
+			Assert.assertEquals(
+				gene.parent().map(IntTreeGene::childOffset),
+				nodes.get(i).parent().map(FlatTreeNode::childOffset)
+			);
+			gene.parent().ifPresent(p ->
+				Assert.assertTrue(p.childStream().anyMatch(gene::identical))
+			);
+		}
+	}
+
 }
 
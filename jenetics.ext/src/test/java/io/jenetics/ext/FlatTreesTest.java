@@ -0,0 +1,134 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class FlatTreesTest {
+
+	private static final IntTreeGene TEMPLATE = new IntTreeGene(0, -1, 0);
+
+	private static TreeNode<Integer> newTree(final int levels, final Random random) {
+		final TreeNode<Integer> root = TreeNode.of(random.nextInt(1000));
+		fill(root, levels, random);
+		return root;
+	}
+
+	private static void fill(
+		final TreeNode<Integer> node,
+		final int level,
+		final Random random
+	) {
+		if (level > 0) {
+			for (int i = 0, n = random.nextInt(5); i < n; ++i) {
+				final TreeNode<Integer> child = TreeNode.of(random.nextInt());
+				if (random.nextDouble() < 0.8) {
+					fill(child, level - 1, random);
+				}
+				node.attach(child);
+			}
+		}
+	}
+
+	@Test(dataProvider = "treeLevels")
+	public void genes(final int levels) {
+		final TreeNode<Integer> tree = newTree(levels, new Random(levels));
+		final ISeq<IntTreeGene> genes = FlatTrees.genes(tree, TEMPLATE);
+
+		Assert.assertEquals(genes.length(), tree.size());
+		Assert.assertEquals(TreeNode.ofTree(new IntTreeChromosome(genes).gene()), tree);
+	}
+
+	@Test(dataProvider = "treeLevels")
+	public void size(final int levels) {
+		final TreeNode<Integer> tree = newTree(levels, new Random(levels));
+		final ISeq<IntTreeGene> genes = FlatTrees.genes(tree, TEMPLATE);
+
+		final ISeq<TreeNode<Integer>> nodes = tree.breadthFirstStream()
+			.collect(ISeq.toISeq());
+		for (int i = 0; i < nodes.length(); ++i) {
+			Assert.assertEquals(FlatTrees.size(genes, i), nodes.get(i).size());
+		}
+	}
+
+	@Test(dataProvider = "treeLevels")
+	public void replace(final int levels) {
+		final Random random = new Random(levels);
+		final TreeNode<Integer> tree1 = newTree(levels, random);
+		final TreeNode<Integer> tree2 = newTree(levels + 1, random);
+		final ISeq<IntTreeGene> genes1 = FlatTrees.genes(tree1, TEMPLATE);
+		final ISeq<IntTreeGene> genes2 = FlatTrees.genes(tree2, TEMPLATE);
+
+		for (int i = 0; i < genes1.length(); ++i) {
+			for (int j = 0; j < genes2.length(); ++j) {
+				final TreeNode<Integer> expected = replace(tree1, i, tree2, j);
+				final ISeq<IntTreeGene> genes =
+					FlatTrees.replace(genes1, i, genes2, j);
+
+				Assert.assertEquals(genes.length(), expected.size());
+				Assert.assertEquals(TreeNode.ofTree(new IntTreeChromosome(genes).gene()), expected);
+			}
+		}
+	}
+
+	private static TreeNode<Integer> replace(
+		final TreeNode<Integer> tree,
+		final int node,
+		final TreeNode<Integer> other,
+		final int otherNode
+	) {
+		final TreeNode<Integer> result = tree.copy();
+		final TreeNode<Integer> sub = other.breadthFirstStream()
+			.skip(otherNode)
+			.findFirst()
+			.orElseThrow()
+			.copy();
+
+		if (node == 0) {
+			return sub;
+		}
+
+		final TreeNode<Integer> replaced = result.breadthFirstStream()
+			.skip(node)
+			.findFirst()
+			.orElseThrow();
+		final TreeNode<Integer> parent = replaced.parent().orElseThrow();
+		parent.replace(parent.indexOf(replaced), sub);
+
+		return result;
+	}
+
+	@DataProvider(name = "treeLevels")
+	public Object[][] treeLevels() {
+		return new Object[][] {{0}, {1}, {2}, {3}, {5}};
+	}
+
+}
@@ -27,6 +27,9 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.Chromosome;
+import io.jenetics.util.MSeq;
+
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -135,6 +138,28 @@ public class SingleNodeCrossoverTest {
 		Assert.assertEquals(tree1.size() + tree2.size(), size1 + size2);
 	}
 
+	@Test(dataProvider = "treeLevels")
+	public void chromosomeCrossover(final int level1, final int level2) {
+		final Random random = new Random();
+
+		final TreeNode<Integer> tree1 = newTree(level1, random);
+		final TreeNode<Integer> tree2 = newTree(level2, random);
+		final IntTreeGene template = new IntTreeGene(0, -1, 0);
+
+		final MSeq<Chromosome<IntTreeGene>> c1 = MSeq.<Chromosome<IntTreeGene>>of(
+			new IntTreeChromosome(FlatTrees.genes(tree1, template)));
+		final MSeq<Chromosome<IntTreeGene>> c2 = MSeq.<Chromosome<IntTreeGene>>of(
+			new IntTreeChromosome(FlatTrees.genes(tree2, template)));
+
+		new SingleNodeCrossover<IntTreeGene, Integer>().crossover(c1, c2, 0);
+
+		final TreeNode<Integer> result1 = TreeNode.ofTree(c1.get(0).gene());
+		final TreeNode<Integer> result2 = TreeNode.ofTree(c2.get(0).gene());
+		Assert.assertEquals(result1.size() + result2.size(), tree1.size() + tree2.size());
+		Assert.assertEquals(result1.value(), tree1.value());
+		Assert.assertEquals(result2.value(), tree2.value());
+	}
+
 	@DataProvider(name = "treeLevels")
 	public Object[][] treeLevels() {
 		return new Object[][] {
@@ -0,0 +1,145 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.DoubleGene;
+import io.jenetics.Gene;
+import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
+import io.jenetics.RouletteWheelSelector;
+import io.jenetics.TournamentSelector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+
+import io.jenetics.ext.engine.AdaptiveOperatorEngine.Strategy;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AdaptiveOperatorEngineTest {
+
+	private static final Problem<double[], DoubleGene, Double> PROBLEM =
+		Problem.of(
+			x -> DoubleStream.of(x).map(v -> v*v).sum(),
+			Codecs.ofVector(DoubleRange.of(-5, 5), 5)
+		);
+
+	private static Engine.Builder<DoubleGene, Double> builder() {
+		return Engine.builder(PROBLEM)
+			.minimizing()
+			.populationSize(50);
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Alterer<G, C> identity() {
+		return (population, generation) -> AltererResult.of(population.asISeq());
+	}
+
+	@Test(dataProvider = "strategies")
+	public void evolve(final Strategy strategy) {
+		final AdaptiveOperatorEngine<DoubleGene, Double> engine =
+			AdaptiveOperatorEngine.builder(builder())
+				.alterer(new Mutator<>(0.3))
+				.alterer(identity())
+				.selector(new TournamentSelector<>(3))
+				.selector(new RouletteWheelSelector<>())
+				.strategy(strategy)
+				.build();
+
+		final Phenotype<DoubleGene, Double> best = engine.stream()
+			.limit(150)
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertTrue(best.fitness() < 3.0, "Fitness: " + best.fitness());
+		Assert.assertEquals(
+			DoubleStream.of(engine.altererProbabilities()).sum(), 1.0, 1e-9
+		);
+		Assert.assertEquals(
+			DoubleStream.of(engine.selectorProbabilities()).sum(), 1.0, 1e-9
+		);
+	}
+
+	@Test(dataProvider = "strategies")
+	public void preferImprovingAlterer(final Strategy strategy) {
+		final AdaptiveOperatorEngine<DoubleGene, Double> engine =
+			AdaptiveOperatorEngine.builder(builder())
+				.alterer(identity())
+				.alterer(new Mutator<>(0.5))
+				.strategy(strategy)
+				.minProbability(0.05)
+				.build();
+
+		engine.stream()
+			.limit(50)
+			.collect(EvolutionResult.toBestPhenotype());
+
+		final double[] probabilities = engine.altererProbabilities();
+		Assert.assertTrue(
+			probabilities[1] > probabilities[0],
+			Arrays.toString(probabilities)
+		);
+	}
+
+	@DataProvider
+	public Object[][] strategies() {
+		return new Object[][] {
+			{Strategy.PROBABILITY_MATCHING},
+			{Strategy.ADAPTIVE_PURSUIT}
+		};
+	}
+
+	@Test
+	public void defaultOperators() {
+		final AdaptiveOperatorEngine<DoubleGene, Double> engine =
+			AdaptiveOperatorEngine.builder(builder()).build();
+
+		Assert.assertEquals(engine.alterers().length(), 1);
+		Assert.assertEquals(engine.selectors().length(), 1);
+		Assert.assertEquals(engine.altererProbabilities(), new double[]{1.0});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void tooBigMinProbability() {
+		AdaptiveOperatorEngine.builder(builder())
+			.alterer(new Mutator<>())
+			.alterer(identity())
+			.alterer(new Mutator<>(0.5))
+			.minProbability(0.4)
+			.build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidLearningRate() {
+		AdaptiveOperatorEngine.builder(builder()).learningRate(0);
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.util.DoubleRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class JfrEvolutionMetricsTest {
+
+	@Test
+	public void recordEvents() throws IOException {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				x -> x*x,
+				Codecs.ofScalar(DoubleRange.of(-10, 10))
+			)
+			.metrics(JfrEvolutionMetrics.instance())
+			.build();
+
+		final Path file = Files.createTempFile("jenetics-", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("io.jenetics.engine.Stage");
+			recording.enable("io.jenetics.engine.Evaluation");
+			recording.enable("io.jenetics.engine.Generation");
+			recording.start();
+
+			engine.stream().limit(5).forEach(r -> {});
+
+			recording.stop();
+			recording.dump(file);
+
+			final Map<String, Integer> counts = new TreeMap<>();
+			for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				counts.merge(event.getEventType().getName(), 1, Integer::sum);
+			}
+
+			Assert.assertEquals(counts.get("io.jenetics.engine.Generation"), Integer.valueOf(5));
+			Assert.assertEquals(counts.get("io.jenetics.engine.Stage"), Integer.valueOf(35));
+			Assert.assertTrue(counts.get("io.jenetics.engine.Evaluation") > 0);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.String.format;
+
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class NSGA3SelectorTest {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(new double[]{v[0]*cos(v[1]), v[0]*sin(v[1])}),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+	@Test(dataProvider = "referencePointCounts")
+	public void referencePoints(final int dim, final int divisions, final int count) {
+		final double[] points = NSGA3Selector.referencePoints(dim, divisions);
+		Assert.assertEquals(points.length, count*dim);
+
+		for (int i = 0; i < count; ++i) {
+			double sum = 0;
+			for (int m = 0; m < dim; ++m) {
+				sum += points[i*dim + m];
+			}
+			Assert.assertEquals(sum, 1.0, 1.0E-10);
+		}
+	}
+
+	@DataProvider(name = "referencePointCounts")
+	public Object[][] referencePointCounts() {
+		return new Object[][] {
+			{2, 4, 5},
+			{3, 12, 91},
+			{5, 6, 210},
+			{8, 3, 120}
+		};
+	}
+
+	@Test
+	public void intercepts() {
+		final double[] points = {
+			2.0, 0.0, 0.0,
+			0.0, 4.0, 0.0,
+			0.0, 0.0, 8.0,
+			1.0, 1.0, 1.0
+		};
+
+		final double[] intercepts = NSGA3Selector.intercepts(points, 4, 3);
+		Assert.assertEquals(intercepts[0], 2.0, 1.0E-5);
+		Assert.assertEquals(intercepts[1], 4.0, 1.0E-5);
+		Assert.assertEquals(intercepts[2], 8.0, 1.0E-5);
+	}
+
+	@Test
+	public void selectMax() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(12);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(2000)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 100, Optimize.MAXIMUM);
+
+		final double mean = selected.stream()
+			.map(Phenotype::fitness)
+			.mapToDouble(NSGA2SelectorTest::dist)
+			.sum()/selected.size();
+
+		Assert.assertTrue(mean > 0.8, format("Expect mean > 0.8: %s", mean));
+
+		Assert.assertEquals(
+			selected.stream()
+				.map(Phenotype::fitness)
+				.collect(Collectors.toSet())
+				.size(),
+			selected.size()
+		);
+	}
+
+	@Test
+	public void selectMin() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(12);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(2000)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 100, Optimize.MINIMUM);
+
+		final double mean = selected.stream()
+			.map(Phenotype::fitness)
+			.mapToDouble(NSGA2SelectorTest::dist)
+			.sum()/selected.size();
+
+		Assert.assertTrue(mean < -0.8, format("Expect mean < -0.8: %s", mean));
+
+		Assert.assertEquals(
+			selected.stream()
+				.map(Phenotype::fitness)
+				.collect(Collectors.toSet())
+				.size(),
+			selected.size()
+		);
+	}
+
+	@Test
+	public void selectManyObjectives() {
+		final int dim = 6;
+		final Random random = new Random(123);
+
+		// Points on the (positive) unit sphere are non-dominated.
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			IntStream.range(0, 1000)
+				.mapToObj(i -> {
+					final double[] v = random.doubles(dim).toArray();
+					final double norm = Math.sqrt(
+						IntStream.range(0, dim).mapToDouble(j -> v[j]*v[j]).sum()
+					);
+					for (int j = 0; j < dim; ++j) v[j] /= norm;
+					return phenotype(Vec.of(v));
+				})
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			NSGA3Selector.<DoubleGene, double[], Vec<double[]>>ofVec(4)
+				.select(population, 200, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected.size(), 200);
+		Assert.assertEquals(
+			selected.stream().collect(Collectors.toSet()).size(),
+			selected.size()
+		);
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(50)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			NSGA3Selector.<DoubleGene, double[], Vec<double[]>>ofVec(4)
+				.select(population, 120, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected.size(), 120);
+		Assert.assertEquals(
+			selected.stream().collect(Collectors.toSet()).size(),
+			population.size()
+		);
+	}
+
+	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
+		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
+		return Phenotype.of(
+			gt,
+			1L,
+			PROBLEM.fitness().apply(PROBLEM.codec().decode(gt))
+		);
+	}
+
+	private Phenotype<DoubleGene, Vec<double[]>>
+	phenotype(final Vec<double[]> fitness) {
+		return Phenotype.of(
+			PROBLEM.codec().encoding().newInstance(),
+			1L,
+			fitness
+		);
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IndexedTRSTest {
+
+	private static final String[] RULES = {
+		"add(0,$x) -> $x",
+		"add(S($x),$y) -> S(add($x,$y))",
+		"mul(0,$x) -> 0",
+		"mul(S($x),$y) -> add(mul($x,$y),$y)"
+	};
+
+	@Test
+	public void normalForm() {
+		final IndexedTRS<String> trs = IndexedTRS.parse(RULES);
+
+		final TreeNode<String> tree = TreeNode.parse("add(S(0),S(mul(S(0),S(S(0)))))");
+		final int rewrites = trs.rewrite(tree);
+		Assert.assertEquals(tree, TreeNode.parse("S(S(S(S(0))))"));
+		Assert.assertTrue(rewrites > 0);
+		Assert.assertEquals(trs.rewrite(tree), 0);
+	}
+
+	@Test(dataProvider = "trees")
+	public void sameAsTRS(final String expression) {
+		final TreeNode<String> expected = TreeNode.parse(expression);
+		TRS.parse(RULES).rewrite(expected);
+
+		final TreeNode<String> tree = TreeNode.parse(expression);
+		IndexedTRS.parse(RULES).rewrite(tree);
+		Assert.assertEquals(tree, expected);
+	}
+
+	@DataProvider
+	public Object[][] trees() {
+		return new Object[][] {
+			{"0"},
+			{"add(0,S(0))"},
+			{"add(S(S(0)),S(0))"},
+			{"mul(S(S(0)),S(S(S(0))))"},
+			{"add(mul(S(S(0)),S(0)),mul(0,add(S(0),0)))"},
+			{"S(add(mul(S(S(0)),S(S(0))),mul(S(0),S(0))))"}
+		};
+	}
+
+	@Test
+	public void duplicateVariables() {
+		final IndexedTRS<String> trs = IndexedTRS.parse(
+			"add($x,$x) -> mul(2,$x)",
+			"dup($x) -> add($x,$x)"
+		);
+
+		final TreeNode<String> tree = TreeNode.parse("dup(f(a,b))");
+		Assert.assertEquals(trs.rewrite(tree), 2);
+		Assert.assertEquals(tree, TreeNode.parse("mul(2,f(a,b))"));
+	}
+
+	@Test
+	public void variableRoot() {
+		final IndexedTRS<String> trs = IndexedTRS.parse("neg(neg($x)) -> $x");
+
+		final TreeNode<String> tree = TreeNode.parse("f(neg(neg(neg(neg(a)))),neg(b))");
+		Assert.assertEquals(trs.rewrite(tree), 2);
+		Assert.assertEquals(tree, TreeNode.parse("f(a,neg(b))"));
+	}
+
+	@Test
+	public void limit() {
+		final IndexedTRS<String> trs = IndexedTRS.parse("a -> f(a)");
+
+		final TreeNode<String> tree = TreeNode.parse("a");
+		Assert.assertEquals(trs.rewrite(tree, 3), 3);
+		Assert.assertEquals(tree, TreeNode.parse("f(f(f(a)))"));
+	}
+
+}
@@ -21,6 +21,7 @@ package io.jenetics.ext.util;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.Random;
 import java.util.function.Function;
 
@@ -97,10 +98,35 @@ public class FlatTreeNodeTest extends TreeTestBase<Integer, FlatTreeNode<Integer
 			{(Function<Tree<?, ?>, Object>)Tree::childPath},
 			{(Function<Tree<?, ?>, Object>)Tree::isLeaf},
 			{(Function<Tree<?, ?>, Object>)t -> t.root().value()},
-			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(Tree::value).orElse(null)}
+			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(Tree::value).orElse(null)},
+			{(Function<Tree<?, ?>, Object>)Tree::depth},
+			{(Function<Tree<?, ?>, Object>)Tree::path},
+			{(Function<Tree<?, ?>, Object>)Tree::size},
+			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(p -> p.indexOf(t)).orElse(-1)}
 		};
 	}
 
+	@Test
+	public void deepTree() {
+		final TreeNode<Integer> tree = TreeNode.of(0);
+		TreeNode<Integer> node = tree;
+		for (int i = 1; i < 5_000; ++i) {
+			final TreeNode<Integer> child = TreeNode.of(i);
+			node.attach(TreeNode.of(-i)).attach(child);
+			node = child;
+		}
+
+		final FlatTreeNode<Integer> flat = FlatTreeNode.of(tree);
+		Assert.assertEquals(flat.depth(), 4_999);
+
+		final FlatTreeNode<Integer> leaf = flat.lastLeaf();
+		Assert.assertEquals(leaf.level(), 4_999);
+		Assert.assertEquals(leaf.childPath().length(), 4_999);
+		Assert.assertEquals(flat.childAtPath(leaf.childPath()), Optional.of(leaf));
+		Assert.assertEquals(leaf.pathElements().length(), 5_000);
+		Assert.assertSame(leaf.parent().orElseThrow().childAt(1), leaf);
+	}
+
 	@Test
 	public void serialize() throws IOException {
 		final FlatTreeNode<Integer> tree = newTree(6, new Random());
@@ -0,0 +1,502 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.acos;
+import static java.lang.Math.asin;
+import static java.lang.Math.atan;
+import static java.lang.Math.cbrt;
+import static java.lang.Math.ceil;
+import static java.lang.Math.cos;
+import static java.lang.Math.cosh;
+import static java.lang.Math.exp;
+import static java.lang.Math.floor;
+import static java.lang.Math.hypot;
+import static java.lang.Math.log;
+import static java.lang.Math.log10;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.rint;
+import static java.lang.Math.signum;
+import static java.lang.Math.sin;
+import static java.lang.Math.sinh;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.tan;
+import static java.lang.Math.tanh;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.prog.op.Numbers.box;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * This class represents a <em>compiled</em> operation tree of type
+ * {@code Double}. The operation tree is translated into a flat array of
+ * postfix instructions, which are evaluated on a primitive {@code double}
+ * stack. This avoids the recursive tree walk, the allocation of the child
+ * argument arrays and the boxing of the intermediate values, which is done by
+ * the {@link Program#eval(Tree, Object[])} method.
+ *
+ * <pre>{@code
+ * final DoubleProgram program = DoubleProgram.compile(
+ *     MathExpr.parseTree("2*x + sin(y)")
+ * );
+ * final double result = program.eval(1.0, 2.0);
+ * }</pre>
+ *
+ * The {@link MathOp} operations are evaluated directly on the primitive
+ * values. {@link Val} and {@link Var} nodes are translated into
+ * <em>load</em> instructions and all other operations are called via its
+ * {@link Op#apply(Object[])} method, with boxed arguments.
+ *
+ * @apiNote
+ * The compiled program is a snapshot of the given operation tree. Changing
+ * the tree after compilation has no effect on the compiled program. Instances
+ * of this class are immutable and can be safely used from different threads.
+ *
+ * @see MathExpr
+ * @see Program#eval(Tree, Object[])
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class DoubleProgram {
+
+	/**
+	 * Consumer of the program values, calculated for a block of samples by
+	 * the {@link #evalColumns(double[][], int, BlockConsumer)} method.
+	 *
+	 * @see #evalColumns(double[][], int, BlockConsumer)
+	 */
+	@FunctionalInterface
+	public interface BlockConsumer {
+
+		/**
+		 * Consumes the calculated values of the samples
+		 * {@code [offset, offset + length)}. <em>The {@code values} array is
+		 * reused for the next block and must not be stored.</em>
+		 *
+		 * @param offset the index of the first sample of the block
+		 * @param values the calculated values of the block
+		 * @param length the number of valid values in the {@code values} array
+		 */
+		void accept(final int offset, final double[] values, final int length);
+
+	}
+
+	// The number of samples evaluated at once in column mode.
+	private static final int BLOCK_SIZE = 256;
+
+	// The instruction kinds.
+	private static final int CONST = 0;
+	private static final int VAR = 1;
+	private static final int UNARY = 2;
+	private static final int BINARY = 3;
+	private static final int TERMINAL = 4;
+	private static final int OP = 5;
+
+	private final int[] _kinds;
+	private final int[] _args;
+	private final double[] _consts;
+	private final MathOp[] _mathOps;
+	private final Op<Double>[] _ops;
+	private final int _stackSize;
+	private final Var<Double> _maxVar;
+
+	private DoubleProgram(
+		final int[] kinds,
+		final int[] args,
+		final double[] consts,
+		final MathOp[] mathOps,
+		final Op<Double>[] ops,
+		final int stackSize,
+		final Var<Double> maxVar
+	) {
+		_kinds = kinds;
+		_args = args;
+		_consts = consts;
+		_mathOps = mathOps;
+		_ops = ops;
+		_stackSize = stackSize;
+		_maxVar = maxVar;
+	}
+
+	/**
+	 * Return the number of instructions of the compiled program, which is the
+	 * number of nodes of the compiled operation tree.
+	 *
+	 * @return the number of instructions of the compiled program
+	 */
+	public int size() {
+		return _kinds.length;
+	}
+
+	/**
+	 * Return the minimal number of arguments, needed for evaluating the
+	 * program. This is the maximal variable index plus one.
+	 *
+	 * @return the number of arguments needed for evaluating the program
+	 */
+	public int arity() {
+		return _maxVar != null ? _maxVar.index() + 1 : 0;
+	}
+
+	/**
+	 * Evaluates the compiled program with the given arguments.
+	 *
+	 * @param args the program arguments
+	 * @return the evaluated value
+	 * @throws NullPointerException if the given argument array is {@code null}
+	 * @throws IllegalArgumentException if the length of the arguments array
+	 *         is smaller than the program arity
+	 */
+	public double eval(final double... args) {
+		checkArity(args.length);
+		return eval(args, new double[_stackSize]);
+	}
+
+	/**
+	 * Evaluates the compiled program for every given argument row. The
+	 * evaluation stack is allocated only once for all rows.
+	 *
+	 * @param rows the argument rows
+	 * @return the evaluated values, one for every argument row
+	 * @throws NullPointerException if the given argument array is {@code null}
+	 * @throws IllegalArgumentException if the length of one of the argument
+	 *         rows is smaller than the program arity
+	 */
+	public double[] eval(final double[][] rows) {
+		for (double[] row : rows) {
+			checkArity(row.length);
+		}
+
+		final double[] stack = new double[_stackSize];
+		final double[] result = new double[rows.length];
+		for (int i = 0; i < rows.length; ++i) {
+			result[i] = eval(rows[i], stack);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Evaluates the compiled program for the samples, given in columnar
+	 * layout. Every column contains the values of one variable, with the
+	 * variable index as column index. The values of the {@code i}-th sample
+	 * are {@code columns[0][i], columns[1][i], ..., columns[n - 1][i]}.
+	 *
+	 * @see #evalColumns(double[][], int, BlockConsumer)
+	 *
+	 * @param columns the argument columns
+	 * @param size the number of samples to evaluate
+	 * @return the evaluated values, one for every sample
+	 * @throws NullPointerException if the given column array is {@code null}
+	 * @throws IllegalArgumentException if the number of columns is smaller
+	 *         than the program arity
+	 * @throws IndexOutOfBoundsException if one of the needed columns contains
+	 *         less than {@code size} values
+	 */
+	public double[] evalColumns(final double[][] columns, final int size) {
+		final double[] result = new double[size];
+		evalColumns(columns, size, (offset, values, length) ->
+			System.arraycopy(values, 0, result, offset, length)
+		);
+		return result;
+	}
+
+	/**
+	 * Evaluates the compiled program for the samples, given in columnar
+	 * layout, and hands the calculated values block-wise to the given
+	 * {@code consumer}. The samples are evaluated in blocks and every
+	 * instruction is executed for the whole block, in a tight loop over
+	 * primitive arrays. This allows to combine the program evaluation with
+	 * further calculations, e.g. of an error function, without
+	 * materializing all calculated values.
+	 *
+	 * @param columns the argument columns
+	 * @param size the number of samples to evaluate
+	 * @param consumer the consumer of the calculated values
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the number of columns is smaller
+	 *         than the program arity
+	 * @throws IndexOutOfBoundsException if one of the needed columns contains
+	 *         less than {@code size} values
+	 */
+	public void evalColumns(
+		final double[][] columns,
+		final int size,
+		final BlockConsumer consumer
+	) {
+		requireNonNull(consumer);
+		checkArity(columns.length);
+
+		final double[][] stack = new double[_stackSize][BLOCK_SIZE];
+		for (int offset = 0; offset < size; offset += BLOCK_SIZE) {
+			final int length = Math.min(BLOCK_SIZE, size - offset);
+			eval(columns, offset, length, stack);
+			consumer.accept(offset, stack[0], length);
+		}
+	}
+
+	private void eval(
+		final double[][] columns,
+		final int offset,
+		final int length,
+		final double[][] stack
+	) {
+		int sp = 0;
+		for (int i = 0; i < _kinds.length; ++i) {
+			switch (_kinds[i]) {
+				case CONST:
+					Arrays.fill(stack[sp++], 0, length, _consts[_args[i]]);
+					break;
+				case VAR:
+					System.arraycopy(
+						columns[_args[i]], offset, stack[sp++], 0, length
+					);
+					break;
+				case UNARY:
+					unary(_mathOps[i], stack[sp - 1], length);
+					break;
+				case BINARY:
+					--sp;
+					binary(_mathOps[i], stack[sp - 1], stack[sp], length);
+					break;
+				case TERMINAL:
+					final double[] values = stack[sp++];
+					final double[] args = new double[columns.length];
+					for (int k = 0; k < length; ++k) {
+						for (int j = 0; j < args.length; ++j) {
+							args[j] = columns[j][offset + k];
+						}
+						values[k] = _ops[i].apply(box(args));
+					}
+					break;
+				default:
+					final int arity = _args[i];
+					final Double[] operands = new Double[arity];
+					for (int k = 0; k < length; ++k) {
+						for (int j = 0; j < arity; ++j) {
+							operands[j] = stack[sp - arity + j][k];
+						}
+						stack[sp - arity][k] = _ops[i].apply(operands);
+					}
+					sp = sp - arity + 1;
+			}
+		}
+	}
+
+	private void checkArity(final int length) {
+		if (length < arity()) {
+			throw new IllegalArgumentException(format(
+				"No value for variable '%s' given.", _maxVar
+			));
+		}
+	}
+
+	private double eval(final double[] args, final double[] stack) {
+		int sp = 0;
+		for (int i = 0; i < _kinds.length; ++i) {
+			switch (_kinds[i]) {
+				case CONST:
+					stack[sp++] = _consts[_args[i]];
+					break;
+				case VAR:
+					stack[sp++] = args[_args[i]];
+					break;
+				case UNARY:
+					stack[sp - 1] = unary(_mathOps[i], stack[sp - 1]);
+					break;
+				case BINARY:
+					--sp;
+					stack[sp - 1] = binary(_mathOps[i], stack[sp - 1], stack[sp]);
+					break;
+				case TERMINAL:
+					stack[sp++] = _ops[i].apply(box(args));
+					break;
+				default:
+					final int arity = _args[i];
+					final Double[] values = new Double[arity];
+					for (int j = 0; j < arity; ++j) {
+						values[j] = stack[sp - arity + j];
+					}
+					sp -= arity;
+					stack[sp++] = _ops[i].apply(values);
+			}
+		}
+
+		return stack[0];
+	}
+
+	static double unary(final MathOp op, final double x) {
+		switch (op) {
+			case ABS: return abs(x);
+			case NEG: return -x;
+			case CEIL: return ceil(x);
+			case FLOOR: return floor(x);
+			case SIGNUM: return signum(x);
+			case RINT: return rint(x);
+			case SQR: return x*x;
+			case SQRT: return sqrt(x);
+			case CBRT: return cbrt(x);
+			case EXP: return exp(x);
+			case LOG: return log(x);
+			case LOG10: return log10(x);
+			case SIN: return sin(x);
+			case COS: return cos(x);
+			case TAN: return tan(x);
+			case ACOS: return acos(x);
+			case ASIN: return asin(x);
+			case ATAN: return atan(x);
+			case COSH: return cosh(x);
+			case SINH: return sinh(x);
+			case TANH: return tanh(x);
+			default: return op.apply(new Double[]{x});
+		}
+	}
+
+	static void unary(final MathOp op, final double[] x, final int n) {
+		switch (op) {
+			case ABS: for (int i = 0; i < n; ++i) x[i] = abs(x[i]); break;
+			case NEG: for (int i = 0; i < n; ++i) x[i] = -x[i]; break;
+			case SQR: for (int i = 0; i < n; ++i) x[i] = x[i]*x[i]; break;
+			case SQRT: for (int i = 0; i < n; ++i) x[i] = sqrt(x[i]); break;
+			default: for (int i = 0; i < n; ++i) x[i] = unary(op, x[i]);
+		}
+	}
+
+	static void binary(
+		final MathOp op,
+		final double[] x,
+		final double[] y,
+		final int n
+	) {
+		switch (op) {
+			case MIN: for (int i = 0; i < n; ++i) x[i] = min(x[i], y[i]); break;
+			case MAX: for (int i = 0; i < n; ++i) x[i] = max(x[i], y[i]); break;
+			case ADD: for (int i = 0; i < n; ++i) x[i] = x[i] + y[i]; break;
+			case SUB: for (int i = 0; i < n; ++i) x[i] = x[i] - y[i]; break;
+			case MUL: for (int i = 0; i < n; ++i) x[i] = x[i]*y[i]; break;
+			case DIV: for (int i = 0; i < n; ++i) x[i] = x[i]/y[i]; break;
+			default: for (int i = 0; i < n; ++i) x[i] = binary(op, x[i], y[i]);
+		}
+	}
+
+	static double binary(final MathOp op, final double x, final double y) {
+		switch (op) {
+			case MIN: return min(x, y);
+			case MAX: return max(x, y);
+			case ADD: return x + y;
+			case SUB: return x - y;
+			case MUL: return x*y;
+			case DIV: return x/y;
+			case MOD: return x%y;
+			case POW: return pow(x, y);
+			case HYPOT: return hypot(x, y);
+			case GT: return x > y ? 1.0 : -1.0;
+			default: return op.apply(new Double[]{x, y});
+		}
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Compiles the given operation tree into a flat, postfix program.
+	 *
+	 * @param tree the operation tree to compile
+	 * @return the compiled program
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 * @throws IllegalArgumentException if the given operation tree is invalid,
+	 *         which means there is at least one node where the operation arity
+	 *         and the node child count differ.
+	 */
+	@SuppressWarnings("unchecked")
+	public static DoubleProgram compile(final Tree<? extends Op<Double>, ?> tree) {
+		requireNonNull(tree);
+		Program.check(tree);
+
+		final int size = tree.size();
+		final int[] kinds = new int[size];
+		final int[] args = new int[size];
+		final MathOp[] mathOps = new MathOp[size];
+		final Op<Double>[] ops = (Op<Double>[])new Op<?>[size];
+		final List<Double> consts = new ArrayList<>();
+
+		Var<Double> maxVar = null;
+		int stackSize = 0;
+		int sp = 0;
+
+		final Iterator<? extends Tree<? extends Op<Double>, ?>> nodes =
+			tree.postorderIterator();
+		for (int i = 0; nodes.hasNext(); ++i) {
+			final Op<Double> op = nodes.next().value();
+
+			if (op instanceof Var) {
+				final Var<Double> var = (Var<Double>)op;
+				kinds[i] = VAR;
+				args[i] = var.index();
+				if (maxVar == null || var.index() > maxVar.index()) {
+					maxVar = var;
+				}
+			} else if (op instanceof Val && ((Val<?>)op).value() != null) {
+				kinds[i] = CONST;
+				args[i] = consts.size();
+				consts.add(((Val<Double>)op).value());
+			} else if (op instanceof MathOp && op.arity() == 1) {
+				kinds[i] = UNARY;
+				mathOps[i] = (MathOp)op;
+			} else if (op instanceof MathOp && op.arity() == 2) {
+				kinds[i] = BINARY;
+				mathOps[i] = (MathOp)op;
+			} else if (op.isTerminal()) {
+				kinds[i] = TERMINAL;
+				ops[i] = op;
+			} else {
+				kinds[i] = OP;
+				args[i] = op.arity();
+				ops[i] = op;
+			}
+
+			sp = sp - op.arity() + 1;
+			stackSize = Math.max(stackSize, sp);
+		}
+
+		return new DoubleProgram(
+			kinds,
+			args,
+			consts.stream().mapToDouble(Double::doubleValue).toArray(),
+			mathOps,
+			ops,
+			stackSize,
+			maxVar
+		);
+	}
+
+}
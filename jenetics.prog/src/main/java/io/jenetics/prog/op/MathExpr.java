@@ -25,7 +25,7 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toCollection;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
-import static io.jenetics.prog.op.Numbers.box;
+import static io.jenetics.prog.op.Numbers.unbox;
 
 import java.io.DataInput;
 import java.io.DataOutput;
@@ -40,7 +40,7 @@ import java.util.function.Function;
 import io.jenetics.internal.util.Lazy;
 import io.jenetics.util.ISeq;
 
-import io.jenetics.ext.rewriting.TreeRewriteRule;
+import io.jenetics.ext.rewriting.IndexedTRS;
 import io.jenetics.ext.rewriting.TreeRewriter;
 import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
@@ -63,7 +63,7 @@ import io.jenetics.ext.util.TreeNode;
  * @see MathOp
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 4.1
  */
 public final class MathExpr
@@ -113,29 +113,26 @@ public final class MathExpr
 	 * @since 5.0
 	 */
 	public static final TreeRewriter<Op<Double>> ARITHMETIC_REWRITER =
-		TreeRewriter.concat(
-			compile("sub($x,$x) -> 0"),
-			compile("sub($x,0) -> $x"),
-			compile("add($x,0) -> $x"),
-			compile("add(0,$x) -> $x"),
-			compile("add($x,$x) -> mul(2,$x)"),
-			compile("div($x,$x) -> 1"),
-			compile("div(0,$x) -> 0"),
-			compile("mul($x,0) -> 0"),
-			compile("mul(0,$x) -> 0"),
-			compile("mul($x,1) -> $x"),
-			compile("mul(1,$x) -> $x"),
-			compile("mul($x,$x) -> pow($x,2)"),
-			compile("pow($x,0) -> 1"),
-			compile("pow(0,$x) -> 0"),
-			compile("pow($x,1) -> $x"),
-			compile("pow(1,$x) -> 1")
+		IndexedTRS.parse(
+			MathOp::toMathOp,
+			"sub($x,$x) -> 0",
+			"sub($x,0) -> $x",
+			"add($x,0) -> $x",
+			"add(0,$x) -> $x",
+			"add($x,$x) -> mul(2,$x)",
+			"div($x,$x) -> 1",
+			"div(0,$x) -> 0",
+			"mul($x,0) -> 0",
+			"mul(0,$x) -> 0",
+			"mul($x,1) -> $x",
+			"mul(1,$x) -> $x",
+			"mul($x,$x) -> pow($x,2)",
+			"pow($x,0) -> 1",
+			"pow(0,$x) -> 0",
+			"pow($x,1) -> $x",
+			"pow(1,$x) -> 1"
 		);
 
-	private static TreeRewriter<Op<Double>> compile(final String rule) {
-		return TreeRewriteRule.parse(rule, MathOp::toMathOp);
-	}
-
 	/**
 	 * Combination of the {@link #ARITHMETIC_REWRITER} and the
 	 * {@link #CONST_REWRITER}, in this specific order.
@@ -150,6 +147,7 @@ public final class MathExpr
 	private final Tree<? extends Op<Double>, ?> _tree;
 
 	private final Lazy<ISeq<Var<Double>>> _vars;
+	private final Lazy<DoubleProgram> _program;
 
 	// Primary constructor.
 	private MathExpr(final Tree<? extends Op<Double>, ?> tree, boolean primary) {
@@ -160,6 +158,7 @@ public final class MathExpr
 				.map(node -> (Var<Double>)node.value())
 				.collect(toCollection(() -> new TreeSet<>(comparing(Var::name))))
 		));
+		_program = Lazy.of(() -> DoubleProgram.compile(_tree));
 	}
 
 	/**
@@ -200,7 +199,7 @@ public final class MathExpr
 	 */
 	@Override
 	public Double apply(final Double[] args) {
-		return Program.eval(_tree, args);
+		return _program.get().eval(unbox(args));
 	}
 
 	/**
@@ -222,7 +221,7 @@ public final class MathExpr
 	 *         is smaller than the program arity
 	 */
 	public double eval(final double... args) {
-		final double val = apply(box(args));
+		final double val = _program.get().eval(args);
 		return val == -0.0 ? 0.0 : val;
 	}
 
@@ -98,4 +98,12 @@ final class Numbers {
 		return result;
 	}
 
+	static double[] unbox(final Double... values) {
+		final double[] result = new double[values.length];
+		for (int i = values.length; --i >= 0;) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+
 }
@@ -0,0 +1,397 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.prog.op.Numbers.box;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Evaluates {@code Double} programs on a fixed set of samples, given in
+ * columnar layout, and caches the evaluated values of the (non-terminal)
+ * subtrees. The cache is keyed by the <em>structure</em> of the subtrees, so
+ * identical subtrees of different programs share the same cache entry. Since
+ * GP populations usually contain many identical subtrees, after crossover,
+ * most of the subtree evaluations can be reused. This is true within one
+ * generation and across generations, as long as the samples don't change.
+ *
+ * <pre>{@code
+ * final SubtreeCache cache = new SubtreeCache(columns, size, 64*1024*1024);
+ * final double[] values = cache.eval(program);
+ * }</pre>
+ *
+ * The memory, used by the cached values, is limited by the given memory
+ * budget. If the budget is exceeded, the least recently used entries are
+ * evicted.
+ *
+ * @implNote
+ * This class is thread-safe. The subtree values are calculated outside of
+ * the cache lock, which means that the same subtree might be evaluated
+ * concurrently by different threads.
+ *
+ * @see DoubleProgram
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class SubtreeCache {
+
+	// Estimated memory overhead of one cache entry.
+	private static final long ENTRY_OVERHEAD = 96;
+
+	private final double[][] _columns;
+	private final int _size;
+	private final long _maxBytes;
+
+	private final Map<Key, double[]> _cache =
+		new LinkedHashMap<>(64, 0.75F, true);
+
+	private long _bytes = 0;
+	private long _hits = 0;
+	private long _misses = 0;
+	private long _evictions = 0;
+
+	/**
+	 * Create a new subtree cache for the given sample {@code columns}. The
+	 * column arrays are <em>not</em> copied and must not be changed
+	 * afterwards.
+	 *
+	 * @param columns the argument columns, one for every variable
+	 * @param size the number of samples
+	 * @param maxBytes the maximal number of bytes used for the cached values
+	 * @throws NullPointerException if the given {@code columns} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code size} or the
+	 *         {@code maxBytes} are smaller than zero, or if one of the columns
+	 *         contains less than {@code size} values
+	 */
+	public SubtreeCache(
+		final double[][] columns,
+		final int size,
+		final long maxBytes
+	) {
+		if (size < 0) {
+			throw new IllegalArgumentException(
+				"Sample size must not be negative: " + size
+			);
+		}
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException(
+				"Memory budget must not be negative: " + maxBytes
+			);
+		}
+		for (int i = 0; i < columns.length; ++i) {
+			if (columns[i].length < size) {
+				throw new IllegalArgumentException(format(
+					"Column %d has less than %d values: %d",
+					i, size, columns[i].length
+				));
+			}
+		}
+
+		_columns = columns;
+		_size = size;
+		_maxBytes = maxBytes;
+	}
+
+	/**
+	 * Evaluates the given {@code program} for all samples.
+	 *
+	 * @param program the program to evaluate
+	 * @return the evaluated values, one for every sample
+	 * @throws NullPointerException if the given {@code program} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given operation tree is invalid
+	 *         or the program contains variables without sample column
+	 */
+	@SuppressWarnings("unchecked")
+	public double[] eval(final Tree<? extends Op<Double>, ?> program) {
+		requireNonNull(program);
+		Program.check(program);
+
+		// Postfix representation of the program, with the start index and
+		// the structural hash of every subtree.
+		final int n = program.size();
+		final Op<Double>[] ops = (Op<Double>[])new Op<?>[n];
+		final int[] starts = new int[n];
+		final long[] hashes = new long[n];
+		final int[] stack = new int[n];
+
+		int sp = 0;
+		final Iterator<? extends Tree<? extends Op<Double>, ?>> nodes =
+			program.postorderIterator();
+		for (int i = 0; nodes.hasNext(); ++i) {
+			final Op<Double> op = nodes.next().value();
+			if (op instanceof Var && ((Var<?>)op).index() >= _columns.length) {
+				throw new IllegalArgumentException(format(
+					"No value for variable '%s' given.", op
+				));
+			}
+
+			ops[i] = op;
+			long hash = mix(op.hashCode());
+			int start = i;
+			for (int j = sp - op.arity(); j < sp; ++j) {
+				hash = hash*0x9E3779B97F4A7C15L + hashes[stack[j]];
+				start = Math.min(start, starts[stack[j]]);
+			}
+			sp -= op.arity();
+			stack[sp++] = i;
+
+			hashes[i] = mix(hash);
+			starts[i] = start;
+		}
+
+		final double[] result = eval(ops, starts, hashes, n - 1);
+		return result.clone();
+	}
+
+	private double[] eval(
+		final Op<Double>[] ops,
+		final int[] starts,
+		final long[] hashes,
+		final int index
+	) {
+		final Op<Double> op = ops[index];
+		if (op instanceof Var) {
+			return _columns[((Var<?>)op).index()];
+		}
+		if (op instanceof Val && ((Val<?>)op).value() != null) {
+			final double[] values = new double[_size];
+			Arrays.fill(values, ((Val<Double>)op).value());
+			return values;
+		}
+
+		final Key key = new Key(hashes[index], ops, starts[index], index + 1);
+		final double[] cached = get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		// Evaluate the child subtrees, from the last to the first one.
+		final double[][] operands = new double[op.arity()][];
+		for (int i = operands.length, child = index - 1; --i >= 0;) {
+			operands[i] = eval(ops, starts, hashes, child);
+			child = starts[child] - 1;
+		}
+
+		final double[] values = apply(op, operands);
+		put(key.copy(), values);
+		return values;
+	}
+
+	private double[] apply(final Op<Double> op, final double[][] operands) {
+		final double[] values;
+		if (op instanceof MathOp && operands.length == 1) {
+			values = Arrays.copyOf(operands[0], _size);
+			DoubleProgram.unary((MathOp)op, values, _size);
+		} else if (op instanceof MathOp && operands.length == 2) {
+			values = Arrays.copyOf(operands[0], _size);
+			DoubleProgram.binary((MathOp)op, values, operands[1], _size);
+		} else if (op.isTerminal()) {
+			values = new double[_size];
+			final double[] args = new double[_columns.length];
+			for (int i = 0; i < _size; ++i) {
+				for (int j = 0; j < args.length; ++j) {
+					args[j] = _columns[j][i];
+				}
+				values[i] = op.apply(box(args));
+			}
+		} else {
+			values = new double[_size];
+			final Double[] args = new Double[operands.length];
+			for (int i = 0; i < _size; ++i) {
+				for (int j = 0; j < args.length; ++j) {
+					args[j] = operands[j][i];
+				}
+				values[i] = op.apply(args);
+			}
+		}
+
+		return values;
+	}
+
+	private static long mix(final long value) {
+		long z = value + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private synchronized double[] get(final Key key) {
+		final double[] values = _cache.get(key);
+		if (values != null) {
+			++_hits;
+		} else {
+			++_misses;
+		}
+		return values;
+	}
+
+	private synchronized void put(final Key key, final double[] values) {
+		final long bytes = bytes(key, values);
+		if (bytes <= _maxBytes && !_cache.containsKey(key)) {
+			_cache.put(key, values);
+			_bytes += bytes;
+
+			final Iterator<Map.Entry<Key, double[]>> it =
+				_cache.entrySet().iterator();
+			while (_bytes > _maxBytes && it.hasNext()) {
+				final Map.Entry<Key, double[]> entry = it.next();
+				_bytes -= bytes(entry.getKey(), entry.getValue());
+				it.remove();
+				++_evictions;
+			}
+		}
+	}
+
+	private static long bytes(final Key key, final double[] values) {
+		return ENTRY_OVERHEAD + 8L*values.length + 8L*key.length();
+	}
+
+	/**
+	 * Return the number of cached subtree values.
+	 *
+	 * @return the number of cached subtree values
+	 */
+	public synchronized int size() {
+		return _cache.size();
+	}
+
+	/**
+	 * Return the estimated number of bytes used by the cached values.
+	 *
+	 * @return the estimated number of bytes used by the cached values
+	 */
+	public synchronized long bytes() {
+		return _bytes;
+	}
+
+	/**
+	 * Return the number of subtree evaluations, which could be read from the
+	 * cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public synchronized long hits() {
+		return _hits;
+	}
+
+	/**
+	 * Return the number of subtree evaluations, which couldn't be read from
+	 * the cache.
+	 *
+	 * @return the number of cache misses
+	 */
+	public synchronized long misses() {
+		return _misses;
+	}
+
+	/**
+	 * Return the number of cache entries, which has been evicted, because of
+	 * the memory budget.
+	 *
+	 * @return the number of evicted cache entries
+	 */
+	public synchronized long evictions() {
+		return _evictions;
+	}
+
+	/**
+	 * Removes all cached values. The cache statistics are not changed.
+	 */
+	public synchronized void clear() {
+		_cache.clear();
+		_bytes = 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return format(
+			"SubtreeCache[entries=%d, bytes=%d, hits=%d, misses=%d, evictions=%d]",
+			_cache.size(), _bytes, _hits, _misses, _evictions
+		);
+	}
+
+	/**
+	 * The structural key of a subtree. The subtree is stored as postfix
+	 * operation array range, which uniquely defines the subtree structure.
+	 */
+	private static final class Key {
+		private final long _hash;
+		private final Op<?>[] _ops;
+		private final int _from;
+		private final int _to;
+
+		Key(final long hash, final Op<?>[] ops, final int from, final int to) {
+			_hash = hash;
+			_ops = ops;
+			_from = from;
+			_to = to;
+		}
+
+		int length() {
+			return _to - _from;
+		}
+
+		Key copy() {
+			return new Key(_hash, Arrays.copyOfRange(_ops, _from, _to), 0, length());
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(_hash);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj == this ||
+				obj instanceof Key &&
+				((Key)obj)._hash == _hash &&
+				equals((Key)obj, this);
+		}
+
+		private static boolean equals(final Key a, final Key b) {
+			if (a.length() != b.length()) {
+				return false;
+			}
+			for (int i = 0; i < a.length(); ++i) {
+				final Op<?> u = a._ops[a._from + i];
+				final Op<?> v = b._ops[b._from + i];
+				if (!u.equals(v) ||
+					u instanceof Var &&
+					((Var<?>)u).index() != ((Var<?>)v).index())
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+
+/**
+ * Loss functions for {@code Double} samples, which can be calculated
+ * incrementally, value by value. This allows the {@link SampleColumns} class
+ * to calculate the loss in the same pass as the program evaluation, without
+ * materializing the calculated values.
+ *
+ * <pre>{@code
+ * final Regression<Double> regression = Regression.of(
+ *     Regression.codecOf(OPERATIONS, TERMINALS, 5),
+ *     Error.of(DoubleLoss.MSE, Complexity.ofNodeCount(50)),
+ *     SampleColumns.of(samples)
+ * );
+ * }</pre>
+ *
+ * @see LossFunction
+ * @see SampleColumns
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public enum DoubleLoss implements LossFunction<Double> {
+
+	/**
+	 * Mean square error.
+	 *
+	 * @see LossFunction#mse(Double[], Double[])
+	 */
+	MSE {
+		@Override
+		double term(final double calculated, final double expected) {
+			return (expected - calculated)*(expected - calculated);
+		}
+
+		@Override
+		double result(final double sum, final int count) {
+			return count > 0 ? sum/count : sum;
+		}
+	},
+
+	/**
+	 * Root mean square error.
+	 *
+	 * @see LossFunction#rmse(Double[], Double[])
+	 */
+	RMSE {
+		@Override
+		double term(final double calculated, final double expected) {
+			return (expected - calculated)*(expected - calculated);
+		}
+
+		@Override
+		double result(final double sum, final int count) {
+			return sqrt(count > 0 ? sum/count : sum);
+		}
+	},
+
+	/**
+	 * Mean absolute error.
+	 *
+	 * @see LossFunction#mae(Double[], Double[])
+	 */
+	MAE {
+		@Override
+		double term(final double calculated, final double expected) {
+			return abs(expected - calculated);
+		}
+
+		@Override
+		double result(final double sum, final int count) {
+			return count > 0 ? sum/count : sum;
+		}
+	};
+
+	/**
+	 * Return the loss term of one sample point.
+	 *
+	 * @param calculated the calculated value
+	 * @param expected the expected value
+	 * @return the loss term of one sample point
+	 */
+	abstract double term(final double calculated, final double expected);
+
+	/**
+	 * Return the final loss value from the sum of the loss terms.
+	 *
+	 * @param sum the sum of the loss terms
+	 * @param count the number of summed up loss terms
+	 * @return the final loss value
+	 */
+	abstract double result(final double sum, final int count);
+
+	@Override
+	public double apply(final Double[] calculated, final Double[] expected) {
+		checkLength(calculated.length, expected.length);
+
+		double sum = 0;
+		for (int i = 0; i < expected.length; ++i) {
+			sum += term(calculated[i], expected[i]);
+		}
+		return result(sum, expected.length);
+	}
+
+	/**
+	 * Calculates the loss between the expected and the calculated values.
+	 *
+	 * @param calculated the calculated function values
+	 * @param expected the expected function values
+	 * @return the loss value
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	public double apply(final double[] calculated, final double[] expected) {
+		checkLength(calculated.length, expected.length);
+
+		double sum = 0;
+		for (int i = 0; i < expected.length; ++i) {
+			sum += term(calculated[i], expected[i]);
+		}
+		return result(sum, expected.length);
+	}
+
+	private static void checkLength(final int calculated, final int expected) {
+		if (expected != calculated) {
+			throw new IllegalArgumentException(format(
+				"Expected result and calculated results have different " +
+					"length: %d != %d",
+				expected, calculated
+			));
+		}
+	}
+
+}
@@ -19,8 +19,6 @@
  */
 package io.jenetics.prog.regression;
 
-import static java.util.Objects.requireNonNull;
-
 import java.util.function.DoubleBinaryOperator;
 
 import io.jenetics.ext.util.Tree;
@@ -42,7 +40,7 @@ import io.jenetics.prog.op.Op;
  * @param <T> the sample type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 @FunctionalInterface
@@ -79,8 +77,7 @@ public interface Error<T> {
 	 *         {@code null}
 	 */
 	static <T> Error<T> of(final LossFunction<T> loss) {
-		requireNonNull(loss);
-		return (p, c, e) -> loss.apply(c, e);
+		return new LossError<>(loss, p -> 0.0, (lss, cpx) -> lss);
 	}
 
 	/**
@@ -121,12 +118,7 @@ public interface Error<T> {
 		final Complexity<T> complexity,
 		final DoubleBinaryOperator compose
 	) {
-		requireNonNull(loss);
-		requireNonNull(complexity);
-		requireNonNull(compose);
-
-		return (p, c, e) ->
-			compose.applyAsDouble(loss.apply(c, e), complexity.apply(p));
+		return new LossError<>(loss, complexity, compose);
 	}
 
 }
@@ -0,0 +1,82 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.DoubleBinaryOperator;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+
+/**
+ * Error function which is composed of a loss function and a program
+ * complexity. Keeping the components accessible allows the sampling
+ * implementations to calculate the loss in an optimized way.
+ *
+ * @see Error#of(LossFunction, Complexity, DoubleBinaryOperator)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class LossError<T> implements Error<T> {
+
+	private final LossFunction<T> _loss;
+	private final Complexity<T> _complexity;
+	private final DoubleBinaryOperator _compose;
+
+	LossError(
+		final LossFunction<T> loss,
+		final Complexity<T> complexity,
+		final DoubleBinaryOperator compose
+	) {
+		_loss = requireNonNull(loss);
+		_complexity = requireNonNull(complexity);
+		_compose = requireNonNull(compose);
+	}
+
+	LossFunction<T> loss() {
+		return _loss;
+	}
+
+	@Override
+	public double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final T[] calculated,
+		final T[] expected
+	) {
+		return apply(program, _loss.apply(calculated, expected));
+	}
+
+	/**
+	 * Calculates the overall error from the given, already calculated,
+	 * {@code loss} value.
+	 *
+	 * @param program the program tree
+	 * @param loss the loss value of the program
+	 * @return the overall program error
+	 */
+	double apply(final Tree<? extends Op<T>, ?> program, final double loss) {
+		return _compose.applyAsDouble(loss, _complexity.apply(program));
+	}
+
+}
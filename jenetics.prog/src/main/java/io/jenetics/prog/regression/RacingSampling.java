@@ -0,0 +1,352 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.internal.math.Combinatorics;
+
+import io.jenetics.prog.op.Op;
+
+/**
+ * Sampling implementation, which evaluates the programs in two stages
+ * (<em>racing</em>). Every program is first evaluated on a small subset of the
+ * sample points. If the error on this subset is worse than the given
+ * {@code quantile} of the errors of the recently, fully evaluated programs,
+ * the program is dropped early and the subset result is returned. Only the
+ * promising programs are evaluated on the full sample set.
+ *
+ * <pre>{@code
+ * final Error<Double> error = Error.of(LossFunction::mse);
+ * final RacingSampling<Double> sampling =
+ *     RacingSampling.of(samples, error, 20);
+ *
+ * final Regression<Double> regression = Regression.of(
+ *     Regression.codecOf(OPERATIONS, TERMINALS, 5),
+ *     error,
+ *     sampling
+ * );
+ * }</pre>
+ *
+ * The error of a dropped program is the error of the subset evaluation, which
+ * is an estimate of its <em>full</em> error. Since the dropped programs are
+ * worse than most of their competitors anyway, this estimate is good enough
+ * for the selection. If the sample results are {@link Comparable}, the subset
+ * is <em>stratified</em> over the range of the expected results, otherwise it
+ * is chosen randomly. The number of saved sample evaluations is available via
+ * the {@link #savedEvaluations()} method.
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @param <T> the sample type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class RacingSampling<T> implements Sampling<T> {
+
+	/**
+	 * The default quantile of the recent full errors, used as rejection
+	 * threshold.
+	 */
+	public static final double DEFAULT_QUANTILE = 0.75;
+
+	/**
+	 * The default number of recent full errors the rejection threshold is
+	 * calculated from.
+	 */
+	public static final int DEFAULT_WINDOW = 256;
+
+	private final SampleList<T> _samples;
+	private final SampleList<T> _subset;
+	private final Error<T> _error;
+	private final double _quantile;
+
+	// Ring buffer of the recent full evaluation errors.
+	private final double[] _errors;
+	private int _count = 0;
+	private double _threshold = Double.POSITIVE_INFINITY;
+
+	private final AtomicLong _evaluations = new AtomicLong();
+	private final AtomicLong _saved = new AtomicLong();
+	private final AtomicLong _rejected = new AtomicLong();
+
+	private RacingSampling(
+		final SampleList<T> samples,
+		final SampleList<T> subset,
+		final Error<T> error,
+		final double quantile,
+		final int window
+	) {
+		_samples = samples;
+		_subset = subset;
+		_error = error;
+		_quantile = quantile;
+		_errors = new double[window];
+	}
+
+	/**
+	 * Return the number of sample points of the full sample set.
+	 *
+	 * @return the number of sample points
+	 */
+	public int size() {
+		return _samples.size();
+	}
+
+	/**
+	 * Return the number of sample points used for the first evaluation
+	 * stage.
+	 *
+	 * @return the size of the sample subset
+	 */
+	public int subsetSize() {
+		return _subset.size();
+	}
+
+	/**
+	 * Return the current rejection threshold. Programs with a subset error
+	 * greater than this value are not evaluated on the full sample set. The
+	 * threshold is {@link Double#POSITIVE_INFINITY} as long as not enough
+	 * programs have been fully evaluated.
+	 *
+	 * @return the current rejection threshold
+	 */
+	public synchronized double threshold() {
+		return _threshold;
+	}
+
+	/**
+	 * Return the number of actually evaluated sample points.
+	 *
+	 * @return the number of actually evaluated sample points
+	 */
+	public long evaluations() {
+		return _evaluations.get();
+	}
+
+	/**
+	 * Return the number of sample evaluations saved by dropping programs
+	 * after the first evaluation stage.
+	 *
+	 * @return the number of saved sample evaluations
+	 */
+	public long savedEvaluations() {
+		return _saved.get();
+	}
+
+	/**
+	 * Return the number of programs, which has been dropped after the first
+	 * evaluation stage.
+	 *
+	 * @return the number of dropped programs
+	 */
+	public long rejected() {
+		return _rejected.get();
+	}
+
+	@Override
+	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
+		final Result<T> result = _subset.eval(program);
+		_evaluations.addAndGet(_subset.size());
+
+		if (_subset.size() < _samples.size()) {
+			final double error = _error.apply(
+				program,
+				result.calculated(),
+				result.expected()
+			);
+
+			if (error > threshold()) {
+				_rejected.incrementAndGet();
+				_saved.addAndGet(_samples.size() - _subset.size());
+				return result;
+			}
+		}
+
+		final Result<T> full = _samples.eval(program);
+		_evaluations.addAndGet(_samples.size());
+		update(_error.apply(program, full.calculated(), full.expected()));
+
+		return full;
+	}
+
+	private synchronized void update(final double error) {
+		if (Double.isFinite(error)) {
+			_errors[_count%_errors.length] = error;
+			++_count;
+
+			if (_count >= _errors.length/2) {
+				final double[] errors = Arrays
+					.copyOf(_errors, Math.min(_count, _errors.length));
+				Arrays.sort(errors);
+
+				final int index = (int)Math.ceil(_quantile*errors.length) - 1;
+				_threshold = errors[Math.max(index, 0)];
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"RacingSampling[size=%d, subset=%d, evaluations=%d, saved=%d]",
+			size(), subsetSize(), evaluations(), savedEvaluations()
+		);
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new racing sampling object with the given parameters.
+	 *
+	 * @param samples the full sample set
+	 * @param error the error function used for the racing decision. This
+	 *        should be the same error function as used by the
+	 *        {@link Regression} problem.
+	 * @param subsetSize the number of sample points used for the first
+	 *        evaluation stage
+	 * @param quantile the quantile of the recent full errors, used as
+	 *        rejection threshold
+	 * @param window the number of recent full errors the rejection threshold
+	 *        is calculated from
+	 * @param <T> the sample type
+	 * @return a new racing sampling object
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code samples} are empty,
+	 *         the {@code subsetSize} is not within the range
+	 *         {@code [1, samples.size()]}, the {@code quantile} is not within
+	 *         the range {@code (0, 1]} or the {@code window} is smaller than
+	 *         two
+	 */
+	public static <T> RacingSampling<T> of(
+		final Iterable<? extends Sample<T>> samples,
+		final Error<T> error,
+		final int subsetSize,
+		final double quantile,
+		final int window
+	) {
+		requireNonNull(error);
+
+		final List<Sample<T>> list = new ArrayList<>();
+		samples.forEach(list::add);
+
+		if (subsetSize < 1 || subsetSize > list.size()) {
+			throw new IllegalArgumentException(format(
+				"Subset size not in range [1, %d]: %d.",
+				list.size(), subsetSize
+			));
+		}
+		if (!(quantile > 0 && quantile <= 1)) {
+			throw new IllegalArgumentException(format(
+				"Quantile not in range (0, 1]: %f.", quantile
+			));
+		}
+		if (window < 2) {
+			throw new IllegalArgumentException(format(
+				"Window size must be greater than one: %d.", window
+			));
+		}
+
+		final List<Sample<T>> subset = new ArrayList<>(subsetSize);
+		for (int index : indexes(list, subsetSize)) {
+			subset.add(list.get(index));
+		}
+
+		return new RacingSampling<>(
+			new SampleList<>(list),
+			new SampleList<>(subset),
+			error,
+			quantile,
+			window
+		);
+	}
+
+	/**
+	 * Create a new racing sampling object with the given parameters. The
+	 * {@link #DEFAULT_QUANTILE} and {@link #DEFAULT_WINDOW} is used for the
+	 * rejection threshold.
+	 *
+	 * @param samples the full sample set
+	 * @param error the error function used for the racing decision
+	 * @param subsetSize the number of sample points used for the first
+	 *        evaluation stage
+	 * @param <T> the sample type
+	 * @return a new racing sampling object
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code samples} are empty
+	 *         or the {@code subsetSize} is not within the range
+	 *         {@code [1, samples.size()]}
+	 */
+	public static <T> RacingSampling<T> of(
+		final Iterable<? extends Sample<T>> samples,
+		final Error<T> error,
+		final int subsetSize
+	) {
+		return of(samples, error, subsetSize, DEFAULT_QUANTILE, DEFAULT_WINDOW);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <T> int[] indexes(
+		final List<Sample<T>> samples,
+		final int size
+	) {
+		final boolean comparable = samples.stream()
+			.allMatch(s -> s.result() instanceof Comparable);
+
+		if (!comparable) {
+			return Combinatorics.subset(samples.size(), size);
+		}
+
+		// Stratified selection over the sorted sample results.
+		final Comparator<Integer> order = (a, b) ->
+			((Comparable)samples.get(a).result())
+				.compareTo(samples.get(b).result());
+
+		final int[] sorted = IntStream.range(0, samples.size())
+			.boxed()
+			.sorted(order)
+			.mapToInt(Integer::intValue)
+			.toArray();
+
+		final int[] indexes = new int[size];
+		for (int i = 0; i < size; ++i) {
+			indexes[i] = sorted[(int)((i + 0.5)*sorted.length/size)];
+		}
+		Arrays.sort(indexes);
+
+		return indexes;
+	}
+
+}
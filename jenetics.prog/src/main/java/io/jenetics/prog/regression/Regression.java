@@ -96,7 +96,7 @@ import io.jenetics.prog.regression.Sampling.Result;
  * @param <T> the operation type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 5.0
  */
 public final class Regression<T>
@@ -141,7 +141,15 @@ public final class Regression<T>
 	 * @param program the program to calculate the error value for
 	 * @return the overall error value of the program
 	 */
+	@SuppressWarnings("unchecked")
 	public double error(final Tree<? extends Op<T>, ?> program) {
+		if (_sampling instanceof SampleColumns && _error instanceof LossError) {
+			return ((SampleColumns)_sampling).error(
+				(Tree<? extends Op<Double>, ?>)program,
+				(LossError<Double>)_error
+			);
+		}
+
 		final Result<T> result = _sampling.eval(program);
 		return result != null
 			? _error.apply(program, result.calculated(), result.expected())
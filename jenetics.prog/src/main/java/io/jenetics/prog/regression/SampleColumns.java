@@ -0,0 +1,295 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.DoubleProgram;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.SubtreeCache;
+
+/**
+ * Sampling implementation for {@code Double} samples, which stores the sample
+ * arguments in a <em>columnar</em> layout, one primitive {@code double[]}
+ * column per variable. The evolved programs are compiled into a
+ * {@link DoubleProgram} and evaluated block-wise over the columns. If the
+ * regression {@link Error} is created from a {@link DoubleLoss}, the loss is
+ * calculated in the same pass, without materializing the calculated values.
+ *
+ * <pre>{@code
+ * final Regression<Double> regression = Regression.of(
+ *     Regression.codecOf(OPERATIONS, TERMINALS, 5),
+ *     Error.of(DoubleLoss.MSE),
+ *     SampleColumns.of(samples)
+ * );
+ * }</pre>
+ *
+ * If the sampling object is created with a {@link #withCache(long)
+ * subtree cache}, the values of identical subtrees are only evaluated once
+ * and reused for all programs which contain them.
+ *
+ * @implNote
+ * This class is immutable and thread-safe.
+ *
+ * @see DoubleProgram#evalColumns(double[][], int, DoubleProgram.BlockConsumer)
+ * @see DoubleLoss
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class SampleColumns implements Sampling<Double> {
+
+	private final double[][] _columns;
+	private final double[] _results;
+	private final SubtreeCache _cache;
+
+	private SampleColumns(
+		final double[][] columns,
+		final double[] results,
+		final SubtreeCache cache
+	) {
+		_columns = columns;
+		_results = results;
+		_cache = cache;
+	}
+
+	/**
+	 * Return a new sampling object with the same sample points, which caches
+	 * the evaluated subtree values. The returned object has its own, empty,
+	 * cache.
+	 *
+	 * @see SubtreeCache
+	 *
+	 * @param maxBytes the maximal number of bytes used for the cached values
+	 * @return a new sampling object with a subtree cache
+	 * @throws IllegalArgumentException if {@code maxBytes} is smaller than
+	 *         zero
+	 */
+	public SampleColumns withCache(final long maxBytes) {
+		return new SampleColumns(
+			_columns,
+			_results,
+			new SubtreeCache(_columns, _results.length, maxBytes)
+		);
+	}
+
+	/**
+	 * Return the subtree cache of this sampling object, if available. The
+	 * cache can be used for reading the cache statistics.
+	 *
+	 * @see #withCache(long)
+	 *
+	 * @return the subtree cache of this sampling object
+	 */
+	public Optional<SubtreeCache> cache() {
+		return Optional.ofNullable(_cache);
+	}
+
+	/**
+	 * Return the number of sample points.
+	 *
+	 * @return the number of sample points
+	 */
+	public int size() {
+		return _results.length;
+	}
+
+	/**
+	 * Return the number of arguments of the sample points.
+	 *
+	 * @return the number of arguments of the sample points
+	 */
+	public int arity() {
+		return _columns.length;
+	}
+
+	/**
+	 * Calculates the program values for all sample points.
+	 *
+	 * @param program the program to evaluate
+	 * @return the calculated values, one for every sample point
+	 * @throws NullPointerException if the given {@code program} is {@code null}
+	 */
+	public double[] calculate(final Tree<? extends Op<Double>, ?> program) {
+		return _cache != null
+			? _cache.eval(program)
+			: DoubleProgram.compile(program).evalColumns(_columns, size());
+	}
+
+	/**
+	 * Calculates the {@code loss} of the given {@code program}. The loss is
+	 * calculated in the same pass as the program values.
+	 *
+	 * @param program the program to evaluate
+	 * @param loss the loss function
+	 * @return the loss of the given program
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public double loss(
+		final Tree<? extends Op<Double>, ?> program,
+		final DoubleLoss loss
+	) {
+		requireNonNull(loss);
+		if (_cache != null) {
+			return loss.apply(_cache.eval(program), _results);
+		}
+
+		final double[] sum = {0.0};
+		DoubleProgram.compile(program).evalColumns(
+			_columns,
+			size(),
+			(offset, values, length) -> {
+				double s = sum[0];
+				for (int i = 0; i < length; ++i) {
+					s += loss.term(values[i], _results[offset + i]);
+				}
+				sum[0] = s;
+			}
+		);
+
+		return loss.result(sum[0], size());
+	}
+
+	/**
+	 * Calculates the error of the given program with the given error
+	 * function.
+	 */
+	double error(
+		final Tree<? extends Op<Double>, ?> program,
+		final LossError<Double> error
+	) {
+		final double loss;
+		if (error.loss() instanceof DoubleLoss) {
+			loss = loss(program, (DoubleLoss)error.loss());
+		} else {
+			final Result<Double> result = eval(program);
+			loss = error.loss().apply(result.calculated(), result.expected());
+		}
+
+		return error.apply(program, loss);
+	}
+
+	@Override
+	public Result<Double> eval(final Tree<? extends Op<Double>, ?> program) {
+		final double[] values = calculate(program);
+
+		final Double[] calculated = new Double[values.length];
+		final Double[] expected = new Double[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			calculated[i] = values[i];
+			expected[i] = _results[i];
+		}
+
+		return Result.of(calculated, expected);
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new sampling object from the given sample points.
+	 *
+	 * @param samples the sample points
+	 * @return a new columnar sampling object
+	 * @throws NullPointerException if the given {@code samples} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the sample points are empty or have
+	 *         a different arity
+	 */
+	public static SampleColumns of(final Iterable<? extends Sample<Double>> samples) {
+		final List<Sample<Double>> points = new ArrayList<>();
+		samples.forEach(points::add);
+		if (points.isEmpty()) {
+			throw new IllegalArgumentException("Sample list must not be empty.");
+		}
+
+		final int arity = points.get(0).arity();
+		if (arity == 0) {
+			throw new IllegalArgumentException(
+				"The arity of the sample point must not be zero."
+			);
+		}
+
+		final double[][] columns = new double[arity][points.size()];
+		final double[] results = new double[points.size()];
+		for (int i = 0; i < points.size(); ++i) {
+			final Sample<Double> sample = points.get(i);
+			if (arity != sample.arity()) {
+				throw new IllegalArgumentException(format(
+					"Expected arity %d, but got %d for sample index %d.",
+					arity, sample.arity(), i
+				));
+			}
+
+			for (int j = 0; j < arity; ++j) {
+				columns[j][i] = sample.argAt(j);
+			}
+			results[i] = sample.result();
+		}
+
+		return new SampleColumns(columns, results, null);
+	}
+
+	/**
+	 * Create a new sampling object from the given expected {@code results} and
+	 * argument {@code columns}. The given arrays are copied.
+	 *
+	 * @param results the expected results of the sample points
+	 * @param columns the argument columns, one for every variable
+	 * @return a new columnar sampling object
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if no column is given or if one of the
+	 *         columns has a different length than the {@code results}
+	 */
+	public static SampleColumns of(
+		final double[] results,
+		final double[]... columns
+	) {
+		if (columns.length == 0) {
+			throw new IllegalArgumentException(
+				"The arity of the sample point must not be zero."
+			);
+		}
+
+		final double[][] values = new double[columns.length][];
+		for (int i = 0; i < columns.length; ++i) {
+			if (columns[i].length != results.length) {
+				throw new IllegalArgumentException(format(
+					"Expected column length %d, but got %d for column %d.",
+					results.length, columns[i].length, i
+				));
+			}
+			values[i] = columns[i].clone();
+		}
+
+		return new SampleColumns(values, results.clone(), null);
+	}
+
+}
@@ -29,12 +29,13 @@ import java.util.stream.Stream;
 
 import io.jenetics.ext.util.Tree;
 
+import io.jenetics.prog.op.DoubleProgram;
 import io.jenetics.prog.op.Op;
 import io.jenetics.prog.op.Program;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 final class SampleList<T>
@@ -51,6 +52,9 @@ final class SampleList<T>
 	private final T[][] _arguments;
 	private final T[] _results;
 
+	// Primitive arguments, if the sample type is 'Double'.
+	private final double[][] _values;
+
 	@SuppressWarnings("unchecked")
 	SampleList(final List<Sample<T>> samples) {
 		if (samples.isEmpty()) {
@@ -85,6 +89,14 @@ final class SampleList<T>
 		_results = _samples.stream()
 			.map(Sample::result)
 			.toArray(size -> (T[])Array.newInstance(_type, size));
+
+		_values = _type == Double.class
+			? Stream.of(_arguments)
+				.map(args -> Stream.of(args)
+					.mapToDouble(v -> (Double)v)
+					.toArray())
+				.toArray(double[][]::new)
+			: null;
 	}
 
 	private static <T> T[] args(final Class<T> type, final Sample<T> sample) {
@@ -99,8 +111,21 @@ final class SampleList<T>
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
-		@SuppressWarnings("unchecked")
+		if (_values != null) {
+			final double[] values = DoubleProgram
+				.compile((Tree<? extends Op<Double>, ?>)program)
+				.eval(_values);
+
+			final T[] calculated = (T[])new Double[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				calculated[i] = (T)Double.valueOf(values[i]);
+			}
+
+			return Result.of(calculated, _results);
+		}
+
 		final T[] calculated = Stream.of(_arguments)
 			.map(args -> Program.eval(program, args))
 			.toArray(size -> (T[])Array.newInstance(_type, size));
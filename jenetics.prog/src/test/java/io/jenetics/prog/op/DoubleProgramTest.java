@@ -0,0 +1,170 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleProgramTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(MathOp.values())
+		.map(op -> (Op<Double>)op);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		Var.of("z", 2),
+		MathOp.PI,
+		Const.of(1.0),
+		EphemeralConst.of(() -> 3.0)
+	);
+
+	@Test(invocationCount = 20)
+	public void evalRandomProgram() {
+		final Random random = new Random();
+		final TreeNode<Op<Double>> tree = Program.of(
+			6,
+			OPERATIONS,
+			TERMINALS,
+			random
+		);
+
+		final DoubleProgram program = DoubleProgram.compile(tree);
+		Assert.assertEquals(program.size(), tree.size());
+
+		for (int i = 0; i < 10; ++i) {
+			final double x = random.nextDouble()*10 - 5;
+			final double y = random.nextDouble()*10 - 5;
+			final double z = random.nextDouble()*10 - 5;
+
+			final Double expected = Program.eval(tree, x, y, z);
+			Assert.assertEquals(
+				Double.valueOf(program.eval(x, y, z)),
+				expected,
+				tree.toParenthesesString()
+			);
+		}
+	}
+
+	@Test(dataProvider = "expressions")
+	public void evalExpression(final String expression, final double[] args) {
+		final TreeNode<Op<Double>> tree = MathExpr.parseTree(expression);
+		final DoubleProgram program = DoubleProgram.compile(tree);
+
+		Assert.assertEquals(
+			program.eval(args),
+			Program.eval(tree, Numbers.box(args)).doubleValue()
+		);
+	}
+
+	@DataProvider
+	public Object[][] expressions() {
+		return new Object[][] {
+			{"1.0", new double[]{}},
+			{"x", new double[]{2}},
+			{"x - y", new double[]{2, 5}},
+			{"sin(x)*cos(y) + 3*y", new double[]{2, 5}},
+			{"max(x, y)^hypot(x, 2) % 7", new double[]{2, 5}},
+			{"gt(x, y) + signum(-x) + abs(neg(y))", new double[]{2, 5}}
+		};
+	}
+
+	@Test
+	public void evalGenericOp() {
+		final Op<Double> sum3 = Op.of("sum3", 3, v -> v[0] + v[1] + v[2]);
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.MUL)
+			.attach(TreeNode.<Op<Double>>of(sum3)
+				.attach(Var.of("x", 0), Var.of("y", 1), Const.of(3.0)))
+			.attach(Var.of("y", 1));
+
+		final DoubleProgram program = DoubleProgram.compile(tree);
+		Assert.assertEquals(program.eval(1, 2), 12.0);
+		Assert.assertEquals(program.arity(), 2);
+	}
+
+	@Test
+	public void evalRows() {
+		final DoubleProgram program = DoubleProgram
+			.compile(MathExpr.parseTree("x*y + 1"));
+
+		final double[] result = program.eval(new double[][] {
+			{1, 2}, {2, 3}, {3, 4}
+		});
+		Assert.assertEquals(result, new double[]{3, 7, 13});
+	}
+
+	@Test(invocationCount = 10)
+	public void evalColumns() {
+		final Random random = new Random();
+		final TreeNode<Op<Double>> tree = Program.of(
+			6,
+			OPERATIONS,
+			TERMINALS,
+			random
+		);
+		final DoubleProgram program = DoubleProgram.compile(tree);
+
+		final int size = 1000;
+		final double[][] columns = {
+			random.doubles(size, -5, 5).toArray(),
+			random.doubles(size, -5, 5).toArray(),
+			random.doubles(size, -5, 5).toArray()
+		};
+
+		final double[] result = program.evalColumns(columns, size);
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(
+				result[i],
+				program.eval(columns[0][i], columns[1][i], columns[2][i])
+			);
+		}
+	}
+
+	@Test
+	public void evalColumnsGenericOp() {
+		final Op<Double> sum3 = Op.of("sum3", 3, v -> v[0] + v[1] + v[2]);
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.MUL)
+			.attach(TreeNode.<Op<Double>>of(sum3)
+				.attach(Var.of("x", 0), Var.of("y", 1), Const.of(3.0)))
+			.attach(Var.of("y", 1));
+
+		final double[] result = DoubleProgram.compile(tree).evalColumns(
+			new double[][]{{1, 2, 3}, {2, 3, 4}},
+			3
+		);
+		Assert.assertEquals(result, new double[]{12, 24, 40});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalMissingVariable() {
+		DoubleProgram.compile(MathExpr.parseTree("x*y + z")).eval(1, 2);
+	}
+
+}
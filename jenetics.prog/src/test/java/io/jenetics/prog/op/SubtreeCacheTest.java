@@ -0,0 +1,122 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeCacheTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(MathOp.values())
+		.map(op -> (Op<Double>)op);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		MathOp.PI,
+		Const.of(1.0)
+	);
+
+	private static double[][] columns(final Random random, final int size) {
+		return new double[][] {
+			random.doubles(size, -5, 5).toArray(),
+			random.doubles(size, -5, 5).toArray()
+		};
+	}
+
+	@Test(invocationCount = 10)
+	public void eval() {
+		final Random random = new Random();
+		final double[][] columns = columns(random, 500);
+		final SubtreeCache cache = new SubtreeCache(columns, 500, 1L << 24);
+
+		for (int i = 0; i < 10; ++i) {
+			final TreeNode<Op<Double>> tree =
+				Program.of(5, OPERATIONS, TERMINALS, random);
+
+			final double[] expected = DoubleProgram.compile(tree)
+				.evalColumns(columns, 500);
+
+			Assert.assertEquals(cache.eval(tree), expected);
+			Assert.assertEquals(cache.eval(tree), expected);
+		}
+	}
+
+	@Test
+	public void sharedSubtrees() {
+		final Random random = new Random();
+		final double[][] columns = columns(random, 100);
+		final SubtreeCache cache = new SubtreeCache(columns, 100, 1L << 24);
+
+		cache.eval(MathExpr.parseTree("sin(x*y) + cos(x - y)"));
+		Assert.assertEquals(cache.hits(), 0);
+		Assert.assertEquals(cache.size(), 5);
+
+		final double[] values = cache.eval(
+			MathExpr.parseTree("sin(x*y)*cos(x - y)")
+		);
+		Assert.assertEquals(cache.hits(), 2);
+		Assert.assertEquals(cache.size(), 6);
+		Assert.assertEquals(
+			values,
+			DoubleProgram.compile(MathExpr.parseTree("sin(x*y)*cos(x - y)"))
+				.evalColumns(columns, 100)
+		);
+	}
+
+	@Test
+	public void differentVariableIndexes() {
+		final double[][] columns = {{1, 2}, {3, 4}};
+		final SubtreeCache cache = new SubtreeCache(columns, 2, 1L << 20);
+
+		final TreeNode<Op<Double>> tree1 = TreeNode.<Op<Double>>of(MathOp.NEG)
+			.attach(Var.of("x", 0));
+		final TreeNode<Op<Double>> tree2 = TreeNode.<Op<Double>>of(MathOp.NEG)
+			.attach(Var.of("x", 1));
+
+		Assert.assertEquals(cache.eval(tree1), new double[]{-1, -2});
+		Assert.assertEquals(cache.eval(tree2), new double[]{-3, -4});
+	}
+
+	@Test
+	public void memoryBudget() {
+		final Random random = new Random();
+		final int size = 1000;
+		final long budget = 20_000;
+		final SubtreeCache cache =
+			new SubtreeCache(columns(random, size), size, budget);
+
+		for (int i = 0; i < 20; ++i) {
+			cache.eval(Program.of(4, OPERATIONS, TERMINALS, random));
+			Assert.assertTrue(cache.bytes() <= budget, cache.toString());
+		}
+		Assert.assertTrue(cache.evictions() > 0, cache.toString());
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class RacingSamplingTest {
+
+	private static final Error<Double> ERROR = Error.of(LossFunction::mse);
+
+	private static List<Sample<Double>> samples(final int size) {
+		return IntStream.range(0, size)
+			.mapToDouble(i -> i/10.0)
+			.mapToObj(x -> Sample.ofDouble(x, x*x + 1))
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void stratifiedSubset() {
+		final RacingSampling<Double> sampling =
+			RacingSampling.of(samples(100), ERROR, 10);
+
+		Assert.assertEquals(sampling.size(), 100);
+		Assert.assertEquals(sampling.subsetSize(), 10);
+		Assert.assertEquals(sampling.threshold(), Double.POSITIVE_INFINITY);
+
+		final var result = sampling.eval(MathExpr.parse("x*x + 1").toTree());
+		Assert.assertEquals(result.calculated().length, 100);
+		Assert.assertEquals(sampling.evaluations(), 110);
+		Assert.assertEquals(sampling.savedEvaluations(), 0);
+	}
+
+	@Test
+	public void racing() {
+		final RacingSampling<Double> sampling =
+			RacingSampling.of(samples(100), ERROR, 10, 0.5, 4);
+
+		final var good = MathExpr.parse("x*x + 1").toTree();
+		final var bad = MathExpr.parse("x*x*x*x - 10").toTree();
+
+		for (int i = 0; i < 4; ++i) {
+			sampling.eval(good);
+		}
+		Assert.assertEquals(sampling.threshold(), 0.0);
+
+		final var result = sampling.eval(bad);
+		Assert.assertEquals(result.calculated().length, 10);
+		Assert.assertEquals(sampling.rejected(), 1);
+		Assert.assertEquals(sampling.savedEvaluations(), 90);
+		Assert.assertEquals(sampling.evaluations(), 4*110 + 10);
+
+		Assert.assertEquals(sampling.eval(good).calculated().length, 100);
+		Assert.assertEquals(sampling.rejected(), 1);
+	}
+
+	@Test
+	public void regression() {
+		final RacingSampling<Double> sampling =
+			RacingSampling.of(samples(100), ERROR, 10, 0.5, 4);
+		final Regression<Double> regression = Regression.of(
+			Regression.codecOf(
+				ISeq.of(MathOp.ADD),
+				ISeq.of(Var.of("x", 0)),
+				3
+			),
+			ERROR,
+			sampling
+		);
+
+		final var good = MathExpr.parse("x*x + 1").toTree();
+		for (int i = 0; i < 4; ++i) {
+			Assert.assertEquals(regression.error(good), 0.0);
+		}
+		Assert.assertTrue(regression.error(MathExpr.parse("x - 100").toTree()) > 0);
+		Assert.assertEquals(sampling.rejected(), 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSubsetSize() {
+		RacingSampling.of(samples(10), ERROR, 11);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		RacingSampling.of(samples(10), ERROR, 5, 0.0, 10);
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.Const;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SampleColumnsTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(
+		MathOp.ADD,
+		MathOp.SUB,
+		MathOp.MUL,
+		MathOp.DIV,
+		MathOp.SIN,
+		MathOp.SQR
+	);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		Const.of(2.0)
+	);
+
+	@Test
+	public void create() {
+		final List<Sample<Double>> points = List.of(
+			Sample.ofDouble(1, 2, 3, 4),
+			Sample.ofDouble(1, 2, 3, 4),
+			Sample.ofDouble(1, 2, 3, 4),
+			Sample.ofDouble(1, 2, 3, 4)
+		);
+
+		final SampleColumns samples = SampleColumns.of(points);
+		Assert.assertEquals(samples.size(), 4);
+		Assert.assertEquals(samples.arity(), 3);
+
+		final var result = samples.eval(MathExpr.parse("x + y + z - y").toTree());
+		for (var y : result.calculated()) {
+			Assert.assertEquals(y.doubleValue(), 4.0);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void createWithInvalidColumns() {
+		SampleColumns.of(new double[]{1, 2, 3}, new double[]{1, 2});
+	}
+
+	@Test(invocationCount = 10)
+	public void evalAsSampleList() {
+		final Random random = new Random();
+		final List<Sample<Double>> points = samples(random, 1000);
+
+		final TreeNode<Op<Double>> program =
+			Program.of(5, OPERATIONS, TERMINALS, random);
+
+		final var expected = new SampleList<>(points).eval(program);
+		final var calculated = SampleColumns.of(points).eval(program);
+
+		Assert.assertEquals(calculated.calculated(), expected.calculated());
+		Assert.assertEquals(calculated.expected(), expected.expected());
+	}
+
+	@Test(dataProvider = "losses")
+	public void loss(final DoubleLoss loss) {
+		final Random random = new Random();
+		final List<Sample<Double>> points = samples(random, 777);
+		final SampleColumns samples = SampleColumns.of(points);
+
+		final TreeNode<Op<Double>> program =
+			Program.of(4, OPERATIONS, TERMINALS, random);
+
+		final var result = samples.eval(program);
+		Assert.assertEquals(
+			samples.loss(program, loss),
+			loss.apply(result.calculated(), result.expected())
+		);
+	}
+
+	@DataProvider
+	public Object[][] losses() {
+		return new Object[][] {
+			{DoubleLoss.MSE},
+			{DoubleLoss.RMSE},
+			{DoubleLoss.MAE}
+		};
+	}
+
+	@Test
+	public void regressionError() {
+		final Random random = new Random();
+		final List<Sample<Double>> points = samples(random, 500);
+		final TreeNode<Op<Double>> program =
+			Program.of(4, OPERATIONS, TERMINALS, random);
+
+		final var codec = Regression.codecOf(OPERATIONS, TERMINALS, 5);
+		final Error<Double> error = Error.of(
+			DoubleLoss.MSE,
+			Complexity.ofNodeCount(50)
+		);
+
+		final double expected = Regression.of(codec, error, points)
+			.error(program);
+		final double calculated = Regression
+			.of(codec, error, SampleColumns.of(points))
+			.error(program);
+
+		Assert.assertEquals(calculated, expected);
+		Assert.assertEquals(
+			Regression
+				.of(codec, Error.of(LossFunction::mse), SampleColumns.of(points))
+				.error(program),
+			Regression.of(codec, Error.of(LossFunction::mse), points)
+				.error(program)
+		);
+	}
+
+	@Test
+	public void cachedRegressionError() {
+		final Random random = new Random();
+		final List<Sample<Double>> points = samples(random, 500);
+		final SampleColumns samples = SampleColumns.of(points);
+		final SampleColumns cached = samples.withCache(1L << 24);
+
+		final var codec = Regression.codecOf(OPERATIONS, TERMINALS, 5);
+		final Error<Double> error = Error.of(DoubleLoss.MSE);
+
+		for (int i = 0; i < 10; ++i) {
+			final TreeNode<Op<Double>> program =
+				Program.of(4, OPERATIONS, TERMINALS, random);
+
+			Assert.assertEquals(
+				Regression.of(codec, error, cached).error(program),
+				Regression.of(codec, error, samples).error(program)
+			);
+		}
+
+		Assert.assertTrue(samples.cache().isEmpty());
+		Assert.assertTrue(cached.cache().isPresent());
+		Assert.assertTrue(cached.cache().get().misses() > 0);
+	}
+
+	private static List<Sample<Double>> samples(final Random random, final int n) {
+		return IntStream.range(0, n)
+			.mapToObj(i -> Sample.ofDouble(
+				random.nextDouble()*10 - 5,
+				random.nextDouble()*10 - 5,
+				random.nextDouble()
+			))
+			.collect(Collectors.toList());
+	}
+
+}
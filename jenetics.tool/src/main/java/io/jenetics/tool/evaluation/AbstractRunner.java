@@ -34,7 +34,7 @@ import io.jenetics.xml.stream.Writer;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.1
  * @since 3.5
  */
 public abstract class AbstractRunner<P> {
@@ -44,6 +44,7 @@ public abstract class AbstractRunner<P> {
 	private final Reader<P> _reader;
 	private final int _sampleCount;
 	private final Path _resultPath;
+	private final int _parallelism;
 
 	private volatile Thread _trialThread = null;
 	private final AtomicBoolean _stop = new AtomicBoolean(false);
@@ -53,13 +54,25 @@ public abstract class AbstractRunner<P> {
 		final Writer<P> writer,
 		final Reader<P> reader,
 		final int sampleCount,
-		final Path resultPath
+		final Path resultPath,
+		final int parallelism
 	) {
 		_trialMeter = requireNonNull(trialMeter);
 		_writer = requireNonNull(writer);
 		_reader = requireNonNull(reader);
 		_sampleCount = Requires.positive(sampleCount);
 		_resultPath = requireNonNull(resultPath);
+		_parallelism = Requires.positive(parallelism);
+	}
+
+	protected AbstractRunner(
+		final Supplier<TrialMeter<P>> trialMeter,
+		final Writer<P> writer,
+		final Reader<P> reader,
+		final int sampleCount,
+		final Path resultPath
+	) {
+		this(trialMeter, writer, reader, sampleCount, resultPath, 1);
 	}
 
 	protected abstract double[] fitness(final P param);
@@ -75,7 +88,8 @@ public abstract class AbstractRunner<P> {
 			_writer,
 			_reader,
 			count -> count >= _sampleCount || _stop.get(),
-			_resultPath
+			_resultPath,
+			_parallelism
 		);
 
 		_trialThread = new Thread(trial);
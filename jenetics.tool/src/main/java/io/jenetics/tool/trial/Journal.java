@@ -0,0 +1,198 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.tool.trial;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only journal of the calculated trial values. The values are
+ * appended in the order they have been calculated, which is not necessarily
+ * the parameter order. Every line of the journal contains the position of
+ * the calculated parameter value, followed by the calculated data values:
+ * <pre>
+ * position value_1 value_2 ... value_n
+ * </pre>
+ * The <em>position</em> of a value is defined as
+ * {@code sampleIndex*paramCount + paramIndex}. A truncated last line, e.g.
+ * caused by a crash while writing, is ignored when the journal is read.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class Journal implements Closeable {
+
+	/**
+	 * A single journal entry.
+	 */
+	static final class Entry {
+		final int position;
+		final double[] values;
+
+		Entry(final int position, final double[] values) {
+			this.position = position;
+			this.values = requireNonNull(values);
+		}
+	}
+
+	private final Path _path;
+	private BufferedWriter _writer;
+
+	Journal(final Path path) {
+		_path = requireNonNull(path);
+	}
+
+	/**
+	 * Return the path of the journal file.
+	 *
+	 * @return the path of the journal file
+	 */
+	Path path() {
+		return _path;
+	}
+
+	/**
+	 * Appends the given trial values to the journal. The journal is flushed
+	 * after every entry.
+	 *
+	 * @param position the position of the trial value
+	 * @param values the calculated values
+	 * @throws UncheckedIOException if writing the journal fails
+	 */
+	void append(final int position, final double[] values) {
+		final StringBuilder line = new StringBuilder().append(position);
+		for (double value : values) {
+			line.append(' ').append(value);
+		}
+
+		try {
+			if (_writer == null) {
+				_writer = Files.newBufferedWriter(_path, UTF_8, CREATE, APPEND);
+			}
+			_writer.write(line.toString());
+			_writer.newLine();
+			_writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Read the entries of the journal, in the order they have been written.
+	 * The entries are not necessarily ordered by their position. The reading
+	 * stops at the first invalid line.
+	 *
+	 * @param size the expected number of values per entry
+	 * @return the journal entries
+	 * @throws UncheckedIOException if reading the journal fails
+	 */
+	List<Entry> read(final int size) {
+		final List<Entry> entries = new ArrayList<>();
+		if (!Files.exists(_path)) {
+			return entries;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(_path, UTF_8)) {
+			Entry entry;
+			String line;
+			while ((line = reader.readLine()) != null &&
+				(entry = parse(line, size)) != null)
+			{
+				entries.add(entry);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return entries;
+	}
+
+	private static Entry parse(final String line, final int size) {
+		final String[] parts = line.trim().split(" ");
+		if (parts.length != size + 1) {
+			return null;
+		}
+
+		try {
+			final int position = Integer.parseInt(parts[0]);
+			final double[] values = new double[size];
+			for (int i = 0; i < size; ++i) {
+				values[i] = Double.parseDouble(parts[i + 1]);
+			}
+
+			return new Entry(position, values);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Closes and removes the journal file.
+	 *
+	 * @throws UncheckedIOException if the journal can't be removed
+	 */
+	void delete() {
+		close();
+		try {
+			Files.deleteIfExists(_path);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Closes the journal file. The journal is reopened by the next
+	 * {@link #append(int, double[])} call.
+	 *
+	 * @throws UncheckedIOException if the journal can't be closed
+	 */
+	@Override
+	public void close() {
+		if (_writer != null) {
+			try {
+				_writer.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} finally {
+				_writer = null;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("Journal[%s]", _path);
+	}
+
+}
@@ -26,16 +26,37 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import io.jenetics.internal.util.Requires;
 import io.jenetics.xml.stream.Reader;
 import io.jenetics.xml.stream.Writer;
 
 /**
+ * Runs the trial function for all parameters of a {@link TrialMeter}, until
+ * the stop predicate is fulfilled. Up to {@code parallelism} parameter values
+ * are evaluated concurrently, the results are still added to the trial meter
+ * in parameter order.
+ * <p>
+ * Every calculated result is appended to a journal file, together with its
+ * parameter position, as soon as it is available. The journal is placed next
+ * to the result file ({@code <result-file>.journal}). The (XML) result file
+ * itself is only rewritten when the trial is started and when it stops. If a
+ * trial is restarted, e.g. after a crash, the results of the journal are
+ * replayed in parameter order and the trial only calculates the parameters,
+ * whose results are still missing.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.1
  * @since 3.4
  */
 public class Trial<T> implements Runnable {
@@ -46,14 +67,34 @@ public class Trial<T> implements Runnable {
 	private final Reader<T> _reader;
 	private final Predicate<Integer> _stop;
 	private final Path _resultPath;
+	private final int _parallelism;
 
+	/**
+	 * Create a new trial object.
+	 *
+	 * @since 6.1
+	 *
+	 * @param function the trial function, which must be thread-safe if
+	 *        {@code parallelism > 1}
+	 * @param trialMeter the trial meter factory, used if no result file exists
+	 * @param writer the parameter writer
+	 * @param reader the parameter reader
+	 * @param stop the stop predicate, which is called with the number of
+	 *        samples preceding the next parameter evaluation
+	 * @param resultPath the path of the result file
+	 * @param parallelism the number of concurrently evaluated parameters
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code parallelism} is smaller
+	 *         than one
+	 */
 	public Trial(
 		final Function<T, double[]> function,
 		final Supplier<TrialMeter<T>> trialMeter,
 		final Writer<T> writer,
 		final Reader<T> reader,
 		final Predicate<Integer> stop,
-		final Path resultPath
+		final Path resultPath,
+		final int parallelism
 	) {
 		_function = requireNonNull(function);
 		_trialMeter = requireNonNull(trialMeter);
@@ -61,6 +102,30 @@ public class Trial<T> implements Runnable {
 		_reader = requireNonNull(reader);
 		_stop = requireNonNull(stop);
 		_resultPath = requireNonNull(resultPath);
+		_parallelism = Requires.positive(parallelism);
+	}
+
+	public Trial(
+		final Function<T, double[]> function,
+		final Supplier<TrialMeter<T>> trialMeter,
+		final Writer<T> writer,
+		final Reader<T> reader,
+		final Predicate<Integer> stop,
+		final Path resultPath
+	) {
+		this(function, trialMeter, writer, reader, stop, resultPath, 1);
+	}
+
+	/**
+	 * Return the journal path of the given result file.
+	 *
+	 * @since 6.1
+	 *
+	 * @param resultPath the result file
+	 * @return the journal path of the given result file
+	 */
+	public static Path journalPath(final Path resultPath) {
+		return resultPath.resolveSibling(resultPath.getFileName() + ".journal");
 	}
 
 	@Override
@@ -77,17 +142,146 @@ public class Trial<T> implements Runnable {
 			info("Writing results to '%s'.", _resultPath.toAbsolutePath());
 		}
 
-		while (!_stop.test(trialMeter.dataSize()) &&
-			!Thread.currentThread().isInterrupted())
-		{
-			trialMeter.sample(param -> {
-				//trialMeter.write(_resultPath);
-				info(trialMeter.toString());
+		// Calculated results, which can't be added to the trial meter yet,
+		// because the results of preceding parameters are still missing.
+		final Map<Integer, double[]> pending = new TreeMap<>();
+
+		// The final checkpoint may reopen the journal for the pending results.
+		try (Journal journal = new Journal(journalPath(_resultPath))) {
+			final int replayed = replay(trialMeter, journal, pending);
+			if (replayed > 0) {
+				info("Replayed %d results from '%s'.", replayed, journal.path());
+			}
+			checkpoint(trialMeter, journal, pending);
+
+			try {
+				sample(trialMeter, journal, pending);
+			} finally {
+				checkpoint(trialMeter, journal, pending);
+			}
+		}
+	}
+
+	// Adds the journal entries, which are not part of the trial meter yet.
+	// The entries are written in completion order and are reordered here.
+	private static int replay(
+		final TrialMeter<?> trialMeter,
+		final Journal journal,
+		final Map<Integer, double[]> pending
+	) {
+		final int size = trialMeter.getDataSet().values().size();
+		final int position = position(trialMeter);
+
+		int replayed = 0;
+		for (Journal.Entry entry : journal.read(size)) {
+			if (entry.position >= position &&
+				pending.put(entry.position, entry.values) == null)
+			{
+				++replayed;
+			}
+		}
+		add(trialMeter, pending);
+
+		return replayed;
+	}
+
+	// Adds the pending results, which continue the trial meter, in parameter
+	// order and return the number of added results.
+	private static int add(
+		final TrialMeter<?> trialMeter,
+		final Map<Integer, double[]> pending
+	) {
+		int added = 0;
+		double[] values;
+		while ((values = pending.remove(position(trialMeter))) != null) {
+			trialMeter.getDataSet().add(values);
+			++added;
+		}
+
+		return added;
+	}
+
+	// Writes the trial meter and replaces the journal with the pending
+	// results, which are not part of the written trial meter.
+	private void checkpoint(
+		final TrialMeter<T> trialMeter,
+		final Journal journal,
+		final Map<Integer, double[]> pending
+	) {
+		trialMeter.write(_resultPath, _writer);
+		journal.delete();
+		pending.forEach(journal::append);
+	}
+
+	// Return the position of the next parameter value to calculate.
+	private static int position(final TrialMeter<?> trialMeter) {
+		final int index = trialMeter.getDataSet().nextParamIndex();
+		return (trialMeter.dataSize() - 1)*trialMeter.getParams().size() + index;
+	}
+
+	private void sample(
+		final TrialMeter<T> trialMeter,
+		final Journal journal,
+		final Map<Integer, double[]> pending
+	) {
+		final Params<T> params = trialMeter.getParams();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(_parallelism);
+		final CompletionService<Result> service =
+			new ExecutorCompletionService<>(executor);
+
+		try {
+			int next = position(trialMeter);
+			int running = 0;
+
+			do {
+				// Keep up to 'parallelism' parameter evaluations running.
+				while (running < _parallelism &&
+					!_stop.test(next/params.size()) &&
+					!Thread.currentThread().isInterrupted())
+				{
+					final int pos = next++;
+					if (!pending.containsKey(pos)) {
+						final T param = params.get(pos%params.size());
+						service.submit(() -> new Result(pos, _function.apply(param)));
+						++running;
+					}
+				}
+
+				if (running > 0) {
+					final Result result = service.take().get();
+					journal.append(result.position, result.values);
+					pending.put(result.position, result.values);
+					--running;
+
+					// Results are added in parameter order.
+					if (add(trialMeter, pending) > 0) {
+						info(trialMeter.toString());
+					}
+				}
+			} while (running > 0);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error)e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 
-				return _function.apply(param);
-			});
+	private static final class Result {
+		final int position;
+		final double[] values;
 
-			trialMeter.write(_resultPath, _writer);
+		Result(final int position, final double[] values) {
+			this.position = position;
+			this.values = requireNonNull(values);
 		}
 	}
 
@@ -0,0 +1,178 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.tool.trial;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.xml.stream.Reader;
+import io.jenetics.xml.stream.Writer;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class TrialTest {
+
+	private static final ISeq<String> PARAMS = ISeq.of("1", "2", "3", "4", "5");
+
+	private static TrialMeter<String> trialMeter() {
+		return TrialMeter.of(
+			"Some name", "Some description",
+			Params.of("Strings", PARAMS),
+			"value", "square"
+		);
+	}
+
+	private static Function<String, double[]> function(final List<String> calls) {
+		final Random random = new Random();
+		return param -> {
+			calls.add(param);
+			try {
+				TimeUnit.MILLISECONDS.sleep(random.nextInt(10));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			final double value = Double.parseDouble(param);
+			return new double[]{value, value*value};
+		};
+	}
+
+	private static void assertSamples(final TrialMeter<String> meter) {
+		final Data value = meter.getData("value");
+		final Data square = meter.getData("square");
+
+		final SampleSummary summary = value.summary();
+		for (int i = 0; i < PARAMS.size(); ++i) {
+			Assert.assertEquals(summary.getPoints().get(i).getMin(), i + 1.0);
+			Assert.assertEquals(summary.getPoints().get(i).getMax(), i + 1.0);
+		}
+		Assert.assertEquals(
+			square.summary().getPoints().get(4).getMean(), 25.0
+		);
+	}
+
+	@Test
+	public void parallelRun() throws IOException {
+		final Path result = Files.createTempFile("__trial__", ".xml");
+		Files.delete(result);
+		try {
+			final List<String> calls = new CopyOnWriteArrayList<>();
+			new Trial<>(
+				function(calls),
+				TrialTest::trialMeter,
+				Writer.text(),
+				Reader.text(),
+				count -> count >= 4,
+				result,
+				4
+			).run();
+
+			Assert.assertEquals(calls.size(), 4*PARAMS.size());
+			Assert.assertFalse(Files.exists(Trial.journalPath(result)));
+			assertSamples(TrialMeter.read(result, Reader.text()));
+		} finally {
+			Files.deleteIfExists(result);
+		}
+	}
+
+	@Test
+	public void resumeFromJournal() throws IOException {
+		final Path result = Files.createTempFile("__trial__", ".xml");
+		Files.delete(result);
+		final Path journal = Trial.journalPath(result);
+		try {
+			// Simulates a crash after the first 7 calculated values. The
+			// duplicate and the truncated entry must be ignored.
+			Files.write(journal, List.of(
+				"0 1.0 1.0", "1 2.0 4.0", "2 3.0 9.0", "3 4.0 16.0",
+				"4 5.0 25.0", "2 3.0 9.0", "5 1.0 1.0", "6 2.0 4.0", "7 3.0"
+			));
+
+			final List<String> calls = new CopyOnWriteArrayList<>();
+			new Trial<>(
+				function(calls),
+				TrialTest::trialMeter,
+				Writer.text(),
+				Reader.text(),
+				count -> count >= 2,
+				result,
+				2
+			).run();
+
+			Assert.assertEquals(calls.size(), 3);
+			Assert.assertTrue(calls.containsAll(List.of("3", "4", "5")));
+			Assert.assertFalse(Files.exists(journal));
+			assertSamples(TrialMeter.read(result, Reader.text()));
+		} finally {
+			Files.deleteIfExists(result);
+			Files.deleteIfExists(journal);
+		}
+	}
+
+	@Test
+	public void resumeFromUnorderedJournal() throws IOException {
+		final Path result = Files.createTempFile("__trial__", ".xml");
+		Files.delete(result);
+		final Path journal = Trial.journalPath(result);
+		try {
+			// The results are journaled in completion order. The result of
+			// the second sample is not part of the result file and must be
+			// kept in the journal.
+			Files.write(journal, List.of(
+				"3 4.0 16.0", "0 1.0 1.0", "7 3.0 9.0", "4 5.0 25.0", "1 2.0 4.0"
+			));
+
+			final List<String> calls = new CopyOnWriteArrayList<>();
+			new Trial<>(
+				function(calls),
+				TrialTest::trialMeter,
+				Writer.text(),
+				Reader.text(),
+				count -> count >= 1,
+				result,
+				2
+			).run();
+
+			Assert.assertEquals(calls, List.of("3"));
+			Assert.assertEquals(Files.readAllLines(journal), List.of("7 3.0 9.0"));
+
+			final TrialMeter<String> meter = TrialMeter.read(result, Reader.text());
+			final SampleSummary summary = meter.getData("value").summary();
+			for (int i = 0; i < PARAMS.size(); ++i) {
+				Assert.assertEquals(summary.getPoints().get(i).getMean(), i + 1.0);
+			}
+		} finally {
+			Files.deleteIfExists(result);
+			Files.deleteIfExists(journal);
+		}
+	}
+
+}
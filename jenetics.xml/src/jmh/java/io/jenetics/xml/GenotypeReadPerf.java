@@ -24,6 +24,7 @@ import static java.lang.String.format;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -50,7 +51,7 @@ import io.jenetics.xml.stream.XML;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 @State(Scope.Benchmark)
@@ -117,6 +118,29 @@ public class GenotypeReadPerf {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class PopulationState {
+
+		@Param({"10", "1000", "100000"})
+		public int genotypeCount;
+
+		public byte[] populationData;
+
+		@Setup
+		public void setup() throws Exception {
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			Writers.Genotypes.write(
+				out,
+				Genotype.of(DoubleChromosome.of(0.0, 1.0, 10), 10)
+					.instances()
+					.limit(genotypeCount),
+				Writers.DoubleChromosome.writer()
+			);
+			populationData = out.toByteArray();
+		}
+
+	}
+
 	@Benchmark
 	public Object object(final IOState state) throws Exception {
 		final ByteArrayInputStream in = new ByteArrayInputStream(state.objectData);
@@ -132,6 +156,31 @@ public class GenotypeReadPerf {
 		}
 	}
 
+	@Benchmark
+	public Object populationList(final PopulationState state)
+		throws Exception
+	{
+		final ByteArrayInputStream in =
+			new ByteArrayInputStream(state.populationData);
+
+		return Readers.Genotypes.read(in, Readers.DoubleChromosome.reader())
+			.size();
+	}
+
+	@Benchmark
+	public Object populationStream(final PopulationState state)
+		throws Exception
+	{
+		final ByteArrayInputStream in =
+			new ByteArrayInputStream(state.populationData);
+
+		try (Stream<Genotype<DoubleGene>> population = Readers.Genotypes
+			.stream(in, Readers.DoubleChromosome.reader()))
+		{
+			return population.count();
+		}
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(GenotypeReadPerf.class.getSimpleName())
@@ -20,7 +20,10 @@
 package io.jenetics.xml;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -45,7 +48,7 @@ import io.jenetics.xml.stream.XML;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 @State(Scope.Benchmark)
@@ -74,6 +77,24 @@ public class GenotypeWritePerf {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class PopulationState {
+
+		@Param({"10", "1000", "100000"})
+		public int genotypeCount;
+
+		public List<Genotype<DoubleGene>> population;
+
+		@Setup
+		public void setup() {
+			population = Genotype.of(DoubleChromosome.of(0.0, 1.0, 10), 10)
+				.instances()
+				.limit(genotypeCount)
+				.collect(Collectors.toList());
+		}
+
+	}
+
 	@Benchmark
 	public Object object(final IOState state) throws Exception {
 		final ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -101,6 +122,34 @@ public class GenotypeWritePerf {
 		return out.toByteArray();
 	}
 
+	@Benchmark
+	public Object populationList(final PopulationState state)
+		throws Exception
+	{
+		final OutputStream out = OutputStream.nullOutputStream();
+		Writers.Genotypes.write(
+			out,
+			state.population,
+			Writers.DoubleChromosome.writer()
+		);
+
+		return out;
+	}
+
+	@Benchmark
+	public Object populationStream(final PopulationState state)
+		throws Exception
+	{
+		final OutputStream out = OutputStream.nullOutputStream();
+		Writers.Genotypes.write(
+			out,
+			state.population.stream(),
+			Writers.DoubleChromosome.writer()
+		);
+
+		return out;
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(GenotypeWritePerf.class.getSimpleName())
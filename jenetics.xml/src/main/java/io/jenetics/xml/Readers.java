@@ -21,12 +21,15 @@ package io.jenetics.xml;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 import static io.jenetics.xml.stream.Reader.attr;
 import static io.jenetics.xml.stream.Reader.elem;
 import static io.jenetics.xml.stream.Reader.elems;
 import static io.jenetics.xml.stream.Reader.text;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -64,7 +67,7 @@ import io.jenetics.xml.stream.XML;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public final class Readers {
@@ -726,6 +729,68 @@ public final class Readers {
 			}
 		}
 
+		/**
+		 * Return a lazily evaluated stream of the genotypes, read from the
+		 * given input stream. In contrast to the {@link #read(InputStream, Reader)}
+		 * method, the genotypes are read one by one, when they are consumed
+		 * from the returned stream. This allows to read huge populations with
+		 * constant memory. The returned stream must be closed after usage,
+		 * which closes the underlying XML reader. The given input stream
+		 * {@code in} is not closed.
+		 *
+		 * <pre>{@code
+		 * try (Stream<Genotype<DoubleGene>> genotypes = Readers.Genotypes
+		 *     .stream(in, Readers.DoubleChromosome.reader()))
+		 * {
+		 *     genotypes.forEach(gt -> ...);
+		 * }
+		 * }</pre>
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param in the input stream to read the genotypes from
+		 * @param chromosomeReader the used chromosome reader
+		 * @return a lazily evaluated stream of the read genotypes
+		 * @throws XMLStreamException if the XML root element can't be read
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Stream<io.jenetics.Genotype<G>>
+		stream(final InputStream in, final Reader<? extends C> chromosomeReader)
+			throws XMLStreamException
+		{
+			requireNonNull(chromosomeReader);
+			requireNonNull(in);
+
+			final AutoCloseableXMLStreamReader xml = XML.reader(in);
+			try {
+				xml.nextTag();
+				xml.require(START_ELEMENT, null, Writers.Genotypes.ROOT_NAME);
+			} catch (XMLStreamException e) {
+				xml.close();
+				throw e;
+			}
+
+			return Genotype.<A, G, C>reader(chromosomeReader)
+				.stream(xml)
+				.onClose(() -> {
+					try {
+						xml.close();
+					} catch (XMLStreamException e) {
+						throw new UncheckedIOException(
+							new IOException(e.getMessage(), e)
+						);
+					}
+				});
+		}
+
 	}
 
 	/**
@@ -27,7 +27,9 @@ import static io.jenetics.xml.stream.Writer.text;
 
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -66,7 +68,7 @@ import io.jenetics.xml.stream.XML;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public final class Writers {
@@ -1193,6 +1195,107 @@ public final class Writers {
 			}
 		}
 
+		/**
+		 * Write the genotypes of the given {@code stream} to the given output
+		 * stream. The genotypes are written one by one, while they are
+		 * consumed from the given {@code stream}, which allows to write huge
+		 * populations with constant memory. Since the number of genotypes is
+		 * not known in advance, the {@code length} attribute of the root
+		 * element is not written.
+		 *
+		 * <pre>{@code
+		 * Writers.Genotypes.write(
+		 *     out,
+		 *     Genotype.of(DoubleChromosome.of(0, 1, 10)).instances()
+		 *         .limit(1_000_000),
+		 *     "    ",
+		 *     Writers.DoubleChromosome.writer()
+		 * );
+		 * }</pre>
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param out the target output stream
+		 * @param data the genotypes to write
+		 * @param indent the XML level indentation, may be {@code null}
+		 * @param chromosomeWriter the chromosome writer used to write the
+		 *        genotypes
+		 * @throws XMLStreamException if an error occurs while writing the
+		 *         genotypes
+		 * @throws NullPointerException if the one of the arguments, except
+		 *         the {@code indent}, is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final OutputStream out,
+			final Stream<io.jenetics.Genotype<G>> data,
+			final String indent,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws XMLStreamException
+		{
+			requireNonNull(data);
+			requireNonNull(chromosomeWriter);
+			requireNonNull(out);
+
+			final Writer<io.jenetics.Genotype<G>> writer =
+				Genotype.<A, G, C>writer(chromosomeWriter);
+
+			try (var xml = XML.writer(out, indent)) {
+				xml.writeStartElement(ROOT_NAME);
+
+				final Iterator<io.jenetics.Genotype<G>> genotypes =
+					data.iterator();
+				while (genotypes.hasNext()) {
+					writer.write(xml, genotypes.next());
+				}
+
+				xml.writeEndElement();
+			}
+		}
+
+		/**
+		 * Write the genotypes of the given {@code stream} to the given output
+		 * stream.
+		 *
+		 * @see #write(OutputStream, Stream, String, Writer)
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param out the target output stream
+		 * @param data the genotypes to write
+		 * @param chromosomeWriter the chromosome writer used to write the
+		 *        genotypes
+		 * @throws XMLStreamException if an error occurs while writing the
+		 *         genotypes
+		 * @throws NullPointerException if the one of the arguments is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final OutputStream out,
+			final Stream<io.jenetics.Genotype<G>> data,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws XMLStreamException
+		{
+			Genotypes.<A, G, C>write(out, data, null, chromosomeWriter);
+		}
+
 	}
 
 
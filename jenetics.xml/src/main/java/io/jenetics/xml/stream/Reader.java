@@ -26,16 +26,21 @@ import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
 import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
 import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
@@ -86,7 +91,7 @@ import io.jenetics.xml.stream.Reader.Type;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public abstract class Reader<T> {
@@ -152,6 +157,37 @@ public abstract class Reader<T> {
 	 */
 	public abstract T read(final XMLStreamReader xml) throws XMLStreamException;
 
+	/**
+	 * Return a lazily evaluated stream of the elements, read by {@code this}
+	 * reader. The given {@code xml} stream reader must be positioned at the
+	 * start of the <em>parent</em> element. Every direct child element with
+	 * the name of {@code this} reader is read on demand; other child elements
+	 * are skipped. The stream ends with the end of the parent element. Since
+	 * only the currently read element is held in memory, arbitrary large
+	 * element lists can be processed with constant memory.
+	 *
+	 * <pre>{@code
+	 * try (AutoCloseableXMLStreamReader xml = XML.reader(in)) {
+	 *     // Move XML stream to the parent element.
+	 *     xml.nextTag();
+	 *     reader.stream(xml).forEach(System.out::println);
+	 * }
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @param xml the underlying XML stream {@code reader}
+	 * @return a lazily evaluated stream of the read elements
+	 * @throws NullPointerException if the given {@code xml} stream reader is
+	 *         {@code null}
+	 * @throws java.io.UncheckedIOException if an error occurs while reading
+	 *         the stream elements, wrapping the {@link XMLStreamException}
+	 */
+	public Stream<T> stream(final XMLStreamReader xml) {
+		requireNonNull(xml);
+		return StreamSupport.stream(new ElemSpliterator<>(this, xml), false);
+	}
+
 	/**
 	 * Create a new reader for the new mapped type {@code B}.
 	 *
@@ -455,6 +491,83 @@ final class ListReader<T> extends Reader<List<T>> {
 	}
 }
 
+/**
+ * Spliterator implementation, which lazily reads the child elements of the
+ * current XML element.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class ElemSpliterator<T> implements Spliterator<T> {
+
+	private final Reader<? extends T> _reader;
+	private final XMLStreamReader _xml;
+
+	private boolean _done = false;
+
+	ElemSpliterator(final Reader<? extends T> reader, final XMLStreamReader xml) {
+		_reader = requireNonNull(reader);
+		_xml = requireNonNull(xml);
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super T> action) {
+		requireNonNull(action);
+		if (_done) {
+			return false;
+		}
+
+		try {
+			int depth = 0;
+			while (_xml.hasNext()) {
+				switch (_xml.next()) {
+					case START_ELEMENT:
+						if (depth == 0 &&
+							_reader.name().equals(_xml.getLocalName()))
+						{
+							action.accept(_reader.read(_xml));
+							return true;
+						}
+						++depth;
+						break;
+					case END_ELEMENT:
+						if (depth == 0) {
+							_done = true;
+							return false;
+						}
+						--depth;
+						break;
+				}
+			}
+		} catch (XMLStreamException e) {
+			_done = true;
+			throw new UncheckedIOException(new IOException(e.getMessage(), e));
+		}
+
+		_done = true;
+		return false;
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL;
+	}
+
+}
+
 /**
  * The main XML element reader implementation.
  *
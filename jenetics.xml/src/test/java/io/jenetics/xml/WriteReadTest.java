@@ -26,7 +26,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -71,6 +74,93 @@ public class WriteReadTest {
 		Assert.assertEquals(reader.read(in), data);
 	}
 
+	@Test(dataProvider = "genotypeCounts")
+	public void streamWriteRead(final int count) throws Exception {
+		final List<Genotype<DoubleGene>> genotypes =
+			Genotype.of(DoubleChromosome.of(0, 1, 10), 3)
+				.instances()
+				.limit(count)
+				.collect(Collectors.toList());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotypes.write(
+			out,
+			genotypes.stream(),
+			"    ",
+			Writers.DoubleChromosome.writer()
+		);
+
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		try (Stream<Genotype<DoubleGene>> stream = Readers.Genotypes
+			.stream(in, Readers.DoubleChromosome.reader()))
+		{
+			Assert.assertEquals(stream.collect(Collectors.toList()), genotypes);
+		}
+
+		Assert.assertEquals(
+			Readers.Genotypes.read(
+				new ByteArrayInputStream(out.toByteArray()),
+				Readers.DoubleChromosome.reader()
+			),
+			genotypes
+		);
+	}
+
+	@Test
+	public void streamReadCollection() throws Exception {
+		final List<Genotype<DoubleGene>> genotypes =
+			Genotype.of(DoubleChromosome.of(0, 1, 10), 3)
+				.instances()
+				.limit(50)
+				.collect(Collectors.toList());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotypes.write(out, genotypes, Writers.DoubleChromosome.writer());
+
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		try (Stream<Genotype<DoubleGene>> stream = Readers.Genotypes
+			.stream(in, Readers.DoubleChromosome.reader()))
+		{
+			Assert.assertEquals(
+				stream.limit(10).collect(Collectors.toList()),
+				genotypes.subList(0, 10)
+			);
+		}
+	}
+
+	@Test
+	public void streamReadLazy() throws Exception {
+		final AtomicInteger written = new AtomicInteger();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotypes.write(
+			out,
+			Genotype.of(DoubleChromosome.of(0, 1, 5)).instances()
+				.limit(1000)
+				.peek(gt -> written.incrementAndGet()),
+			Writers.DoubleChromosome.writer()
+		);
+		Assert.assertEquals(written.get(), 1000);
+
+		final AtomicInteger read = new AtomicInteger();
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		try (Stream<Genotype<DoubleGene>> stream = Readers.Genotypes
+			.stream(in, Readers.DoubleChromosome.reader()))
+		{
+			final long count = stream
+				.peek(gt -> read.incrementAndGet())
+				.limit(3)
+				.count();
+
+			Assert.assertEquals(count, 3);
+			Assert.assertEquals(read.get(), 3);
+		}
+	}
+
+	@DataProvider
+	public Object[][] genotypeCounts() {
+		return new Object[][] {{0}, {1}, {10}, {100}};
+	}
+
 	@DataProvider
 	public Object[][] marshallings() {
 		return new Object[][] {
@@ -20,6 +20,8 @@
 package io.jenetics;
 
 import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Fingerprints.combine;
+import static io.jenetics.internal.util.Fingerprints.nonZero;
 import static io.jenetics.internal.util.Hashes.hash;
 
 import java.io.Serializable;
@@ -38,7 +40,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.2
+ * @version 6.1
  */
 public abstract class AbstractChromosome<G extends Gene<?, G>>
 	implements
@@ -60,6 +62,9 @@ public abstract class AbstractChromosome<G extends Gene<?, G>>
 	 */
 	protected transient Boolean _valid = null;
 
+	// Lazily calculated fingerprint; zero if not calculated yet.
+	private transient volatile long _fingerprint = 0;
+
 	/**
 	 * Create a new {@code AbstractChromosome} from the given {@code genes}
 	 * array.
@@ -100,9 +105,48 @@ public abstract class AbstractChromosome<G extends Gene<?, G>>
 		return _valid;
 	}
 
+	/**
+	 * Return the 64-bit fingerprint of this chromosome. The fingerprint is
+	 * calculated from the {@link #fingerprint(Gene)} values of the genes,
+	 * when it is first requested, and cached afterwards.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the 64-bit fingerprint of this chromosome, never zero
+	 */
+	@Override
+	public long fingerprint() {
+		long fingerprint = _fingerprint;
+		if (fingerprint == 0) {
+			fingerprint = _genes.length();
+			for (int i = 0, n = _genes.length(); i < n; ++i) {
+				fingerprint = combine(fingerprint, fingerprint(_genes.get(i)));
+			}
+			fingerprint = nonZero(fingerprint);
+			_fingerprint = fingerprint;
+		}
+
+		return fingerprint;
+	}
+
+	/**
+	 * Return the fingerprint value of the given {@code gene}. Genes which are
+	 * equal must return the same value. The default implementation returns
+	 * the hash code of the gene. Subclasses can override this method and use
+	 * the primitive allele value instead.
+	 *
+	 * @since 6.1
+	 *
+	 * @param gene the gene of this chromosome
+	 * @return the fingerprint value of the given {@code gene}
+	 */
+	protected long fingerprint(final G gene) {
+		return gene.hashCode();
+	}
+
 	@Override
 	public int hashCode() {
-		return hash(_genes, hash(getClass()));
+		return hash(fingerprint(), hash(getClass()));
 	}
 
 	@Override
@@ -110,6 +154,7 @@ public abstract class AbstractChromosome<G extends Gene<?, G>>
 		return obj == this ||
 			obj != null &&
 			getClass() == obj.getClass() &&
+			fingerprint() == ((AbstractChromosome)obj).fingerprint() &&
 			Objects.equals(_genes, ((AbstractChromosome)obj)._genes);
 	}
 
@@ -40,6 +40,7 @@ import java.util.ListIterator;
 import java.util.stream.IntStream;
 
 import io.jenetics.internal.util.Bits;
+import io.jenetics.internal.util.Fingerprints;
 import io.jenetics.internal.util.Requires;
 import io.jenetics.util.ISeq;
 
@@ -53,7 +54,7 @@ import io.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.1
  */
 public class BitChromosome extends Number
 	implements
@@ -82,6 +83,9 @@ public class BitChromosome extends Number
 	// Wraps the genes byte array into a Seq<BitGene>.
 	private final transient BitGeneISeq _seq;
 
+	// Lazily calculated fingerprint; zero if not calculated yet.
+	private transient volatile long _fingerprint = 0;
+
 	// Private primary constructor.
 	private BitChromosome(final byte[] bits, final int length, final double p) {
 		_genes = bits;
@@ -598,9 +602,28 @@ public class BitChromosome extends Number
 		return new BitChromosome(bits, length, Requires.probability(p));
 	}
 
+	/**
+	 * Return the 64-bit fingerprint of this chromosome, which is calculated
+	 * directly from the underlying bit array.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the 64-bit fingerprint of this chromosome, never zero
+	 */
+	@Override
+	public long fingerprint() {
+		long fingerprint = _fingerprint;
+		if (fingerprint == 0) {
+			fingerprint = Fingerprints.of(_genes);
+			_fingerprint = fingerprint;
+		}
+
+		return fingerprint;
+	}
+
 	@Override
 	public int hashCode() {
-		return hash(_genes, hash(getClass()));
+		return hash(fingerprint(), hash(getClass()));
 	}
 
 	@Override
@@ -609,6 +632,7 @@ public class BitChromosome extends Number
 			obj != null &&
 			getClass() == obj.getClass() &&
 			length() == ((BitChromosome)obj).length() &&
+			fingerprint() == ((BitChromosome)obj).fingerprint() &&
 			Arrays.equals(_genes, ((BitChromosome)obj)._genes);
 	}
 
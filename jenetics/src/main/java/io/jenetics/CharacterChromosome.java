@@ -49,7 +49,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.2
+ * @version 6.1
  */
 public class CharacterChromosome
 	extends VariableChromosome<CharacterGene>
@@ -108,6 +108,11 @@ public class CharacterChromosome
 		return of(_validCharacters, lengthRange());
 	}
 
+	@Override
+	protected long fingerprint(final CharacterGene gene) {
+		return gene.charValue();
+	}
+
 	@Override
 	public int hashCode() {
 		return hash(super.hashCode(), hash(_validCharacters));
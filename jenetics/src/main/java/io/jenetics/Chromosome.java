@@ -19,6 +19,9 @@
  */
 package io.jenetics;
 
+import static io.jenetics.internal.util.Fingerprints.mix;
+import static io.jenetics.internal.util.Fingerprints.nonZero;
+
 import io.jenetics.util.BaseSeq;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
@@ -40,7 +43,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.1
  */
 public interface Chromosome<G extends Gene<?, G>>
 	extends
@@ -66,6 +69,26 @@ public interface Chromosome<G extends Gene<?, G>>
 		return stream().allMatch(Gene::isValid);
 	}
 
+	/**
+	 * Return a 64-bit <em>fingerprint</em> of this chromosome. Equal
+	 * chromosomes must have the same fingerprint, which means that different
+	 * fingerprints imply different chromosomes. This allows a fast
+	 * inequality check and is used as basis for the hash code of a
+	 * {@link Genotype}. Since chromosomes are immutable, implementations
+	 * should calculate the fingerprint lazily and cache it.
+	 *
+	 * @implSpec
+	 * The default implementation derives the fingerprint from the
+	 * {@link #hashCode()} of the chromosome and doesn't cache it.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the 64-bit fingerprint of this chromosome, never zero
+	 */
+	default long fingerprint() {
+		return nonZero(mix(hashCode()));
+	}
+
 	/**
 	 * A factory method which creates a new {@link Chromosome} of specific type
 	 * and the given {@code genes}.
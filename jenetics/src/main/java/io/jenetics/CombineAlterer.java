@@ -40,7 +40,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 6.0
- * @version 6.0
+ * @version 6.1
  */
 public class CombineAlterer<
 	G extends Gene<?, G>,
@@ -111,7 +111,10 @@ public class CombineAlterer<
 		final MSeq<G> mean = combine(c1.get(ci), gt2.get(ci), _combiner);
 
 		c1.set(ci, c1.get(ci).newInstance(mean.toISeq()));
-		population.set(individuals[0], Phenotype.of(Genotype.of(c1), generation));
+		population.set(
+			individuals[0],
+			Phenotype.of(new Genotype<>(c1.toISeq()), generation)
+		);
 
 		return 1;
 	}
@@ -42,7 +42,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 6.1
  */
 public abstract class Crossover<
 	G extends Gene<?, G>,
@@ -92,11 +92,11 @@ public abstract class Crossover<
 		//Creating two new Phenotypes and exchanging it with the old.
 		population.set(
 			individuals[0],
-			Phenotype.of(Genotype.of(c1), generation)
+			Phenotype.of(new Genotype<>(c1.toISeq()), generation)
 		);
 		population.set(
 			individuals[1],
-			Phenotype.of(Genotype.of(c2), generation)
+			Phenotype.of(new Genotype<>(c2.toISeq()), generation)
 		);
 
 		return order();
@@ -47,7 +47,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 5.2
+ * @version 6.1
  */
 public class DoubleChromosome
 	extends AbstractBoundedChromosome<Double, DoubleGene>
@@ -88,6 +88,11 @@ public class DoubleChromosome
 		return of(_min, _max, lengthRange());
 	}
 
+	@Override
+	protected long fingerprint(final DoubleGene gene) {
+		return Double.doubleToLongBits(gene.doubleValue());
+	}
+
 	/**
 	 * Returns a sequential stream of the alleles with this chromosome as its
 	 * source.
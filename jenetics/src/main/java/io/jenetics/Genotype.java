@@ -19,6 +19,8 @@
  */
 package io.jenetics;
 
+import static io.jenetics.internal.util.Fingerprints.combine;
+import static io.jenetics.internal.util.Fingerprints.nonZero;
 import static io.jenetics.internal.util.Hashes.hash;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
@@ -69,7 +71,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.1
  */
 public final class Genotype<G extends Gene<?, G>>
 	implements
@@ -85,6 +87,9 @@ public final class Genotype<G extends Gene<?, G>>
 	//Caching isValid value.
 	private byte _valid = -1;
 
+	//Caching fingerprint value; zero if not calculated yet.
+	private volatile long _fingerprint = 0;
+
 	/**
 	 * Create a new Genotype from a given sequence of {@code Chromosomes}.
 	 *
@@ -201,15 +206,45 @@ public final class Genotype<G extends Gene<?, G>>
 		return new Genotype<>(_chromosomes.map(Factory::newInstance));
 	}
 
+	/**
+	 * Return a 64-bit <em>fingerprint</em> of this genotype, which combines
+	 * the {@link Chromosome#fingerprint()} values of its chromosomes. Equal
+	 * genotypes have the same fingerprint, and different fingerprints imply
+	 * different genotypes. The fingerprint is calculated lazily and cached.
+	 * It is used for the {@link #hashCode()} of the genotype and as fast-path
+	 * for the {@link #equals(Object)} method.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the 64-bit fingerprint of this genotype, never zero
+	 */
+	public long fingerprint() {
+		long fingerprint = _fingerprint;
+		if (fingerprint == 0) {
+			fingerprint = _chromosomes.length();
+			for (int i = 0, n = _chromosomes.length(); i < n; ++i) {
+				fingerprint = combine(
+					fingerprint,
+					_chromosomes.get(i).fingerprint()
+				);
+			}
+			fingerprint = nonZero(fingerprint);
+			_fingerprint = fingerprint;
+		}
+
+		return fingerprint;
+	}
+
 	@Override
 	public int hashCode() {
-		return hash(_chromosomes);
+		return hash(fingerprint());
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
 		return obj == this ||
 			obj instanceof Genotype &&
+			fingerprint() == ((Genotype)obj).fingerprint() &&
 			Objects.equals(_chromosomes, ((Genotype)obj)._chromosomes);
 	}
 
@@ -45,7 +45,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz  Wilhelmstötter</a>
  * @since 2.0
- * @version 5.2
+ * @version 6.1
  */
 public class IntegerChromosome
 	extends AbstractBoundedChromosome<Integer, IntegerGene>
@@ -86,6 +86,11 @@ public class IntegerChromosome
 		return of(_min, _max, lengthRange());
 	}
 
+	@Override
+	protected long fingerprint(final IntegerGene gene) {
+		return gene.intValue();
+	}
+
 	/**
 	 * Returns a sequential stream of the alleles with this chromosome as its
 	 * source.
@@ -49,7 +49,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 5.2
+ * @version 6.1
  */
 public class LongChromosome
 	extends AbstractBoundedChromosome<Long, LongGene>
@@ -90,6 +90,11 @@ public class LongChromosome
 		return of(_min, _max, lengthRange());
 	}
 
+	@Override
+	protected long fingerprint(final LongGene gene) {
+		return gene.longValue();
+	}
+
 	/**
 	 * Returns a sequential stream of the alleles with this chromosome as its
 	 * source.
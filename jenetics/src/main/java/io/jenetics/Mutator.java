@@ -25,7 +25,7 @@ import static java.lang.String.format;
 import java.util.Random;
 
 import io.jenetics.internal.math.Probabilities;
-import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -65,7 +65,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 6.1
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -117,15 +117,21 @@ public class Mutator<
 		final double p = pow(_probability, 1.0/3.0);
 		final int P = Probabilities.toInt(p);
 
-		final Seq<MutatorResult<Phenotype<G, C>>> result = population
-			.map(pt -> random.nextInt() < P
-				? mutate(pt, generation, p, random)
-				: MutatorResult.of(pt));
-
-		return AltererResult.of(
-			result.map(MutatorResult::result).asISeq(),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
-		);
+		final MSeq<Phenotype<G, C>> result = MSeq.ofLength(population.size());
+		int mutations = 0;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (random.nextInt() < P) {
+				final MutatorResult<Phenotype<G, C>> mutated =
+					mutate(pt, generation, p, random);
+				result.set(i, mutated.result());
+				mutations += mutated.mutations();
+			} else {
+				result.set(i, pt);
+			}
+		}
+
+		return AltererResult.of(result.toISeq(), mutations);
 	}
 
 	/**
@@ -168,16 +174,26 @@ public class Mutator<
 		final Random random
 	) {
 		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<Chromosome<G>>> result = genotype.stream()
-			.map(gt -> random.nextInt() < P
-				? mutate(gt, p, random)
-				: MutatorResult.of(gt))
-			.collect(ISeq.toISeq());
-
-		return MutatorResult.of(
-			Genotype.of(result.map(MutatorResult::result)),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
-		);
+
+		MSeq<Chromosome<G>> chromosomes = null;
+		int mutations = 0;
+		for (int i = 0, n = genotype.length(); i < n; ++i) {
+			if (random.nextInt() < P) {
+				final MutatorResult<Chromosome<G>> mutated =
+					mutate(genotype.get(i), p, random);
+
+				if (chromosomes == null) {
+					chromosomes = MSeq.of(genotype);
+				}
+				chromosomes.set(i, mutated.result());
+				mutations += mutated.mutations();
+			}
+		}
+
+		// The genotype is only copied if one of its chromosomes is mutated.
+		return chromosomes != null
+			? MutatorResult.of(new Genotype<>(chromosomes.toISeq()), mutations)
+			: MutatorResult.of(genotype);
 	}
 
 	/**
@@ -196,16 +212,23 @@ public class Mutator<
 		final Random random
 	) {
 		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<G>> result = chromosome.stream()
-			.map(gene -> random.nextInt() < P
-				? MutatorResult.of(mutate(gene, random), 1)
-				: MutatorResult.of(gene))
-			.collect(ISeq.toISeq());
-
-		return MutatorResult.of(
-			chromosome.newInstance(result.map(MutatorResult::result)),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
-		);
+
+		MSeq<G> genes = null;
+		int mutations = 0;
+		for (int i = 0, n = chromosome.length(); i < n; ++i) {
+			if (random.nextInt() < P) {
+				if (genes == null) {
+					genes = MSeq.of(chromosome);
+				}
+				genes.set(i, mutate(chromosome.get(i), random));
+				++mutations;
+			}
+		}
+
+		// The chromosome is only copied if one of its genes is mutated.
+		return genes != null
+			? MutatorResult.of(chromosome.newInstance(genes.toISeq()), mutations)
+			: MutatorResult.of(chromosome);
 	}
 
 	/**
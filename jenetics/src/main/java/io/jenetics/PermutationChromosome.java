@@ -103,7 +103,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.1
  */
 public final class PermutationChromosome<T>
 	extends AbstractChromosome<EnumGene<T>>
@@ -171,6 +171,11 @@ public final class PermutationChromosome<T>
 		return of(_validAlleles, length());
 	}
 
+	@Override
+	protected long fingerprint(final EnumGene<T> gene) {
+		return gene.alleleIndex();
+	}
+
 	@Override
 	public PermutationChromosome<T> newInstance(final ISeq<EnumGene<T>> genes) {
 		return new PermutationChromosome<>(genes);
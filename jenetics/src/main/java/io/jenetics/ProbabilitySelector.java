@@ -29,6 +29,7 @@ import java.util.Comparator;
 import java.util.Random;
 import java.util.function.Function;
 
+import io.jenetics.internal.engine.NumericPopulation;
 import io.jenetics.internal.math.DoubleAdder;
 import io.jenetics.internal.util.Arrays;
 import io.jenetics.util.ISeq;
@@ -52,7 +53,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 6.1
  */
 public abstract class ProbabilitySelector<
 	G extends Gene<?, G>,
@@ -113,7 +114,7 @@ public abstract class ProbabilitySelector<
 
 		if (count > 0 && !population.isEmpty()) {
 			final Seq<Phenotype<G, C>> pop = _sorted
-				? population.asISeq().copy().sort(POPULATION_COMPARATOR)
+				? NumericPopulation.sorted(population, Optimize.MAXIMUM)
 				: population;
 
 
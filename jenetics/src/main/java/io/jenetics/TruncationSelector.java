@@ -23,6 +23,7 @@ import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
+import io.jenetics.internal.engine.NumericPopulation;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.Seq;
@@ -39,7 +40,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 6.1
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -107,9 +108,8 @@ public final class TruncationSelector<
 			.ofLength(population.isEmpty() ? 0 : count);
 
 		if (count > 0 && !population.isEmpty()) {
-			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
-			copy.sort((a, b) ->
-				opt.<C>descending().compare(a.fitness(), b.fitness()));
+			final MSeq<Phenotype<G, C>> copy =
+				NumericPopulation.sorted(population, opt);
 
 			int size = count;
 			do {
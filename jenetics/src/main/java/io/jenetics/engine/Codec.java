@@ -77,7 +77,7 @@ import io.jenetics.util.ISeq;
  * @param <G> the {@code Gene} type used for encoding the argument type {@code T}
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.6
+ * @version 6.1
  * @since 3.2
  */
 public interface Codec<T, G extends Gene<?, G>> {
@@ -184,6 +184,62 @@ public interface Codec<T, G extends Gene<?, G>> {
 		);
 	}
 
+	/**
+	 * Return a new codec, which caches the decoded values of recently
+	 * decoded genotypes, using a cache with {@code 1024} slots. Since the
+	 * engine, the constraints and the
+	 * {@link EvolutionResult#toBestResult(Codec)} collector are using the
+	 * same {@link #decoder()} function, an expensive decoder is called at most
+	 * once for a given {@link Genotype} instance.
+	 *
+	 * <pre>{@code
+	 * final Codec<int[][], IntegerGene> codec = Codecs
+	 *     .ofMatrix(IntRange.of(0, 100), 50, 50)
+	 *     .cached();
+	 *
+	 * final Engine<IntegerGene, Double> engine = Engine
+	 *     .builder(Matrices::fitness, codec)
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @apiNote
+	 * The cache is keyed by the <em>identity</em> of the genotype and only
+	 * works correctly with decoders which are pure functions. The cached
+	 * values are strongly referenced by the codec, until they are replaced.
+	 * Every genotype can only be stored in one of two slots, determined by
+	 * its identity hash code. If both slots are occupied, the older entry is
+	 * replaced. A genotype may therefore be evicted before {@code 1024}
+	 * newer genotypes have been decoded.
+	 *
+	 * @see #cached(int)
+	 *
+	 * @since 6.1
+	 *
+	 * @return a new codec, which caches the decoded values
+	 */
+	default Codec<T, G> cached() {
+		return cached(DecodeCache.DEFAULT_SIZE);
+	}
+
+	/**
+	 * Return a new codec, which caches the decoded values of recently
+	 * decoded genotypes, using a cache with (at least) {@code size} slots.
+	 * The cache has the same eviction behaviour as the cache of the
+	 * {@link #cached()} codec.
+	 *
+	 * @see #cached()
+	 *
+	 * @since 6.1
+	 *
+	 * @param size the size of the decoding cache
+	 * @return a new codec, which caches the decoded values
+	 * @throws IllegalArgumentException if the given {@code size} is smaller
+	 *         than one
+	 */
+	default Codec<T, G> cached(final int size) {
+		return Codec.of(encoding(), new DecodeCache<>(decoder(), size));
+	}
+
 	/**
 	 * Converts this codec into an <em>invertible</em> codec, by using the given
 	 * {@code encoder} (inversion) function.
@@ -53,21 +53,27 @@ import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
 import io.jenetics.LongGene;
 import io.jenetics.PermutationChromosome;
+import io.jenetics.internal.collection.ArrayDoubleSeq;
+import io.jenetics.internal.collection.ArrayIntSeq;
+import io.jenetics.internal.collection.ArrayLongSeq;
 import io.jenetics.internal.math.Combinatorics;
 import io.jenetics.internal.util.Bits;
 import io.jenetics.internal.util.Predicates;
 import io.jenetics.internal.util.Requires;
 import io.jenetics.util.DoubleRange;
+import io.jenetics.util.DoubleSeq;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.IntSeq;
 import io.jenetics.util.LongRange;
+import io.jenetics.util.LongSeq;
 
 /**
  * This class contains factory methods for creating common  problem encodings.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.2
- * @version 5.2
+ * @version 6.1
  */
 public final class Codecs {
 
@@ -285,6 +291,108 @@ public final class Codecs {
 		);
 	}
 
+	/**
+	 * Return a vector {@link InvertibleCodec} for the given range, which
+	 * decodes the genotype into an immutable, primitive {@link IntSeq}. All
+	 * vector values are restricted by the same domain.
+	 *
+	 * @since 6.1
+	 *
+	 * @param domain the domain of the vector values
+	 * @param length the vector length
+	 * @return a new vector {@code Codec}
+	 * @throws NullPointerException if the given {@code domain} is {@code null}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one.
+	 */
+	public static InvertibleCodec<IntSeq, IntegerGene> ofIntSeq(
+		final IntRange domain,
+		final int length
+	) {
+		requireNonNull(domain);
+		Requires.positive(length);
+
+		return InvertibleCodec.of(
+			Genotype.of(IntegerChromosome.of(domain, length)),
+			gt -> ArrayIntSeq.of(gt.chromosome().as(IntegerChromosome.class).toArray()),
+			val -> Genotype.of(
+				IntegerChromosome.of(
+					val.stream()
+						.mapToObj(i -> IntegerGene.of(i, domain))
+						.collect(ISeq.toISeq())
+				)
+			)
+		);
+	}
+
+	/**
+	 * Return a vector {@link InvertibleCodec} for the given range, which
+	 * decodes the genotype into an immutable, primitive {@link LongSeq}. All
+	 * vector values are restricted by the same domain.
+	 *
+	 * @since 6.1
+	 *
+	 * @param domain the domain of the vector values
+	 * @param length the vector length
+	 * @return a new vector {@code Codec}
+	 * @throws NullPointerException if the given {@code domain} is {@code null}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one.
+	 */
+	public static InvertibleCodec<LongSeq, LongGene> ofLongSeq(
+		final LongRange domain,
+		final int length
+	) {
+		requireNonNull(domain);
+		Requires.positive(length);
+
+		return InvertibleCodec.of(
+			Genotype.of(LongChromosome.of(domain, length)),
+			gt -> ArrayLongSeq.of(gt.chromosome().as(LongChromosome.class).toArray()),
+			val -> Genotype.of(
+				LongChromosome.of(
+					val.stream()
+						.mapToObj(l -> LongGene.of(l, domain))
+						.collect(ISeq.toISeq())
+				)
+			)
+		);
+	}
+
+	/**
+	 * Return a vector {@link InvertibleCodec} for the given range, which
+	 * decodes the genotype into an immutable, primitive {@link DoubleSeq}. All
+	 * vector values are restricted by the same domain.
+	 *
+	 * @since 6.1
+	 *
+	 * @param domain the domain of the vector values
+	 * @param length the vector length
+	 * @return a new vector {@code Codec}
+	 * @throws NullPointerException if the given {@code domain} is {@code null}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one.
+	 */
+	public static InvertibleCodec<DoubleSeq, DoubleGene> ofDoubleSeq(
+		final DoubleRange domain,
+		final int length
+	) {
+		requireNonNull(domain);
+		Requires.positive(length);
+
+		return InvertibleCodec.of(
+			Genotype.of(DoubleChromosome.of(domain, length)),
+			gt -> ArrayDoubleSeq.of(gt.chromosome().as(DoubleChromosome.class).toArray()),
+			val -> Genotype.of(
+				DoubleChromosome.of(
+					val.stream()
+						.mapToObj(d -> DoubleGene.of(d, domain))
+						.collect(ISeq.toISeq())
+				)
+			)
+		);
+	}
+
 	/**
 	 * Create a vector {@link InvertibleCodec} for the given ranges. Each vector
 	 * element might have a different domain. The vector length is equal to the
@@ -22,6 +22,7 @@ package io.jenetics.engine;
 import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import io.jenetics.Gene;
@@ -33,7 +34,7 @@ import io.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 final class CompletableFutureEvaluator<
@@ -53,6 +54,14 @@ final class CompletableFutureEvaluator<
 
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		return evalAsync(population, Runnable::run).join();
+	}
+
+	@Override
+	public CompletableFuture<ISeq<Phenotype<G, C>>> evalAsync(
+		final Seq<Phenotype<G, C>> population,
+		final Executor executor
+	) {
 		@SuppressWarnings({"unchecked", "rawtypes"})
 		final CompletableFuture<C>[] evaluate =
 			(CompletableFuture<C>[])population.stream()
@@ -65,9 +74,8 @@ final class CompletableFutureEvaluator<
 			.filter(Phenotype::isEvaluated)
 			.collect(ISeq.toISeq());
 
-		CompletableFuture.allOf(evaluate).join();
-
-		return evaluated.append(map(population, evaluate));
+		return CompletableFuture.allOf(evaluate)
+			.thenApply(v -> evaluated.append(map(population, evaluate)));
 	}
 
 	private ISeq<Phenotype<G, C>> map(
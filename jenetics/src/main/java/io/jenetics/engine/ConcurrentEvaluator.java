@@ -21,6 +21,9 @@ package io.jenetics.engine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
@@ -29,14 +32,19 @@ import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
+import io.jenetics.util.SplitRandom;
 
 /**
  * Default phenotype evaluation strategy. It uses the configured {@link Executor}
- * for the fitness evaluation.
+ * for the fitness evaluation. Fitness tasks, which are not started before the
+ * {@link Deadline} of the current evaluation expires, are skipped and the
+ * corresponding phenotypes are returned unevaluated.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 4.2
  */
 final class ConcurrentEvaluator<
@@ -46,73 +54,256 @@ final class ConcurrentEvaluator<
 	implements Evaluator<G, C>
 {
 
+	// Key of the random stream used for the fitness evaluations.
+	private static final long EVALUATION_STREAM = -1;
+
 	private final Function<? super Genotype<G>, ? extends C> _function;
 	private final Executor _executor;
+	private final EvolutionMetrics _metrics;
 
 	ConcurrentEvaluator(
 		final Function<? super Genotype<G>, ? extends C> function,
-		final Executor executor
+		final Executor executor,
+		final EvolutionMetrics metrics
 	) {
 		_function = requireNonNull(function);
 		_executor = requireNonNull(executor);
+		_metrics = requireNonNull(metrics);
 	}
 
-	ConcurrentEvaluator<G, C> with(final Executor executor) {
-		return new ConcurrentEvaluator<>(_function, executor);
+	ConcurrentEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Executor executor
+	) {
+		this(function, executor, EvolutionMetrics.disabled());
+	}
+
+	ConcurrentEvaluator<G, C> with(
+		final Executor executor,
+		final EvolutionMetrics metrics
+	) {
+		return new ConcurrentEvaluator<>(_function, executor, metrics);
 	}
 
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<PhenotypeFitness<G, C>> evaluate = population.stream()
-			.filter(Phenotype::nonEvaluated)
-			.map(pt -> new PhenotypeFitness<>(pt, _function))
-			.collect(ISeq.toISeq());
+		final Evaluation<G, C> evaluation = evaluation(population);
 
-		final ISeq<Phenotype<G, C>> result;
-		if (evaluate.nonEmpty()) {
+		if (evaluation.size() > 0) {
 			try (var c = Concurrency.with(_executor)) {
-				c.execute(evaluate);
+				evaluation.tasks().forEach(c::execute);
 			}
-
-			result = evaluate.size() == population.size()
-				? evaluate.map(PhenotypeFitness::phenotype)
-				: population.stream()
-					.filter(Phenotype::isEvaluated)
-					.collect(ISeq.toISeq())
-					.append(evaluate.map(PhenotypeFitness::phenotype));
-		} else {
-			result = population.asISeq();
 		}
 
-		return result;
+		return evaluation.result();
 	}
 
+	/**
+	 * Evaluates the given population without blocking the calling thread,
+	 * nor a thread of the executor. The fitness function of every phenotype
+	 * range is executed as separate task of the given {@code executor}.
+	 */
+	@Override
+	public CompletableFuture<ISeq<Phenotype<G, C>>> evalAsync(
+		final Seq<Phenotype<G, C>> population,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		final Evaluation<G, C> evaluation = evaluation(population);
 
-	private static final class PhenotypeFitness<
+		final CompletableFuture<?>[] tasks = evaluation.tasks().stream()
+			.map(task -> CompletableFuture.runAsync(task, executor))
+			.toArray(CompletableFuture<?>[]::new);
+
+		return CompletableFuture.allOf(tasks)
+			.thenApply(v -> evaluation.result());
+	}
+
+	private Evaluation<G, C> evaluation(final Seq<Phenotype<G, C>> population) {
+		return new Evaluation<>(
+			population,
+			_function,
+			evaluationRandom(),
+			Deadline.current().orElse(null),
+			_metrics.isEnabled() ? _metrics : null
+		);
+	}
+
+	// The fitness function of every phenotype is evaluated with its own
+	// random stream, if the registry contains a splittable random engine.
+	private static Random evaluationRandom() {
+		final Random random = RandomRegistry.random();
+		return random instanceof SplitRandom
+			? ((SplitRandom)random).split(EVALUATION_STREAM)
+			: random;
+	}
+
+
+	/**
+	 * The evaluation state of one population. The state of the unevaluated
+	 * phenotypes is stored in parallel arrays, which are filled by range
+	 * tasks. This avoids creating a task object for every single phenotype.
+	 */
+	private static final class Evaluation<
 		G extends Gene<?, G>,
 		C extends Comparable<? super C>
-	>
-		implements Runnable
-	{
-		final Phenotype<G, C> _phenotype;
-		final Function<? super Genotype<G>, ? extends C> _function;
-		C _fitness;
-
-		PhenotypeFitness(
-			final Phenotype<G, C> phenotype,
-			final Function<? super Genotype<G>, ? extends C> function
+	> {
+		// Number of range tasks per available core, for load balancing.
+		private static final int TASKS_PER_CORE = 4;
+
+		private final Seq<Phenotype<G, C>> _population;
+		private final Function<? super Genotype<G>, ? extends C> _function;
+		private final Random _random;
+		private final Deadline _deadline;
+		private final EvolutionMetrics _metrics;
+		private final Timing _timing;
+
+		private final Phenotype<G, C>[] _phenotypes;
+		private final Object[] _fitness;
+		private final boolean[] _evaluated;
+
+		Evaluation(
+			final Seq<Phenotype<G, C>> population,
+			final Function<? super Genotype<G>, ? extends C> function,
+			final Random random,
+			final Deadline deadline,
+			final EvolutionMetrics metrics
 		) {
-			_phenotype = phenotype;
+			_population = population;
 			_function = function;
+			_random = random;
+			_deadline = deadline;
+			_metrics = metrics;
+			_timing = Timing.current();
+
+			int size = 0;
+			for (int i = 0, n = population.size(); i < n; ++i) {
+				if (population.get(i).nonEvaluated()) {
+					++size;
+				}
+			}
+
+			@SuppressWarnings("unchecked")
+			final Phenotype<G, C>[] phenotypes =
+				(Phenotype<G, C>[])new Phenotype<?, ?>[size];
+			for (int i = 0, j = 0, n = population.size(); i < n; ++i) {
+				final Phenotype<G, C> pt = population.get(i);
+				if (pt.nonEvaluated()) {
+					phenotypes[j++] = pt;
+				}
+			}
+			_phenotypes = phenotypes;
+			_fitness = new Object[size];
+			_evaluated = new boolean[size];
+		}
+
+		int size() {
+			return _phenotypes.length;
+		}
+
+		ISeq<Runnable> tasks() {
+			final int parts = Math.min(size(), Concurrency.CORES*TASKS_PER_CORE);
+			final long created = _metrics != null ? System.nanoTime() : 0;
+
+			final MSeq<Runnable> tasks = MSeq.ofLength(parts);
+			for (int i = 0; i < parts; ++i) {
+				final int start = (int)((long)i*size()/parts);
+				final int end = (int)((long)(i + 1)*size()/parts);
+				tasks.set(i, () -> eval(start, end, created));
+			}
+			return tasks.toISeq();
+		}
+
+		// The allocations of a range task are added to the timing of the
+		// evaluation stage, unless the task is executed by the measured
+		// thread itself.
+		private void eval(final int start, final int end, final long created) {
+			final Timing timing = _timing != Timing.current() ? _timing : null;
+			final long bytes = timing != null ? ThreadAllocations.bytes() : -1;
+
+			if (_metrics != null) {
+				_metrics.queueWait(System.nanoTime() - created);
+				for (int i = start; i < end; ++i) {
+					final long begin = System.nanoTime();
+					if (eval(i)) {
+						_metrics.evaluation(
+							_phenotypes[i].generation(),
+							System.nanoTime() - begin
+						);
+					}
+				}
+			} else {
+				for (int i = start; i < end; ++i) {
+					eval(i);
+				}
+			}
+
+			if (bytes >= 0) {
+				timing.allocated(ThreadAllocations.bytes() - bytes);
+			}
+		}
+
+		// Return true, if the fitness function has been executed.
+		private boolean eval(final int index) {
+			if (_deadline == null) {
+				_fitness[index] = fitness(index);
+				_evaluated[index] = true;
+			} else if (!_deadline.isExpired()) {
+				// Fitness functions may abort the evaluation cooperatively,
+				// by throwing a CancellationException after the deadline.
+				try {
+					_fitness[index] = Deadline.with(_deadline, () -> fitness(index));
+					_evaluated[index] = true;
+				} catch (CancellationException e) {
+					if (!_deadline.isExpired()) {
+						throw e;
+					}
+				}
+			}
+
+			return _evaluated[index];
 		}
 
-		@Override
-		public void run() {
-			_fitness = _function.apply(_phenotype.genotype());
+		private C fitness(final int index) {
+			final Phenotype<G, C> phenotype = _phenotypes[index];
+			return RandomRegistry.split(
+				_random,
+				phenotype.generation(),
+				index,
+				() -> _function.apply(phenotype.genotype())
+			);
 		}
 
-		Phenotype<G, C> phenotype() {
-			return _phenotype.withFitness(_fitness);
+		/**
+		 * Assembles the resulting population, already evaluated phenotypes
+		 * first, with one single result array.
+		 */
+		@SuppressWarnings("unchecked")
+		ISeq<Phenotype<G, C>> result() {
+			if (size() == 0) {
+				return _population.asISeq();
+			}
+
+			final MSeq<Phenotype<G, C>> result = MSeq.ofLength(_population.size());
+			int index = 0;
+			if (size() < _population.size()) {
+				for (int i = 0, n = _population.size(); i < n; ++i) {
+					final Phenotype<G, C> pt = _population.get(i);
+					if (pt.isEvaluated()) {
+						result.set(index++, pt);
+					}
+				}
+			}
+			for (int i = 0; i < size(); ++i) {
+				result.set(
+					index++,
+					_evaluated[i]
+						? _phenotypes[i].withFitness((C)_fitness[i])
+						: _phenotypes[i]
+				);
+			}
+
+			return result.toISeq();
 		}
 
 	}
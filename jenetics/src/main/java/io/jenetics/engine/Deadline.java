@@ -0,0 +1,277 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+
+import io.jenetics.util.NanoClock;
+
+/**
+ * Represents the point in time, when the evaluation of the fitness function
+ * has to be finished. The deadline of a running evolution stream is derived
+ * from its {@link Limits#byExecutionTime(Duration)} limit and propagated to
+ * the {@link Engine} and the fitness evaluation. Fitness tasks, which are
+ * not started before the deadline expires, are not executed anymore. The
+ * not evaluated individuals are replaced by the best, already evaluated,
+ * individuals and the generation finishes in time.
+ * <p>
+ * Long running fitness functions can cooperatively abort the evaluation by
+ * checking the deadline of the current evaluation.
+ *
+ * <pre>{@code
+ * static double fitness(final Genotype<DoubleGene> gt) {
+ *     double value = 0;
+ *     for (int i = 0; i < 1_000_000; ++i) {
+ *         // Throws a CancellationException if the deadline expired.
+ *         Deadline.check();
+ *         value += ...;
+ *     }
+ *     return value;
+ * }
+ *
+ * final Phenotype<DoubleGene, Double> best = engine.stream()
+ *     .limit(Limits.byExecutionTime(Duration.ofSeconds(60)))
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * @implNote
+ *     The deadline is only propagated to the default fitness evaluator of
+ *     the engine. Custom {@link Evaluator} implementations may use the
+ *     {@link #current()} deadline for their own cancellation strategy.
+ *
+ * @see Limits#byExecutionTime(Duration, Clock)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Deadline {
+
+	private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+	private final Instant _instant;
+	private final Clock _clock;
+
+	// Set by the engine, if an evolution step, which has been started in
+	// time, has been completed after this deadline expired.
+	private volatile boolean _completed = false;
+
+	private Deadline(final Instant instant, final Clock clock) {
+		_instant = requireNonNull(instant);
+		_clock = requireNonNull(clock);
+	}
+
+	/**
+	 * Return the point in time, when the deadline expires.
+	 *
+	 * @return the point in time, when the deadline expires
+	 */
+	public Instant instant() {
+		return _instant;
+	}
+
+	/**
+	 * Return the clock, which is used for checking the deadline.
+	 *
+	 * @return the clock, which is used for checking the deadline
+	 */
+	public Clock clock() {
+		return _clock;
+	}
+
+	/**
+	 * Test whether {@code this} deadline is expired.
+	 *
+	 * @return {@code true} if the deadline is expired, {@code false}
+	 *         otherwise
+	 */
+	public boolean isExpired() {
+		return !_instant.isAfter(_clock.instant());
+	}
+
+	/**
+	 * Return the remaining time, until the deadline expires. If the deadline
+	 * is already expired, {@link Duration#ZERO} is returned.
+	 *
+	 * @return the remaining time of {@code this} deadline
+	 */
+	public Duration remaining() {
+		final Duration remaining = Duration.between(_clock.instant(), _instant);
+		return remaining.isNegative() ? Duration.ZERO : remaining;
+	}
+
+	/**
+	 * Marks {@code this} deadline as completed. This means, that an evolution
+	 * step has been started before the deadline and has been finished by the
+	 * deadline-aware evaluation of the engine.
+	 */
+	void complete() {
+		_completed = true;
+	}
+
+	/**
+	 * Return {@code true} if an evolution step has been completed by the
+	 * engine with {@code this} deadline.
+	 *
+	 * @return {@code true} if an evolution step has been completed with
+	 *         {@code this} deadline
+	 */
+	boolean isCompleted() {
+		return _completed;
+	}
+
+	@Override
+	public String toString() {
+		return "Deadline[" + _instant + "]";
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new deadline, which expires at the given {@code instant}.
+	 *
+	 * @param instant the point in time, when the deadline expires
+	 * @param clock the clock used for checking the deadline
+	 * @return a new deadline
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static Deadline of(final Instant instant, final Clock clock) {
+		return new Deadline(instant, clock);
+	}
+
+	/**
+	 * Create a new deadline, which expires after the given {@code duration},
+	 * starting from now.
+	 *
+	 * @param duration the duration until the deadline expires
+	 * @return a new deadline
+	 * @throws NullPointerException if the given {@code duration} is
+	 *         {@code null}
+	 */
+	public static Deadline after(final Duration duration) {
+		final Clock clock = NanoClock.systemUTC();
+		return new Deadline(clock.instant().plus(duration), clock);
+	}
+
+	/**
+	 * Return the deadline of the current evaluation, if available.
+	 *
+	 * @return the deadline of the current evaluation
+	 */
+	public static Optional<Deadline> current() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+
+	/**
+	 * Checks the deadline of the current evaluation. This method is intended
+	 * to be called from long running fitness functions.
+	 *
+	 * @throws CancellationException if the deadline of the current evaluation
+	 *         is expired
+	 */
+	public static void check() {
+		final Deadline deadline = CURRENT.get();
+		if (deadline != null && deadline.isExpired()) {
+			throw new CancellationException(
+				"Evaluation deadline expired: " + deadline.instant()
+			);
+		}
+	}
+
+	/**
+	 * Executes the given {@code task} with the given {@code deadline}. If the
+	 * current thread has already a deadline assigned, the earlier one is
+	 * used.
+	 *
+	 * <pre>{@code
+	 * final EvolutionResult<DoubleGene, Double> result = Deadline.with(
+	 *     Deadline.after(Duration.ofSeconds(5)),
+	 *     () -> engine.evolve(start)
+	 * );
+	 * }</pre>
+	 *
+	 * @param deadline the deadline of the task execution
+	 * @param task the task to execute
+	 * @param <T> the result type
+	 * @return the result of the executed {@code task}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> T with(
+		final Deadline deadline,
+		final Supplier<? extends T> task
+	) {
+		requireNonNull(deadline);
+		requireNonNull(task);
+
+		final Deadline previous = CURRENT.get();
+		CURRENT.set(min(previous, deadline));
+		try {
+			return task.get();
+		} finally {
+			restore(previous);
+		}
+	}
+
+	/**
+	 * Executes the given {@code task} without deadline.
+	 */
+	static <T> T unbounded(final Supplier<? extends T> task) {
+		final Deadline previous = CURRENT.get();
+		CURRENT.remove();
+		try {
+			return task.get();
+		} finally {
+			restore(previous);
+		}
+	}
+
+	private static void restore(final Deadline deadline) {
+		if (deadline != null) {
+			CURRENT.set(deadline);
+		} else {
+			CURRENT.remove();
+		}
+	}
+
+	/**
+	 * Return the earlier of the two deadlines, where {@code null} deadlines
+	 * are ignored.
+	 *
+	 * @param a the first deadline, may be {@code null}
+	 * @param b the second deadline, may be {@code null}
+	 * @return the earlier deadline, or {@code null} if both are {@code null}
+	 */
+	public static Deadline min(final Deadline a, final Deadline b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		return a._instant.isAfter(b._instant) ? b : a;
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+
+/**
+ * Decoder function, which caches the decoded values of recently decoded
+ * {@link Genotype} instances. The cache is a bounded hash table, keyed by
+ * the <em>identity</em> of the genotype. Every genotype has two candidate
+ * slots in the table. If both slots are occupied by other genotypes, the
+ * older of the two entries is replaced. A genotype can therefore be evicted
+ * before the table is full. Since genotypes are immutable, the decoded value
+ * of a given genotype instance never changes, as long as the decoder is a
+ * pure function. The genotypes are only weakly referenced by the cache.
+ *
+ * @implNote
+ * This class is thread-safe and lock-free. Concurrent decodings of the same
+ * genotype may call the underlying decoder more than once.
+ *
+ * @param <G> the gene type
+ * @param <T> the decoded argument type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class DecodeCache<G extends Gene<?, G>, T>
+	implements Function<Genotype<G>, T>
+{
+
+	static final int DEFAULT_SIZE = 1024;
+
+	private static final class Entry<G extends Gene<?, G>, T>
+		extends WeakReference<Genotype<G>>
+	{
+		final T value;
+		final long age;
+
+		Entry(final Genotype<G> genotype, final T value, final long age) {
+			super(genotype);
+			this.value = value;
+			this.age = age;
+		}
+	}
+
+	private final Function<? super Genotype<G>, ? extends T> _decoder;
+	private final AtomicReferenceArray<Entry<G, T>> _entries;
+	private final int _mask;
+
+	// Insertion counter, used for determining the older entry of two slots.
+	private final AtomicLong _age = new AtomicLong();
+
+	DecodeCache(
+		final Function<? super Genotype<G>, ? extends T> decoder,
+		final int size
+	) {
+		if (size < 1) {
+			throw new IllegalArgumentException(format(
+				"Cache size must be greater than zero: %d", size
+			));
+		}
+
+		_decoder = requireNonNull(decoder);
+
+		final int length = size > 1 << 30
+			? 1 << 30
+			: Integer.highestOneBit(size - 1) << 1;
+		_entries = new AtomicReferenceArray<>(Math.max(length, 1));
+		_mask = _entries.length() - 1;
+	}
+
+	@Override
+	public T apply(final Genotype<G> genotype) {
+		requireNonNull(genotype);
+
+		final int hash = System.identityHashCode(genotype);
+		final int index1 = (hash ^ (hash >>> 16)) & _mask;
+		final int index2 = Integer.rotateLeft(hash*0x9E3779B9, 16) & _mask;
+
+		final Entry<G, T> entry1 = _entries.get(index1);
+		if (entry1 != null && entry1.get() == genotype) {
+			return entry1.value;
+		}
+		final Entry<G, T> entry2 = _entries.get(index2);
+		if (entry2 != null && entry2.get() == genotype) {
+			return entry2.value;
+		}
+
+		final T value = _decoder.apply(genotype);
+		final int index = isFree(entry1) ||
+			!isFree(entry2) && entry1.age <= entry2.age
+				? index1
+				: index2;
+
+		_entries.set(index, new Entry<>(genotype, value, _age.getAndIncrement()));
+		return value;
+	}
+
+	private static boolean isFree(final Entry<?, ?> entry) {
+		return entry == null || entry.get() == null;
+	}
+
+	/**
+	 * Return the number of cache slots.
+	 *
+	 * @return the number of cache slots
+	 */
+	int size() {
+		return _entries.length();
+	}
+
+}
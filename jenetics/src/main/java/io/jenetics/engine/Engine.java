@@ -23,8 +23,13 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.ForkJoinPool.commonPool;
+import static io.jenetics.util.RandomRegistry.split;
 
 import java.time.Clock;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
@@ -39,12 +44,14 @@ import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.Selector;
+import io.jenetics.internal.collection.PersistentISeq;
 import io.jenetics.util.Copyable;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.NanoClock;
+import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
+import io.jenetics.util.SplitRandom;
 
 /**
  * Genetic algorithm <em>engine</em> which is the main class. The following
@@ -108,7 +115,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -129,10 +136,19 @@ public final class Engine<
 	// Evolution parameters.
 	private final EvolutionParams<G, C> _evolutionParams;
 
+	// Random stream indexes of the concurrently executed evolution steps.
+	private static final int OFFSPRING_SELECTION = 0;
+	private static final int SURVIVORS_SELECTION = 1;
+	private static final int OFFSPRING_ALTER = 2;
+	private static final int SURVIVOR_FILTER = 3;
+	private static final int OFFSPRING_FILTER = 4;
+	private static final int INTERCEPTOR_AFTER = 5;
+
 	// Execution context for concurrent execution of evolving steps.
 	private final Executor _executor;
 	private final Clock _clock;
 	private final EvolutionInterceptor<G, C> _interceptor;
+	private final EvolutionMetrics _metrics;
 
 
 	/**
@@ -150,6 +166,7 @@ public final class Engine<
 	 * @param clock the clock used for calculating the timing results
 	 * @param interceptor the evolution interceptor, which gives additional
 	 *        possibilities to influence the actual evolution
+	 * @param metrics the metrics sink of the engine
 	 * @throws NullPointerException if one of the arguments is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
@@ -162,7 +179,8 @@ public final class Engine<
 		final EvolutionParams<G, C> evolutionParams,
 		final Executor executor,
 		final Clock clock,
-		final EvolutionInterceptor<G, C> interceptor
+		final EvolutionInterceptor<G, C> interceptor,
+		final EvolutionMetrics metrics
 	) {
 		_evaluator = requireNonNull(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
@@ -172,13 +190,38 @@ public final class Engine<
 		_executor = requireNonNull(executor);
 		_clock = requireNonNull(clock);
 		_interceptor = requireNonNull(interceptor);
+		_metrics = requireNonNull(metrics);
 	}
 
 	@Override
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
-		final EvolutionTiming timing = new EvolutionTiming(_clock);
-		timing.evolve.start();
+		final EvolutionTiming timing =
+			new EvolutionTiming(_clock, _metrics.isEnabled());
+
+		// Deadline of the evolution step, if it has been started in time.
+		final Deadline deadline = Deadline.current()
+			.filter(d -> !d.isExpired())
+			.orElse(null);
+
+		final EvolutionResult<G, C> er = timing.evolve.timing(() ->
+			evolve(start, timing)
+		);
 
+		// The step has been finished by the deadline-aware evaluation.
+		if (deadline != null && deadline.isExpired()) {
+			deadline.complete();
+		}
+
+		return report(
+			er.withDurations(timing.toDurations()).clean(),
+			timing
+		);
+	}
+
+	private EvolutionResult<G, C> evolve(
+		final EvolutionStart<G, C> start,
+		final EvolutionTiming timing
+	) {
 		final EvolutionStart<G, C> interceptedStart = _interceptor.before(start);
 
 		// Create initial population if `start` is empty.
@@ -188,101 +231,217 @@ public final class Engine<
 
 		// Initial evaluation of the population.
 		final ISeq<Phenotype<G, C>> population = es.isDirty()
-			? timing.evaluation.timing(() -> eval(es.population()))
+			? timing.evaluation.timing(() -> eval(es.population(), ISeq.empty()))
 			: es.population();
 
-		// Select the offspring population.
-		final CompletableFuture<ISeq<Phenotype<G, C>>> offspring =
-			supplyAsync(() ->
-				timing.offspringSelection.timing(() ->
-					selectOffspring(population)
-				),
-				_executor
-			);
+		// Every concurrently executed step gets its own child random stream.
+		final Random random = RandomRegistry.random();
+		final Steps steps = new Steps(population, es.generation(), random, timing);
 
-		// Select the survivor population.
-		final CompletableFuture<ISeq<Phenotype<G, C>>> survivors =
-			supplyAsync(() ->
-				timing.survivorsSelection.timing(() ->
-					selectSurvivors(population)
-				),
-				_executor
-			);
+		// Evaluate the fitness-function and wait for result.
+		final ISeq<Phenotype<G, C>> pop = steps.nextPopulation.join();
+		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
+			eval(pop, population)
+		);
 
-		// Altering the offspring population.
-		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
-			offspring.thenApplyAsync(off ->
-				timing.offspringAlter.timing(() ->
-					_evolutionParams.alterer().alter(off, es.generation())
-				),
-				_executor
-			);
+		final EvolutionResult<G, C> er = steps.result(result);
 
-		// Filter and replace invalid and old survivor individuals.
-		final CompletableFuture<FilterResult<G, C>> filteredSurvivors =
-			survivors.thenApplyAsync(sur ->
-				timing.survivorFilter.timing(() ->
-					filter(sur, es.generation())
-				),
-				_executor
-			);
+		// The interceptor gets its own child random stream, exactly like in
+		// the asynchronous evolution.
+		final EvolutionResult<G, C> interceptedResult =
+			split(random, es.generation(), INTERCEPTOR_AFTER, () ->
+				_interceptor.after(er));
 
-		// Filter and replace invalid and old offspring individuals.
-		final CompletableFuture<FilterResult<G, C>> filteredOffspring =
-			alteredOffspring.thenApplyAsync(off ->
-				timing.offspringFilter.timing(() ->
-					filter(off.population(), es.generation())
-				),
-				_executor
-			);
+		return er != interceptedResult
+			? interceptedResult.withPopulation(
+				timing.evaluation.timing(() ->
+					eval(interceptedResult.population(), er.population())))
+			: er;
+	}
 
-		// Combining survivors and offspring to the new population.
-		final CompletableFuture<ISeq<Phenotype<G, C>>> nextPopulation =
-			filteredSurvivors.thenCombineAsync(
-				filteredOffspring,
-				(s, o) -> ISeq.of(s.population.append(o.population)),
-				_executor
-			);
+	// Reports the metrics of the given, finished, evolution step.
+	private EvolutionResult<G, C> report(
+		final EvolutionResult<G, C> result,
+		final EvolutionTiming timing
+	) {
+		if (_metrics.isEnabled()) {
+			timing.report(result.generation(), _metrics);
+			_metrics.generation(result);
+		}
+		return result;
+	}
 
-		// Evaluate the fitness-function and wait for result.
-		final ISeq<Phenotype<G, C>> pop = nextPopulation.join();
-		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
-			eval(pop)
-		);
+	/**
+	 * Performs one evolution step asynchronously. In contrast to the
+	 * {@link #evolve(EvolutionStart)} method, the single evolution steps are
+	 * chained together and no thread, neither the calling thread nor a
+	 * thread of the {@link #executor()}, is blocked while waiting for the
+	 * result of a previous step. The population is evaluated with the
+	 * {@link Evaluator#evalAsync(Seq, Executor)} method of the configured
+	 * evaluator. This allows to run many engines concurrently on a small,
+	 * shared executor.
+	 *
+	 * <pre>{@code
+	 * final CompletableFuture<EvolutionResult<DoubleGene, Double>> result =
+	 *     engine.evolveAsync(EvolutionStart.empty())
+	 *         .thenCompose(r -> engine.evolveAsync(r.next()));
+	 * }</pre>
+	 *
+	 * The interceptor's {@link EvolutionInterceptor#before(EvolutionStart)}
+	 * method and the creation of the initial population are performed in
+	 * the calling thread.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #publisher(Supplier)
+	 *
+	 * @param start the evolution start object
+	 * @return the future of the evolution result
+	 * @throws NullPointerException if the given evolution {@code start} is
+	 *         {@code null}
+	 */
+	public CompletableFuture<EvolutionResult<G, C>>
+	evolveAsync(final EvolutionStart<G, C> start) {
+		final EvolutionTiming timing =
+			new EvolutionTiming(_clock, _metrics.isEnabled());
+		timing.evolve.start();
 
-		final int killCount =
-			filteredOffspring.join().killCount +
-			filteredSurvivors.join().killCount;
+		final EvolutionStart<G, C> interceptedStart = _interceptor.before(start);
+		final EvolutionStart<G, C> es = interceptedStart.population().isEmpty()
+			? evolutionStart(interceptedStart)
+			: interceptedStart;
 
-		final int invalidCount =
-			filteredOffspring.join().invalidCount +
-			filteredSurvivors.join().invalidCount;
+		final Random random = RandomRegistry.random();
+		final long generation = es.generation();
+
+		final CompletableFuture<ISeq<Phenotype<G, C>>> population = es.isDirty()
+			? evalAsync(es.population(), timing)
+			: CompletableFuture.completedFuture(es.population());
+
+		return population
+			.thenCompose(pop -> {
+				final Steps steps = new Steps(pop, generation, random, timing);
+				return steps.nextPopulation
+					.thenCompose(p -> evalAsync(p, random, timing))
+					.thenApply(steps::result);
+			})
+			.thenApplyAsync(er ->
+				split(random, generation, INTERCEPTOR_AFTER, () ->
+					_interceptor.after(er)),
+				_executor
+			)
+			.thenCompose(er -> er.population().forAll(Phenotype::isEvaluated)
+				? CompletableFuture.completedFuture(er)
+				: evalAsync(er.population(), random, timing)
+					.thenApply(er::withPopulation))
+			.thenApply(er -> {
+				timing.evolve.stop();
+				return report(
+					er.withDurations(timing.toDurations()).clean(),
+					timing
+				);
+			});
+	}
 
-		final int alterationCount = alteredOffspring.join().alterations();
+	/**
+	 * The asynchronously executed evolution steps, from the selection to the
+	 * creation of the new, not yet evaluated, population.
+	 */
+	private final class Steps {
+		final long generation;
+		final EvolutionTiming timing;
+		final CompletableFuture<AltererResult<G, C>> alteredOffspring;
+		final CompletableFuture<FilterResult<G, C>> filteredSurvivors;
+		final CompletableFuture<FilterResult<G, C>> filteredOffspring;
+		final CompletableFuture<ISeq<Phenotype<G, C>>> nextPopulation;
+
+		Steps(
+			final ISeq<Phenotype<G, C>> population,
+			final long generation,
+			final Random random,
+			final EvolutionTiming timing
+		) {
+			this.generation = generation;
+			this.timing = timing;
+
+			// Select the offspring population.
+			final CompletableFuture<ISeq<Phenotype<G, C>>> offspring =
+				supplyAsync(() ->
+					timing.offspringSelection.timing(() ->
+						split(random, generation, OFFSPRING_SELECTION, () ->
+							selectOffspring(population))
+					),
+					_executor
+				);
+
+			// Select the survivor population.
+			final CompletableFuture<ISeq<Phenotype<G, C>>> survivors =
+				supplyAsync(() ->
+					timing.survivorsSelection.timing(() ->
+						split(random, generation, SURVIVORS_SELECTION, () ->
+							selectSurvivors(population))
+					),
+					_executor
+				);
+
+			// Altering the offspring population.
+			alteredOffspring = offspring.thenApplyAsync(off ->
+					timing.offspringAlter.timing(() ->
+						split(random, generation, OFFSPRING_ALTER, () ->
+							_evolutionParams.alterer().alter(off, generation))
+					),
+					_executor
+				);
+
+			// Filter and replace invalid and old survivor individuals.
+			filteredSurvivors = survivors.thenApplyAsync(sur ->
+					timing.survivorFilter.timing(() ->
+						split(random, generation, SURVIVOR_FILTER, () ->
+							filter(sur, generation))
+					),
+					_executor
+				);
+
+			// Filter and replace invalid and old offspring individuals.
+			filteredOffspring = alteredOffspring.thenApplyAsync(off ->
+					timing.offspringFilter.timing(() ->
+						split(random, generation, OFFSPRING_FILTER, () ->
+							filter(off.population(), generation))
+					),
+					_executor
+				);
+
+			// Combining survivors and offspring to the new population.
+			nextPopulation = filteredSurvivors.thenCombineAsync(
+					filteredOffspring,
+					(s, o) -> s.population.append(o.population),
+					_executor
+				);
+		}
 
-		EvolutionResult<G, C> er = EvolutionResult.of(
-			_optimize,
-			result,
-			es.generation(),
-			timing.toDurations(),
-			killCount,
-			invalidCount,
-			alterationCount
-		);
+		// Creates the evolution result from the evaluated population. This
+		// method must be called after the new population has been created.
+		EvolutionResult<G, C> result(final ISeq<Phenotype<G, C>> population) {
+			final int killCount =
+				filteredOffspring.join().killCount +
+				filteredSurvivors.join().killCount;
 
-		final EvolutionResult<G, C> interceptedResult = _interceptor.after(er);
-		if (er != interceptedResult) {
-			er = interceptedResult.withPopulation(
-				timing.evaluation.timing(() ->
-					eval(interceptedResult.population())
-			));
-		}
+			final int invalidCount =
+				filteredOffspring.join().invalidCount +
+				filteredSurvivors.join().invalidCount;
 
-		timing.evolve.stop();
+			final int alterationCount = alteredOffspring.join().alterations();
 
-		return er
-			.withDurations(timing.toDurations())
-			.clean();
+			return EvolutionResult.of(
+				_optimize,
+				population,
+				generation,
+				timing.toDurations(),
+				killCount,
+				invalidCount,
+				alterationCount
+			);
+		}
 	}
 
 	// Selects the survivors population. A new population object is returned.
@@ -303,7 +462,8 @@ public final class Engine<
 			: ISeq.empty();
 	}
 
-	// Filters out invalid and old individuals. Filtering is done in place.
+	// Filters out invalid and old individuals. The population is only copied,
+	// partially, if individuals are actually replaced.
 	private FilterResult<G, C> filter(
 		final Seq<Phenotype<G, C>> population,
 		final long generation
@@ -311,22 +471,24 @@ public final class Engine<
 		int killCount = 0;
 		int invalidCount = 0;
 
-		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+		ISeq<Phenotype<G, C>> pop = ISeq.of(population);
 		for (int i = 0, n = pop.size(); i < n; ++i) {
 			final Phenotype<G, C> individual = pop.get(i);
 
 			if (!_constraint.test(individual)) {
-				pop.set(i, _constraint.repair(individual, generation));
+				pop = PersistentISeq.of(pop)
+					.with(i, _constraint.repair(individual, generation));
 				++invalidCount;
 			} else if (individual.age(generation) >
 						_evolutionParams.maximalPhenotypeAge())
 			{
-				pop.set(i, Phenotype.of(_genotypeFactory.newInstance(), generation));
+				pop = PersistentISeq.of(pop)
+					.with(i, Phenotype.of(_genotypeFactory.newInstance(), generation));
 				++killCount;
 			}
 		}
 
-		return new FilterResult<>(pop.toISeq(), killCount, invalidCount);
+		return new FilterResult<>(pop, killCount, invalidCount);
 	}
 
 
@@ -353,8 +515,97 @@ public final class Engine<
 	 */
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		return checked(population, _evaluator.eval(population));
+	}
+
+	// Evaluates the population with the same random engine as the
+	// synchronous evolution, even if called from a thread of the executor.
+	private CompletableFuture<ISeq<Phenotype<G, C>>> evalAsync(
+		final Seq<Phenotype<G, C>> population,
+		final Random random,
+		final EvolutionTiming timing
+	) {
+		return random instanceof SplitRandom
+			? RandomRegistry.with(random, r -> evalAsync(population, timing))
+			: evalAsync(population, timing);
+	}
+
+	/*
+	 * Evaluates the given population. If the evaluation deadline expires,
+	 * the not evaluated individuals are replaced by the best individuals of
+	 * the (already evaluated) fallback population. Individuals, which can't
+	 * be replaced this way, are evaluated without deadline. The size of the
+	 * returned population is always the size of the given population.
+	 */
+	private ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final Seq<Phenotype<G, C>> fallback
+	) {
 		final ISeq<Phenotype<G, C>> evaluated = _evaluator.eval(population);
 
+		final boolean expired = Deadline.current()
+			.map(Deadline::isExpired)
+			.orElse(false);
+
+		return expired &&
+			evaluated.size() == population.size() &&
+			!evaluated.forAll(Phenotype::isEvaluated)
+				? complete(evaluated, fallback)
+				: checked(population, evaluated);
+	}
+
+	private ISeq<Phenotype<G, C>> complete(
+		final ISeq<Phenotype<G, C>> population,
+		final Seq<Phenotype<G, C>> fallback
+	) {
+		final ISeq<Phenotype<G, C>> evaluated = population.stream()
+			.filter(Phenotype::isEvaluated)
+			.collect(ISeq.toISeq());
+
+		// Survivors of the fallback population must not be inserted twice.
+		final Set<Phenotype<G, C>> present = new HashSet<>(evaluated.asList());
+		final ISeq<Phenotype<G, C>> best = fallback.stream()
+			.filter(Phenotype::isEvaluated)
+			.filter(pt -> !present.contains(pt))
+			.distinct()
+			.sorted(Comparator.comparing(
+				Phenotype::fitness,
+				_optimize.<C>descending()))
+			.limit(population.size() - evaluated.size())
+			.collect(ISeq.toISeq());
+
+		// The remaining gap is filled with individuals, which are evaluated
+		// without deadline.
+		final ISeq<Phenotype<G, C>> missing = population.stream()
+			.filter(pt -> !pt.isEvaluated())
+			.limit(population.size() - evaluated.size() - best.size())
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<G, C>> rest = missing.isEmpty()
+			? ISeq.empty()
+			: Deadline.unbounded(() -> checked(missing, _evaluator.eval(missing)));
+
+		return evaluated.append(best).append(rest);
+	}
+
+	private CompletableFuture<ISeq<Phenotype<G, C>>> evalAsync(
+		final Seq<Phenotype<G, C>> population,
+		final EvolutionTiming timing
+	) {
+		timing.evaluation.start();
+		return timing.evaluation
+			.allocations(() -> _evaluator.evalAsync(population, _executor))
+			.thenApply(evaluated -> {
+				timing.evaluation.stop();
+				return checked(population, evaluated);
+			});
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> checked(
+		final Seq<Phenotype<G, C>> population,
+		final ISeq<Phenotype<G, C>> evaluated
+	) {
 		if (population.size() != evaluated.size()) {
 			throw new IllegalStateException(format(
 				"Expected %d individuals, but got %d. " +
@@ -372,7 +623,6 @@ public final class Engine<
 		return evaluated;
 	}
 
-
 	/* *************************************************************************
 	 * Evolution Stream creation.
 	 **************************************************************************/
@@ -391,6 +641,46 @@ public final class Engine<
 		return stream(evolutionStart(init));
 	}
 
+	/**
+	 * Create a new, non-blocking {@link java.util.concurrent.Flow.Publisher}
+	 * of evolution results. The evolution steps are performed with the
+	 * {@link #evolveAsync(EvolutionStart)} method and are only triggered by
+	 * the demand of the subscriber. Every subscriber gets its own evolution,
+	 * starting with the evolution start object of the given supplier.
+	 *
+	 * @since 6.1
+	 *
+	 * @see EvolutionPublisher
+	 *
+	 * @param start the evolution start supplier
+	 * @return a new evolution result publisher
+	 * @throws NullPointerException if the given evolution {@code start} is
+	 *         {@code null}
+	 */
+	public EvolutionPublisher<G, C>
+	publisher(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+		return EvolutionPublisher.of(
+			() -> evolutionStart(start.get()),
+			this::evolveAsync,
+			_executor
+		);
+	}
+
+	/**
+	 * Create a new, non-blocking {@link java.util.concurrent.Flow.Publisher}
+	 * of evolution results, starting with a newly created population.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #publisher(Supplier)
+	 *
+	 * @return a new evolution result publisher
+	 */
+	public EvolutionPublisher<G, C> publisher() {
+		return publisher(EvolutionStart::empty);
+	}
+
 	private EvolutionStart<G, C>
 	evolutionStart(final EvolutionStart<G, C> start) {
 		final ISeq<Phenotype<G, C>> population = start.population();
@@ -551,6 +841,27 @@ public final class Engine<
 		return _interceptor;
 	}
 
+	/**
+	 * Return the evaluator of the engine, which is used for the fitness
+	 * evaluation of the populations.
+	 *
+	 * @return the evaluator of the engine
+	 */
+	Evaluator<G, C> evaluator() {
+		return _evaluator;
+	}
+
+	/**
+	 * Return the metrics sink of the engine.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the metrics sink of the engine
+	 */
+	public EvolutionMetrics metrics() {
+		return _metrics;
+	}
+
 	/**
 	 * Create a new evolution {@code Engine.Builder} initialized with the values
 	 * of the current evolution {@code Engine}. With this method, the evolution
@@ -565,7 +876,8 @@ public final class Engine<
 			.optimize(_optimize)
 			.constraint(_constraint)
 			.evolutionParams(_evolutionParams)
-			.interceptor(_interceptor);
+			.interceptor(_interceptor)
+			.metrics(_metrics);
 	}
 
 
@@ -672,7 +984,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 6.0
+	 * @version 6.1
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -699,6 +1011,8 @@ public final class Engine<
 		private EvolutionInterceptor<G, C> _interceptor =
 			EvolutionInterceptor.identity();
 
+		private EvolutionMetrics _metrics = EvolutionMetrics.disabled();
+
 		/**
 		 * Create a new evolution {@code Engine.Builder} with the given fitness
 		 * evaluator and genotype factory. This is the most general way for
@@ -1017,6 +1331,26 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * The metrics sink, which receives the runtime metrics of the engine,
+		 * like the stage durations and allocations and the fitness evaluation
+		 * latencies. <i>Default value is set to
+		 * {@link EvolutionMetrics#disabled()}, which doesn't measure any
+		 * metrics.</i>
+		 *
+		 * @since 6.1
+		 * @see HistogramMetrics
+		 *
+		 * @param metrics the metrics sink
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code metrics} is
+		 *         {@code null}
+		 */
+		public Builder<G, C> metrics(final EvolutionMetrics metrics) {
+			_metrics = requireNonNull(metrics);
+			return this;
+		}
+
 		/**
 		 * Builds an new {@code Engine} instance from the set properties.
 		 *
@@ -1031,13 +1365,14 @@ public final class Engine<
 				_evolutionParams.build(),
 				_executor,
 				_clock,
-				_interceptor
+				_interceptor,
+				_metrics
 			);
 		}
 
 		private Evaluator<G, C> __evaluator() {
 			return _evaluator instanceof ConcurrentEvaluator
-				? ((ConcurrentEvaluator<G, C>)_evaluator).with(_executor)
+				? ((ConcurrentEvaluator<G, C>)_evaluator).with(_executor, _metrics)
 				: _evaluator;
 		}
 
@@ -1194,6 +1529,17 @@ public final class Engine<
 			return _interceptor;
 		}
 
+		/**
+		 * Return the metrics sink of the engine.
+		 *
+		 * @since 6.1
+		 *
+		 * @return the metrics sink of the engine
+		 */
+		public EvolutionMetrics metrics() {
+			return _metrics;
+		}
+
 		/**
 		 * Create a new builder, with the current configuration.
 		 *
@@ -1209,7 +1555,8 @@ public final class Engine<
 				.constraint(_constraint)
 				.optimize(_optimize)
 				.evolutionParams(_evolutionParams.build())
-				.interceptor(_interceptor);
+				.interceptor(_interceptor)
+				.metrics(_metrics);
 		}
 
 	}
@@ -19,6 +19,11 @@
  */
 package io.jenetics.engine;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import io.jenetics.Gene;
 import io.jenetics.Phenotype;
 import io.jenetics.util.ISeq;
@@ -59,7 +64,7 @@ import io.jenetics.util.Seq;
  * @param <C> the fitness result type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 4.2
  */
 @FunctionalInterface
@@ -80,4 +85,27 @@ public interface Evaluator<
 	 */
 	ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population);
 
+	/**
+	 * Evaluates the fitness values of the given {@code population}
+	 * asynchronously. This method is used by the
+	 * {@link Engine#evolveAsync(EvolutionStart)} method. The default
+	 * implementation executes the (blocking) {@link #eval(Seq)} method with
+	 * the given {@code executor}. Evaluators, which are able to evaluate the
+	 * population without blocking a thread, should override this method.
+	 *
+	 * @since 6.1
+	 *
+	 * @param population the population to evaluate
+	 * @param executor the executor, which may be used for the evaluation
+	 * @return the future of the evaluated population
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	default CompletableFuture<ISeq<Phenotype<G, C>>> evalAsync(
+		final Seq<Phenotype<G, C>> population,
+		final Executor executor
+	) {
+		requireNonNull(population);
+		return CompletableFuture.supplyAsync(() -> eval(population), executor);
+	}
+
 }
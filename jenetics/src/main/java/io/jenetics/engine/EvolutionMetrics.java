@@ -0,0 +1,171 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+
+/**
+ * Pluggable sink for the runtime metrics of an evolution {@link Engine}. In
+ * contrast to the {@link EvolutionDurations}, which are part of the
+ * evolution result, the metrics are reported while the evolution is running
+ * and with a finer granularity, e.g. the evaluation latency of every single
+ * individual. All methods have an empty default implementation, so only the
+ * metrics of interest have to be implemented.
+ *
+ * <pre>{@code
+ * final HistogramMetrics metrics = new HistogramMetrics();
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .metrics(metrics)
+ *     .build();
+ *
+ * // Can be read from a different thread, while the engine is running.
+ * final long p99 = metrics.evaluationLatency().quantile(0.99);
+ * }</pre>
+ *
+ * @implSpec
+ * The metrics methods are called concurrently from the threads of the
+ * engine's executor. Implementations must be thread-safe and should return
+ * quickly, since they are called within the evolution hot loop.
+ *
+ * @see Engine.Builder#metrics(EvolutionMetrics)
+ * @see HistogramMetrics
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public interface EvolutionMetrics {
+
+	/**
+	 * The measured stages of one evolution step.
+	 */
+	enum Stage {
+
+		/**
+		 * The selection of the offspring population.
+		 */
+		OFFSPRING_SELECTION,
+
+		/**
+		 * The selection of the survivors population.
+		 */
+		SURVIVORS_SELECTION,
+
+		/**
+		 * The alteration of the offspring population.
+		 */
+		OFFSPRING_ALTER,
+
+		/**
+		 * The filtering of invalid and old offspring individuals.
+		 */
+		OFFSPRING_FILTER,
+
+		/**
+		 * The filtering of invalid and old survivor individuals.
+		 */
+		SURVIVOR_FILTER,
+
+		/**
+		 * The fitness evaluation of the population.
+		 */
+		EVALUATION,
+
+		/**
+		 * The whole evolution step.
+		 */
+		EVOLVE
+
+	}
+
+	/**
+	 * Return {@code true} if the metrics are recorded. If this method returns
+	 * {@code false}, the engine doesn't measure and report any metrics.
+	 *
+	 * @return {@code true} if the metrics are recorded, {@code false}
+	 *         otherwise
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Reports the execution of one evolution stage. The allocated bytes are
+	 * measured for the thread which executes the stage. For the
+	 * {@link Stage#EVALUATION} stage, the allocations of the evaluation tasks
+	 * of the default evaluator are included, even if they are executed by
+	 * other threads. For the {@link Stage#EVOLVE} stage, the allocations of
+	 * concurrently executed tasks are not included.
+	 *
+	 * @param generation the generation of the evolution step
+	 * @param stage the executed stage
+	 * @param duration the execution duration of the stage
+	 * @param allocatedBytes the number of bytes allocated while executing the
+	 *        stage, or {@code -1} if the allocations couldn't be measured
+	 */
+	default void stage(
+		final long generation,
+		final Stage stage,
+		final Duration duration,
+		final long allocatedBytes
+	) {
+	}
+
+	/**
+	 * Reports the fitness evaluation latency of one individual. This metric
+	 * is only reported by the default evaluator of the engine, and only for
+	 * individuals whose fitness function has been executed. Individuals,
+	 * which are skipped because of an expired deadline, are not reported.
+	 *
+	 * @param generation the generation of the evaluated individual
+	 * @param nanos the evaluation latency in nanoseconds
+	 */
+	default void evaluation(final long generation, final long nanos) {
+	}
+
+	/**
+	 * Reports the time an evaluation task has been waiting in the queue of
+	 * the executor, before it has been started. This metric is only reported
+	 * by the default evaluator of the engine.
+	 *
+	 * @param nanos the waiting time in nanoseconds
+	 */
+	default void queueWait(final long nanos) {
+	}
+
+	/**
+	 * Reports the result of an evolution step.
+	 *
+	 * @param result the evolution result
+	 */
+	default void generation(final EvolutionResult<?, ?> result) {
+	}
+
+	/**
+	 * Return a metrics sink, which records nothing. The engine doesn't
+	 * measure any metrics if this sink is used.
+	 *
+	 * @return a disabled metrics sink
+	 */
+	static EvolutionMetrics disabled() {
+		return DisabledMetrics.INSTANCE;
+	}
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.jenetics.Gene;
+
+/**
+ * Non-blocking {@link Flow.Publisher} of evolution results. In contrast to
+ * the {@link io.jenetics.util.StreamPublisher}, which needs a dedicated
+ * thread for <em>pulling</em> the results from an {@link EvolutionStream},
+ * the next evolution step is only triggered by the demand of the subscriber
+ * and the single steps are chained asynchronously. No thread is blocked
+ * while waiting for the next evolution result.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = ...;
+ * engine.publisher().subscribe(new Subscriber<>() {
+ *     private Subscription subscription;
+ *     \@Override
+ *     public void onSubscribe(final Subscription subscription) {
+ *         this.subscription = subscription;
+ *         this.subscription.request(1);
+ *     }
+ *     \@Override
+ *     public void onNext(final EvolutionResult<DoubleGene, Double> result) {
+ *         if (result.generation() < 100) {
+ *             subscription.request(1);
+ *         } else {
+ *             subscription.cancel();
+ *         }
+ *     }
+ *     \@Override
+ *     public void onError(final Throwable throwable) {
+ *     }
+ *     \@Override
+ *     public void onComplete() {
+ *     }
+ * });
+ * }</pre>
+ *
+ * Every subscriber gets its own, independent evolution, starting with a
+ * new {@link EvolutionStart} object. The evolution never completes by
+ * itself and is terminated by cancelling the subscription. The
+ * {@link Flow.Subscriber#onError(Throwable)} method is called if one of
+ * the evolution steps fails.
+ *
+ * @see Engine#publisher(Supplier)
+ * @see Engine#evolveAsync(EvolutionStart)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvolutionPublisher<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Flow.Publisher<EvolutionResult<G, C>>
+{
+
+	private final Supplier<EvolutionStart<G, C>> _start;
+	private final Function<
+		? super EvolutionStart<G, C>,
+		? extends CompletionStage<EvolutionResult<G, C>>> _evolution;
+	private final Executor _executor;
+
+	private EvolutionPublisher(
+		final Supplier<EvolutionStart<G, C>> start,
+		final Function<
+			? super EvolutionStart<G, C>,
+			? extends CompletionStage<EvolutionResult<G, C>>> evolution,
+		final Executor executor
+	) {
+		_start = requireNonNull(start);
+		_evolution = requireNonNull(evolution);
+		_executor = requireNonNull(executor);
+	}
+
+	@Override
+	public void
+	subscribe(final Flow.Subscriber<? super EvolutionResult<G, C>> subscriber) {
+		requireNonNull(subscriber);
+		subscriber.onSubscribe(new EvolutionSubscription(subscriber));
+	}
+
+	/**
+	 * The subscription of one subscriber. At most one evolution step is
+	 * performed at a time.
+	 */
+	private final class EvolutionSubscription implements Flow.Subscription {
+		private final Flow.Subscriber<? super EvolutionResult<G, C>> _subscriber;
+
+		private final AtomicLong _requested = new AtomicLong();
+		private final AtomicBoolean _running = new AtomicBoolean();
+		private final AtomicBoolean _cancelled = new AtomicBoolean();
+
+		// Only accessed by the currently running evolution step.
+		private EvolutionStart<G, C> _next;
+
+		EvolutionSubscription(
+			final Flow.Subscriber<? super EvolutionResult<G, C>> subscriber
+		) {
+			_subscriber = subscriber;
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				fail(new IllegalArgumentException(format(
+					"Number of requested elements must be positive, but was %d.",
+					n
+				)));
+			} else {
+				_requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+				proceed();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			_cancelled.set(true);
+		}
+
+		private void proceed() {
+			if (!_cancelled.get() &&
+				_requested.get() > 0 &&
+				_running.compareAndSet(false, true))
+			{
+				evolve();
+			}
+		}
+
+		private void evolve() {
+			final CompletionStage<EvolutionResult<G, C>> result;
+			try {
+				if (_next == null) {
+					_next = _start.get();
+				}
+				result = _evolution.apply(_next);
+			} catch (Throwable e) {
+				fail(e);
+				return;
+			}
+
+			// The result is delivered asynchronously, which prevents a deep
+			// call stack for already completed evolution results.
+			result.whenCompleteAsync(this::deliver, _executor);
+		}
+
+		private void deliver(
+			final EvolutionResult<G, C> result,
+			final Throwable error
+		) {
+			if (error != null) {
+				fail(error);
+			} else if (!_cancelled.get()) {
+				_next = result.next();
+				_requested.decrementAndGet();
+
+				try {
+					_subscriber.onNext(result);
+				} catch (Throwable e) {
+					cancel();
+					return;
+				}
+
+				_running.set(false);
+				proceed();
+			}
+		}
+
+		private void fail(final Throwable error) {
+			if (_cancelled.compareAndSet(false, true)) {
+				_subscriber.onError(
+					error instanceof CompletionException && error.getCause() != null
+						? error.getCause()
+						: error
+				);
+			}
+		}
+	}
+
+	/**
+	 * Create a new evolution publisher with the given evolution start
+	 * supplier and the asynchronous evolution function.
+	 *
+	 * <pre>{@code
+	 * final Engine<DoubleGene, Double> engine = ...;
+	 * final EvolutionPublisher<DoubleGene, Double> publisher =
+	 *     EvolutionPublisher.of(
+	 *         EvolutionStart::empty,
+	 *         engine::evolveAsync,
+	 *         engine.executor()
+	 *     );
+	 * }</pre>
+	 *
+	 * @param start the evolution start supplier, which is called for every
+	 *        new subscriber
+	 * @param evolution the asynchronous evolution function
+	 * @param executor the executor used for delivering the evolution results
+	 *        to the subscribers
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new evolution publisher
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionPublisher<G, C> of(
+		final Supplier<EvolutionStart<G, C>> start,
+		final Function<
+			? super EvolutionStart<G, C>,
+			? extends CompletionStage<EvolutionResult<G, C>>> evolution,
+		final Executor executor
+	) {
+		return new EvolutionPublisher<>(start, evolution, executor);
+	}
+
+}
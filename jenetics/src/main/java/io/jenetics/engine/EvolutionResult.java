@@ -20,8 +20,7 @@
 package io.jenetics.engine;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toMap;
-import static io.jenetics.engine.EvolutionInterceptor.ofAfter;
+import static java.util.concurrent.ForkJoinPool.commonPool;
 import static io.jenetics.internal.util.Hashes.hash;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.readLong;
@@ -34,21 +33,21 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.Serializable;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collector;
-import java.util.stream.Stream;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
+import io.jenetics.internal.engine.NumericPopulation;
 import io.jenetics.internal.util.Lazy;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
-import io.jenetics.util.Seq;
 
 /**
  * Represents a state of the GA after an evolution step. It also represents the
@@ -74,7 +73,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -120,14 +119,23 @@ public final class EvolutionResult<
 		_alterCount = alterCount;
 		_dirty = dirty;
 
-		_best = Lazy.of(() -> _population.stream()
-			.max(_optimize.ascending())
-			.orElse(null)
+		// The primitive fitness column is shared by the best and worst
+		// phenotype calculation.
+		final Lazy<Optional<NumericPopulation<G, C>>> numeric =
+			Lazy.of(() -> NumericPopulation.of(_population));
+
+		_best = Lazy.of(() -> numeric.get()
+			.map(pop -> pop.best(_optimize))
+			.orElseGet(() -> _population.stream()
+				.max(_optimize.ascending())
+				.orElse(null))
 		);
 
-		_worst = Lazy.of(() -> _population.stream()
-			.min(_optimize.ascending())
-			.orElse(null)
+		_worst = Lazy.of(() -> numeric.get()
+			.map(pop -> pop.worst(_optimize))
+			.orElseGet(() -> _population.stream()
+				.min(_optimize.ascending())
+				.orElse(null))
 		);
 	}
 
@@ -589,46 +597,50 @@ public final class EvolutionResult<
 	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
 	EvolutionInterceptor<G, C>
 	toUniquePopulation(final Factory<Genotype<G>> factory, final int maxRetries) {
-		requireNonNull(factory);
-		return ofAfter(result -> uniquePopulation(factory, maxRetries, result));
+		return toUniquePopulation(factory, maxRetries, commonPool());
 	}
 
-	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
-	EvolutionResult<G, C> uniquePopulation(
+	/**
+	 * Return a mapping function, which removes duplicate individuals from the
+	 * population and replaces it with newly created one by the given genotype
+	 * {@code factory}. The duplicates are detected concurrently, with a hash
+	 * index of the genotype fingerprints, and the new individuals are created
+	 * in batches, using the given {@code executor}. Unique individuals keep
+	 * their position in the population.
+	 *
+	 * <pre>{@code
+	 * final Problem<Double, DoubleGene, Integer> problem = ...;
+	 * final Executor executor = Executors.newFixedThreadPool(10);
+	 * final Engine<DoubleGene, Integer> engine = Engine.builder(problem)
+	 *     .executor(executor)
+	 *     .interceptor(toUniquePopulation(problem.codec().encoding(), 100, executor))
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 * @see Engine.Builder#interceptor(EvolutionInterceptor)
+	 *
+	 * @param factory the genotype factory which create new individuals
+	 * @param maxRetries the maximal number of genotype creation tries
+	 * @param executor the executor used for detecting the duplicates and
+	 *        creating the new individuals
+	 * @param <G> the gene type
+	 * @param <C> the fitness function result type
+	 * @return  a mapping function, which removes duplicate individuals from the
+	 *          population
+	 * @throws NullPointerException if the given genotype {@code factory} or
+	 *         {@code executor} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionInterceptor<G, C> toUniquePopulation(
 		final Factory<Genotype<G>> factory,
 		final int maxRetries,
-		final EvolutionResult<G, C> result
+		final Executor executor
 	) {
-		final Seq<Phenotype<G, C>> population = result.population();
-		final Map<Genotype<G>, Phenotype<G, C>> elements =
-			population.stream()
-				.collect(toMap(
-					Phenotype::genotype,
-					Function.identity(),
-					(a, b) -> a));
-
-		EvolutionResult<G, C> uniques = result;
-		if (elements.size() < population.size()) {
-			int retries = 0;
-			while (elements.size() < population.size() && retries < maxRetries) {
-				final Genotype<G> gt = factory.newInstance();
-				final Phenotype<G, C> pt = elements
-					.put(gt, Phenotype.of(gt, result.generation()));
-				if (pt != null) {
-					++retries;
-				}
-			}
-			uniques = result.withPopulation(
-				Stream.concat(elements.values().stream(), population.stream())
-					.limit(population.size())
-					.collect(ISeq.toISeq())
-			);
-		}
-
-		return uniques;
+		requireNonNull(factory);
+		return new UniquePopulation<>(factory, maxRetries, executor);
 	}
 
-
 	/* *************************************************************************
 	 * Some collectors and mapping functions.
 	 * ************************************************************************/
@@ -694,11 +706,7 @@ public final class EvolutionResult<
 	 */
 	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
 	EvolutionInterceptor<G, C> toUniquePopulation(final int maxRetries) {
-		return ofAfter(result -> uniquePopulation(
-			result.population().get(0).genotype(),
-			maxRetries,
-			result
-		));
+		return new UniquePopulation<>(null, maxRetries, commonPool());
 	}
 
 	/**
@@ -728,11 +736,7 @@ public final class EvolutionResult<
 	 */
 	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
 	EvolutionInterceptor<G, C> toUniquePopulation() {
-		return ofAfter(result -> uniquePopulation(
-			result.population().get(0).genotype(),
-			100,
-			result
-		));
+		return toUniquePopulation(100);
 	}
 
 	/**
@@ -21,9 +21,11 @@ package io.jenetics.engine;
 
 import java.time.Clock;
 
+import io.jenetics.engine.EvolutionMetrics.Stage;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 final class EvolutionTiming {
@@ -36,14 +38,43 @@ final class EvolutionTiming {
 	final Timing evaluation;
 	final Timing evolve;
 
+	EvolutionTiming(final Clock clock, final boolean allocations) {
+		offspringSelection = Timing.of(clock, allocations);
+		survivorsSelection = Timing.of(clock, allocations);
+		offspringAlter = Timing.of(clock, allocations);
+		offspringFilter = Timing.of(clock, allocations);
+		survivorFilter = Timing.of(clock, allocations);
+		evaluation = Timing.of(clock, allocations);
+		evolve = Timing.of(clock, allocations);
+	}
+
 	EvolutionTiming(final Clock clock) {
-		offspringSelection = Timing.of(clock);
-		survivorsSelection = Timing.of(clock);
-		offspringAlter = Timing.of(clock);
-		offspringFilter = Timing.of(clock);
-		survivorFilter = Timing.of(clock);
-		evaluation = Timing.of(clock);
-		evolve = Timing.of(clock);
+		this(clock, false);
+	}
+
+	// Reports the measured stage durations and allocations.
+	void report(final long generation, final EvolutionMetrics metrics) {
+		report(generation, Stage.OFFSPRING_SELECTION, offspringSelection, metrics);
+		report(generation, Stage.SURVIVORS_SELECTION, survivorsSelection, metrics);
+		report(generation, Stage.OFFSPRING_ALTER, offspringAlter, metrics);
+		report(generation, Stage.OFFSPRING_FILTER, offspringFilter, metrics);
+		report(generation, Stage.SURVIVOR_FILTER, survivorFilter, metrics);
+		report(generation, Stage.EVALUATION, evaluation, metrics);
+		report(generation, Stage.EVOLVE, evolve, metrics);
+	}
+
+	private static void report(
+		final long generation,
+		final Stage stage,
+		final Timing timing,
+		final EvolutionMetrics metrics
+	) {
+		metrics.stage(
+			generation,
+			stage,
+			timing.duration(),
+			timing.allocatedBytes()
+		);
 	}
 
 
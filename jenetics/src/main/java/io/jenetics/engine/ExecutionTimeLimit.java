@@ -27,18 +27,24 @@ import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
+import io.jenetics.internal.engine.DeadlineSource;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.1
- * @version 3.9
+ * @version 6.1
  */
-final class ExecutionTimeLimit implements Predicate<Object>  {
+final class ExecutionTimeLimit implements Predicate<Object>, DeadlineSource {
 
 	private final Duration _duration;
 	private final Clock _clock;
 
 	private final AtomicReference<Instant> _start = new AtomicReference<>();
 
+	// The last deadline, which has been handed out to an evolution step.
+	private final AtomicReference<Deadline> _deadline = new AtomicReference<>();
+	private volatile boolean _expired = false;
+
 	ExecutionTimeLimit(final Duration duration, final Clock clock) {
 		_duration = requireNonNull(duration);
 		_clock = requireNonNull(clock);
@@ -49,7 +55,51 @@ final class ExecutionTimeLimit implements Predicate<Object>  {
 		final Instant instant = _clock.instant();
 		_start.compareAndSet(null, instant);
 
-		return _start.get().plus(_duration).isAfter(instant);
+		if (_start.get().plus(_duration).isAfter(instant)) {
+			return true;
+		}
+
+		// The first element, which exceeds the execution time, is still
+		// accepted if it has been completed by the engine with the
+		// propagated deadline.
+		final Deadline deadline = _deadline.getAndSet(null);
+		final boolean accept = !_expired &&
+			deadline != null &&
+			deadline.isCompleted();
+
+		_expired = true;
+		return accept;
+	}
+
+	/**
+	 * Return the deadline of this limit, or {@code null} if the time
+	 * measurement hasn't been started yet, by testing the first element.
+	 * The result of the evolution step, which is completed by the engine
+	 * after the deadline expired, is still accepted by this limit.
+	 *
+	 * @return the deadline of this limit, or {@code null}
+	 */
+	@Override
+	public Deadline deadline() {
+		final Instant start = _start.get();
+		if (start == null) {
+			return null;
+		}
+
+		final Deadline deadline = Deadline.of(start.plus(_duration), _clock);
+		_deadline.set(deadline);
+		return deadline;
+	}
+
+	/**
+	 * Return {@code true} if this limit has already detected the expiration
+	 * of the execution time. This method doesn't read the clock.
+	 *
+	 * @return {@code true} if the execution time is known to be expired
+	 */
+	@Override
+	public boolean isExpired() {
+		return _expired;
 	}
 
 }
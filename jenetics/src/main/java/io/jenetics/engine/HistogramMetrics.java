@@ -0,0 +1,168 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.jenetics.engine.EvolutionMetrics.Stage;
+import io.jenetics.stat.LongHistogram;
+
+/**
+ * Metrics sink, which records the reported engine metrics in
+ * {@link LongHistogram}s. The histograms can be read at any time, also while
+ * the engine is running.
+ *
+ * <pre>{@code
+ * final HistogramMetrics metrics = new HistogramMetrics();
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .metrics(metrics)
+ *     .build();
+ * ...
+ * System.out.println(metrics.stageDuration(Stage.OFFSPRING_ALTER));
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @see EvolutionMetrics
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class HistogramMetrics implements EvolutionMetrics {
+
+	private final LongHistogram _evaluationLatency = new LongHistogram();
+	private final LongHistogram _queueWait = new LongHistogram();
+	private final Map<Stage, LongHistogram> _durations = histograms();
+	private final Map<Stage, LongHistogram> _allocations = histograms();
+	private final AtomicLong _generation = new AtomicLong(-1);
+
+	/**
+	 * Create a new, empty metrics sink.
+	 */
+	public HistogramMetrics() {
+	}
+
+	private static Map<Stage, LongHistogram> histograms() {
+		final Map<Stage, LongHistogram> histograms = new EnumMap<>(Stage.class);
+		for (Stage stage : Stage.values()) {
+			histograms.put(stage, new LongHistogram());
+		}
+		return histograms;
+	}
+
+	@Override
+	public void stage(
+		final long generation,
+		final Stage stage,
+		final Duration duration,
+		final long allocatedBytes
+	) {
+		_durations.get(stage).accept(duration.toNanos());
+		if (allocatedBytes >= 0) {
+			_allocations.get(stage).accept(allocatedBytes);
+		}
+	}
+
+	@Override
+	public void evaluation(final long generation, final long nanos) {
+		_evaluationLatency.accept(nanos);
+	}
+
+	@Override
+	public void queueWait(final long nanos) {
+		_queueWait.accept(nanos);
+	}
+
+	@Override
+	public void generation(final EvolutionResult<?, ?> result) {
+		_generation.accumulateAndGet(result.generation(), Math::max);
+	}
+
+	/**
+	 * Return the histogram of the fitness evaluation latencies of the single
+	 * individuals, in nanoseconds.
+	 *
+	 * @return the evaluation latency histogram
+	 */
+	public LongHistogram evaluationLatency() {
+		return _evaluationLatency;
+	}
+
+	/**
+	 * Return the histogram of the queue waiting times of the evaluation
+	 * tasks, in nanoseconds.
+	 *
+	 * @return the queue waiting time histogram
+	 */
+	public LongHistogram queueWait() {
+		return _queueWait;
+	}
+
+	/**
+	 * Return the histogram of the execution durations of the given
+	 * {@code stage}, in nanoseconds.
+	 *
+	 * @param stage the evolution stage
+	 * @return the stage duration histogram
+	 * @throws NullPointerException if the given {@code stage} is {@code null}
+	 */
+	public LongHistogram stageDuration(final Stage stage) {
+		return _durations.get(requireNonNull(stage));
+	}
+
+	/**
+	 * Return the histogram of the allocated bytes of the given
+	 * {@code stage}.
+	 *
+	 * @param stage the evolution stage
+	 * @return the stage allocation histogram
+	 * @throws NullPointerException if the given {@code stage} is {@code null}
+	 */
+	public LongHistogram stageAllocation(final Stage stage) {
+		return _allocations.get(requireNonNull(stage));
+	}
+
+	/**
+	 * Return the last reported generation.
+	 *
+	 * @return the last reported generation, or {@code -1} if no generation
+	 *         has been reported yet
+	 */
+	public long generation() {
+		return _generation.get();
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"HistogramMetrics[generation=%d, evaluation=%s, queueWait=%s]",
+			generation(), _evaluationLatency, _queueWait
+		);
+	}
+
+}
@@ -55,7 +55,7 @@ import io.jenetics.util.Factory;
  * @param <G> the {@code Gene} type used for encoding the argument type {@code T}
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.2
+ * @version 6.1
  * @since 5.2
  */
 public interface InvertibleCodec<T, G extends Gene<?, G>> extends Codec<T, G> {
@@ -92,6 +92,44 @@ public interface InvertibleCodec<T, G extends Gene<?, G>> extends Codec<T, G> {
 		return encoder().apply(value);
 	}
 
+	/**
+	 * Return a new invertible codec, which caches the decoded values of
+	 * recently decoded genotypes. The {@link #encoder()} is not cached.
+	 *
+	 * @see Codec#cached()
+	 *
+	 * @since 6.1
+	 *
+	 * @return a new invertible codec, which caches the decoded values
+	 */
+	@Override
+	default InvertibleCodec<T, G> cached() {
+		return cached(DecodeCache.DEFAULT_SIZE);
+	}
+
+	/**
+	 * Return a new invertible codec, which caches the decoded values of
+	 * recently decoded genotypes, using a cache with (at least) {@code size}
+	 * slots. The {@link #encoder()} is not cached.
+	 *
+	 * @see Codec#cached(int)
+	 *
+	 * @since 6.1
+	 *
+	 * @param size the size of the decoding cache
+	 * @return a new invertible codec, which caches the decoded values
+	 * @throws IllegalArgumentException if the given {@code size} is smaller
+	 *         than one
+	 */
+	@Override
+	default InvertibleCodec<T, G> cached(final int size) {
+		return InvertibleCodec.of(
+			encoding(),
+			new DecodeCache<>(decoder(), size),
+			encoder()
+		);
+	}
+
 	/**
 	 * Create a new {@code InvertibleCodec} with the mapped result type.
 	 *
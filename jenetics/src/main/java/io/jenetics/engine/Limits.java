@@ -43,7 +43,7 @@ import io.jenetics.util.NanoClock;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.7
+ * @version 6.1
  */
 public final class Limits {
 	private Limits() {}
@@ -144,6 +144,15 @@ public final class Limits {
 	 *     .collect(toBestPhenotype());
 	 * }</pre>
 	 *
+	 * If the predicate is applied directly to an {@link EvolutionStream},
+	 * its {@link Deadline} is also propagated to the fitness evaluation.
+	 * Fitness tasks, which are not started before the deadline, are skipped
+	 * and the generation is finished with the best individuals evaluated so
+	 * far. This last generation is still part of the truncated evolution
+	 * stream, if it has been started before, and completed by the engine
+	 * after the deadline. No further evolution step is started once the
+	 * deadline is expired.
+	 *
 	 * @since 3.1
 	 *
 	 * @param duration the duration after the evolution stream will be truncated
@@ -171,6 +180,10 @@ public final class Limits {
 	 *     .collect(toBestPhenotype());
 	 * }</pre>
 	 *
+	 * The {@link Deadline} of the predicate is propagated to the fitness
+	 * evaluation, if it is applied directly to an {@link EvolutionStream}.
+	 *
+	 * @see #byExecutionTime(Duration, Clock)
 	 * @since 3.1
 	 *
 	 * @param duration the duration after the evolution stream will be truncated
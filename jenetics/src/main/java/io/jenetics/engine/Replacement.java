@@ -0,0 +1,148 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * The replacement policy of the {@link SteadyStateEngine}. It determines
+ * which individual of the population is replaced by a newly evaluated
+ * offspring individual.
+ *
+ * <pre>{@code
+ * final SteadyStateEngine<DoubleGene, Double> engine = SteadyStateEngine
+ *     .builder(Engine.builder(problem).build())
+ *     .replacement(Replacement.oldest())
+ *     .build();
+ * }</pre>
+ *
+ * @see SteadyStateEngine.Builder#replacement(Replacement)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface Replacement<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * Return the index of the individual of the given {@code population},
+	 * which is replaced by the given, evaluated {@code offspring}. If the
+	 * offspring is rejected, {@code -1} is returned.
+	 *
+	 * @param population the current, evaluated population
+	 * @param offspring the evaluated offspring individual
+	 * @param optimize the optimization strategy
+	 * @return the index of the individual to replace, or {@code -1} if the
+	 *         {@code offspring} is rejected
+	 */
+	int select(
+		final Seq<Phenotype<G, C>> population,
+		final Phenotype<G, C> offspring,
+		final Optimize optimize
+	);
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a replacement policy, which replaces the worst individual of the
+	 * population, if the offspring is not worse than it. This is the default
+	 * replacement policy of the {@link SteadyStateEngine}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new <em>replace worst</em> policy
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Replacement<G, C> worst() {
+		return (population, offspring, optimize) -> {
+			int worst = -1;
+			for (int i = 0; i < population.size(); ++i) {
+				if (worst == -1 || optimize.compare(
+						population.get(i).fitness(),
+						population.get(worst).fitness()) < 0)
+				{
+					worst = i;
+				}
+			}
+
+			return worst != -1 &&
+				optimize.compare(
+					offspring.fitness(),
+					population.get(worst).fitness()) >= 0
+				? worst
+				: -1;
+		};
+	}
+
+	/**
+	 * Return a replacement policy, which always replaces the oldest individual
+	 * of the population.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new <em>replace oldest</em> policy
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Replacement<G, C> oldest() {
+		return (population, offspring, optimize) -> {
+			int oldest = -1;
+			for (int i = 0; i < population.size(); ++i) {
+				if (oldest == -1 ||
+					population.get(i).generation() <
+						population.get(oldest).generation())
+				{
+					oldest = i;
+				}
+			}
+
+			return oldest;
+		};
+	}
+
+	/**
+	 * Return a replacement policy, which always replaces a randomly chosen
+	 * individual of the population.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new <em>replace random</em> policy
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Replacement<G, C> random() {
+		return (population, offspring, optimize) -> population.isEmpty()
+			? -1
+			: RandomRegistry.random().nextInt(population.size());
+	}
+
+}
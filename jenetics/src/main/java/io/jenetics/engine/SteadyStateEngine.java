@@ -0,0 +1,592 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Steady-state (incremental replacement) evolution engine. Instead of
+ * breeding and evaluating a complete new population in every generation, a
+ * fixed number of fitness evaluations is kept <em>in flight</em>. As soon
+ * as one evaluation finishes, the evaluated individual is inserted into the
+ * population, according to the configured {@link Replacement} policy, and a
+ * new individual is bred and submitted for evaluation. This keeps the
+ * executor busy, even if the evaluation times of the individuals vary
+ * strongly.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .populationSize(100)
+ *     .alterers(
+ *         new Mutator<>(0.1),
+ *         new MeanAlterer<>())
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> best = SteadyStateEngine
+ *     .builder(engine)
+ *     .concurrency(16)
+ *     .replacement(Replacement.worst())
+ *     .build()
+ *     .stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * The problem definition and the evolution parameters (evaluator, genotype
+ * factory, constraint, offspring selector, alterer, population size,
+ * executor, clock, interceptor and metrics) are taken from the given
+ * {@link Engine}. Every offspring individual is evaluated asynchronously with
+ * the evaluator of the engine. Individuals, whose evaluation has been skipped
+ * because the {@link Deadline} expired, are not inserted into the
+ * population. The survivors selector and the maximal phenotype age are not
+ * used. Every {@link EvolutionResult} of the created {@link EvolutionStream}
+ * is a snapshot of the population after the configured number of
+ * {@link #snapshotSize()} processed offspring individuals. The generation
+ * counter is incremented with every snapshot. This makes the steady-state
+ * engine usable with the existing {@link Limits} and
+ * {@link EvolutionStatistics}.
+ *
+ * @implNote
+ *     The in-flight evaluations are kept between the snapshots of one
+ *     evolution stream. Evaluations which are still running when the stream
+ *     is truncated are finished in the background and their results are
+ *     discarded. The {@link #evolve(EvolutionStart)} method itself waits for
+ *     all pending evaluations before it returns.
+ *
+ * @see Engine
+ * @see Replacement
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class SteadyStateEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements
+		Evolution<G, C>,
+		EvolutionStreamable<G, C>
+{
+
+	private final Engine<G, C> _engine;
+	private final Evaluator<G, C> _evaluator;
+	private final Replacement<G, C> _replacement;
+	private final int _concurrency;
+	private final int _breedSize;
+	private final int _snapshotSize;
+
+	private SteadyStateEngine(
+		final Engine<G, C> engine,
+		final Replacement<G, C> replacement,
+		final int concurrency,
+		final int breedSize,
+		final int snapshotSize
+	) {
+		_engine = requireNonNull(engine);
+		_evaluator = engine.evaluator();
+		_replacement = requireNonNull(replacement);
+		_concurrency = concurrency;
+		_breedSize = breedSize;
+		_snapshotSize = snapshotSize;
+	}
+
+	/**
+	 * Performs one steady-state <em>epoch</em>, starting with the given
+	 * {@code start} object. All pending evaluations are finished before
+	 * this method returns.
+	 *
+	 * @param start the evolution start object
+	 * @return the evolution result after {@link #snapshotSize()} processed
+	 *         offspring individuals
+	 * @throws NullPointerException if the given evolution {@code start} is
+	 *         {@code null}
+	 */
+	@Override
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final Pipeline pipeline = new Pipeline();
+		try {
+			return pipeline.evolve(start);
+		} finally {
+			pipeline.drain();
+		}
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		final Pipeline pipeline = new Pipeline();
+		return EvolutionStream.ofEvolution(
+			() -> evolutionStart(start.get()),
+			pipeline::evolve
+		);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		final long gen = init.generation();
+		return stream(
+			EvolutionStart.of(
+				init.population().map(gt -> Phenotype.of(gt, gen)),
+				gen
+			)
+		);
+	}
+
+	private EvolutionStart<G, C>
+	evolutionStart(final EvolutionStart<G, C> start) {
+		final ISeq<Phenotype<G, C>> population = start.population();
+		final long gen = start.generation();
+
+		final Stream<Phenotype<G, C>> stream = Stream.concat(
+			population.stream(),
+			_engine.genotypeFactory().instances()
+				.map(gt -> Phenotype.of(gt, gen))
+		);
+
+		final ISeq<Phenotype<G, C>> pop = stream
+			.limit(_engine.populationSize())
+			.collect(ISeq.toISeq());
+
+		return EvolutionStart.of(pop, gen);
+	}
+
+	// Evaluates the given phenotype asynchronously, with the evaluator of
+	// the engine. The returned phenotype is not evaluated, if the deadline
+	// of the evaluation expired.
+	private CompletableFuture<Phenotype<G, C>>
+	evaluate(final Phenotype<G, C> phenotype) {
+		return phenotype.isEvaluated()
+			? completedFuture(phenotype)
+			: _evaluator.evalAsync(ISeq.of(phenotype), _engine.executor())
+				.thenApply(population -> checked(ISeq.of(phenotype), population)
+					.get(0));
+	}
+
+	// Evaluates the given population, without deadline, and waits for the
+	// result. The population of the snapshots must be completely evaluated.
+	private ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		final ISeq<Phenotype<G, C>> evaluated =
+			Deadline.unbounded(() -> _evaluator.eval(population));
+
+		if (!checked(population, evaluated).forAll(Phenotype::isEvaluated)) {
+			throw new IllegalStateException(
+				"Some phenotypes have no assigned fitness value. " +
+					"Check your evaluator function."
+			);
+		}
+		return evaluated;
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> checked(
+		final Seq<Phenotype<G, C>> population,
+		final ISeq<Phenotype<G, C>> evaluated
+	) {
+		if (population.size() != evaluated.size()) {
+			throw new IllegalStateException(format(
+				"Expected %d individuals, but got %d. " +
+					"Check your evaluator function.",
+				population.size(), evaluated.size()
+			));
+		}
+		return evaluated;
+	}
+
+
+	/* *************************************************************************
+	 * Property access methods.
+	 **************************************************************************/
+
+	/**
+	 * Return the engine, which defines the problem and the evolution
+	 * parameters of this steady-state engine.
+	 *
+	 * @return the underlying engine
+	 */
+	public Engine<G, C> engine() {
+		return _engine;
+	}
+
+	/**
+	 * Return the replacement policy.
+	 *
+	 * @return the replacement policy
+	 */
+	public Replacement<G, C> replacement() {
+		return _replacement;
+	}
+
+	/**
+	 * Return the number of fitness evaluations which are kept in flight.
+	 *
+	 * @return the number of concurrent fitness evaluations
+	 */
+	public int concurrency() {
+		return _concurrency;
+	}
+
+	/**
+	 * Return the number of offspring individuals, which are selected and
+	 * altered at once.
+	 *
+	 * @return the number of individuals which are bred at once
+	 */
+	public int breedSize() {
+		return _breedSize;
+	}
+
+	/**
+	 * Return the number of processed offspring individuals between two
+	 * evolution results.
+	 *
+	 * @return the number of processed offspring individuals per evolution
+	 *         result
+	 */
+	public int snapshotSize() {
+		return _snapshotSize;
+	}
+
+
+	/* *************************************************************************
+	 * Evolution pipeline.
+	 **************************************************************************/
+
+	/**
+	 * Keeps the in-flight evaluations of one evolution stream.
+	 */
+	private final class Pipeline {
+		private final BlockingQueue<CompletableFuture<Phenotype<G, C>>>
+			_completed = new LinkedBlockingQueue<>();
+		private int _pending = 0;
+
+		EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+			final EvolutionMetrics metrics = _engine.metrics();
+			final EvolutionTiming timing =
+				new EvolutionTiming(_engine.clock(), metrics.isEnabled());
+			timing.evolve.start();
+
+			final EvolutionInterceptor<G, C> interceptor = _engine.interceptor();
+			final EvolutionStart<G, C> interceptedStart = interceptor.before(start);
+
+			final EvolutionStart<G, C> es =
+				interceptedStart.population().isEmpty()
+					? evolutionStart(interceptedStart)
+					: interceptedStart;
+
+			final long generation = es.generation();
+			final MSeq<Phenotype<G, C>> population = MSeq.of(
+				es.isDirty()
+					? timing.evaluation.timing(() -> eval(es.population()))
+					: es.population()
+			);
+
+			int invalidCount = 0;
+			int alterCount = 0;
+			for (int processed = 0; processed < _snapshotSize; ++processed) {
+				while (_pending < _concurrency) {
+					final AltererResult<G, C> offspring =
+						breed(population, generation, timing);
+					alterCount += offspring.alterations();
+					invalidCount += submit(offspring.population(), generation, timing);
+				}
+
+				final Phenotype<G, C> individual = take();
+				if (individual.isEvaluated()) {
+					final int index = _replacement
+						.select(population, individual, _engine.optimize());
+					if (index >= 0) {
+						population.set(index, individual);
+					}
+				}
+			}
+
+			EvolutionResult<G, C> er = EvolutionResult.of(
+				_engine.optimize(),
+				population.toISeq(),
+				generation,
+				timing.toDurations(),
+				0,
+				invalidCount,
+				alterCount
+			);
+
+			final EvolutionResult<G, C> interceptedResult = interceptor.after(er);
+			if (er != interceptedResult) {
+				er = interceptedResult.withPopulation(
+					timing.evaluation.timing(() ->
+						eval(interceptedResult.population())
+				));
+			}
+
+			timing.evolve.stop();
+
+			er = er.withDurations(timing.toDurations()).clean();
+			if (metrics.isEnabled()) {
+				timing.report(er.generation(), metrics);
+				metrics.generation(er);
+			}
+			return er;
+		}
+
+		// Selects and alters the next offspring individuals.
+		private AltererResult<G, C> breed(
+			final Seq<Phenotype<G, C>> population,
+			final long generation,
+			final EvolutionTiming timing
+		) {
+			final ISeq<Phenotype<G, C>> parents =
+				timing.offspringSelection.timing(() ->
+					_engine.offspringSelector()
+						.select(population, _breedSize, _engine.optimize())
+				);
+
+			return timing.offspringAlter.timing(() ->
+				_engine.alterer().alter(parents, generation)
+			);
+		}
+
+		// Repairs invalid offspring and submits it for evaluation. Returns the
+		// number of invalid individuals.
+		private int submit(
+			final Seq<Phenotype<G, C>> offspring,
+			final long generation,
+			final EvolutionTiming timing
+		) {
+			final Constraint<G, C> constraint = _engine.constraint();
+
+			int invalidCount = 0;
+			for (Phenotype<G, C> individual : offspring) {
+				Phenotype<G, C> pt = individual;
+				if (!constraint.test(pt)) {
+					pt = timing.offspringFilter.timing(() ->
+						constraint.repair(individual, generation)
+					);
+					++invalidCount;
+				}
+
+				evaluate(pt).whenComplete((r, e) -> _completed.add(completed(r, e)));
+				++_pending;
+			}
+
+			return invalidCount;
+		}
+
+		private CompletableFuture<Phenotype<G, C>>
+		completed(final Phenotype<G, C> result, final Throwable error) {
+			return error == null
+				? completedFuture(result)
+				: CompletableFuture.failedFuture(error);
+		}
+
+		// Waits for the next evaluated individual.
+		private Phenotype<G, C> take() {
+			try {
+				final CompletableFuture<Phenotype<G, C>> individual =
+					_completed.take();
+				--_pending;
+				return individual.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw (CancellationException)
+					new CancellationException(e.getMessage()).initCause(e);
+			}
+		}
+
+		// Waits for all pending evaluations.
+		void drain() {
+			while (_pending > 0) {
+				try {
+					_completed.take();
+					--_pending;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+
+	}
+
+
+	/* *************************************************************************
+	 * Static builder methods.
+	 **************************************************************************/
+
+	/**
+	 * Create a new steady-state engine builder. The problem definition and
+	 * the evolution parameters are taken from the given {@code engine}.
+	 *
+	 * The offspring individuals are evaluated with the evaluator of the
+	 * given {@code engine}.
+	 *
+	 * @param engine the engine, which defines the problem and the evolution
+	 *        parameters
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new steady-state engine builder
+	 * @throws NullPointerException if the given {@code engine} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Engine<G, C> engine) {
+		return new Builder<>(engine);
+	}
+
+
+	/* *************************************************************************
+	 * Steady-state engine builder.
+	 **************************************************************************/
+
+	/**
+	 * Builder class for building the steady-state engine.
+	 *
+	 * @see SteadyStateEngine
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final Engine<G, C> _engine;
+
+		private Replacement<G, C> _replacement = Replacement.worst();
+		private int _concurrency = Concurrency.CORES;
+		private int _breedSize = 2;
+		private int _snapshotSize;
+
+		private Builder(final Engine<G, C> engine) {
+			_engine = requireNonNull(engine);
+			_snapshotSize = engine.populationSize();
+		}
+
+		/**
+		 * The replacement policy, which determines the individual replaced by
+		 * a newly evaluated offspring. <i>Default value is set to
+		 * {@code Replacement.worst()}.</i>
+		 *
+		 * @param replacement the replacement policy
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code replacement} is
+		 *         {@code null}
+		 */
+		public Builder<G, C> replacement(final Replacement<G, C> replacement) {
+			_replacement = requireNonNull(replacement);
+			return this;
+		}
+
+		/**
+		 * The number of fitness evaluations, which are kept in flight.
+		 * <i>Default value is set to the number of available processors.</i>
+		 *
+		 * @param concurrency the number of concurrent fitness evaluations
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code concurrency}
+		 *         is smaller than one
+		 */
+		public Builder<G, C> concurrency(final int concurrency) {
+			_concurrency = positive(concurrency, "Concurrency");
+			return this;
+		}
+
+		/**
+		 * The number of offspring individuals, which are selected and altered
+		 * at once. <i>Default value is set to {@code 2}.</i>
+		 *
+		 * @param size the number of individuals bred at once
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code size} is
+		 *         smaller than one
+		 */
+		public Builder<G, C> breedSize(final int size) {
+			_breedSize = positive(size, "Breed size");
+			return this;
+		}
+
+		/**
+		 * The number of processed offspring individuals between two evolution
+		 * results. <i>Default value is set to the population size of the
+		 * underlying engine.</i>
+		 *
+		 * @param size the number of processed offspring individuals per
+		 *        evolution result
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code size} is
+		 *         smaller than one
+		 */
+		public Builder<G, C> snapshotSize(final int size) {
+			_snapshotSize = positive(size, "Snapshot size");
+			return this;
+		}
+
+		private static int positive(final int value, final String name) {
+			if (value < 1) {
+				throw new IllegalArgumentException(format(
+					"%s must be greater than zero, but was %s.", name, value
+				));
+			}
+			return value;
+		}
+
+		/**
+		 * Builds a new steady-state engine from the set properties.
+		 *
+		 * @return a new steady-state engine from the set properties
+		 */
+		public SteadyStateEngine<G, C> build() {
+			return new SteadyStateEngine<>(
+				_engine,
+				_replacement,
+				_concurrency,
+				_breedSize,
+				_snapshotSize
+			);
+		}
+
+	}
+
+}
@@ -0,0 +1,561 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Requires.positive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Fitness evaluator, which pre-screens the individuals with a cheap
+ * <em>surrogate model</em> before evaluating them with the real fitness
+ * function. This is useful for expensive fitness functions, e.g.
+ * simulations, where most of the offspring are clearly worse than the
+ * current population and not worth being evaluated.
+ * <p>
+ * The surrogate model is a k-nearest-neighbour regression, with inverse
+ * distance weighting, over the numeric gene values. The gene values are
+ * normalized to the range {@code [0, 1]}, using the allowed gene range. The
+ * model is fitted online from all really evaluated individuals. For every
+ * generation, the fitness of the not yet evaluated individuals is predicted.
+ * Only the most promising {@link Builder#fraction(double)} of them are
+ * evaluated with the real fitness function; the remaining individuals are
+ * assigned their <em>estimated</em> fitness value. How individuals with an
+ * estimated fitness are treated in the following generations is determined
+ * by the {@link Reevaluation} policy.
+ *
+ * <pre>{@code
+ * final Codec<double[], DoubleGene> codec = Codecs.ofVector(...);
+ * final SurrogateEvaluator<DoubleGene> evaluator = SurrogateEvaluator
+ *     .builder(Evaluators.concurrent(simulation, codec.decoder(), executor))
+ *     .optimize(Optimize.MINIMUM)
+ *     .fraction(0.25)
+ *     .build();
+ *
+ * final Engine<DoubleGene, Double> engine =
+ *     new Engine.Builder<>(evaluator, codec.encoding())
+ *         .minimizing()
+ *         .build();
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe. The surrogate statistics can be read while the
+ * evaluator is in use.
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class SurrogateEvaluator<G extends NumericGene<?, G>>
+	implements Evaluator<G, Double>
+{
+
+	/**
+	 * Defines how individuals with an <em>estimated</em> fitness value are
+	 * treated, if they survive into the next generation.
+	 */
+	public enum Reevaluation {
+
+		/**
+		 * The estimated fitness value is kept for the lifetime of the
+		 * individual.
+		 */
+		NEVER,
+
+		/**
+		 * Surviving individuals with an estimated fitness are screened
+		 * again, together with the newly created offspring. If they are still
+		 * promising, they are evaluated with the real fitness function.
+		 * Otherwise, they get an updated fitness estimate.
+		 */
+		RESCREEN,
+
+		/**
+		 * Surviving individuals with an estimated fitness are always evaluated
+		 * with the real fitness function.
+		 */
+		ALWAYS
+
+	}
+
+	private final Evaluator<G, Double> _evaluator;
+	private final Optimize _optimize;
+	private final int _neighbours;
+	private final double _fraction;
+	private final int _warmup;
+	private final Reevaluation _reevaluation;
+
+	private final Object _lock = new Object();
+
+	// Ring buffer of the really evaluated individuals: (x, fitness(x)).
+	private final double[][] _points;
+	private final double[] _values;
+	private int _size = 0;
+	private int _next = 0;
+
+	// The individuals with an estimated fitness, from the last generation.
+	private Set<Phenotype<G, Double>> _estimated = identitySet();
+
+	private final DoubleMomentStatistics _errors = new DoubleMomentStatistics();
+	private long _evaluations = 0;
+	private long _estimations = 0;
+	private long _screened = 0;
+	private long _hits = 0;
+
+	private SurrogateEvaluator(
+		final Evaluator<G, Double> evaluator,
+		final Optimize optimize,
+		final int neighbours,
+		final double fraction,
+		final int archiveSize,
+		final int warmup,
+		final Reevaluation reevaluation
+	) {
+		_evaluator = requireNonNull(evaluator);
+		_optimize = requireNonNull(optimize);
+		_neighbours = neighbours;
+		_fraction = fraction;
+		_warmup = warmup;
+		_reevaluation = requireNonNull(reevaluation);
+
+		_points = new double[archiveSize][];
+		_values = new double[archiveSize];
+	}
+
+	@Override
+	public ISeq<Phenotype<G, Double>>
+	eval(final Seq<Phenotype<G, Double>> population) {
+		final List<Phenotype<G, Double>> result =
+			new ArrayList<>(population.size());
+		final List<Phenotype<G, Double>> exact = new ArrayList<>();
+		final Set<Phenotype<G, Double>> estimated = identitySet();
+		final Map<Genotype<G>, Double> predictions = new IdentityHashMap<>();
+		double threshold = Double.NaN;
+		int estimations = 0;
+
+		synchronized (_lock) {
+			final List<Phenotype<G, Double>> candidates = new ArrayList<>();
+			for (Phenotype<G, Double> pt : population) {
+				if (pt.nonEvaluated()) {
+					candidates.add(pt);
+				} else if (_estimated.contains(pt)) {
+					switch (_reevaluation) {
+						case NEVER:
+							result.add(pt);
+							estimated.add(pt);
+							break;
+						case RESCREEN:
+							candidates.add(pt.nullifyFitness());
+							break;
+						case ALWAYS:
+							exact.add(pt.nullifyFitness());
+							break;
+					}
+				} else {
+					result.add(pt);
+				}
+			}
+
+			if (_size < _warmup) {
+				exact.addAll(candidates);
+			} else {
+				for (Phenotype<G, Double> pt : candidates) {
+					predictions.put(pt.genotype(), predict(features(pt.genotype())));
+				}
+				candidates.sort((a, b) -> _optimize.<Double>descending().compare(
+					predictions.get(a.genotype()),
+					predictions.get(b.genotype())
+				));
+
+				final int count = Math.min(
+					candidates.size(),
+					max((int)ceil(_fraction*candidates.size()), 1)
+				);
+				exact.addAll(candidates.subList(0, count));
+				for (Phenotype<G, Double> pt : candidates.subList(count, candidates.size())) {
+					final Phenotype<G, Double> est =
+						pt.withFitness(predictions.get(pt.genotype()));
+					result.add(est);
+					estimated.add(est);
+					++estimations;
+				}
+				if (count < candidates.size()) {
+					threshold = predictions.get(candidates.get(count).genotype());
+				}
+			}
+		}
+
+		final ISeq<Phenotype<G, Double>> evaluated = exact.isEmpty()
+			? ISeq.empty()
+			: _evaluator.eval(ISeq.of(exact));
+
+		synchronized (_lock) {
+			int evaluations = 0;
+			for (Phenotype<G, Double> pt : evaluated) {
+				// Individuals, which have been skipped because of an expired
+				// deadline, are returned unchanged and left to the engine.
+				if (pt.nonEvaluated()) {
+					continue;
+				}
+
+				++evaluations;
+				final double fitness = pt.fitness();
+				add(features(pt.genotype()), fitness);
+
+				final Double prediction = predictions.get(pt.genotype());
+				if (prediction != null) {
+					_errors.accept(Math.abs(prediction - fitness));
+					if (!Double.isNaN(threshold)) {
+						++_screened;
+						if (_optimize.compare(fitness, threshold) >= 0) {
+							++_hits;
+						}
+					}
+				}
+			}
+
+			_evaluations += evaluations;
+			_estimations += estimations;
+			_estimated = estimated;
+		}
+
+		result.addAll(evaluated.asList());
+		return ISeq.of(result);
+	}
+
+	private static <T> Set<T> identitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	private static <G extends NumericGene<?, G>>
+	double[] features(final Genotype<G> genotype) {
+		final double[] features = new double[genotype.geneCount()];
+		int index = 0;
+		for (Chromosome<G> chromosome : genotype) {
+			for (G gene : chromosome) {
+				final double min = gene.min().doubleValue();
+				final double range = gene.max().doubleValue() - min;
+				features[index++] = range > 0
+					? (gene.doubleValue() - min)/range
+					: gene.doubleValue();
+			}
+		}
+		return features;
+	}
+
+	private void add(final double[] point, final double value) {
+		_points[_next] = point;
+		_values[_next] = value;
+		_next = (_next + 1)%_points.length;
+		_size = Math.min(_size + 1, _points.length);
+	}
+
+	/*
+	 * Inverse distance weighted mean of the fitness values of the k nearest
+	 * neighbours.
+	 */
+	private double predict(final double[] point) {
+		final int k = Math.min(_neighbours, _size);
+		final double[] distances = new double[k];
+		final int[] indexes = new int[k];
+		int count = 0;
+
+		for (int i = 0; i < _size; ++i) {
+			final double distance = distance(point, _points[i]);
+			if (distance == 0) {
+				return _values[i];
+			}
+
+			// Insertion into the sorted neighbour list.
+			if (count < k || distance < distances[count - 1]) {
+				int j = count < k ? count++ : count - 1;
+				while (j > 0 && distances[j - 1] > distance) {
+					distances[j] = distances[j - 1];
+					indexes[j] = indexes[j - 1];
+					--j;
+				}
+				distances[j] = distance;
+				indexes[j] = i;
+			}
+		}
+
+		double weights = 0;
+		double sum = 0;
+		for (int i = 0; i < count; ++i) {
+			final double weight = 1.0/distances[i];
+			weights += weight;
+			sum += weight*_values[indexes[i]];
+		}
+		return sum/weights;
+	}
+
+	private static double distance(final double[] a, final double[] b) {
+		double sum = 0;
+		for (int i = 0, n = Math.min(a.length, b.length); i < n; ++i) {
+			final double d = a[i] - b[i];
+			sum += d*d;
+		}
+		return sqrt(sum);
+	}
+
+	/**
+	 * Return the number of individuals evaluated with the real fitness
+	 * function.
+	 *
+	 * @return the number of real fitness evaluations
+	 */
+	public long evaluations() {
+		synchronized (_lock) {
+			return _evaluations;
+		}
+	}
+
+	/**
+	 * Return the number of individuals, which has been assigned an estimated
+	 * fitness value.
+	 *
+	 * @return the number of fitness estimations
+	 */
+	public long estimations() {
+		synchronized (_lock) {
+			return _estimations;
+		}
+	}
+
+	/**
+	 * Return the fraction of the screened and really evaluated individuals,
+	 * whose real fitness confirmed the screening decision. An individual is a
+	 * <em>hit</em>, if its real fitness is not worse than the predicted
+	 * fitness of the best rejected individual of the same generation.
+	 *
+	 * @return the hit rate of the surrogate model, or {@link Double#NaN} if
+	 *         no individual has been screened yet
+	 */
+	public double hitRate() {
+		synchronized (_lock) {
+			return _screened > 0 ? (double)_hits/_screened : Double.NaN;
+		}
+	}
+
+	/**
+	 * Return the statistics of the absolute prediction error of the surrogate
+	 * model. The prediction error is measured for every individual, which has
+	 * been predicted and evaluated with the real fitness function afterwards.
+	 *
+	 * @return the absolute prediction error statistics
+	 */
+	public DoubleMoments predictionError() {
+		synchronized (_lock) {
+			return _errors.toDoubleMoments();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"SurrogateEvaluator[evaluations=%d, estimations=%d, hitRate=%f]",
+			evaluations(), estimations(), hitRate()
+		);
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new surrogate evaluator builder, which pre-screens the
+	 * individuals for the given (expensive) fitness {@code evaluator}.
+	 *
+	 * @param evaluator the evaluator of the real fitness function
+	 * @param <G> the gene type
+	 * @return a new surrogate evaluator builder
+	 * @throws NullPointerException if the given {@code evaluator} is
+	 *         {@code null}
+	 */
+	public static <G extends NumericGene<?, G>>
+	Builder<G> builder(final Evaluator<G, Double> evaluator) {
+		return new Builder<>(evaluator);
+	}
+
+
+	/* *************************************************************************
+	 * Surrogate evaluator builder.
+	 * ************************************************************************/
+
+	/**
+	 * Builder class for the {@link SurrogateEvaluator}.
+	 *
+	 * @param <G> the gene type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	public static final class Builder<G extends NumericGene<?, G>> {
+
+		private final Evaluator<G, Double> _evaluator;
+		private Optimize _optimize = Optimize.MAXIMUM;
+		private int _neighbours = 5;
+		private double _fraction = 0.3;
+		private int _archiveSize = 1000;
+		private int _warmup = 50;
+		private Reevaluation _reevaluation = Reevaluation.RESCREEN;
+
+		private Builder(final Evaluator<G, Double> evaluator) {
+			_evaluator = requireNonNull(evaluator);
+		}
+
+		/**
+		 * Set the optimization strategy, which must be the same as the one
+		 * of the evolution {@link Engine}.
+		 * <i>Default value is set to {@link Optimize#MAXIMUM}.</i>
+		 *
+		 * @param optimize the optimization strategy
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code optimize} is
+		 *         {@code null}
+		 */
+		public Builder<G> optimize(final Optimize optimize) {
+			_optimize = requireNonNull(optimize);
+			return this;
+		}
+
+		/**
+		 * Set the number of nearest neighbours used for predicting the
+		 * fitness. <i>Default value is set to {@code 5}.</i>
+		 *
+		 * @param neighbours the number of nearest neighbours
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code neighbours} is smaller
+		 *         than one
+		 */
+		public Builder<G> neighbours(final int neighbours) {
+			_neighbours = positive(neighbours);
+			return this;
+		}
+
+		/**
+		 * Set the fraction of the screened individuals, which are evaluated
+		 * with the real fitness function. At least one individual per
+		 * generation is evaluated. <i>Default value is set to {@code 0.3}.</i>
+		 *
+		 * @param fraction the fraction of really evaluated individuals
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code fraction} is not
+		 *         within the range {@code (0, 1]}
+		 */
+		public Builder<G> fraction(final double fraction) {
+			if (fraction <= 0 || fraction > 1) {
+				throw new IllegalArgumentException(format(
+					"Fraction must be in (0, 1]: %f", fraction
+				));
+			}
+			_fraction = fraction;
+			return this;
+		}
+
+		/**
+		 * Set the maximal number of evaluated individuals the surrogate model
+		 * is fitted from. If the archive is full, the oldest individuals are
+		 * replaced. <i>Default value is set to {@code 1000}.</i>
+		 *
+		 * @param size the maximal archive size
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code size} is smaller than
+		 *         one
+		 */
+		public Builder<G> archiveSize(final int size) {
+			_archiveSize = positive(size);
+			return this;
+		}
+
+		/**
+		 * Set the number of evaluated individuals needed, before the
+		 * surrogate model is used for screening. Until then, all individuals
+		 * are evaluated with the real fitness function.
+		 * <i>Default value is set to {@code 50}.</i>
+		 *
+		 * @param samples the number of warmup samples
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code samples} is smaller
+		 *         than one
+		 */
+		public Builder<G> warmup(final int samples) {
+			_warmup = positive(samples);
+			return this;
+		}
+
+		/**
+		 * Set the re-evaluation policy for individuals with an estimated
+		 * fitness. <i>Default value is set to {@link Reevaluation#RESCREEN}.</i>
+		 *
+		 * @param reevaluation the re-evaluation policy
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code reevaluation} is
+		 *         {@code null}
+		 */
+		public Builder<G> reevaluation(final Reevaluation reevaluation) {
+			_reevaluation = requireNonNull(reevaluation);
+			return this;
+		}
+
+		/**
+		 * Builds a new surrogate evaluator from the set properties.
+		 *
+		 * @return a new surrogate evaluator
+		 */
+		public SurrogateEvaluator<G> build() {
+			return new SurrogateEvaluator<>(
+				_evaluator,
+				_optimize,
+				_neighbours,
+				_fraction,
+				max(_archiveSize, _neighbours),
+				Math.min(_warmup, max(_archiveSize, _neighbours)),
+				_reevaluation
+			);
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the allocated heap memory of the current thread, if supported by
+ * the running JVM.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class ThreadAllocations {
+	private ThreadAllocations() {}
+
+	private static final ThreadMXBean BEAN = bean();
+
+	private static ThreadMXBean bean() {
+		try {
+			final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (bean instanceof com.sun.management.ThreadMXBean) {
+				final com.sun.management.ThreadMXBean b =
+					(com.sun.management.ThreadMXBean)bean;
+
+				if (b.isThreadAllocatedMemorySupported() &&
+					b.isThreadAllocatedMemoryEnabled())
+				{
+					return bean;
+				}
+			}
+		} catch (LinkageError | SecurityException e) {
+			// The allocation measurement is not available.
+		}
+
+		return null;
+	}
+
+	/**
+	 * Return {@code true} if the allocated memory can be measured.
+	 *
+	 * @return {@code true} if the allocated memory can be measured
+	 */
+	static boolean isSupported() {
+		return BEAN != null;
+	}
+
+	/**
+	 * Return the number of bytes allocated by the current thread so far.
+	 *
+	 * @return the allocated bytes of the current thread, or {@code -1} if
+	 *         not supported
+	 */
+	static long bytes() {
+		return BEAN != null
+			? ((com.sun.management.ThreadMXBean)BEAN)
+				.getThreadAllocatedBytes(Thread.currentThread().getId())
+			: -1;
+	}
+
+}
@@ -33,7 +33,7 @@ import io.jenetics.util.NanoClock;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 5.0
+ * @version 6.1
  */
 final class Timing {
 
@@ -42,25 +42,95 @@ final class Timing {
 		T execute() throws E;
 	}
 
+	// The timing, which measures the allocations of the current thread.
+	private static final ThreadLocal<Timing> CURRENT = new ThreadLocal<>();
+
 	private final LongSupplier _nanoClock;
+	private final boolean _allocations;
 
 	private long _start = Long.MIN_VALUE;
 	private long _stop = Long.MIN_VALUE;
 	private long _nanos = 0;
+	private long _bytes = -1;
 
-	private Timing(final LongSupplier nanoClock) {
+	private Timing(final LongSupplier nanoClock, final boolean allocations) {
 		_nanoClock = requireNonNull(nanoClock);
+		_allocations = allocations && ThreadAllocations.isSupported();
 	}
 
 	<T, E extends Exception> T timing(final Timing.Task<T, E> task) throws E {
 		start();
 		try {
-			return task.execute();
+			return allocations(task);
 		} finally {
 			stop();
 		}
 	}
 
+	/**
+	 * Executes the given task and measures the bytes allocated by the current
+	 * thread, if enabled. While the task is running, {@code this} timing is
+	 * the {@link #current()} timing of the thread.
+	 *
+	 * @param task the task to execute
+	 * @return the result of the given task
+	 * @throws E if the task fails
+	 */
+	<T, E extends Exception> T allocations(final Timing.Task<T, E> task)
+		throws E
+	{
+		if (!_allocations) {
+			return task.execute();
+		}
+
+		final Timing outer = CURRENT.get();
+		CURRENT.set(this);
+		final long bytes = ThreadAllocations.bytes();
+		try {
+			return task.execute();
+		} finally {
+			allocated(ThreadAllocations.bytes() - bytes);
+			if (outer != null) {
+				CURRENT.set(outer);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	/**
+	 * Adds the given number of allocated bytes. This method is used for adding
+	 * the allocations of concurrent tasks, which are executed on behalf of the
+	 * timed task, but not by the thread executing it.
+	 *
+	 * @param bytes the allocated bytes
+	 */
+	synchronized void allocated(final long bytes) {
+		_bytes = Math.max(_bytes, 0) + bytes;
+	}
+
+	/**
+	 * Return the timing, which measures the allocations of the current thread.
+	 *
+	 * @return the allocation measuring timing of the current thread, or
+	 *         {@code null} if the allocations are not measured
+	 */
+	static Timing current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Return the number of bytes, allocated by the threads executing the
+	 * {@link #timing(Task)} method and by the concurrent tasks, which added
+	 * their allocations. Allocations are only measured if enabled and
+	 * supported by the JVM.
+	 *
+	 * @return the allocated bytes, or {@code -1} if not measured
+	 */
+	synchronized long allocatedBytes() {
+		return _bytes;
+	}
+
 	/**
 	 * Start the timer.
 	 *
@@ -112,10 +182,23 @@ final class Timing {
 	 * @return a new timer
 	 */
 	static Timing of(final Clock clock) {
+		return of(clock, false);
+	}
+
+	/**
+	 * Return an new timer object which uses the given clock for measuring the
+	 * execution time.
+	 *
+	 * @param clock the clock used for measuring the execution time
+	 * @param allocations if {@code true}, the allocated bytes of the timed
+	 *        tasks are measured as well
+	 * @return a new timer
+	 */
+	static Timing of(final Clock clock, final boolean allocations) {
 		requireNonNull(clock);
 		return clock instanceof NanoClock
-			? new Timing(System::nanoTime)
-			: new Timing(() -> nanos(clock));
+			? new Timing(System::nanoTime, allocations)
+			: new Timing(() -> nanos(clock), allocations);
 	}
 
 	private static long nanos(final Clock clock) {
@@ -129,7 +212,7 @@ final class Timing {
 	 * @return a new timer
 	 */
 	static Timing of() {
-		return new Timing(System::nanoTime);
+		return new Timing(System::nanoTime, false);
 	}
 
 }
@@ -0,0 +1,383 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+import io.jenetics.util.SplitRandom;
+
+/**
+ * Evolution interceptor, which replaces duplicate individuals of the
+ * population with newly created ones. The duplicates are detected with a
+ * hash index of the (cached) genotype fingerprints, which is filled
+ * concurrently. Genotypes with colliding fingerprints are compared with
+ * {@code equals} against all distinct genotypes of the same fingerprint.
+ * Missing individuals are created in batches, using the
+ * given executor. The calling thread takes part in the concurrent work and
+ * never waits for tasks, which are still queued in the executor. This allows
+ * to run the interceptor on a thread of its own executor, as done by the
+ * asynchronous evolution, without dead-locking small thread pools.
+ * <p>
+ * The position of the unique individuals within the population is not
+ * changed and duplicates are replaced in place. Duplicates which couldn't be
+ * replaced, within the given number of retries, are moved to the end of the
+ * population. If the population doesn't contain duplicates, the given
+ * evolution result is returned unchanged.
+ *
+ * @see EvolutionResult#toUniquePopulation(Factory, int, Executor)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class UniquePopulation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionInterceptor<G, C>
+{
+
+	// Key of the random stream used for creating the new individuals.
+	private static final long UNIQUE_STREAM = -2;
+
+	private final Factory<Genotype<G>> _factory;
+	private final int _maxRetries;
+	private final Executor _executor;
+
+	/**
+	 * Create a new unique population interceptor.
+	 *
+	 * @param factory the genotype factory for creating new individuals. If
+	 *        {@code null}, the genotype of the first individual of the
+	 *        population is used as factory.
+	 * @param maxRetries the maximal number of genotype creation tries
+	 * @param executor the executor used for the duplicate detection and the
+	 *        creation of the new individuals
+	 */
+	UniquePopulation(
+		final Factory<Genotype<G>> factory,
+		final int maxRetries,
+		final Executor executor
+	) {
+		_factory = factory;
+		_maxRetries = maxRetries;
+		_executor = requireNonNull(executor);
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		final ISeq<Phenotype<G, C>> population = result.population();
+		if (population.size() < 2) {
+			return result;
+		}
+
+		final ConcurrentHashMap<Long, Integer> index =
+			new ConcurrentHashMap<>(2*population.size());
+		final Map<Long, List<Integer>> collisions = new HashMap<>();
+		final int[] duplicates = duplicates(population, index, collisions);
+		if (duplicates.length == 0) {
+			return result;
+		}
+
+		final Factory<Genotype<G>> factory = _factory != null
+			? _factory
+			: population.get(0).genotype();
+
+		final long generation = result.generation();
+		final Random random = uniqueRandom(generation);
+		final MSeq<Phenotype<G, C>> uniques = population.copy();
+
+		int replaced = 0;
+		int retries = 0;
+		for (long batch = 0;
+			replaced < duplicates.length && retries < _maxRetries;
+			++batch)
+		{
+			final Seq<Genotype<G>> genotypes = newInstances(
+				factory,
+				duplicates.length - replaced,
+				random,
+				batch
+			);
+
+			for (int i = 0;
+				i < genotypes.size() &&
+				replaced < duplicates.length &&
+				retries < _maxRetries;
+				++i)
+			{
+				final Genotype<G> gt = genotypes.get(i);
+				final long fingerprint = gt.fingerprint();
+				final int slot = duplicates[replaced];
+				final Integer existing = index.putIfAbsent(fingerprint, slot);
+
+				if (existing == null ||
+					distinct(uniques, gt, slot, collisions.computeIfAbsent(
+						fingerprint, k -> newList(existing))))
+				{
+					uniques.set(slot, Phenotype.of(gt, generation));
+					++replaced;
+				} else {
+					++retries;
+				}
+			}
+		}
+
+		return result.withPopulation(
+			replaced == duplicates.length
+				? uniques.toISeq()
+				: compact(uniques, duplicates, replaced)
+		);
+	}
+
+	/**
+	 * Moves the duplicates, which couldn't be replaced, to the end of the
+	 * population.
+	 */
+	private static <T> ISeq<T> compact(
+		final Seq<T> population,
+		final int[] duplicates,
+		final int replaced
+	) {
+		final MSeq<T> result = MSeq.ofLength(population.size());
+
+		int index = 0;
+		for (int i = 0, d = replaced; i < population.size(); ++i) {
+			if (d < duplicates.length && duplicates[d] == i) {
+				++d;
+			} else {
+				result.set(index++, population.get(i));
+			}
+		}
+		for (int d = replaced; d < duplicates.length; ++d) {
+			result.set(index++, population.get(duplicates[d]));
+		}
+
+		return result.toISeq();
+	}
+
+	/**
+	 * Fills the fingerprint {@code index} with the index of the first
+	 * occurrence of every fingerprint and returns the indexes of the
+	 * duplicates, in ascending order. The indexes of the distinct genotypes
+	 * of colliding fingerprints are stored in the {@code collisions} map.
+	 */
+	private int[] duplicates(
+		final Seq<Phenotype<G, C>> population,
+		final ConcurrentHashMap<Long, Integer> index,
+		final Map<Long, List<Integer>> collisions
+	) {
+		final long[] fingerprints = new long[population.size()];
+		final boolean[] duplicate = new boolean[population.size()];
+		final boolean[] collision = new boolean[population.size()];
+		final int[] parts = partition(population.size());
+
+		execute(parts, (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				fingerprints[i] = population.get(i).genotype().fingerprint();
+				index.merge(fingerprints[i], i, Math::min);
+			}
+		});
+		execute(parts, (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				final int first = index.get(fingerprints[i]);
+				if (first != i) {
+					duplicate[i] = population.get(first).genotype()
+						.equals(population.get(i).genotype());
+					collision[i] = !duplicate[i];
+				}
+			}
+		});
+
+		// Collisions are rare and resolved sequentially, in ascending order.
+		for (int i = 0; i < collision.length; ++i) {
+			if (collision[i]) {
+				duplicate[i] = !distinct(
+					population,
+					population.get(i).genotype(),
+					i,
+					collisions.computeIfAbsent(
+						fingerprints[i], k -> newList(index.get(k)))
+				);
+			}
+		}
+
+		int count = 0;
+		for (boolean d : duplicate) {
+			if (d) ++count;
+		}
+
+		final int[] duplicates = new int[count];
+		for (int i = 0, j = 0; i < duplicate.length; ++i) {
+			if (duplicate[i]) {
+				duplicates[j++] = i;
+			}
+		}
+
+		return duplicates;
+	}
+
+	/**
+	 * Tests whether the given genotype differs from the genotypes at the
+	 * {@code distinct} indexes, which have all the same fingerprint. If so,
+	 * the {@code index} of the genotype is added to the {@code distinct}
+	 * list.
+	 */
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	boolean distinct(
+		final Seq<Phenotype<G, C>> population,
+		final Genotype<G> gt,
+		final int index,
+		final List<Integer> distinct
+	) {
+		for (int i : distinct) {
+			if (population.get(i).genotype().equals(gt)) {
+				return false;
+			}
+		}
+
+		distinct.add(index);
+		return true;
+	}
+
+	private static List<Integer> newList(final int index) {
+		final List<Integer> list = new ArrayList<>();
+		list.add(index);
+		return list;
+	}
+
+	/**
+	 * Creates the given number of genotypes concurrently. Every genotype is
+	 * created with its own random stream, if the registered random engine is
+	 * a {@link SplitRandom}. This makes the created genotypes independent of
+	 * the thread scheduling.
+	 */
+	private Seq<Genotype<G>> newInstances(
+		final Factory<Genotype<G>> factory,
+		final int count,
+		final Random random,
+		final long batch
+	) {
+		final MSeq<Genotype<G>> genotypes = MSeq.ofLength(count);
+		final int[] parts = partition(count);
+
+		execute(parts, (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				genotypes.set(i, RandomRegistry.split(
+					random, batch, i, factory::newInstance
+				));
+			}
+		});
+
+		return genotypes;
+	}
+
+	private static Random uniqueRandom(final long generation) {
+		final Random random = RandomRegistry.random();
+		return random instanceof SplitRandom
+			? ((SplitRandom)random).split(UNIQUE_STREAM, generation)
+			: random;
+	}
+
+	private static int[] partition(final int size) {
+		final int parts = Math.min(size, Concurrency.CORES);
+		final int[] partition = new int[parts + 1];
+		for (int i = 0; i <= parts; ++i) {
+			partition[i] = (int)((long)i*size/parts);
+		}
+		return partition;
+	}
+
+	/**
+	 * Executes the given index {@code parts}. The parts are claimed by the
+	 * tasks submitted to the executor and by the calling thread itself. The
+	 * calling thread only waits for parts, which are actually running. Tasks,
+	 * still waiting in the queue of the executor, find no part left to
+	 * execute. This way no thread is blocked by tasks queued behind itself.
+	 */
+	private void execute(final int[] parts, final Range range) {
+		final int count = parts.length - 1;
+		final AtomicInteger next = new AtomicInteger();
+		final CountDownLatch done = new CountDownLatch(count);
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		final Runnable task = () -> {
+			for (int p = next.getAndIncrement(); p < count;
+				p = next.getAndIncrement())
+			{
+				try {
+					range.apply(parts[p], parts[p + 1]);
+				} catch (Throwable e) {
+					error.compareAndSet(null, e);
+				} finally {
+					done.countDown();
+				}
+			}
+		};
+
+		for (int i = 1; i < count; ++i) {
+			_executor.execute(task);
+		}
+		task.run();
+
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			final String msg = e.getMessage();
+			throw (CancellationException)new CancellationException(msg)
+				.initCause(e);
+		}
+
+		final Throwable cause = error.get();
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException)cause;
+		} else if (cause instanceof Error) {
+			throw (Error)cause;
+		}
+	}
+
+	@FunctionalInterface
+	private interface Range {
+		void apply(final int start, final int end);
+	}
+
+}
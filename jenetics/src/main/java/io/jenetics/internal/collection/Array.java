@@ -40,7 +40,7 @@ import io.jenetics.internal.collection.Array.Store.Ref;
  *
  * @param <T> the array element type
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 3.4
  */
 public final class Array<T> implements BaseMSeq<T>, Serializable {
@@ -95,6 +95,17 @@ public final class Array<T> implements BaseMSeq<T>, Serializable {
 		return _length;
 	}
 
+	/**
+	 * Return the start index of this array within the underlying store.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the start index of this array within the underlying store
+	 */
+	public int start() {
+		return _start;
+	}
+
 	/**
 	 * Set the {@code value} at the given {@code index}. The array index is not
 	 * checked.
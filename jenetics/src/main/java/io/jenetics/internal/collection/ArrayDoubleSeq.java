@@ -0,0 +1,158 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.DoubleSeq;
+import io.jenetics.util.MDoubleSeq;
+
+/**
+ * Immutable {@link DoubleSeq} implementation, backed by an {@link DoubleStore}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public class ArrayDoubleSeq implements DoubleSeq, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	public static final ArrayDoubleSeq EMPTY = of(new double[0]);
+
+	public final Array<Double> array;
+
+	public ArrayDoubleSeq(final Array<Double> array) {
+		this.array = requireNonNull(array, "Array must not be null.");
+	}
+
+	final double[] values() {
+		return ((DoubleStore)array.store()).array;
+	}
+
+	final double[] mapped(final DoubleUnaryOperator mapper) {
+		requireNonNull(mapper);
+
+		final double[] values = values();
+		final double[] mapped = new double[length()];
+		for (int i = 0, j = array.start(); i < mapped.length; ++i, ++j) {
+			mapped[i] = mapper.applyAsDouble(values[j]);
+		}
+		return mapped;
+	}
+
+	@Override
+	public final double get(final int index) {
+		array.checkIndex(index);
+		return values()[index + array.start()];
+	}
+
+	@Override
+	public final int length() {
+		return array.length();
+	}
+
+	@Override
+	public final DoubleStream stream() {
+		return Arrays.stream(values(), array.start(), array.start() + length());
+	}
+
+	@Override
+	public final double[] toArray() {
+		return Arrays.copyOfRange(
+			values(),
+			array.start(),
+			array.start() + length()
+		);
+	}
+
+	@Override
+	public DoubleSeq map(final DoubleUnaryOperator mapper) {
+		return of(mapped(mapper));
+	}
+
+	@Override
+	public DoubleSeq subSeq(final int start, final int end) {
+		array.checkIndex(start, end);
+		return new ArrayDoubleSeq(array.slice(start, end));
+	}
+
+	@Override
+	public final MDoubleSeq copy() {
+		return new ArrayMDoubleSeq(array.copy());
+	}
+
+	@Override
+	public final ISeq<Double> boxed() {
+		return new ArrayISeq<>(array.seal());
+	}
+
+	@Override
+	public final int hashCode() {
+		int hash = 1;
+		for (int i = 0, n = length(); i < n; ++i) {
+			hash = 31*hash + Double.hashCode(get(i));
+		}
+		return hash;
+	}
+
+	@Override
+	public final boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof DoubleSeq)) {
+			return false;
+		}
+
+		final DoubleSeq other = (DoubleSeq)obj;
+		if (length() != other.length()) {
+			return false;
+		}
+		for (int i = 0, n = length(); i < n; ++i) {
+			if (Double.compare(get(i), other.get(i)) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public final String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	/**
+	 * Create a new immutable sequence, which uses the given {@code values}
+	 * array <em>directly</em>. The array must not be changed afterwards.
+	 *
+	 * @param values the values of the new sequence
+	 * @return a new immutable sequence, backed by the given array
+	 */
+	public static ArrayDoubleSeq of(final double[] values) {
+		return new ArrayDoubleSeq(Array.of(DoubleStore.of(values)).seal());
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntSeq;
+import io.jenetics.util.MIntSeq;
+
+/**
+ * Immutable {@link IntSeq} implementation, backed by an {@link IntStore}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public class ArrayIntSeq implements IntSeq, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	public static final ArrayIntSeq EMPTY = of(new int[0]);
+
+	public final Array<Integer> array;
+
+	public ArrayIntSeq(final Array<Integer> array) {
+		this.array = requireNonNull(array, "Array must not be null.");
+	}
+
+	final int[] values() {
+		return ((IntStore)array.store()).array;
+	}
+
+	final int[] mapped(final IntUnaryOperator mapper) {
+		requireNonNull(mapper);
+
+		final int[] values = values();
+		final int[] mapped = new int[length()];
+		for (int i = 0, j = array.start(); i < mapped.length; ++i, ++j) {
+			mapped[i] = mapper.applyAsInt(values[j]);
+		}
+		return mapped;
+	}
+
+	@Override
+	public final int get(final int index) {
+		array.checkIndex(index);
+		return values()[index + array.start()];
+	}
+
+	@Override
+	public final int length() {
+		return array.length();
+	}
+
+	@Override
+	public final IntStream stream() {
+		return Arrays.stream(values(), array.start(), array.start() + length());
+	}
+
+	@Override
+	public final int[] toArray() {
+		return Arrays.copyOfRange(
+			values(),
+			array.start(),
+			array.start() + length()
+		);
+	}
+
+	@Override
+	public IntSeq map(final IntUnaryOperator mapper) {
+		return of(mapped(mapper));
+	}
+
+	@Override
+	public IntSeq subSeq(final int start, final int end) {
+		array.checkIndex(start, end);
+		return new ArrayIntSeq(array.slice(start, end));
+	}
+
+	@Override
+	public final MIntSeq copy() {
+		return new ArrayMIntSeq(array.copy());
+	}
+
+	@Override
+	public final ISeq<Integer> boxed() {
+		return new ArrayISeq<>(array.seal());
+	}
+
+	@Override
+	public final int hashCode() {
+		int hash = 1;
+		for (int i = 0, n = length(); i < n; ++i) {
+			hash = 31*hash + Integer.hashCode(get(i));
+		}
+		return hash;
+	}
+
+	@Override
+	public final boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof IntSeq)) {
+			return false;
+		}
+
+		final IntSeq other = (IntSeq)obj;
+		if (length() != other.length()) {
+			return false;
+		}
+		for (int i = 0, n = length(); i < n; ++i) {
+			if (Integer.compare(get(i), other.get(i)) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public final String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	/**
+	 * Create a new immutable sequence, which uses the given {@code values}
+	 * array <em>directly</em>. The array must not be changed afterwards.
+	 *
+	 * @param values the values of the new sequence
+	 * @return a new immutable sequence, backed by the given array
+	 */
+	public static ArrayIntSeq of(final int[] values) {
+		return new ArrayIntSeq(Array.of(IntStore.of(values)).seal());
+	}
+
+}
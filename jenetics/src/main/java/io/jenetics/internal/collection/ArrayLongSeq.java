@@ -0,0 +1,158 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.LongSeq;
+import io.jenetics.util.MLongSeq;
+
+/**
+ * Immutable {@link LongSeq} implementation, backed by an {@link LongStore}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public class ArrayLongSeq implements LongSeq, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	public static final ArrayLongSeq EMPTY = of(new long[0]);
+
+	public final Array<Long> array;
+
+	public ArrayLongSeq(final Array<Long> array) {
+		this.array = requireNonNull(array, "Array must not be null.");
+	}
+
+	final long[] values() {
+		return ((LongStore)array.store()).array;
+	}
+
+	final long[] mapped(final LongUnaryOperator mapper) {
+		requireNonNull(mapper);
+
+		final long[] values = values();
+		final long[] mapped = new long[length()];
+		for (int i = 0, j = array.start(); i < mapped.length; ++i, ++j) {
+			mapped[i] = mapper.applyAsLong(values[j]);
+		}
+		return mapped;
+	}
+
+	@Override
+	public final long get(final int index) {
+		array.checkIndex(index);
+		return values()[index + array.start()];
+	}
+
+	@Override
+	public final int length() {
+		return array.length();
+	}
+
+	@Override
+	public final LongStream stream() {
+		return Arrays.stream(values(), array.start(), array.start() + length());
+	}
+
+	@Override
+	public final long[] toArray() {
+		return Arrays.copyOfRange(
+			values(),
+			array.start(),
+			array.start() + length()
+		);
+	}
+
+	@Override
+	public LongSeq map(final LongUnaryOperator mapper) {
+		return of(mapped(mapper));
+	}
+
+	@Override
+	public LongSeq subSeq(final int start, final int end) {
+		array.checkIndex(start, end);
+		return new ArrayLongSeq(array.slice(start, end));
+	}
+
+	@Override
+	public final MLongSeq copy() {
+		return new ArrayMLongSeq(array.copy());
+	}
+
+	@Override
+	public final ISeq<Long> boxed() {
+		return new ArrayISeq<>(array.seal());
+	}
+
+	@Override
+	public final int hashCode() {
+		int hash = 1;
+		for (int i = 0, n = length(); i < n; ++i) {
+			hash = 31*hash + Long.hashCode(get(i));
+		}
+		return hash;
+	}
+
+	@Override
+	public final boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof LongSeq)) {
+			return false;
+		}
+
+		final LongSeq other = (LongSeq)obj;
+		if (length() != other.length()) {
+			return false;
+		}
+		for (int i = 0, n = length(); i < n; ++i) {
+			if (Long.compare(get(i), other.get(i)) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public final String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	/**
+	 * Create a new immutable sequence, which uses the given {@code values}
+	 * array <em>directly</em>. The array must not be changed afterwards.
+	 *
+	 * @param values the values of the new sequence
+	 * @return a new immutable sequence, backed by the given array
+	 */
+	public static ArrayLongSeq of(final long[] values) {
+		return new ArrayLongSeq(Array.of(LongStore.of(values)).seal());
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import java.util.function.IntUnaryOperator;
+
+import io.jenetics.util.IntSeq;
+import io.jenetics.util.MIntSeq;
+
+/**
+ * Mutable {@link MIntSeq} implementation, backed by an {@link IntStore}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public class ArrayMIntSeq extends ArrayIntSeq implements MIntSeq {
+	private static final long serialVersionUID = 1L;
+
+	public ArrayMIntSeq(final Array<Integer> array) {
+		super(array);
+	}
+
+	@Override
+	public void set(final int index, final int value) {
+		array.checkIndex(index);
+		array.copyIfSealed();
+		values()[index + array.start()] = value;
+	}
+
+	@Override
+	public MIntSeq sort(final int start, final int end) {
+		array.checkIndex(start, end);
+		array.sort(start, end, null);
+		return this;
+	}
+
+	@Override
+	public MIntSeq map(final IntUnaryOperator mapper) {
+		return new ArrayMIntSeq(Array.of(IntStore.of(mapped(mapper))));
+	}
+
+	@Override
+	public MIntSeq subSeq(final int start, final int end) {
+		array.checkIndex(start, end);
+		return new ArrayMIntSeq(array.slice(start, end));
+	}
+
+	@Override
+	public IntSeq toIntSeq() {
+		return new ArrayIntSeq(array.seal());
+	}
+
+}
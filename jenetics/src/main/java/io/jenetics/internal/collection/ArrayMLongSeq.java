@@ -0,0 +1,71 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import java.util.function.LongUnaryOperator;
+
+import io.jenetics.util.LongSeq;
+import io.jenetics.util.MLongSeq;
+
+/**
+ * Mutable {@link MLongSeq} implementation, backed by an {@link LongStore}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public class ArrayMLongSeq extends ArrayLongSeq implements MLongSeq {
+	private static final long serialVersionUID = 1L;
+
+	public ArrayMLongSeq(final Array<Long> array) {
+		super(array);
+	}
+
+	@Override
+	public void set(final int index, final long value) {
+		array.checkIndex(index);
+		array.copyIfSealed();
+		values()[index + array.start()] = value;
+	}
+
+	@Override
+	public MLongSeq sort(final int start, final int end) {
+		array.checkIndex(start, end);
+		array.sort(start, end, null);
+		return this;
+	}
+
+	@Override
+	public MLongSeq map(final LongUnaryOperator mapper) {
+		return new ArrayMLongSeq(Array.of(LongStore.of(mapped(mapper))));
+	}
+
+	@Override
+	public MLongSeq subSeq(final int start, final int end) {
+		array.checkIndex(start, end);
+		return new ArrayMLongSeq(array.slice(start, end));
+	}
+
+	@Override
+	public LongSeq toLongSeq() {
+		return new ArrayLongSeq(array.seal());
+	}
+
+}
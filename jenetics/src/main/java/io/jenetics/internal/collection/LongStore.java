@@ -0,0 +1,129 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readLongArray;
+import static io.jenetics.internal.util.SerialIO.writeLongArray;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Array store which keeps its values in a primitive {@code long[]} array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public final class LongStore implements Array.Store<Long>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	public final long[] array;
+
+	private LongStore(final long[] values) {
+		array = requireNonNull(values);
+	}
+
+	public LongStore(final int length) {
+		this(new long[length]);
+	}
+
+	@Override
+	public Long get(final int index) {
+		return array[index];
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super Long> comparator
+	) {
+		if (comparator == null) {
+			Arrays.sort(array, from, until);
+		} else {
+			final Long[] values = new Long[until - from];
+			for (int i = 0; i < values.length; ++i) {
+				values[i] = array[i + from];
+			}
+			Arrays.sort(values, comparator);
+			for (int i = 0; i < values.length; ++i) {
+				array[i + from] = values[i];
+			}
+		}
+	}
+
+	@Override
+	public void set(final int index, final Long value) {
+		array[index] = value;
+	}
+
+	@Override
+	public LongStore copy(final int from, final int until) {
+		final long[] array = new long[until - from];
+		System.arraycopy(this.array, from, array, 0, until - from);
+		return new LongStore(array);
+	}
+
+	@Override
+	public LongStore newInstance(final int length) {
+		return new LongStore(length);
+	}
+
+	@Override
+	public int length() {
+		return array.length;
+	}
+
+	public static LongStore of(final long[] values) {
+		return new LongStore(values);
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	private Object writeReplace() {
+		return new Serial(Serial.LONG_STORE, this);
+	}
+
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+	void write(final ObjectOutput out) throws IOException {
+		writeLongArray(array, out);
+	}
+
+	static LongStore read(final ObjectInput in) throws IOException {
+		return new LongStore(readLongArray(in));
+	}
+
+}
@@ -0,0 +1,409 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Persistent {@link ISeq} implementation, which stores its elements in a
+ * 32-way trie. <em>Updating</em> the sequence creates a new version, which
+ * shares all untouched nodes with the original one. This makes the
+ * {@link #with(int, Object)} and the {@link #append(Iterable)} operation cheap,
+ * since only the path to the changed leaf has to be copied. The
+ * {@link #subSeq(int, int)} method returns a view, which shares the whole trie
+ * with the original sequence.
+ * <ul>
+ *     <li>{@code get(int)}: <em>O(log<sub>32</sub> n)</em></li>
+ *     <li>{@code with(int, T)}: <em>O(log<sub>32</sub> n)</em></li>
+ *     <li>{@code append(Iterable)}: <em>O(m log<sub>32</sub> n)</em> for
+ *         {@code m} appended values</li>
+ *     <li>{@code subSeq(int, int)}: <em>O(1)</em></li>
+ * </ul>
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public final class PersistentISeq<T> implements ISeq<T>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+
+	private static final Object[] EMPTY_NODE = new Object[WIDTH];
+	private static final Object[] EMPTY_TAIL = new Object[0];
+
+	private static final PersistentISeq<?> EMPTY = new PersistentISeq<>(
+		0, BITS, EMPTY_NODE, EMPTY_TAIL, 0, 0
+	);
+
+	// The number of elements stored in the trie, including the tail.
+	private final int _size;
+	private final int _shift;
+	private final Object[] _root;
+	private final Object[] _tail;
+
+	// The visible range of the trie.
+	private final int _start;
+	private final int _length;
+
+	private PersistentISeq(
+		final int size,
+		final int shift,
+		final Object[] root,
+		final Object[] tail,
+		final int start,
+		final int length
+	) {
+		_size = size;
+		_shift = shift;
+		_root = root;
+		_tail = tail;
+		_start = start;
+		_length = length;
+	}
+
+	private PersistentISeq(
+		final int size,
+		final int shift,
+		final Object[] root,
+		final Object[] tail
+	) {
+		this(size, shift, root, tail, 0, size);
+	}
+
+	private int tailOffset() {
+		return _size < WIDTH ? 0 : ((_size - 1) >>> BITS) << BITS;
+	}
+
+	private Object[] leaf(final int index) {
+		if (index >= tailOffset()) {
+			return _tail;
+		}
+
+		Object[] node = _root;
+		for (int level = _shift; level > 0; level -= BITS) {
+			node = (Object[])node[(index >>> level) & MASK];
+		}
+		return node;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(final int index) {
+		checkIndex(index);
+		final int i = index + _start;
+		return (T)leaf(i)[i & MASK];
+	}
+
+	@Override
+	public int length() {
+		return _length;
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= _length) {
+			throw new ArrayIndexOutOfBoundsException(format(
+				"Index %s is out of bounds [0, %s)", index, _length
+			));
+		}
+	}
+
+	/**
+	 * Return a new version of this sequence, where the element at the given
+	 * {@code index} is replaced by the given {@code value}. {@code this}
+	 * sequence is not changed.
+	 *
+	 * @param index the index of the replaced element
+	 * @param value the new element value
+	 * @return a new sequence with the replaced element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= length())}.
+	 */
+	public PersistentISeq<T> with(final int index, final T value) {
+		checkIndex(index);
+
+		final int i = index + _start;
+		if (i >= tailOffset()) {
+			final Object[] tail = _tail.clone();
+			tail[i & MASK] = value;
+			return new PersistentISeq<>(
+				_size, _shift, _root, tail, _start, _length
+			);
+		} else {
+			return new PersistentISeq<>(
+				_size, _shift, with(_shift, _root, i, value), _tail,
+				_start, _length
+			);
+		}
+	}
+
+	private static Object[] with(
+		final int level,
+		final Object[] node,
+		final int index,
+		final Object value
+	) {
+		final Object[] result = node.clone();
+		if (level == 0) {
+			result[index & MASK] = value;
+		} else {
+			final int i = (index >>> level) & MASK;
+			result[i] = with(level - BITS, (Object[])node[i], index, value);
+		}
+		return result;
+	}
+
+	@Override
+	public PersistentISeq<T> append(final Iterable<? extends T> values) {
+		requireNonNull(values);
+
+		// Elements behind the visible range can't be shared.
+		final PersistentISeq<T> seq = _start + _length == _size
+			? this
+			: PersistentISeq.<T>empty().append(this.iterator());
+
+		return seq.append(values.iterator());
+	}
+
+	private PersistentISeq<T> append(final Iterator<? extends T> values) {
+		if (!values.hasNext()) {
+			return this;
+		}
+
+		int size = _size;
+		int shift = _shift;
+		Object[] root = _root;
+		Object[] tail = new Object[WIDTH];
+		int length = _tail.length;
+		System.arraycopy(_tail, 0, tail, 0, length);
+
+		while (values.hasNext()) {
+			if (length == WIDTH) {
+				// Overflow of the root node: the trie grows by one level.
+				if ((size >>> BITS) > (1 << shift)) {
+					final Object[] node = new Object[WIDTH];
+					node[0] = root;
+					node[1] = path(shift, tail);
+					root = node;
+					shift += BITS;
+				} else {
+					root = push(size, shift, root, tail);
+				}
+
+				tail = new Object[WIDTH];
+				length = 0;
+			}
+
+			tail[length++] = values.next();
+			++size;
+		}
+
+		return new PersistentISeq<>(
+			size,
+			shift,
+			root,
+			length == WIDTH ? tail : Arrays.copyOf(tail, length),
+			_start,
+			_length + size - _size
+		);
+	}
+
+	private static Object[] push(
+		final int size,
+		final int level,
+		final Object[] parent,
+		final Object[] tail
+	) {
+		final int i = ((size - 1) >>> level) & MASK;
+		final Object[] result = parent.clone();
+
+		if (level == BITS) {
+			result[i] = tail;
+		} else {
+			final Object[] child = (Object[])parent[i];
+			result[i] = child != null
+				? push(size, level - BITS, child, tail)
+				: path(level - BITS, tail);
+		}
+
+		return result;
+	}
+
+	private static Object[] path(final int level, final Object[] node) {
+		if (level == 0) {
+			return node;
+		}
+
+		final Object[] result = new Object[WIDTH];
+		result[0] = path(level - BITS, node);
+		return result;
+	}
+
+	@Override
+	public PersistentISeq<T> prepend(final Iterable<? extends T> values) {
+		requireNonNull(values);
+		return PersistentISeq.<T>empty()
+			.append(values.iterator())
+			.append(iterator());
+	}
+
+	@Override
+	public <B> PersistentISeq<B> map(final Function<? super T, ? extends B> mapper) {
+		requireNonNull(mapper);
+
+		final Iterator<T> it = iterator();
+		return PersistentISeq.<B>empty().append(new Iterator<B>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+			@Override
+			public B next() {
+				return mapper.apply(it.next());
+			}
+		});
+	}
+
+	@Override
+	public PersistentISeq<T> subSeq(final int start) {
+		return subSeq(start, length());
+	}
+
+	@Override
+	public PersistentISeq<T> subSeq(final int start, final int end) {
+		Array.checkIndex(start, end, _length);
+		return new PersistentISeq<>(
+			_size, _shift, _root, _tail, _start + start, end - start
+		);
+	}
+
+	@Override
+	public MSeq<T> copy() {
+		return MSeq.<T>ofLength(_length).setAll(iterator());
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private int _index = 0;
+			private Object[] _leaf = null;
+
+			@Override
+			public boolean hasNext() {
+				return _index < _length;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (_index >= _length) {
+					throw new NoSuchElementException();
+				}
+
+				final int i = _index++ + _start;
+				if (_leaf == null || (i & MASK) == 0) {
+					_leaf = leaf(i);
+				}
+				return (T)_leaf[i & MASK];
+			}
+		};
+	}
+
+	@Override
+	public int hashCode() {
+		return Seq.hashCode(this);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj == this ||
+			obj instanceof Seq &&
+			Seq.equals(this, (Seq<?>)obj);
+	}
+
+	@Override
+	public String toString() {
+		return toString("[", ",", "]");
+	}
+
+	/**
+	 * Return the empty persistent sequence.
+	 *
+	 * @param <T> the element type
+	 * @return the empty persistent sequence
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentISeq<T> empty() {
+		return (PersistentISeq<T>)EMPTY;
+	}
+
+	/**
+	 * Create a new persistent sequence from the given {@code values}. If the
+	 * given {@code values} are already a persistent sequence, they are
+	 * returned unchanged.
+	 *
+	 * @param values the sequence values
+	 * @param <T> the element type
+	 * @return a persistent sequence with the given values
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentISeq<T> of(final Iterable<? extends T> values) {
+		requireNonNull(values);
+
+		return values instanceof PersistentISeq
+			? (PersistentISeq<T>)values
+			: PersistentISeq.<T>empty().append(values.iterator());
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	private Object writeReplace() {
+		return copy().toISeq();
+	}
+
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+}
@@ -27,7 +27,7 @@ import java.io.StreamCorruptedException;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 6.0
  */
 final class Serial implements Externalizable {
@@ -37,6 +37,9 @@ final class Serial implements Externalizable {
 	static final byte OBJECT_STORE = 1;
 	static final byte ARRAY = 2;
 	static final byte CHAR_STORE = 3;
+	static final byte DOUBLE_STORE = 4;
+	static final byte INT_STORE = 5;
+	static final byte LONG_STORE = 6;
 
 	/**
 	 * The type being serialized.
@@ -72,6 +75,9 @@ final class Serial implements Externalizable {
 			case OBJECT_STORE: ((ObjectStore)_object).write(out); break;
 			case ARRAY: ((Array)_object).write(out); break;
 			case CHAR_STORE: ((CharStore)_object).write(out); break;
+			case DOUBLE_STORE: ((DoubleStore)_object).write(out); break;
+			case INT_STORE: ((IntStore)_object).write(out); break;
+			case LONG_STORE: ((LongStore)_object).write(out); break;
 			default:
 				throw new StreamCorruptedException("Unknown serialized type.");
 		}
@@ -86,6 +92,9 @@ final class Serial implements Externalizable {
 			case OBJECT_STORE: _object = ObjectStore.read(in); break;
 			case ARRAY: _object = Array.read(in); break;
 			case CHAR_STORE: _object = CharStore.read(in); break;
+			case DOUBLE_STORE: _object = DoubleStore.read(in); break;
+			case INT_STORE: _object = IntStore.read(in); break;
+			case LONG_STORE: _object = LongStore.read(in); break;
 			default:
 				throw new StreamCorruptedException("Unknown serialized type.");
 		}
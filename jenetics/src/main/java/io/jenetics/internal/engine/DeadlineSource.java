@@ -0,0 +1,55 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.engine;
+
+import io.jenetics.engine.Deadline;
+
+/**
+ * Stream limits, which implement this interface, propagate their deadline to
+ * the evolution, performed by the {@link EvolutionSpliterator}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface DeadlineSource {
+
+	/**
+	 * Return the current deadline of the limit.
+	 *
+	 * @return the current deadline, or {@code null} if the limit has no
+	 *         deadline (yet)
+	 */
+	Deadline deadline();
+
+	/**
+	 * Return {@code true} if the deadline of the limit is known to be
+	 * expired. No further evolution step is started in this case. The
+	 * default implementation checks the current {@link #deadline()}.
+	 *
+	 * @return {@code true} if the deadline is known to be expired
+	 */
+	default boolean isExpired() {
+		final Deadline deadline = deadline();
+		return deadline != null && deadline.isExpired();
+	}
+
+}
@@ -21,12 +21,15 @@ package io.jenetics.internal.engine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.jenetics.Gene;
+import io.jenetics.engine.Deadline;
 import io.jenetics.engine.Evolution;
 import io.jenetics.engine.EvolutionResult;
 import io.jenetics.engine.EvolutionStart;
@@ -39,7 +42,7 @@ import io.jenetics.engine.EvolutionStart;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 5.1
+ * @version 6.1
  */
 public final class EvolutionSpliterator<
 	G extends Gene<?, G>,
@@ -50,6 +53,7 @@ public final class EvolutionSpliterator<
 
 	private final Supplier<EvolutionStart<G, C>> _start;
 	private final Evolution<G, C> _evolution;
+	private final List<DeadlineSource> _deadlines;
 
 	private long _estimate;
 	private EvolutionStart<G, C> _next = null;
@@ -57,10 +61,12 @@ public final class EvolutionSpliterator<
 	private EvolutionSpliterator(
 		final Supplier<EvolutionStart<G, C>> start,
 		final Evolution<G, C> evolution,
+		final List<DeadlineSource> deadlines,
 		final long estimate
 	) {
 		_evolution = requireNonNull(evolution);
 		_start = requireNonNull(start);
+		_deadlines = requireNonNull(deadlines);
 		_estimate = estimate;
 	}
 
@@ -77,7 +83,7 @@ public final class EvolutionSpliterator<
 		final Supplier<EvolutionStart<G, C>> start,
 		final Evolution<G, C> evolution
 	) {
-		this(start, evolution, Long.MAX_VALUE);
+		this(start, evolution, new ArrayList<>(), Long.MAX_VALUE);
 	}
 
 	@Override
@@ -87,7 +93,18 @@ public final class EvolutionSpliterator<
 			_next = _start.get();
 		}
 
-		final EvolutionResult<G, C> result = _evolution.evolve(_next);
+		// No evolution step is started after the deadline expired.
+		for (DeadlineSource source : _deadlines) {
+			if (source.isExpired()) {
+				return false;
+			}
+		}
+
+		final Deadline deadline = deadline();
+		final EvolutionResult<G, C> result = deadline != null
+			? Deadline.with(deadline, () -> _evolution.evolve(_next))
+			: _evolution.evolve(_next);
+
 		action.accept(result);
 		_next = result.next();
 		return true;
@@ -96,10 +113,34 @@ public final class EvolutionSpliterator<
 	@Override
 	public Spliterator<EvolutionResult<G, C>> trySplit() {
 		return _estimate > 0
-			? new EvolutionSpliterator<>(_start, _evolution, _estimate >>>= 1)
+			? new EvolutionSpliterator<>(
+				_start, _evolution, _deadlines, _estimate >>>= 1)
 			: null;
 	}
 
+	/**
+	 * Adds a deadline source, which limits the execution time of the
+	 * single evolution steps. The earliest deadline of all added sources is
+	 * propagated to the evolution.
+	 *
+	 * @since 6.1
+	 *
+	 * @param deadline the deadline source
+	 * @throws NullPointerException if the given {@code deadline} is
+	 *         {@code null}
+	 */
+	public void deadline(final DeadlineSource deadline) {
+		_deadlines.add(requireNonNull(deadline));
+	}
+
+	private Deadline deadline() {
+		Deadline deadline = null;
+		for (DeadlineSource source : _deadlines) {
+			deadline = Deadline.min(deadline, source.deadline());
+		}
+		return deadline;
+	}
+
 	@Override
 	public long estimateSize() {
 		return _estimate;
@@ -36,7 +36,7 @@ import io.jenetics.internal.util.StreamProxy;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 5.1
+ * @version 6.1
  */
 public final class EvolutionStreamImpl<
 	G extends Gene<?, G>,
@@ -48,12 +48,30 @@ public final class EvolutionStreamImpl<
 
 	private final Spliterator<EvolutionResult<G, C>> _spliterator;
 
-	public EvolutionStreamImpl(
+	// The underlying evolution spliterator, if available.
+	private final EvolutionSpliterator<G, C> _evolution;
+
+	private EvolutionStreamImpl(
 		final Spliterator<EvolutionResult<G, C>> spliterator,
+		final EvolutionSpliterator<G, C> evolution,
 		final boolean parallel
 	) {
 		super(StreamSupport.stream(spliterator, parallel));
 		_spliterator = spliterator;
+		_evolution = evolution;
+	}
+
+	public EvolutionStreamImpl(
+		final Spliterator<EvolutionResult<G, C>> spliterator,
+		final boolean parallel
+	) {
+		this(
+			spliterator,
+			spliterator instanceof EvolutionSpliterator
+				? (EvolutionSpliterator<G, C>)spliterator
+				: null,
+			parallel
+		);
 	}
 
 	public EvolutionStreamImpl(
@@ -63,11 +81,21 @@ public final class EvolutionStreamImpl<
 		this(new EvolutionSpliterator<>(start, evolution), false);
 	}
 
+	/**
+	 * Limits the evolution stream. Time limits, which implement the
+	 * {@link DeadlineSource} interface, additionally propagate their
+	 * deadline to the evolution steps.
+	 */
 	@Override
 	public EvolutionStream<G, C>
 	limit(final Predicate<? super EvolutionResult<G, C>> proceed) {
+		if (_evolution != null && proceed instanceof DeadlineSource) {
+			_evolution.deadline((DeadlineSource)proceed);
+		}
+
 		return new EvolutionStreamImpl<>(
 			LimitSpliterator.of(_spliterator, proceed),
+			_evolution,
 			isParallel()
 		);
 	}
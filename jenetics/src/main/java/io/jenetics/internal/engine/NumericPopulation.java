@@ -0,0 +1,223 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.Seq;
+
+/**
+ * Population view with a parallel, primitive {@code double[]} fitness column.
+ * Selecting, sorting and finding the best and worst individual can then be
+ * done with primitive comparisons, instead of calling
+ * {@link Comparable#compareTo(Object)} on the boxed fitness values. A view is
+ * only created if all individuals are evaluated and the fitness values can
+ * be converted to {@code double} without changing their order.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class NumericPopulation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Seq<Phenotype<G, C>> _population;
+	private final double[] _fitness;
+
+	private NumericPopulation(
+		final Seq<Phenotype<G, C>> population,
+		final double[] fitness
+	) {
+		_population = population;
+		_fitness = fitness;
+	}
+
+	/**
+	 * Return the underlying population.
+	 *
+	 * @return the underlying population
+	 */
+	public Seq<Phenotype<G, C>> population() {
+		return _population;
+	}
+
+	/**
+	 * Return the primitive fitness value of the individual at the given
+	 * {@code index}.
+	 *
+	 * @param index the individual index
+	 * @return the fitness value of the individual
+	 */
+	public double fitness(final int index) {
+		return _fitness[index];
+	}
+
+	/**
+	 * Return the population size.
+	 *
+	 * @return the population size
+	 */
+	public int size() {
+		return _fitness.length;
+	}
+
+	/**
+	 * Return the indexes of the individuals, sorted from the best to the
+	 * worst individual. The sorting is stable, individuals with the same
+	 * fitness keep their original order.
+	 *
+	 * @param optimize the optimization strategy
+	 * @return the sorted index lookup array, best individual first
+	 */
+	public int[] sort(final Optimize optimize) {
+		return optimize == Optimize.MAXIMUM
+			? ProxySorter.sort(_fitness, _fitness.length, (a, i, j) ->
+				Double.compare(a[j], a[i]))
+			: ProxySorter.sort(_fitness);
+	}
+
+	/**
+	 * Return the best individual of the population. If more than one
+	 * individual has the best fitness, the first one is returned.
+	 *
+	 * @param optimize the optimization strategy
+	 * @return the best individual, or {@code null} if the population is empty
+	 */
+	public Phenotype<G, C> best(final Optimize optimize) {
+		return find(optimize == Optimize.MAXIMUM ? 1 : -1);
+	}
+
+	/**
+	 * Return the worst individual of the population. If more than one
+	 * individual has the worst fitness, the first one is returned.
+	 *
+	 * @param optimize the optimization strategy
+	 * @return the worst individual, or {@code null} if the population is empty
+	 */
+	public Phenotype<G, C> worst(final Optimize optimize) {
+		return find(optimize == Optimize.MAXIMUM ? -1 : 1);
+	}
+
+	private Phenotype<G, C> find(final int sign) {
+		if (_fitness.length == 0) {
+			return null;
+		}
+
+		int index = 0;
+		for (int i = 1; i < _fitness.length; ++i) {
+			if (sign*Double.compare(_fitness[i], _fitness[index]) > 0) {
+				index = i;
+			}
+		}
+		return _population.get(index);
+	}
+
+	/**
+	 * Return a copy of the given {@code population}, sorted from the best to
+	 * the worst individual. Numeric fitness values are sorted with primitive
+	 * comparisons on the fitness column, all other populations are sorted
+	 * by comparing the boxed fitness values. In both cases, the sorting is
+	 * stable.
+	 *
+	 * @param population the population to sort
+	 * @param optimize the optimization strategy
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the sorted population copy, best individual first
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	MSeq<Phenotype<G, C>> sorted(
+		final Seq<Phenotype<G, C>> population,
+		final Optimize optimize
+	) {
+		requireNonNull(optimize);
+
+		return NumericPopulation.of(population)
+			.map(pop -> {
+				final int[] indexes = pop.sort(optimize);
+				final MSeq<Phenotype<G, C>> sorted =
+					MSeq.ofLength(indexes.length);
+				for (int i = 0; i < indexes.length; ++i) {
+					sorted.set(i, population.get(indexes[i]));
+				}
+				return sorted;
+			})
+			.orElseGet(() -> population.asISeq().copy()
+				.sort((a, b) ->
+					optimize.<C>descending().compare(a.fitness(), b.fitness())));
+	}
+
+	/**
+	 * Create a new numeric view of the given {@code population}. No view is
+	 * created, if one of the individuals is not evaluated or its fitness value
+	 * has no exact {@code double} representation.
+	 *
+	 * @param population the underlying population
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a numeric view of the given {@code population}, if possible
+	 * @throws NullPointerException if the given {@code population} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<NumericPopulation<G, C>> of(final Seq<Phenotype<G, C>> population) {
+		requireNonNull(population);
+
+		final double[] fitness = new double[population.size()];
+		for (int i = 0; i < fitness.length; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (pt.nonEvaluated()) {
+				return Optional.empty();
+			}
+
+			final C value = pt.fitness();
+			if (value instanceof Double ||
+				value instanceof Float ||
+				value instanceof Integer ||
+				value instanceof Short ||
+				value instanceof Byte)
+			{
+				fitness[i] = ((Number)value).doubleValue();
+			} else if (value instanceof Long &&
+				(long)(double)(Long)value == (Long)value)
+			{
+				fitness[i] = (Long)value;
+			} else {
+				return Optional.empty();
+			}
+		}
+
+		return Optional.of(new NumericPopulation<>(population, fitness));
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+/**
+ * Static methods for calculating 64-bit <em>fingerprints</em> of primitive
+ * content. The fingerprints are used for fast inequality checks and as basis
+ * for hash codes. Equal content always leads to an equal fingerprint, but not
+ * vice versa. A fingerprint value of zero is never returned by the
+ * {@link #nonZero(long)} method, which allows to use zero as marker for
+ * <em>not yet calculated</em> fingerprints.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Fingerprints {
+
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private Fingerprints() {
+	}
+
+	/**
+	 * Mixes the bits of the given {@code value}, using the finalizer of the
+	 * <em>SplitMix64</em> generator.
+	 *
+	 * @param value the value to mix
+	 * @return the mixed value
+	 */
+	public static long mix(final long value) {
+		long z = value;
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Combines the given {@code fingerprint} with the given {@code value}.
+	 *
+	 * @param fingerprint the current fingerprint
+	 * @param value the value to add to the fingerprint
+	 * @return the combined fingerprint
+	 */
+	public static long combine(final long fingerprint, final long value) {
+		return mix(fingerprint*GOLDEN_GAMMA + value);
+	}
+
+	/**
+	 * Return the given {@code fingerprint}, if it is not zero, or a
+	 * predefined non-zero value otherwise.
+	 *
+	 * @param fingerprint the fingerprint value
+	 * @return a non-zero fingerprint
+	 */
+	public static long nonZero(final long fingerprint) {
+		return fingerprint != 0 ? fingerprint : GOLDEN_GAMMA;
+	}
+
+	/**
+	 * Calculates the fingerprint of the given byte array.
+	 *
+	 * @param values the byte values
+	 * @return the fingerprint of the given values
+	 */
+	public static long of(final byte[] values) {
+		long fingerprint = values.length;
+		int i = 0;
+		for (; i + 8 <= values.length; i += 8) {
+			long word = 0;
+			for (int j = 0; j < 8; ++j) {
+				word = (word << 8) | (values[i + j] & 0xFF);
+			}
+			fingerprint = combine(fingerprint, word);
+		}
+		for (; i < values.length; ++i) {
+			fingerprint = combine(fingerprint, values[i]);
+		}
+
+		return nonZero(fingerprint);
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.function.ToDoubleFunction;
 import java.util.stream.Collector;
 
 import io.jenetics.internal.math.DoubleAdder;
+import io.jenetics.util.DoubleSeq;
 
 /**
  * A state object for collecting statistics such as count, min, max, sum, mean,
@@ -65,7 +66,7 @@ import io.jenetics.internal.math.DoubleAdder;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public class DoubleMomentStatistics
 	extends MomentStatistics
@@ -96,6 +97,22 @@ public class DoubleMomentStatistics
 		_sum.add(value);
 	}
 
+	/**
+	 * Records all values of the given sequence into the moments information.
+	 * The values are read without boxing.
+	 *
+	 * @since 6.1
+	 *
+	 * @param values the input {@code values}
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}
+	 */
+	public void accept(final DoubleSeq values) {
+		for (int i = 0, n = values.length(); i < n; ++i) {
+			accept(values.get(i));
+		}
+	}
+
 	/**
 	 * Combine two {@code DoubleMoments} statistic objects.
 	 *
@@ -25,6 +25,8 @@ import java.util.function.IntConsumer;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 
+import io.jenetics.util.IntSeq;
+
 /**
  * A state object for collecting statistics such as count, min, max, sum, mean,
  * variance, skewness and kurtosis. The design of this class is similar to the
@@ -63,7 +65,7 @@ import java.util.stream.Collector;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public class IntMomentStatistics
 	extends MomentStatistics
@@ -93,6 +95,22 @@ public class IntMomentStatistics
 		_sum += value;
 	}
 
+	/**
+	 * Records all values of the given sequence into the moments information.
+	 * The values are read without boxing.
+	 *
+	 * @since 6.1
+	 *
+	 * @param values the input {@code values}
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}
+	 */
+	public void accept(final IntSeq values) {
+		for (int i = 0, n = values.length(); i < n; ++i) {
+			accept(values.get(i));
+		}
+	}
+
 	/**
 	 * Combine two {@code IntMoments} statistic objects.
 	 *
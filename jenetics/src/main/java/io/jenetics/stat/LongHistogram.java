@@ -0,0 +1,207 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * Thread-safe, lock-free histogram of non-negative {@code long} values, e.g.
+ * latencies in nanoseconds. The values are counted in log-linear buckets:
+ * every power of two is divided into eight sub-buckets, which bounds the
+ * relative error of the reported quantiles to 12.5%. Values smaller than
+ * {@code 16} are counted exactly. The memory footprint of the histogram is
+ * constant, independent of the number of recorded values.
+ *
+ * <pre>{@code
+ * final LongHistogram latencies = new LongHistogram();
+ * final long start = System.nanoTime();
+ * ...
+ * latencies.accept(System.nanoTime() - start);
+ *
+ * final long p99 = latencies.quantile(0.99);
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe. Values can be recorded and read concurrently.
+ * The returned statistics are not an atomic snapshot, if values are recorded
+ * concurrently.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class LongHistogram implements LongConsumer {
+
+	private static final int EXACT = 16;
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS =
+		EXACT + (Long.SIZE - 1 - 4)*SUB_BUCKETS;
+
+	private final AtomicLongArray _buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder _count = new LongAdder();
+	private final LongAdder _sum = new LongAdder();
+	private final LongAccumulator _min =
+		new LongAccumulator(Math::min, Long.MAX_VALUE);
+	private final LongAccumulator _max =
+		new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+	/**
+	 * Create a new, empty histogram.
+	 */
+	public LongHistogram() {
+	}
+
+	/**
+	 * Records the given {@code value}. Negative values are recorded as zero.
+	 *
+	 * @param value the value to record
+	 */
+	@Override
+	public void accept(final long value) {
+		final long v = Math.max(value, 0);
+		_buckets.incrementAndGet(index(v));
+		_count.increment();
+		_sum.add(v);
+		_min.accumulate(v);
+		_max.accumulate(v);
+	}
+
+	static int index(final long value) {
+		if (value < EXACT) {
+			return (int)value;
+		}
+
+		final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		final int sub = (int)(value >>> (exponent - SUB_BUCKET_BITS)) &
+			(SUB_BUCKETS - 1);
+
+		return EXACT + (exponent - 4)*SUB_BUCKETS + sub;
+	}
+
+	static long upperBound(final int index) {
+		if (index < EXACT) {
+			return index;
+		}
+
+		final int exponent = (index - EXACT)/SUB_BUCKETS + 4;
+		final long sub = (index - EXACT)%SUB_BUCKETS;
+		final long lower = (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+		return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+
+	/**
+	 * Return the number of recorded values.
+	 *
+	 * @return the number of recorded values
+	 */
+	public long count() {
+		return _count.sum();
+	}
+
+	/**
+	 * Return the sum of the recorded values.
+	 *
+	 * @return the sum of the recorded values
+	 */
+	public long sum() {
+		return _sum.sum();
+	}
+
+	/**
+	 * Return the minimal recorded value.
+	 *
+	 * @return the minimal recorded value, or {@link Long#MAX_VALUE} if no
+	 *         value has been recorded yet
+	 */
+	public long min() {
+		return _min.get();
+	}
+
+	/**
+	 * Return the maximal recorded value.
+	 *
+	 * @return the maximal recorded value, or {@link Long#MIN_VALUE} if no
+	 *         value has been recorded yet
+	 */
+	public long max() {
+		return _max.get();
+	}
+
+	/**
+	 * Return the arithmetic mean of the recorded values.
+	 *
+	 * @return the mean value, or {@link Double#NaN} if no value has been
+	 *         recorded yet
+	 */
+	public double mean() {
+		final long count = count();
+		return count > 0 ? (double)sum()/count : Double.NaN;
+	}
+
+	/**
+	 * Return the (approximate) {@code p}-quantile of the recorded values.
+	 * The returned value is the upper bound of the bucket which contains the
+	 * quantile, but never greater than the maximal recorded value.
+	 *
+	 * @param p the quantile probability
+	 * @return the {@code p}-quantile, or {@code 0} if no value has been
+	 *         recorded yet
+	 * @throws IllegalArgumentException if {@code p} is not within the range
+	 *         {@code [0, 1]}
+	 */
+	public long quantile(final double p) {
+		if (p < 0 || p > 1) {
+			throw new IllegalArgumentException(format(
+				"Probability must be in [0, 1]: %f", p
+			));
+		}
+
+		final long count = count();
+		if (count == 0) {
+			return 0;
+		}
+
+		final long rank = Math.max((long)Math.ceil(p*count), 1);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; ++i) {
+			seen += _buckets.get(i);
+			if (seen >= rank) {
+				return Math.min(upperBound(i), max());
+			}
+		}
+
+		return max();
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"LongHistogram[N=%d, ∧=%d, ∨=%d, μ=%s, p50=%d, p99=%d]",
+			count(), min(), max(), mean(), quantile(0.5), quantile(0.99)
+		);
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.DoubleSupplier;
+import java.util.stream.DoubleStream;
+
+import io.jenetics.internal.collection.ArrayDoubleSeq;
+
+/**
+ * Read-only, ordered, fixed sized sequence of primitive {@code double} values.
+ * In contrast to a {@code Seq<Double>}, the values are neither boxed when they
+ * are stored nor when they are accessed. Sequences created by the static
+ * factory methods of this interface are immutable, the mutable counterpart
+ * is the {@link MDoubleSeq}.
+ *
+ * <pre>{@code
+ * final DoubleSeq values = DoubleSeq.of(1.0, 5.0, 3.0);
+ * final DoubleSeq sorted = values.copy().sort().toDoubleSeq();
+ * final double sum = sorted.stream().sum();
+ * }</pre>
+ *
+ * @see MDoubleSeq
+ * @see ISeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public interface DoubleSeq extends Copyable<MDoubleSeq> {
+
+	/**
+	 * Return the value at the given {@code index}.
+	 *
+	 * @param index index of the element to return.
+	 * @return the value at the given {@code index}.
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         (index &lt; 0 || index &gt;= length()).
+	 */
+	double get(final int index);
+
+	/**
+	 * Return the length of this sequence. Once the sequence is created, the
+	 * length can't be changed.
+	 *
+	 * @return the length of this sequence.
+	 */
+	int length();
+
+	/**
+	 * Returns {@code true} if this sequence contains no elements.
+	 *
+	 * @return {@code true} if this sequence contains no elements
+	 */
+	default boolean isEmpty() {
+		return length() == 0;
+	}
+
+	/**
+	 * Returns {@code true} if this sequence contains at least one element.
+	 *
+	 * @return {@code true} if this sequence contains at least one element
+	 */
+	default boolean nonEmpty() {
+		return !isEmpty();
+	}
+
+	/**
+	 * Returns a sequential {@code DoubleStream} with this sequence as its source.
+	 *
+	 * @return a sequential stream over the elements in this sequence
+	 */
+	DoubleStream stream();
+
+	/**
+	 * Return a new array which contains the values of this sequence.
+	 *
+	 * @return a new array with the values of this sequence
+	 */
+	double[] toArray();
+
+	/**
+	 * Builds a new sequence by applying the given {@code mapper} to all
+	 * elements of this sequence.
+	 *
+	 * @param mapper the mapper function applied to every element
+	 * @return a new sequence with the mapped values
+	 * @throws NullPointerException if the given {@code mapper} is {@code null}
+	 */
+	DoubleSeq map(final DoubleUnaryOperator mapper);
+
+	/**
+	 * Returns a view of the portion of this sequence between the specified
+	 * {@code start}, inclusive, and {@code end}, exclusive. The returned
+	 * sequence shares the underlying value store with this sequence.
+	 *
+	 * @param start low end point (inclusive) of the sub sequence.
+	 * @param end high end point (exclusive) of the sub sequence.
+	 * @return a view of the specified range within this sequence.
+	 * @throws IndexOutOfBoundsException for an illegal end point index value
+	 *         ({@code start < 0 || end > length() || start > end}).
+	 */
+	DoubleSeq subSeq(final int start, final int end);
+
+	/**
+	 * Returns a view of the portion of this sequence between the specified
+	 * {@code start}, inclusive, and the end of the sequence.
+	 *
+	 * @param start low end point (inclusive) of the sub sequence.
+	 * @return a view of the specified range within this sequence.
+	 * @throws IndexOutOfBoundsException for an illegal end point index value
+	 *         ({@code start < 0 || start > length()}).
+	 */
+	default DoubleSeq subSeq(final int start) {
+		return subSeq(start, length());
+	}
+
+	/**
+	 * Return an immutable, boxed sequence with the values of this sequence.
+	 * The returned sequence shares the value store with this sequence, as
+	 * long as none of them is altered.
+	 *
+	 * @return an immutable, boxed sequence with the values of this sequence
+	 */
+	ISeq<Double> boxed();
+
+
+	/* *************************************************************************
+	 *  Some static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return an empty {@code DoubleSeq}.
+	 *
+	 * @return an empty {@code DoubleSeq}
+	 */
+	static DoubleSeq empty() {
+		return ArrayDoubleSeq.EMPTY;
+	}
+
+	/**
+	 * Create a new immutable sequence from the given values. The given array
+	 * is copied.
+	 *
+	 * @param values the sequence values
+	 * @return a new immutable sequence with the given values
+	 * @throws NullPointerException if the {@code values} array is {@code null}
+	 */
+	static DoubleSeq of(final double... values) {
+		return values.length == 0
+			? empty()
+			: ArrayDoubleSeq.of(values.clone());
+	}
+
+	/**
+	 * Create a new immutable sequence with the given {@code length}, whose
+	 * elements are created with the given {@code supplier}.
+	 *
+	 * @param supplier the value supplier
+	 * @param length the length of the created sequence
+	 * @return a new immutable sequence filled with the supplied values
+	 * @throws NullPointerException if the given {@code supplier} is
+	 *         {@code null}
+	 * @throws NegativeArraySizeException if the given {@code length} is
+	 *         negative
+	 */
+	static DoubleSeq of(final DoubleSupplier supplier, final int length) {
+		return MDoubleSeq.ofLength(length).fill(supplier).toDoubleSeq();
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.LongUnaryOperator;
+import java.util.function.LongSupplier;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayMLongSeq;
+import io.jenetics.internal.collection.LongStore;
+
+/**
+ * Mutable, ordered, fixed sized sequence of primitive {@code long} values.
+ *
+ * @implNote
+ * This implementation is not thread safe. All sequences created by
+ * {@link #toLongSeq()} and {@link #subSeq(int, int)} must be protected by the
+ * same lock, when they are accessed (get/set) by different threads.
+ *
+ * @see LongSeq
+ * @see MSeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public interface MLongSeq extends LongSeq {
+
+	/**
+	 * Set the {@code value} at the given {@code index}.
+	 *
+	 * @param index the index of the new value.
+	 * @param value the new value.
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= length())}.
+	 */
+	void set(final int index, final long value);
+
+	/**
+	 * Fill the sequence with values generated by the given {@code supplier}.
+	 *
+	 * @param supplier the value supplier.
+	 * @return {@code this} sequence.
+	 * @throws NullPointerException if the given {@code supplier} is
+	 *         {@code null}.
+	 */
+	default MLongSeq fill(final LongSupplier supplier) {
+		requireNonNull(supplier);
+		for (int i = 0, n = length(); i < n; ++i) {
+			set(i, supplier.getAsLong());
+		}
+		return this;
+	}
+
+	/**
+	 * Sort the values of this sequence, within the range {@code [start, end)},
+	 * into ascending order.
+	 *
+	 * @param start the start index where to start sorting (inclusively)
+	 * @param end the end index where to stop sorting (exclusively)
+	 * @return {@code this} sequence
+	 * @throws IndexOutOfBoundsException if the start and end indexes are out
+	 *         of range.
+	 */
+	MLongSeq sort(final int start, final int end);
+
+	/**
+	 * Sort the values of this sequence, starting with the given {@code start}
+	 * index, into ascending order.
+	 *
+	 * @param start the start index where to start sorting (inclusively)
+	 * @return {@code this} sequence
+	 * @throws IndexOutOfBoundsException if the start index is out of range.
+	 */
+	default MLongSeq sort(final int start) {
+		return sort(start, length());
+	}
+
+	/**
+	 * Sort the values of this sequence into ascending order.
+	 *
+	 * @return {@code this} sequence
+	 */
+	default MLongSeq sort() {
+		return sort(0, length());
+	}
+
+	@Override
+	MLongSeq map(final LongUnaryOperator mapper);
+
+	@Override
+	MLongSeq subSeq(final int start, final int end);
+
+	@Override
+	default MLongSeq subSeq(final int start) {
+		return subSeq(start, length());
+	}
+
+	/**
+	 * Return a read-only and immutable view of this sequence. The values are
+	 * only copied, if {@code this} mutable sequence is changed afterwards.
+	 *
+	 * @return a read-only and immutable view of this sequence
+	 */
+	LongSeq toLongSeq();
+
+
+	/* *************************************************************************
+	 *  Some static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new mutable sequence with the given {@code length}. All values
+	 * are initialized with zero.
+	 *
+	 * @param length the length of the created sequence
+	 * @return a new sequence with the given {@code length}
+	 * @throws NegativeArraySizeException if the given {@code length} is
+	 *         negative
+	 */
+	static MLongSeq ofLength(final int length) {
+		return new ArrayMLongSeq(Array.of(new LongStore(length)));
+	}
+
+	/**
+	 * Create a new mutable sequence from the given values. The given array is
+	 * copied.
+	 *
+	 * @param values the sequence values
+	 * @return a new mutable sequence with the given values
+	 * @throws NullPointerException if the {@code values} array is {@code null}
+	 */
+	static MLongSeq of(final long... values) {
+		return new ArrayMLongSeq(Array.of(LongStore.of(values.clone())));
+	}
+
+}
@@ -58,7 +58,7 @@ import java.util.List;
  * @see Comparator
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 6.1
  * @since 5.1
  */
 public final class ProxySorter {
@@ -206,6 +206,63 @@ public final class ProxySorter {
 		return Double.compare(a[i], a[j]);
 	}
 
+	/**
+	 * Sorting the given sequence by creating an index lookup array.
+	 *
+	 * @see #sort(Object, int, Comparator)
+	 *
+	 * @since 6.1
+	 *
+	 * @param seq the sequence to sort
+	 * @return the <em>sorted</em> index lookup array
+	 * @throws NullPointerException if the sequence is {@code null}
+	 */
+	public static int[] sort(final IntSeq seq) {
+		return sort(seq, seq.length(), ProxySorter::compare);
+	}
+
+	private static int compare(final IntSeq a, final int i, final int j) {
+		return Integer.compare(a.get(i), a.get(j));
+	}
+
+	/**
+	 * Sorting the given sequence by creating an index lookup array.
+	 *
+	 * @see #sort(Object, int, Comparator)
+	 *
+	 * @since 6.1
+	 *
+	 * @param seq the sequence to sort
+	 * @return the <em>sorted</em> index lookup array
+	 * @throws NullPointerException if the sequence is {@code null}
+	 */
+	public static int[] sort(final LongSeq seq) {
+		return sort(seq, seq.length(), ProxySorter::compare);
+	}
+
+	private static int compare(final LongSeq a, final int i, final int j) {
+		return Long.compare(a.get(i), a.get(j));
+	}
+
+	/**
+	 * Sorting the given sequence by creating an index lookup array.
+	 *
+	 * @see #sort(Object, int, Comparator)
+	 *
+	 * @since 6.1
+	 *
+	 * @param seq the sequence to sort
+	 * @return the <em>sorted</em> index lookup array
+	 * @throws NullPointerException if the sequence is {@code null}
+	 */
+	public static int[] sort(final DoubleSeq seq) {
+		return sort(seq, seq.length(), ProxySorter::compare);
+	}
+
+	private static int compare(final DoubleSeq a, final int i, final int j) {
+		return Double.compare(a.get(i), a.get(j));
+	}
+
 	/**
 	 * Sorting the given array by creating an index lookup array.
 	 *
@@ -85,12 +85,27 @@ import java.util.function.Supplier;
  * }</pre>
  * <p>
  *
+ * <b>Reproducible parallel execution</b><br>
+ *
+ * If the registry is initialized with a {@link SplitRandom}, every task
+ * executed with the {@link #split(long, long, Supplier)} method gets its own
+ * child stream, derived from the generation and the index of the task. The
+ * evolution {@code Engine} executes its selection, alteration and evaluation
+ * tasks this way, which makes parallel evolution runs reproducible, without
+ * contention on a shared seed.
+ *
+ * <pre>{@code
+ * RandomRegistry.random(new SplitRandom(1234));
+ * }</pre>
+ * <p>
+ *
  * @see Random
  * @see ThreadLocalRandom
+ * @see SplitRandom
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 6.1
  */
 public final class RandomRegistry {
 	private RandomRegistry() {}
@@ -270,4 +285,76 @@ public final class RandomRegistry {
 		return CONTEXT.with(random::get, s -> function.apply(random.get()));
 	}
 
+	/**
+	 * Executes the given {@code task} with a random engine, which is derived
+	 * from the current one. If the current random engine is a
+	 * {@link SplitRandom}, the {@code task} is executed with the child stream
+	 * {@code split(generation, index)}. This child stream only depends on the
+	 * seed of the current random engine and the given keys and not on the
+	 * executing thread, which makes concurrently executed tasks reproducible.
+	 * For all other random engines, the {@code task} is executed unchanged.
+	 *
+	 * <pre>{@code
+	 * final List<CompletableFuture<Integer>> results = IntStream.range(0, 10)
+	 *     .mapToObj(i -> CompletableFuture.supplyAsync(() ->
+	 *         RandomRegistry.split(generation, i, () ->
+	 *             RandomRegistry.random().nextInt(100)
+	 *         )
+	 *     ))
+	 *     .collect(toList());
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @see SplitRandom#split(long, long)
+	 *
+	 * @param generation the generation of the executed task
+	 * @param index the index of the executed task
+	 * @param task the task to execute
+	 * @param <T> the task result type
+	 * @return the result of the executed task
+	 * @throws NullPointerException if the given {@code task} is {@code null}
+	 */
+	public static <T> T split(
+		final long generation,
+		final long index,
+		final Supplier<? extends T> task
+	) {
+		return split(random(), generation, index, task);
+	}
+
+	/**
+	 * Executes the given {@code task} with a child stream of the given
+	 * {@code random} engine, if it is a {@link SplitRandom}. This method allows
+	 * to capture the random engine in the calling thread and to use it in the
+	 * (concurrently) executed tasks.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #split(long, long, Supplier)
+	 *
+	 * @param random the parent random engine
+	 * @param generation the generation of the executed task
+	 * @param index the index of the executed task
+	 * @param task the task to execute
+	 * @param <T> the task result type
+	 * @return the result of the executed task
+	 * @throws NullPointerException if the given {@code task} is {@code null}
+	 */
+	public static <T> T split(
+		final Random random,
+		final long generation,
+		final long index,
+		final Supplier<? extends T> task
+	) {
+		requireNonNull(task);
+
+		if (random instanceof SplitRandom) {
+			final SplitRandom child = ((SplitRandom)random).split(generation, index);
+			return CONTEXT.with(() -> child, s -> task.get());
+		} else {
+			return task.get();
+		}
+	}
+
 }
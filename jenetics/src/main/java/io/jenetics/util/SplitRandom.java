@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static io.jenetics.internal.util.Fingerprints.combine;
+import static io.jenetics.internal.util.Fingerprints.mix;
+
+import java.util.Random;
+
+/**
+ * Fast, <em>splittable</em> pseudo random number generator, based on the
+ * <em>SplitMix64</em> algorithm. Beside the usual sequential random number
+ * generation, a {@code SplitRandom} can derive independent <em>child</em>
+ * streams with the {@link #split(long)} and {@link #split(long, long)}
+ * methods. A child stream only depends on the <em>initial</em> seed of the
+ * parent and the given keys, and not on the number of random values already
+ * consumed from the parent. This makes it possible to assign each
+ * (concurrently executed) task its own random engine, which leads to
+ * reproducible results, independent of the thread scheduling.
+ *
+ * <pre>{@code
+ * // Setting a splittable PRNG makes parallel evolution runs reproducible.
+ * RandomRegistry.random(new SplitRandom(1234));
+ *
+ * final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *     .limit(100)
+ *     .collect(toBestEvolutionResult());
+ * }</pre>
+ *
+ * <p>
+ * <em>The {@code SplitRandom} class is not thread safe. If concurrently used
+ * tasks need random numbers, a separate child stream must be created for
+ * every task.</em>
+ *
+ * @see RandomRegistry#split(long, long, java.util.function.Supplier)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public class SplitRandom extends Random {
+	private static final long serialVersionUID = 1L;
+
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	private long _seed;
+	private long _state;
+
+	/**
+	 * Create a new PRNG with the given {@code seed} value.
+	 *
+	 * @param seed the initial seed of the PRNG
+	 */
+	public SplitRandom(final long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Create a new PRNG with a <em>random</em> seed value.
+	 */
+	public SplitRandom() {
+		this(mix(System.nanoTime()) ^ mix(Thread.currentThread().getId()));
+	}
+
+	/**
+	 * Return the initial seed of {@code this} PRNG. The seed value determines
+	 * the random sequence and all derived child streams.
+	 *
+	 * @return the initial seed of {@code this} PRNG
+	 */
+	public long seed() {
+		return _seed;
+	}
+
+	/**
+	 * Create a new child stream for the given {@code key}. The created PRNG
+	 * only depends on the initial seed of {@code this} PRNG and the given
+	 * {@code key}. Splitting doesn't change the state of {@code this} PRNG.
+	 *
+	 * @param key the key of the child stream
+	 * @return a new child stream
+	 */
+	public SplitRandom split(final long key) {
+		return new SplitRandom(combine(_seed, key));
+	}
+
+	/**
+	 * Create a new child stream for the given keys. This method is typically
+	 * used with the evolution {@code generation} and the {@code index} of the
+	 * executed task. The created PRNG only depends on the initial seed of
+	 * {@code this} PRNG and the given keys. Splitting doesn't change the state
+	 * of {@code this} PRNG.
+	 *
+	 * @param key1 the first key of the child stream, e.g. the generation
+	 * @param key2 the second key of the child stream, e.g. the task index
+	 * @return a new child stream
+	 */
+	public SplitRandom split(final long key1, final long key2) {
+		return new SplitRandom(combine(combine(_seed, key1), key2));
+	}
+
+	@Override
+	public synchronized void setSeed(final long seed) {
+		_seed = seed;
+		_state = mix(seed);
+		super.setSeed(seed);
+	}
+
+	@Override
+	public long nextLong() {
+		return mix(_state += GOLDEN_GAMMA);
+	}
+
+	@Override
+	protected int next(final int bits) {
+		return (int)(nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public int nextInt() {
+		return (int)(nextLong() >>> 32);
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return nextLong() < 0;
+	}
+
+	@Override
+	public float nextFloat() {
+		return (nextLong() >>> 40)*0x1.0p-24f;
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11)*DOUBLE_UNIT;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("SplitRandom[seed=%d]", _seed);
+	}
+
+}
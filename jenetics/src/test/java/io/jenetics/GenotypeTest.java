@@ -27,6 +27,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.ObjectTester;
 
 /**
@@ -125,4 +126,36 @@ public class GenotypeTest extends ObjectTester<Genotype<DoubleGene>> {
 		}
 	}
 
+	@Test
+	public void fingerprint() {
+		final Genotype<DoubleGene> gt1 = Genotype.of(
+			DoubleChromosome.of(0.0, 1.0, 10),
+			DoubleChromosome.of(0.0, 1.0, 5)
+		);
+		final Genotype<DoubleGene> gt2 = Genotype.of(
+			gt1.get(0).newInstance(gt1.get(0).stream().collect(ISeq.toISeq())),
+			gt1.get(1).newInstance(gt1.get(1).stream().collect(ISeq.toISeq()))
+		);
+		final Genotype<DoubleGene> gt3 = gt1.newInstance();
+
+		assertEquals(gt2, gt1);
+		assertEquals(gt2.fingerprint(), gt1.fingerprint());
+		assertEquals(gt2.hashCode(), gt1.hashCode());
+		assertNotEquals(gt3.fingerprint(), gt1.fingerprint());
+		assertNotEquals(gt3, gt1);
+		assertEquals(gt1.fingerprint(), gt1.fingerprint());
+		Assert.assertTrue(gt1.fingerprint() != 0);
+	}
+
+	@Test
+	public void bitChromosomeFingerprint() {
+		final BitChromosome ch1 = BitChromosome.of(100, 0.5);
+		final Chromosome<BitGene> ch2 = ch1.newInstance(ch1.stream().collect(ISeq.toISeq()));
+		final BitChromosome ch3 = ch1.invert();
+
+		assertEquals(ch2, ch1);
+		assertEquals(ch2.fingerprint(), ch1.fingerprint());
+		assertNotEquals(ch3.fingerprint(), ch1.fingerprint());
+	}
+
 }
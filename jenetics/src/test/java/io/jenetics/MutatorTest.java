@@ -19,6 +19,9 @@
  */
 package io.jenetics;
 
+import java.util.Random;
+
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 /**
@@ -32,4 +35,30 @@ public class MutatorTest extends MutatorTester {
 		return new Mutator<>(p);
 	}
 
+	@Test
+	public void mutateWithoutMutations() {
+		final Mutator<DoubleGene, Double> mutator = new Mutator<>(0);
+		final Genotype<DoubleGene> genotype =
+			Genotype.of(DoubleChromosome.of(0, 1, 10), 5);
+
+		final MutatorResult<Genotype<DoubleGene>> result =
+			mutator.mutate(genotype, 0, new Random());
+
+		Assert.assertSame(result.result(), genotype);
+		Assert.assertEquals(result.mutations(), 0);
+	}
+
+	@Test
+	public void mutateChromosome() {
+		final Mutator<DoubleGene, Double> mutator = new Mutator<>(1);
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 1, 10);
+
+		final MutatorResult<Chromosome<DoubleGene>> result =
+			mutator.mutate(chromosome, 1, new Random());
+
+		Assert.assertEquals(result.mutations(), 10);
+		Assert.assertEquals(result.result().length(), 10);
+		Assert.assertNotEquals(result.result(), chromosome);
+	}
+
 }
@@ -19,6 +19,8 @@
  */
 package io.jenetics.engine;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -26,6 +28,7 @@ import io.jenetics.DoubleChromosome;
 import io.jenetics.DoubleGene;
 import io.jenetics.Genotype;
 import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -52,4 +55,90 @@ public class CodecTest {
 		}
 	}
 
+	@Test
+	public void cached() {
+		final AtomicInteger decodings = new AtomicInteger();
+		final Codec<Double, DoubleGene> codec = Codecs
+			.ofScalar(DoubleRange.of(0, 1))
+			.map(v -> {
+				decodings.incrementAndGet();
+				return v;
+			})
+			.cached();
+
+		final ISeq<Genotype<DoubleGene>> genotypes = codec.encoding()
+			.instances()
+			.limit(100)
+			.collect(ISeq.toISeq());
+
+		for (Genotype<DoubleGene> gt : genotypes) {
+			final int count = decodings.get();
+			Assert.assertEquals(codec.decode(gt), gt.gene().allele());
+			Assert.assertEquals(codec.decode(gt), gt.gene().allele());
+			Assert.assertEquals(decodings.get(), count + 1);
+		}
+
+		// Hash collisions may evict single entries.
+		for (Genotype<DoubleGene> gt : genotypes) {
+			Assert.assertEquals(codec.decode(gt), gt.gene().allele());
+		}
+		Assert.assertTrue(decodings.get() < 2*genotypes.size());
+
+		// Equal, but not identical, genotypes are decoded again.
+		final int count = decodings.get();
+		codec.decode(Genotype.of(genotypes.get(0).chromosome()));
+		Assert.assertEquals(decodings.get(), count + 1);
+	}
+
+	@Test
+	public void cachedEngine() {
+		final AtomicInteger decodings = new AtomicInteger();
+		final Codec<Double, DoubleGene> codec = Codecs
+			.ofScalar(DoubleRange.of(0, 10))
+			.map(v -> {
+				decodings.incrementAndGet();
+				return v;
+			})
+			.cached(1 << 16);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(x -> x*x, codec)
+			.minimizing()
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		final int evaluated = decodings.get();
+		final Double best = codec.decode(result.bestPhenotype().genotype());
+
+		Assert.assertEquals(decodings.get(), evaluated);
+		Assert.assertEquals(Double.valueOf(best*best), result.bestFitness());
+	}
+
+	@Test
+	public void cachedInvertible() {
+		final InvertibleCodec<Double, DoubleGene> codec = Codecs
+			.ofScalar(DoubleRange.of(0, 10))
+			.cached(10);
+
+		final Genotype<DoubleGene> gt = codec.encode(5.0);
+		Assert.assertEquals(codec.decode(gt), Double.valueOf(5.0));
+		Assert.assertSame(codec.cached().encoding(), codec.encoding());
+	}
+
+	@Test
+	public void decodeCacheSize() {
+		Assert.assertEquals(new DecodeCache<DoubleGene, Double>(gt -> 0.0, 1).size(), 1);
+		Assert.assertEquals(new DecodeCache<DoubleGene, Double>(gt -> 0.0, 2).size(), 2);
+		Assert.assertEquals(new DecodeCache<DoubleGene, Double>(gt -> 0.0, 3).size(), 4);
+		Assert.assertEquals(new DecodeCache<DoubleGene, Double>(gt -> 0.0, 1024).size(), 1024);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidCacheSize() {
+		Codecs.ofScalar(DoubleRange.of(0, 10)).cached(0);
+	}
+
 }
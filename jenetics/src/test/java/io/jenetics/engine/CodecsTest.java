@@ -38,6 +38,7 @@ import io.jenetics.Genotype;
 import io.jenetics.IntegerGene;
 import io.jenetics.LongGene;
 import io.jenetics.util.DoubleRange;
+import io.jenetics.util.DoubleSeq;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
@@ -213,6 +214,23 @@ public class CodecsTest {
 		}
 	}
 
+	@Test(dataProvider = "doubleVectorData")
+	public void ofDoubleSeq(final DoubleRange domain, final int length) {
+		final InvertibleCodec<DoubleSeq, DoubleGene> codec =
+			Codecs.ofDoubleSeq(domain, length);
+
+		final Genotype<DoubleGene> gt = codec.encoding().newInstance();
+		assertEquals(gt.chromosome().length(), length);
+
+		final DoubleSeq value = codec.decode(gt);
+		assertEquals(value.length(), length);
+		for (int i = 0; i < length; ++i) {
+			assertEquals(gt.get(0).get(i).doubleValue(), value.get(i));
+		}
+
+		assertEquals(codec.encode(value), gt);
+	}
+
 	@DataProvider(name = "doubleVectorData")
 	public Object[][] doubleVectorData() {
 		return new Object[][] {
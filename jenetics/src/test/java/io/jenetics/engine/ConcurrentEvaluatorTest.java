@@ -19,6 +19,11 @@
  */
 package io.jenetics.engine;
 
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -51,4 +56,70 @@ public class ConcurrentEvaluatorTest {
 		evaluated.forEach(pt -> Assert.assertEquals(pt.genotype().gene().allele(), pt.fitness()));
 	}
 
+	@Test
+	public void evaluatePartiallyEvaluated() {
+		final ISeq<Phenotype<DoubleGene, Double>> phenotypes =
+			Genotype.of(DoubleChromosome.of(0, 1)).instances()
+				.limit(100)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+				.map(pt -> pt.genotype().gene().allele() < 0.5
+					? pt.withFitness(-1.0)
+					: pt)
+				.collect(ISeq.toISeq());
+
+		final long evaluated = phenotypes.stream()
+			.filter(Phenotype::isEvaluated)
+			.count();
+
+		final Evaluator<DoubleGene, Double> evaluator =
+			new ConcurrentEvaluator<>(gt -> gt.gene().doubleValue(), Runnable::run);
+
+		final ISeq<Phenotype<DoubleGene, Double>> result = evaluator.eval(phenotypes);
+
+		Assert.assertEquals(result.size(), phenotypes.size());
+		for (int i = 0; i < result.size(); ++i) {
+			final Phenotype<DoubleGene, Double> pt = result.get(i);
+			if (i < evaluated) {
+				Assert.assertEquals(pt.fitness(), Double.valueOf(-1.0));
+			} else {
+				Assert.assertEquals(pt.genotype().gene().allele(), pt.fitness());
+			}
+		}
+	}
+
+	@Test
+	public void evaluationAllocations() throws InterruptedException {
+		if (!ThreadAllocations.isSupported()) {
+			return;
+		}
+
+		final ISeq<Phenotype<DoubleGene, Double>> phenotypes =
+			Genotype.of(DoubleChromosome.of(0, 1)).instances()
+				.limit(100)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+				.collect(ISeq.toISeq());
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Evaluator<DoubleGene, Double> evaluator =
+				new ConcurrentEvaluator<>(
+					gt -> (double)new double[10_000].length,
+					executor
+				);
+
+			// The fitness function is only executed by the worker threads.
+			final Timing timing = Timing.of(Clock.systemUTC(), true);
+			timing.timing(() -> evaluator.eval(phenotypes));
+			Assert.assertTrue(timing.allocatedBytes() >= 100*80_000L);
+
+			final Timing async = Timing.of(Clock.systemUTC(), true);
+			async.allocations(() -> evaluator.evalAsync(phenotypes, executor))
+				.join();
+			Assert.assertTrue(async.allocatedBytes() >= 100*80_000L);
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
 }
@@ -0,0 +1,314 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
+import io.jenetics.TruncationSelector;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DeadlineTest {
+
+	// Clock, which is only advanced explicitly.
+	private static final class ManualClock extends Clock {
+		final AtomicLong millis = new AtomicLong();
+
+		void advance(final long ms) {
+			millis.addAndGet(ms);
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis.get());
+		}
+
+		@Override public ZoneId getZone() { return null; }
+		@Override public Clock withZone(ZoneId zone) { return null; }
+	}
+
+	@Test
+	public void expired() {
+		final ManualClock clock = new ManualClock();
+		final Deadline deadline = Deadline.of(Instant.ofEpochMilli(10), clock);
+
+		Assert.assertFalse(deadline.isExpired());
+		Assert.assertEquals(deadline.remaining(), Duration.ofMillis(10));
+
+		clock.advance(10);
+		Assert.assertTrue(deadline.isExpired());
+		Assert.assertEquals(deadline.remaining(), Duration.ZERO);
+	}
+
+	@Test
+	public void with() {
+		final ManualClock clock = new ManualClock();
+		final Deadline a = Deadline.of(Instant.ofEpochMilli(10), clock);
+		final Deadline b = Deadline.of(Instant.ofEpochMilli(20), clock);
+
+		Assert.assertFalse(Deadline.current().isPresent());
+		Deadline.with(a, () -> {
+			Assert.assertSame(Deadline.current().orElseThrow(), a);
+			Deadline.with(b, () -> {
+				Assert.assertSame(Deadline.current().orElseThrow(), a);
+				return null;
+			});
+			Deadline.unbounded(() -> {
+				Assert.assertFalse(Deadline.current().isPresent());
+				return null;
+			});
+			Assert.assertSame(Deadline.current().orElseThrow(), a);
+			return null;
+		});
+		Assert.assertFalse(Deadline.current().isPresent());
+	}
+
+	@Test
+	public void check() {
+		final ManualClock clock = new ManualClock();
+		final Deadline deadline = Deadline.of(Instant.ofEpochMilli(10), clock);
+
+		Deadline.check();
+		Deadline.with(deadline, () -> {
+			Deadline.check();
+			clock.advance(10);
+			try {
+				Deadline.check();
+				Assert.fail("CancellationException expected.");
+			} catch (CancellationException expected) {
+			}
+			return null;
+		});
+	}
+
+	@Test
+	public void evolveWithExpiredDeadline() {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					evaluations.incrementAndGet();
+					return gt.gene().doubleValue();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.survivorsSelector(new TruncationSelector<>())
+			.alterers(new Mutator<>(1.0))
+			.executor(Runnable::run)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> first =
+			engine.evolve(EvolutionStart.empty());
+		evaluations.set(0);
+
+		// The distinct survivors leave enough fallback individuals for
+		// replacing all not evaluated offspring individuals.
+		final ManualClock clock = new ManualClock();
+		final EvolutionResult<DoubleGene, Double> second = Deadline.with(
+			Deadline.of(Instant.EPOCH, clock),
+			() -> engine.evolve(first.next())
+		);
+
+		Assert.assertEquals(evaluations.get(), 0);
+		Assert.assertEquals(second.population().size(), 20);
+		Assert.assertTrue(second.population().forAll(Phenotype::isEvaluated));
+		Assert.assertTrue(second.bestFitness() >= first.bestFitness());
+	}
+
+	@Test
+	public void streamDeadline() {
+		final ManualClock clock = new ManualClock();
+		final AtomicInteger evaluations = new AtomicInteger();
+
+		// Every fitness evaluation takes 10 ms.
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					clock.advance(10);
+					evaluations.incrementAndGet();
+					return gt.gene().doubleValue();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.executor(Runnable::run)
+			.build();
+
+		final List<Integer> generations = new ArrayList<>();
+		final List<EvolutionResult<DoubleGene, Double>> results = engine.stream()
+			.limit(Limits.byExecutionTime(Duration.ofMillis(55), clock))
+			.peek(r -> generations.add(evaluations.getAndSet(0)))
+			.collect(Collectors.toList());
+
+		// The time measurement starts after the first generation, and only
+		// six fitness functions are evaluated before the deadline expires.
+		// The generation, finished by the deadline, is still emitted.
+		Assert.assertEquals(results.size(), 2);
+		Assert.assertEquals(generations.size(), 2);
+		Assert.assertEquals(generations.get(1).intValue(), 6);
+
+		final EvolutionResult<DoubleGene, Double> last = results.get(1);
+		Assert.assertEquals(last.population().size(), 20);
+		Assert.assertTrue(last.population().forAll(Phenotype::isEvaluated));
+		Assert.assertTrue(last.bestFitness() >= results.get(0).bestFitness());
+	}
+
+	@Test
+	public void initialPopulationDeadline() {
+		final ManualClock clock = new ManualClock();
+		final AtomicInteger evaluations = new AtomicInteger();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					clock.advance(10);
+					evaluations.incrementAndGet();
+					return gt.gene().doubleValue();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.offspringFraction(1)
+			.executor(Runnable::run)
+			.build();
+
+		// The deadline expires while the initial population is evaluated.
+		final EvolutionResult<DoubleGene, Double> result = Deadline.with(
+			Deadline.of(clock.instant().plusMillis(55), clock),
+			() -> engine.evolve(EvolutionStart.empty())
+		);
+
+		Assert.assertEquals(result.population().size(), 20);
+		Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		Assert.assertEquals(evaluations.get(), 20);
+	}
+
+	@Test
+	public void noDuplicateSurvivors() {
+		// All offspring individuals are altered and all survivors are
+		// taken from the evaluated fallback population.
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.survivorsSelector(new TruncationSelector<>())
+			.alterers(new Mutator<>(1.0))
+			.executor(Runnable::run)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> first =
+			engine.evolve(EvolutionStart.empty());
+
+		final ManualClock clock = new ManualClock();
+		final EvolutionResult<DoubleGene, Double> second = Deadline.with(
+			Deadline.of(Instant.EPOCH, clock),
+			() -> engine.evolve(first.next())
+		);
+
+		Assert.assertEquals(second.population().size(), 20);
+		Assert.assertEquals(second.population().stream().distinct().count(), 20);
+	}
+
+	@Test
+	public void cooperativeCancellation() {
+		final ManualClock clock = new ManualClock();
+		final AtomicInteger evaluations = new AtomicInteger();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				(Genotype<DoubleGene> gt) -> {
+					evaluations.incrementAndGet();
+					clock.advance(10);
+					Deadline.check();
+					return gt.gene().doubleValue();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.survivorsSelector(new TruncationSelector<>())
+			.alterers(new Mutator<>(1.0))
+			.executor(Runnable::run)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> first =
+			engine.evolve(EvolutionStart.empty());
+		evaluations.set(0);
+
+		final EvolutionResult<DoubleGene, Double> second = Deadline.with(
+			Deadline.of(clock.instant().plusMillis(25), clock),
+			() -> engine.evolve(first.next())
+		);
+
+		// The third evaluation is aborted by the fitness function.
+		Assert.assertEquals(evaluations.get(), 3);
+		Assert.assertEquals(second.population().size(), 20);
+		Assert.assertTrue(second.population().forAll(Phenotype::isEvaluated));
+	}
+
+	@Test
+	public void skippedEvaluationLatency() {
+		final ManualClock clock = new ManualClock();
+		final Deadline deadline = Deadline.of(Instant.ofEpochMilli(10), clock);
+		final AtomicInteger latencies = new AtomicInteger();
+		final EvolutionMetrics metrics = new EvolutionMetrics() {
+			@Override
+			public void evaluation(final long generation, final long nanos) {
+				latencies.incrementAndGet();
+			}
+		};
+
+		final Evaluator<DoubleGene, Double> evaluator = new ConcurrentEvaluator<>(
+			gt -> {
+				clock.advance(1);
+				return gt.gene().doubleValue();
+			},
+			Runnable::run,
+			metrics
+		);
+
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			Genotype.of(DoubleChromosome.of(0, 1)).instances()
+				.limit(100)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			Deadline.with(deadline, () -> evaluator.eval(population));
+
+		Assert.assertEquals(result.stream().filter(Phenotype::isEvaluated).count(), 10);
+		Assert.assertEquals(latencies.get(), 10);
+	}
+
+}
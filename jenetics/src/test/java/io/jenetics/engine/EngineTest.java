@@ -53,6 +53,7 @@ import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
 import io.jenetics.Mutator;
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.RouletteWheelSelector;
 import io.jenetics.Selector;
 import io.jenetics.SwapMutator;
@@ -62,6 +63,8 @@ import io.jenetics.util.DoubleRange;
 import io.jenetics.util.IO;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -311,6 +314,107 @@ public class EngineTest {
 		);
 	}
 
+	@Test
+	public void reproducibleParallelEvolution() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> gt.gene().allele() +
+					RandomRegistry.random().nextDouble()*0.001,
+				DoubleChromosome.of(0, 1, 5))
+			.executor(ForkJoinPool.commonPool())
+			.populationSize(50)
+			.build();
+
+		final Function<Long, ISeq<Phenotype<DoubleGene, Double>>> evolve = seed ->
+			RandomRegistry.with(new SplitRandom(seed), r -> engine
+				.stream()
+				.limit(20)
+				.collect(EvolutionResult.toBestEvolutionResult())
+				.population());
+
+		final ISeq<Phenotype<DoubleGene, Double>> population = evolve.apply(123L);
+		for (int i = 0; i < 5; ++i) {
+			Assert.assertEquals(evolve.apply(123L), population);
+		}
+		Assert.assertNotEquals(evolve.apply(456L), population);
+	}
+
+	@Test
+	public void evolveAsync() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> gt.gene().allele() +
+					RandomRegistry.random().nextDouble()*0.001,
+				DoubleChromosome.of(0, 1, 5))
+			.executor(Executors.newFixedThreadPool(2))
+			.populationSize(50)
+			.build();
+
+		final ISeq<Phenotype<DoubleGene, Double>> expected =
+			RandomRegistry.with(new SplitRandom(123), r -> engine
+				.stream()
+				.limit(20)
+				.reduce((a, b) -> b)
+				.orElseThrow()
+				.population());
+
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			RandomRegistry.with(new SplitRandom(123), r -> {
+				EvolutionStart<DoubleGene, Double> start = EvolutionStart.empty();
+				EvolutionResult<DoubleGene, Double> result = null;
+				for (int i = 0; i < 20; ++i) {
+					result = engine.evolveAsync(start).join();
+					start = result.next();
+				}
+				return result.population();
+			});
+
+		Assert.assertEquals(population, expected);
+		((ExecutorService)engine.executor()).shutdown();
+	}
+
+	@Test
+	public void evolveAsyncWithInterceptor() {
+		// The interceptor replaces one individual with a random one.
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> gt.gene().allele() +
+					RandomRegistry.random().nextDouble()*0.001,
+				DoubleChromosome.of(0, 1, 5))
+			.executor(Executors.newFixedThreadPool(2))
+			.populationSize(50)
+			.interceptor(EvolutionInterceptor.ofAfter(er ->
+				er.withPopulation(er.population().map(pt ->
+					RandomRegistry.random().nextInt(50) == 0
+						? Phenotype.of(pt.genotype().newInstance(), er.generation())
+						: pt
+				))
+			))
+			.build();
+
+		final ISeq<Phenotype<DoubleGene, Double>> expected =
+			RandomRegistry.with(new SplitRandom(123), r -> engine
+				.stream()
+				.limit(20)
+				.reduce((a, b) -> b)
+				.orElseThrow()
+				.population());
+
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			RandomRegistry.with(new SplitRandom(123), r -> {
+				EvolutionStart<DoubleGene, Double> start = EvolutionStart.empty();
+				EvolutionResult<DoubleGene, Double> result = null;
+				for (int i = 0; i < 20; ++i) {
+					result = engine.evolveAsync(start).join();
+					start = result.next();
+				}
+				return result.population();
+			});
+
+		Assert.assertEquals(population, expected);
+		((ExecutorService)engine.executor()).shutdown();
+	}
+
 	@Test
 	public void variableDoubleSum() {
 		final Problem<int[], IntegerGene, Integer> problem = Problem.of(
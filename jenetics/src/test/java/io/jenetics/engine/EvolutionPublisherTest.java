@@ -0,0 +1,212 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionPublisherTest {
+
+	private static Engine<DoubleGene, Double> engine(final ExecutorService executor) {
+		return Engine
+			.builder(
+				gt -> gt.gene().doubleValue(),
+				DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.executor(executor)
+			.build();
+	}
+
+	/**
+	 * Subscriber, which requests one result after the other and cancels the
+	 * subscription after the given number of results.
+	 */
+	private static final class Collector<T> implements Flow.Subscriber<T> {
+		final CompletableFuture<List<T>> result = new CompletableFuture<>();
+		final List<T> elements = new ArrayList<>();
+		final int limit;
+		final int request;
+
+		Flow.Subscription subscription;
+
+		Collector(final int limit, final int request) {
+			this.limit = limit;
+			this.request = request;
+		}
+
+		Collector(final int limit) {
+			this(limit, 1);
+		}
+
+		@Override
+		public void onSubscribe(final Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(request);
+		}
+
+		@Override
+		public void onNext(final T item) {
+			elements.add(item);
+			if (elements.size() >= limit) {
+				subscription.cancel();
+				result.complete(elements);
+			} else if (elements.size()%request == 0) {
+				subscription.request(request);
+			}
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			result.completeExceptionally(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			result.complete(elements);
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void publish() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Collector<EvolutionResult<DoubleGene, Double>> collector =
+				new Collector<>(10);
+			engine(executor).publisher().subscribe(collector);
+
+			final ISeq<Long> generations = collector.result.get().stream()
+				.map(EvolutionResult::generation)
+				.collect(ISeq.toISeq());
+
+			Assert.assertEquals(
+				generations,
+				ISeq.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)
+			);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void publishBatched() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Collector<EvolutionResult<DoubleGene, Double>> collector =
+				new Collector<>(12, 4);
+			engine(executor).publisher().subscribe(collector);
+
+			Assert.assertEquals(collector.result.get().size(), 12);
+			Assert.assertEquals(collector.result.get().get(11).generation(), 12);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(timeOut = 20_000)
+	public void manyEnginesOnSmallExecutor() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Engine<DoubleGene, Double> engine = engine(executor);
+			final List<Collector<EvolutionResult<DoubleGene, Double>>> collectors =
+				new ArrayList<>();
+			for (int i = 0; i < 50; ++i) {
+				final Collector<EvolutionResult<DoubleGene, Double>> collector =
+					new Collector<>(5);
+				engine.publisher().subscribe(collector);
+				collectors.add(collector);
+			}
+
+			for (var collector : collectors) {
+				Assert.assertEquals(collector.result.get().size(), 5);
+			}
+		} finally {
+			executor.shutdown();
+			Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void illegalRequest() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Collector<EvolutionResult<DoubleGene, Double>> collector =
+				new Collector<>(10, 0);
+			engine(executor).publisher().subscribe(collector);
+
+			try {
+				collector.result.get();
+				Assert.fail("Expected IllegalArgumentException.");
+			} catch (ExecutionException e) {
+				Assert.assertTrue(e.getCause() instanceof IllegalArgumentException);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void evolutionError() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.<DoubleGene, Double>builder(
+					gt -> {
+						throw new IllegalStateException("Fitness error.");
+					},
+					DoubleChromosome.of(0, 1))
+				.populationSize(20)
+				.executor(executor)
+				.build();
+
+			final Collector<EvolutionResult<DoubleGene, Double>> collector =
+				new Collector<>(10);
+			engine.publisher().subscribe(collector);
+
+			try {
+				collector.result.get();
+				Assert.fail("Expected IllegalStateException.");
+			} catch (ExecutionException e) {
+				Assert.assertTrue(
+					e.getCause() instanceof IllegalStateException,
+					e.getCause().toString()
+				);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
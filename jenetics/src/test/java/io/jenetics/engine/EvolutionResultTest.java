@@ -24,6 +24,11 @@ import static io.jenetics.engine.EvolutionResult.toBestEvolutionResult;
 import java.io.Serializable;
 import java.time.Duration;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -41,10 +46,12 @@ import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.Factory;
+import io.jenetics.util.IntRange;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.ObjectTester;
 import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -332,6 +339,155 @@ public class EvolutionResultTest
 		);
 	}
 
+	@Test
+	public void toUniquePopulationKeepsOrder() {
+		final ISeq<Genotype<IntegerGene>> genotypes =
+			Genotype.of(IntegerChromosome.of(0, Integer.MAX_VALUE)).instances()
+				.limit(50)
+				.collect(ISeq.toISeq());
+		final ISeq<Genotype<IntegerGene>> population =
+			ISeq.concat(genotypes, genotypes.subSeq(0, 25));
+
+		final EvolutionInterceptor<IntegerGene, Integer> unifier =
+			EvolutionResult.toUniquePopulation(
+				Genotype.of(IntegerChromosome.of(0, Integer.MAX_VALUE)),
+				100,
+				ForkJoinPool.commonPool()
+			);
+
+		final EvolutionResult<IntegerGene, Integer> unified =
+			unifier.after(result(population));
+
+		Assert.assertEquals(unified.population().size(), population.size());
+		Assert.assertEquals(unified.genotypes().subSeq(0, 50), genotypes);
+		Assert.assertEquals(
+			unified.genotypes().stream().collect(Collectors.toSet()).size(),
+			population.size()
+		);
+	}
+
+	// Chromosome with a constant fingerprint, which forces collisions.
+	private static final class CollidingChromosome extends IntegerChromosome {
+		private static final long serialVersionUID = 1L;
+
+		CollidingChromosome(final int value) {
+			super(ISeq.of(IntegerGene.of(value, 0, 1000)), IntRange.of(1));
+		}
+
+		@Override
+		protected long fingerprint(final IntegerGene gene) {
+			return 1;
+		}
+
+		@Override
+		public IntegerChromosome newInstance() {
+			return new CollidingChromosome(RandomRegistry.random().nextInt(1000));
+		}
+	}
+
+	@Test
+	public void toUniquePopulationWithFingerprintCollisions() {
+		final ISeq<Genotype<IntegerGene>> genotypes = IntStream.range(0, 10)
+			.mapToObj(i -> Genotype.of(new CollidingChromosome(i)))
+			.collect(ISeq.toISeq());
+		final ISeq<Genotype<IntegerGene>> population =
+			ISeq.concat(genotypes, genotypes);
+		Assert.assertEquals(
+			population.stream().mapToLong(Genotype::fingerprint).distinct().count(),
+			1
+		);
+
+		final EvolutionInterceptor<IntegerGene, Integer> unifier =
+			EvolutionResult.toUniquePopulation(
+				Genotype.of(new CollidingChromosome(0)),
+				1000,
+				ForkJoinPool.commonPool()
+			);
+
+		final EvolutionResult<IntegerGene, Integer> unified =
+			unifier.after(result(population));
+
+		Assert.assertEquals(unified.genotypes().subSeq(0, 10), genotypes);
+		Assert.assertEquals(
+			unified.genotypes().stream().collect(Collectors.toSet()).size(),
+			population.size()
+		);
+	}
+
+	@Test
+	public void toUniquePopulationReproducible() {
+		final Genotype<IntegerGene> gt =
+			Genotype.of(IntegerChromosome.of(0, Integer.MAX_VALUE));
+		final ISeq<Genotype<IntegerGene>> population = IntStream.range(0, 100)
+			.mapToObj(i -> gt)
+			.collect(ISeq.toISeq());
+
+		final Function<Executor, ISeq<Genotype<IntegerGene>>> unified = executor ->
+			RandomRegistry.with(new SplitRandom(123), r ->
+				EvolutionResult.<IntegerGene, Integer>toUniquePopulation(
+					gt, 100, executor
+				).after(result(population)).genotypes()
+			);
+
+		final ISeq<Genotype<IntegerGene>> expected = unified.apply(Runnable::run);
+		Assert.assertEquals(
+			expected.stream().collect(Collectors.toSet()).size(),
+			population.size()
+		);
+		Assert.assertEquals(unified.apply(ForkJoinPool.commonPool()), expected);
+	}
+
+	@Test(timeOut = 10_000)
+	public void toUniquePopulationOnOwnExecutor() throws Exception {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Genotype<IntegerGene> gt =
+				Genotype.of(IntegerChromosome.of(0, Integer.MAX_VALUE));
+			final ISeq<Genotype<IntegerGene>> population = IntStream.range(0, 100)
+				.mapToObj(i -> gt)
+				.collect(ISeq.toISeq());
+
+			final EvolutionInterceptor<IntegerGene, Integer> unifier =
+				EvolutionResult.toUniquePopulation(gt, 100, executor);
+
+			// The interceptor runs on the only thread of its executor.
+			final EvolutionResult<IntegerGene, Integer> unified = executor
+				.submit(() -> unifier.after(result(population)))
+				.get(5, TimeUnit.SECONDS);
+
+			Assert.assertEquals(
+				unified.genotypes().stream().collect(Collectors.toSet()).size(),
+				population.size()
+			);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void toUniquePopulationEvolveAsync() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(1);
+		try {
+			final Engine<IntegerGene, Integer> engine = Engine
+				.builder(
+					gt -> gt.gene().intValue(),
+					IntegerChromosome.of(0, 1000))
+				.populationSize(50)
+				.executor(executor)
+				.interceptor(EvolutionResult.toUniquePopulation(
+					Genotype.of(IntegerChromosome.of(0, 1000)), 100, executor))
+				.build();
+
+			final EvolutionResult<IntegerGene, Integer> result = engine
+				.evolveAsync(EvolutionStart.empty())
+				.get(5, TimeUnit.SECONDS);
+
+			Assert.assertEquals(result.population().size(), 50);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	@Test
 	public void toStrictlyImprovingResults() {
 		final ISeq<Integer> results = new Random()
@@ -24,6 +24,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -65,6 +66,46 @@ public class ExecutionTimeLimitTest {
 		Assert.assertEquals(clock.count, count.get() + 1);
 	}
 
+	@Test(dataProvider = "durations")
+	public void predicate(final Integer millis) {
+		final CountClock clock = new CountClock();
+		final Duration duration = Duration.ofMillis(millis);
+
+		final long count = Stream.generate(Object::new)
+			.takeWhile(Limits.byExecutionTime(duration, clock))
+			.count();
+
+		Assert.assertEquals(count, (long)millis);
+		Assert.assertEquals(clock.count, count + 1);
+	}
+
+	@Test
+	public void overTimeStep() {
+		final CountClock clock = new CountClock();
+		final AtomicInteger evolutions = new AtomicInteger();
+
+		// Every evolution step takes 40 ms and doesn't use the deadline.
+		final Evolution<DoubleGene, Double> evolution = s -> {
+			evolutions.incrementAndGet();
+			clock.count += 39;
+			return EvolutionResult.of(
+				Optimize.MAXIMUM,
+				ISeq.empty(),
+				1, EvolutionDurations.ZERO, 0, 0, 0
+			);
+		};
+
+		final long count = new EvolutionStreamImpl<>(
+				() -> EvolutionStart.of(ISeq.empty(), 1),
+				evolution
+			)
+			.limit(Limits.byExecutionTime(Duration.ofMillis(100), clock))
+			.count();
+
+		Assert.assertEquals(count, 3);
+		Assert.assertEquals(evolutions.get(), 4);
+	}
+
 	private static EvolutionStream<DoubleGene, Double> stream() {
 		final Evolution<DoubleGene, Double> evolution =
 			s -> EvolutionResult.of(
@@ -0,0 +1,113 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.EvolutionMetrics.Stage;
+import io.jenetics.util.DoubleRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HistogramMetricsTest {
+
+	private static Engine.Builder<DoubleGene, Double> builder() {
+		return Engine
+			.builder(
+				x -> x*x,
+				Codecs.ofScalar(DoubleRange.of(-10, 10))
+			)
+			.minimizing()
+			.populationSize(50);
+	}
+
+	@Test
+	public void recordMetrics() {
+		final HistogramMetrics metrics = new HistogramMetrics();
+		final Engine<DoubleGene, Double> engine = builder()
+			.metrics(metrics)
+			.build();
+
+		engine.stream().limit(10).forEach(r -> {});
+
+		assertEquals(metrics.generation(), 10);
+		for (Stage stage : Stage.values()) {
+			assertEquals(metrics.stageDuration(stage).count(), 10);
+			if (ThreadAllocations.isSupported()) {
+				assertEquals(metrics.stageAllocation(stage).count(), 10);
+			}
+		}
+
+		// Initial population and offspring of every generation.
+		assertTrue(metrics.evaluationLatency().count() >= 50);
+		assertTrue(metrics.queueWait().count() > 0);
+	}
+
+	@Test
+	public void disabledMetrics() {
+		final AtomicInteger calls = new AtomicInteger();
+		final EvolutionMetrics metrics = new EvolutionMetrics() {
+			@Override
+			public boolean isEnabled() {
+				return false;
+			}
+			@Override
+			public void stage(
+				final long generation,
+				final Stage stage,
+				final Duration duration,
+				final long allocatedBytes
+			) {
+				calls.incrementAndGet();
+			}
+			@Override
+			public void evaluation(final long generation, final long nanos) {
+				calls.incrementAndGet();
+			}
+			@Override
+			public void generation(final EvolutionResult<?, ?> result) {
+				calls.incrementAndGet();
+			}
+		};
+
+		final Engine<DoubleGene, Double> engine = builder()
+			.metrics(metrics)
+			.build();
+
+		engine.stream().limit(10).forEach(r -> {});
+		assertEquals(calls.get(), 0);
+	}
+
+	@Test
+	public void defaultMetrics() {
+		final Engine<DoubleGene, Double> engine = builder().build();
+		assertTrue(!engine.metrics().isEnabled());
+		assertEquals(engine.toBuilder().build().metrics(), engine.metrics());
+	}
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SteadyStateEngineTest {
+
+	private static double fitness(final Genotype<DoubleGene> gt) {
+		return gt.gene().doubleValue();
+	}
+
+	private static Engine<DoubleGene, Double> engine() {
+		return engine(SteadyStateEngineTest::fitness);
+	}
+
+	private static Engine<DoubleGene, Double>
+	engine(final Function<Genotype<DoubleGene>, Double> fitness) {
+		return Engine
+			.builder(fitness, DoubleChromosome.of(0, 100))
+			.populationSize(30)
+			.alterers(
+				new Mutator<>(0.2),
+				new MeanAlterer<>())
+			.build();
+	}
+
+	@Test
+	public void stream() {
+		final ISeq<EvolutionResult<DoubleGene, Double>> results = SteadyStateEngine
+			.builder(engine())
+			.concurrency(4)
+			.build()
+			.stream()
+			.limit(10)
+			.collect(ISeq.toISeq());
+
+		Assert.assertEquals(results.size(), 10);
+		for (int i = 0; i < results.size(); ++i) {
+			final EvolutionResult<DoubleGene, Double> result = results.get(i);
+			Assert.assertEquals(result.generation(), i + 1);
+			Assert.assertEquals(result.population().size(), 30);
+			Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		}
+	}
+
+	@Test(dataProvider = "concurrency")
+	public void elitism(final int concurrency) {
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			final Engine<DoubleGene, Double> engine = engine().toBuilder()
+				.executor(executor)
+				.build();
+
+			// The initial population is far below the fitness maximum of
+			// 100. A population, which is already close to the maximum, can
+			// keep its best fitness for all snapshots, since only a mutation
+			// can exceed it.
+			final ISeq<Genotype<DoubleGene>> start = IntStream.range(0, 30)
+				.mapToObj(i -> Genotype.of(DoubleChromosome.of(
+					DoubleGene.of(RandomRegistry.random().nextDouble()*10, 0, 100))))
+				.collect(ISeq.toISeq());
+
+			final ISeq<EvolutionResult<DoubleGene, Double>> results = SteadyStateEngine
+				.builder(engine)
+				.concurrency(concurrency)
+				.replacement(Replacement.worst())
+				.build()
+				.stream(start)
+				.limit(50)
+				.collect(ISeq.toISeq());
+
+			final double initial = start.stream()
+				.mapToDouble(SteadyStateEngineTest::fitness)
+				.max()
+				.orElseThrow();
+
+			final ISeq<Double> best = results.map(EvolutionResult::bestFitness);
+			final ISeq<Double> mean = results.map(SteadyStateEngineTest::mean);
+			Assert.assertTrue(best.isSorted(), best.toString());
+			Assert.assertTrue(best.get(0) >= initial, best.toString());
+			Assert.assertTrue(best.get(49) > initial, best.toString());
+			Assert.assertTrue(mean.isSorted(), mean.toString());
+			Assert.assertTrue(mean.get(49) > mean.get(0), mean.toString());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static double mean(final EvolutionResult<DoubleGene, Double> result) {
+		return result.population().stream()
+			.mapToDouble(Phenotype::fitness)
+			.average()
+			.orElse(0);
+	}
+
+	@DataProvider(name = "concurrency")
+	public Object[][] concurrency() {
+		return new Object[][] {{1}, {2}, {8}, {20}};
+	}
+
+	@Test
+	public void evolve() {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Function<Genotype<DoubleGene>, Double> ff = gt -> {
+			evaluations.incrementAndGet();
+			return fitness(gt);
+		};
+
+		final SteadyStateEngine<DoubleGene, Double> engine = SteadyStateEngine
+			.builder(engine(ff))
+			.concurrency(5)
+			.snapshotSize(12)
+			.replacement(Replacement.oldest())
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.evolve(EvolutionStart.of(ISeq.empty(), 3));
+
+		Assert.assertEquals(result.generation(), 3);
+		Assert.assertEquals(result.population().size(), 30);
+		Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+
+		// The initial population, and at most every processed and pending
+		// offspring individual is evaluated.
+		Assert.assertTrue(evaluations.get() >= 30);
+		Assert.assertTrue(evaluations.get() <= 30 + 12 + 5 + 1);
+	}
+
+	@Test
+	public void engineEvaluator() {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Evaluator<DoubleGene, Double> evaluator = population -> {
+			evaluations.addAndGet(population.size());
+			return population
+				.map(pt -> pt.isEvaluated() ? pt : pt.withFitness(fitness(pt.genotype())))
+				.asISeq();
+		};
+
+		final Engine<DoubleGene, Double> engine = new Engine.Builder<>(
+				evaluator,
+				Genotype.of(DoubleChromosome.of(0, 100)))
+			.populationSize(30)
+			.alterers(new Mutator<>(1.0))
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = SteadyStateEngine
+			.builder(engine)
+			.concurrency(3)
+			.snapshotSize(10)
+			.build()
+			.evolve(EvolutionStart.of(ISeq.empty(), 1));
+
+		// All offspring individuals are evaluated by the engine's evaluator.
+		Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+		Assert.assertTrue(evaluations.get() >= 30 + 10);
+	}
+
+	@Test
+	public void limits() {
+		final EvolutionStatistics<Double, ?> statistics =
+			EvolutionStatistics.ofNumber();
+
+		final EvolutionResult<DoubleGene, Double> result = SteadyStateEngine
+			.builder(engine())
+			.build()
+			.stream()
+			.limit(Limits.byFixedGeneration(7))
+			.peek(statistics)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.totalGenerations(), 7);
+		Assert.assertEquals(statistics.altered().count(), 7);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalConcurrency() {
+		SteadyStateEngine.builder(engine())
+			.concurrency(0);
+	}
+
+	@Test
+	public void replaceWorst() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			phenotype(5, 1),
+			phenotype(2, 1),
+			phenotype(7, 1)
+		);
+
+		final Replacement<DoubleGene, Double> replacement = Replacement.worst();
+		Assert.assertEquals(
+			replacement.select(population, phenotype(3, 2), Optimize.MAXIMUM),
+			1
+		);
+		Assert.assertEquals(
+			replacement.select(population, phenotype(1, 2), Optimize.MAXIMUM),
+			-1
+		);
+		Assert.assertEquals(
+			replacement.select(population, phenotype(6, 2), Optimize.MINIMUM),
+			2
+		);
+	}
+
+	@Test
+	public void replaceOldest() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			phenotype(5, 4),
+			phenotype(2, 2),
+			phenotype(7, 3)
+		);
+
+		final Replacement<DoubleGene, Double> replacement = Replacement.oldest();
+		Assert.assertEquals(
+			replacement.select(population, phenotype(1, 5), Optimize.MAXIMUM),
+			1
+		);
+	}
+
+	private static Phenotype<DoubleGene, Double>
+	phenotype(final double value, final long generation) {
+		return Phenotype.<DoubleGene, Double>of(
+			Genotype.of(DoubleChromosome.of(DoubleGene.of(value, 0, 10))),
+			generation
+		).withFitness(value);
+	}
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.SurrogateEvaluator.Reevaluation;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SurrogateEvaluatorTest {
+
+	private static final Genotype<DoubleGene> GENOTYPE =
+		Genotype.of(DoubleChromosome.of(-5, 5, 3));
+
+	private static double sphere(final Genotype<DoubleGene> gt) {
+		return gt.chromosome().stream()
+			.mapToDouble(g -> g.doubleValue()*g.doubleValue())
+			.sum();
+	}
+
+	private static Evaluator<DoubleGene, Double>
+	counting(final AtomicInteger count) {
+		final Function<Genotype<DoubleGene>, Double> fitness = gt -> {
+			count.incrementAndGet();
+			return sphere(gt);
+		};
+		return Evaluators.serial(fitness);
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		return GENOTYPE.instances()
+			.limit(size)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void warmup() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator = SurrogateEvaluator
+			.builder(counting(count))
+			.warmup(100)
+			.build();
+
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			evaluator.eval(population(50));
+
+		Assert.assertEquals(count.get(), 50);
+		Assert.assertEquals(result.size(), 50);
+		Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+		Assert.assertEquals(evaluator.evaluations(), 50);
+		Assert.assertEquals(evaluator.estimations(), 0);
+		Assert.assertTrue(Double.isNaN(evaluator.hitRate()));
+	}
+
+	@Test
+	public void screening() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator = SurrogateEvaluator
+			.builder(counting(count))
+			.optimize(Optimize.MINIMUM)
+			.warmup(50)
+			.fraction(0.2)
+			.build();
+
+		evaluator.eval(population(50));
+		count.set(0);
+
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			evaluator.eval(population(100));
+
+		Assert.assertEquals(count.get(), 20);
+		Assert.assertEquals(result.size(), 100);
+		Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+		Assert.assertEquals(evaluator.evaluations(), 70);
+		Assert.assertEquals(evaluator.estimations(), 80);
+		Assert.assertEquals(evaluator.predictionError().count(), 20);
+		Assert.assertTrue(evaluator.hitRate() >= 0 && evaluator.hitRate() <= 1);
+	}
+
+	@Test
+	public void screeningPrefersPromisingIndividuals() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator = SurrogateEvaluator
+			.builder(counting(count))
+			.optimize(Optimize.MINIMUM)
+			.warmup(500)
+			.fraction(0.1)
+			.build();
+
+		evaluator.eval(population(500));
+
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(500);
+		final double mean = population.stream()
+			.mapToDouble(pt -> sphere(pt.genotype()))
+			.average()
+			.orElseThrow();
+
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			evaluator.eval(population);
+
+		final double screened = result.stream()
+			.filter(pt -> pt.fitness() == sphere(pt.genotype()))
+			.mapToDouble(Phenotype::fitness)
+			.average()
+			.orElseThrow();
+
+		Assert.assertTrue(screened < mean, screened + " >= " + mean);
+		Assert.assertTrue(evaluator.hitRate() > 0.5, "" + evaluator.hitRate());
+	}
+
+	@Test
+	public void reevaluateAlways() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator = SurrogateEvaluator
+			.builder(counting(count))
+			.warmup(10)
+			.fraction(0.5)
+			.reevaluation(Reevaluation.ALWAYS)
+			.build();
+
+		evaluator.eval(population(10));
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			evaluator.eval(population(10));
+
+		count.set(0);
+		evaluator.eval(result);
+		Assert.assertEquals(count.get(), 5);
+	}
+
+	@Test
+	public void reevaluateNever() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator = SurrogateEvaluator
+			.builder(counting(count))
+			.warmup(10)
+			.fraction(0.5)
+			.reevaluation(Reevaluation.NEVER)
+			.build();
+
+		evaluator.eval(population(10));
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			evaluator.eval(population(10));
+
+		count.set(0);
+		evaluator.eval(result);
+		Assert.assertEquals(count.get(), 0);
+		Assert.assertEquals(evaluator.estimations(), 5);
+	}
+
+	@Test
+	public void evolve() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene> evaluator = SurrogateEvaluator
+			.builder(counting(count))
+			.optimize(Optimize.MINIMUM)
+			.fraction(0.25)
+			.build();
+
+		final Engine<DoubleGene, Double> engine =
+			new Engine.Builder<>(evaluator, GENOTYPE)
+				.minimizing()
+				.populationSize(50)
+				.build();
+
+		final Phenotype<DoubleGene, Double> best = engine.stream()
+			.limit(100)
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertTrue(best.isEvaluated());
+		Assert.assertEquals(count.get(), evaluator.evaluations());
+		Assert.assertTrue(evaluator.estimations() > 0);
+	}
+
+	@Test
+	public void evolveWithExecutionTimeLimit() throws InterruptedException {
+		final var count = new AtomicInteger();
+		final var skipped = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Evaluator<DoubleGene, Double> concurrent = Evaluators.concurrent(
+				gt -> {
+					count.incrementAndGet();
+					try {
+						TimeUnit.MILLISECONDS.sleep(20);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return sphere(gt);
+				},
+				executor
+			);
+
+			// Counts the individuals, skipped because of the deadline.
+			final Evaluator<DoubleGene, Double> inner = population -> {
+				final ISeq<Phenotype<DoubleGene, Double>> result =
+					concurrent.eval(population);
+				skipped.addAndGet((int)result.stream()
+					.filter(Phenotype::nonEvaluated)
+					.count());
+				return result;
+			};
+
+			final SurrogateEvaluator<DoubleGene> evaluator = SurrogateEvaluator
+				.builder(inner)
+				.optimize(Optimize.MINIMUM)
+				.fraction(0.5)
+				.warmup(10)
+				.build();
+
+			final Engine<DoubleGene, Double> engine =
+				new Engine.Builder<>(evaluator, GENOTYPE)
+					.minimizing()
+					.populationSize(50)
+					.build();
+
+			final ISeq<EvolutionResult<DoubleGene, Double>> results = engine.stream()
+				.limit(Limits.byExecutionTime(Duration.ofMillis(100)))
+				.collect(ISeq.toISeq());
+
+			Assert.assertFalse(results.isEmpty());
+			Assert.assertTrue(skipped.get() > 0);
+			Assert.assertEquals(count.get(), evaluator.evaluations());
+			for (EvolutionResult<DoubleGene, Double> result : results) {
+				Assert.assertEquals(result.population().size(), 50);
+				Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidFraction() {
+		SurrogateEvaluator.builder(counting(new AtomicInteger())).fraction(0);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ISeqTestBase;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+import io.jenetics.util.Serialize;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Test
+public class PersistentISeqTest extends ISeqTestBase {
+
+	@Override
+	protected ISeq<Integer> newSeq(final int length) {
+		return PersistentISeq.of(values(length));
+	}
+
+	private static ISeq<Integer> values(final int length) {
+		return IntStream.range(0, length).boxed().collect(ISeq.toISeq());
+	}
+
+	@Test(dataProvider = "lengths")
+	public void of(final int length) {
+		final ISeq<Integer> values = values(length);
+		final PersistentISeq<Integer> seq = PersistentISeq.of(values);
+
+		Assert.assertEquals(seq.length(), length);
+		Assert.assertEquals(seq, values);
+		Assert.assertEquals(seq.hashCode(), Seq.hashCode(values));
+		Assert.assertEquals(seq.copy(), MSeq.of(values));
+	}
+
+	@Test(dataProvider = "lengths")
+	public void with(final int length) {
+		final PersistentISeq<Integer> seq = PersistentISeq.of(values(length));
+
+		PersistentISeq<Integer> updated = seq;
+		for (int i = 0; i < length; i += 7) {
+			updated = updated.with(i, -i);
+		}
+
+		for (int i = 0; i < length; ++i) {
+			Assert.assertEquals(seq.get(i).intValue(), i);
+			Assert.assertEquals(updated.get(i).intValue(), i%7 == 0 ? -i : i);
+		}
+	}
+
+	@Test(dataProvider = "lengths")
+	public void append(final int length) {
+		final PersistentISeq<Integer> seq = PersistentISeq.of(values(length));
+		final PersistentISeq<Integer> appended = seq.append(values(length));
+
+		Assert.assertEquals(seq, values(length));
+		Assert.assertEquals(appended, values(length).append(values(length)));
+	}
+
+	@Test
+	public void appendSingleValues() {
+		ISeq<Integer> seq = PersistentISeq.empty();
+		for (int i = 0; i < 40_000; ++i) {
+			seq = seq.append(i);
+		}
+
+		Assert.assertEquals(seq, values(40_000));
+	}
+
+	@Test
+	public void appendToSubSeq() {
+		final PersistentISeq<Integer> seq = PersistentISeq.of(values(100));
+
+		Assert.assertEquals(
+			seq.subSeq(10, 50).append(1, 2, 3),
+			values(100).subSeq(10, 50).append(1, 2, 3)
+		);
+		Assert.assertEquals(
+			seq.subSeq(10).append(1, 2, 3),
+			values(100).subSeq(10).append(1, 2, 3)
+		);
+		Assert.assertEquals(seq, values(100));
+	}
+
+	@Test
+	public void prepend() {
+		Assert.assertEquals(
+			PersistentISeq.of(values(100)).subSeq(5).prepend(1, 2, 3),
+			values(100).subSeq(5).prepend(1, 2, 3)
+		);
+	}
+
+	@Test
+	public void map() {
+		Assert.assertEquals(
+			PersistentISeq.of(values(1000)).map(i -> i*2),
+			values(1000).map(i -> i*2)
+		);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		Serialize.object.test(PersistentISeq.of(values(1000)).with(5, -5));
+	}
+
+	@DataProvider
+	public Object[][] lengths() {
+		return new Object[][] {
+			{0}, {1}, {31}, {32}, {33}, {1024}, {1056}, {1057}, {10_000}, {33_825}
+		};
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.engine;
+
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class NumericPopulationTest {
+
+	private static <C extends Comparable<? super C>>
+	ISeq<Phenotype<DoubleGene, C>> population(
+		final int size,
+		final IntFunction<C> fitness
+	) {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		final MSeq<Phenotype<DoubleGene, C>> population = MSeq.ofLength(size);
+		for (int i = 0; i < size; ++i) {
+			population.set(i, Phenotype.of(gt.newInstance(), 1, fitness.apply(i)));
+		}
+		return population.toISeq();
+	}
+
+	@Test(dataProvider = "optimize")
+	public void sorted(final Optimize optimize) {
+		final Random random = new Random(123);
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			population(1000, i -> (double)random.nextInt(100));
+
+		final ISeq<Phenotype<DoubleGene, Double>> expected = population.copy()
+			.sort((a, b) ->
+				optimize.<Double>descending().compare(a.fitness(), b.fitness()))
+			.toISeq();
+
+		final ISeq<Phenotype<DoubleGene, Double>> sorted =
+			NumericPopulation.sorted(population, optimize).toISeq();
+
+		Assert.assertEquals(sorted.size(), expected.size());
+		for (int i = 0; i < sorted.size(); ++i) {
+			Assert.assertSame(sorted.get(i), expected.get(i));
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void bestWorst(final Optimize optimize) {
+		final Random random = new Random(456);
+		final ISeq<Phenotype<DoubleGene, Integer>> population =
+			population(1000, i -> random.nextInt(50));
+
+		final NumericPopulation<DoubleGene, Integer> numeric =
+			NumericPopulation.of(population).orElseThrow();
+
+		Assert.assertSame(
+			numeric.best(optimize),
+			population.stream().max(optimize.ascending()).orElseThrow()
+		);
+		Assert.assertSame(
+			numeric.worst(optimize),
+			population.stream().min(optimize.ascending()).orElseThrow()
+		);
+	}
+
+	@Test
+	public void empty() {
+		final NumericPopulation<DoubleGene, Double> numeric =
+			NumericPopulation.<DoubleGene, Double>of(ISeq.empty()).orElseThrow();
+
+		Assert.assertEquals(numeric.size(), 0);
+		Assert.assertNull(numeric.best(Optimize.MAXIMUM));
+		Assert.assertNull(numeric.worst(Optimize.MAXIMUM));
+	}
+
+	@Test
+	public void nonNumeric() {
+		final ISeq<Phenotype<DoubleGene, String>> strings =
+			population(10, String::valueOf);
+		Assert.assertFalse(NumericPopulation.of(strings).isPresent());
+
+		final ISeq<Phenotype<DoubleGene, Long>> big =
+			population(10, i -> Long.MAX_VALUE - i);
+		Assert.assertFalse(NumericPopulation.of(big).isPresent());
+
+		final ISeq<Phenotype<DoubleGene, Long>> small =
+			population(10, i -> (long)i);
+		Assert.assertTrue(NumericPopulation.of(small).isPresent());
+	}
+
+	@Test
+	public void nonEvaluated() {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			population(10, i -> (double)i)
+				.map(Phenotype::nullifyFitness);
+
+		Assert.assertFalse(NumericPopulation.of(population).isPresent());
+	}
+
+	@DataProvider
+	public Object[][] optimize() {
+		return new Object[][] {
+			{Optimize.MAXIMUM},
+			{Optimize.MINIMUM}
+		};
+	}
+
+}
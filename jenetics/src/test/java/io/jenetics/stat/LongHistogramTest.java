@@ -0,0 +1,106 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LongHistogramTest {
+
+	@Test
+	public void indexUpperBound() {
+		for (long value = 0; value < 100_000; ++value) {
+			final int index = LongHistogram.index(value);
+			assertTrue(value <= LongHistogram.upperBound(index));
+			if (index > 0) {
+				assertTrue(value > LongHistogram.upperBound(index - 1));
+			}
+		}
+
+		final int index = LongHistogram.index(Long.MAX_VALUE);
+		assertEquals(LongHistogram.upperBound(index), Long.MAX_VALUE);
+	}
+
+	@Test
+	public void emptyHistogram() {
+		final LongHistogram histogram = new LongHistogram();
+		assertEquals(histogram.count(), 0);
+		assertEquals(histogram.sum(), 0);
+		assertEquals(histogram.quantile(0.5), 0);
+		assertTrue(Double.isNaN(histogram.mean()));
+	}
+
+	@Test
+	public void statistics() {
+		final LongHistogram histogram = new LongHistogram();
+		LongStream.rangeClosed(1, 1000).forEach(histogram);
+
+		assertEquals(histogram.count(), 1000);
+		assertEquals(histogram.sum(), 500_500);
+		assertEquals(histogram.min(), 1);
+		assertEquals(histogram.max(), 1000);
+		assertEquals(histogram.mean(), 500.5);
+		assertEquals(histogram.quantile(0), 1);
+		assertEquals(histogram.quantile(1), 1000);
+	}
+
+	@Test
+	public void quantileError() {
+		final Random random = new Random(123);
+		final long[] values = random.longs(10_000, 0, 10_000_000).toArray();
+
+		final LongHistogram histogram = new LongHistogram();
+		LongStream.of(values).forEach(histogram);
+		Arrays.sort(values);
+
+		for (double p : new double[]{0.1, 0.5, 0.9, 0.99, 0.999}) {
+			final long expected = values[(int)Math.ceil(p*values.length) - 1];
+			final long actual = histogram.quantile(p);
+			assertTrue(actual >= expected);
+			assertTrue(actual <= expected*1.125 + 1, p + ": " + actual);
+		}
+	}
+
+	@Test
+	public void concurrentRecording() {
+		final LongHistogram histogram = new LongHistogram();
+		IntStream.range(0, 100_000).parallel().forEach(histogram::accept);
+
+		assertEquals(histogram.count(), 100_000);
+		assertEquals(histogram.sum(), 100_000L*99_999/2);
+		assertEquals(histogram.max(), 99_999);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		new LongHistogram().quantile(1.1);
+	}
+
+}
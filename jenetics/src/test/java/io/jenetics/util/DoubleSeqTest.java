@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.stat.DoubleMomentStatistics;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleSeqTest {
+
+	@Test
+	public void of() {
+		final double[] values = {3.0, 1.0, 5.0, 4.0, 2.0};
+		final DoubleSeq seq = DoubleSeq.of(values);
+		values[0] = 2.0;
+
+		Assert.assertEquals(seq.length(), 5);
+		Assert.assertEquals(seq.get(0), 3.0);
+		Assert.assertEquals(seq.toArray(), new double[]{3.0, 1.0, 5.0, 4.0, 2.0});
+		Assert.assertTrue(DoubleSeq.empty().isEmpty());
+	}
+
+	@Test
+	public void ofSupplier() {
+		final Random random = new Random(123);
+		final double[] expected = new Random(123).doubles(10).toArray();
+
+		final DoubleSeq seq = DoubleSeq.of(random::nextDouble, 10);
+		Assert.assertEquals(seq.length(), 10);
+		Assert.assertEquals(seq.toArray(), expected);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0).subSeq(1, 3).get(2);
+	}
+
+	@Test
+	public void map() {
+		final DoubleSeq seq = DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0);
+		Assert.assertEquals(seq.map(v -> v*2).toArray(), new double[]{6.0, 2.0, 10.0, 8.0, 4.0});
+		Assert.assertEquals(seq.toArray(), new double[]{3.0, 1.0, 5.0, 4.0, 2.0});
+	}
+
+	@Test
+	public void stream() {
+		Assert.assertEquals(DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0).stream().sum(), 15.0);
+		Assert.assertEquals(DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0).subSeq(1, 3).stream().toArray(), new double[]{1.0, 5.0});
+	}
+
+	@Test
+	public void sort() {
+		final MDoubleSeq seq = MDoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0);
+		final double[] expected = {3.0, 1.0, 5.0, 4.0, 2.0};
+		Arrays.sort(expected);
+
+		Assert.assertEquals(seq.sort().toArray(), expected);
+	}
+
+	@Test
+	public void sortRange() {
+		final MDoubleSeq seq = MDoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0);
+		final double[] expected = {3.0, 1.0, 5.0, 4.0, 2.0};
+		Arrays.sort(expected, 1, 4);
+
+		Assert.assertEquals(seq.sort(1, 4).toArray(), expected);
+	}
+
+	@Test
+	public void subSeqView() {
+		final MDoubleSeq seq = MDoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0);
+		final MDoubleSeq sub = seq.subSeq(2);
+		sub.set(0, 2.0);
+
+		Assert.assertEquals(sub.length(), 3);
+		Assert.assertEquals(seq.get(2), 2.0);
+	}
+
+	@Test
+	public void copy() {
+		final DoubleSeq seq = DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0);
+		final MDoubleSeq copy = seq.copy();
+		copy.set(0, 2.0);
+
+		Assert.assertEquals(seq.get(0), 3.0);
+		Assert.assertEquals(copy.get(0), 2.0);
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final MDoubleSeq seq = MDoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0);
+		final DoubleSeq immutable = seq.toDoubleSeq();
+		final ISeq<Double> boxed = seq.boxed();
+		seq.set(0, 2.0);
+
+		Assert.assertEquals(seq.get(0), 2.0);
+		Assert.assertEquals(immutable.get(0), 3.0);
+		Assert.assertEquals(boxed.get(0).doubleValue(), 3.0);
+	}
+
+	@Test
+	public void boxed() {
+		Assert.assertEquals(
+			DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0).boxed(),
+			ISeq.of(3.0, 1.0, 5.0, 4.0, 2.0)
+		);
+	}
+
+	@Test
+	public void equals() {
+		final DoubleSeq seq = DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0);
+		final MDoubleSeq mseq = MDoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0);
+
+		Assert.assertEquals(mseq, seq);
+		Assert.assertEquals(mseq.hashCode(), seq.hashCode());
+		Assert.assertEquals(seq.subSeq(1, 3), DoubleSeq.of(1.0, 5.0));
+		Assert.assertNotEquals(seq.subSeq(1, 3), DoubleSeq.of(1.0, 4.0));
+	}
+
+	@Test
+	public void statistics() {
+		final DoubleMomentStatistics statistics = new DoubleMomentStatistics();
+		statistics.accept(DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0));
+
+		Assert.assertEquals(statistics.count(), 5);
+		Assert.assertEquals(statistics.sum(), 15.0);
+		Assert.assertEquals(statistics.min(), 1.0);
+		Assert.assertEquals(statistics.max(), 5.0);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		Serialize.object.test(DoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0));
+		Serialize.object.test(MDoubleSeq.of(3.0, 1.0, 5.0, 4.0, 2.0).subSeq(1, 4));
+	}
+
+}
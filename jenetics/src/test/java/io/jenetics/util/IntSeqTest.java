@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.stat.IntMomentStatistics;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IntSeqTest {
+
+	@Test
+	public void of() {
+		final int[] values = {3, 1, 5, 4, 2};
+		final IntSeq seq = IntSeq.of(values);
+		values[0] = 2;
+
+		Assert.assertEquals(seq.length(), 5);
+		Assert.assertEquals(seq.get(0), 3);
+		Assert.assertEquals(seq.toArray(), new int[]{3, 1, 5, 4, 2});
+		Assert.assertTrue(IntSeq.empty().isEmpty());
+	}
+
+	@Test
+	public void ofSupplier() {
+		final Random random = new Random(123);
+		final int[] expected = new Random(123).ints(10).toArray();
+
+		final IntSeq seq = IntSeq.of(random::nextInt, 10);
+		Assert.assertEquals(seq.length(), 10);
+		Assert.assertEquals(seq.toArray(), expected);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		IntSeq.of(3, 1, 5, 4, 2).subSeq(1, 3).get(2);
+	}
+
+	@Test
+	public void map() {
+		final IntSeq seq = IntSeq.of(3, 1, 5, 4, 2);
+		Assert.assertEquals(seq.map(v -> v*2).toArray(), new int[]{6, 2, 10, 8, 4});
+		Assert.assertEquals(seq.toArray(), new int[]{3, 1, 5, 4, 2});
+	}
+
+	@Test
+	public void stream() {
+		Assert.assertEquals(IntSeq.of(3, 1, 5, 4, 2).stream().sum(), 15);
+		Assert.assertEquals(IntSeq.of(3, 1, 5, 4, 2).subSeq(1, 3).stream().toArray(), new int[]{1, 5});
+	}
+
+	@Test
+	public void sort() {
+		final MIntSeq seq = MIntSeq.of(3, 1, 5, 4, 2);
+		final int[] expected = {3, 1, 5, 4, 2};
+		Arrays.sort(expected);
+
+		Assert.assertEquals(seq.sort().toArray(), expected);
+	}
+
+	@Test
+	public void sortRange() {
+		final MIntSeq seq = MIntSeq.of(3, 1, 5, 4, 2);
+		final int[] expected = {3, 1, 5, 4, 2};
+		Arrays.sort(expected, 1, 4);
+
+		Assert.assertEquals(seq.sort(1, 4).toArray(), expected);
+	}
+
+	@Test
+	public void subSeqView() {
+		final MIntSeq seq = MIntSeq.of(3, 1, 5, 4, 2);
+		final MIntSeq sub = seq.subSeq(2);
+		sub.set(0, 2);
+
+		Assert.assertEquals(sub.length(), 3);
+		Assert.assertEquals(seq.get(2), 2);
+	}
+
+	@Test
+	public void copy() {
+		final IntSeq seq = IntSeq.of(3, 1, 5, 4, 2);
+		final MIntSeq copy = seq.copy();
+		copy.set(0, 2);
+
+		Assert.assertEquals(seq.get(0), 3);
+		Assert.assertEquals(copy.get(0), 2);
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final MIntSeq seq = MIntSeq.of(3, 1, 5, 4, 2);
+		final IntSeq immutable = seq.toIntSeq();
+		final ISeq<Integer> boxed = seq.boxed();
+		seq.set(0, 2);
+
+		Assert.assertEquals(seq.get(0), 2);
+		Assert.assertEquals(immutable.get(0), 3);
+		Assert.assertEquals(boxed.get(0).intValue(), 3);
+	}
+
+	@Test
+	public void boxed() {
+		Assert.assertEquals(
+			IntSeq.of(3, 1, 5, 4, 2).boxed(),
+			ISeq.of(3, 1, 5, 4, 2)
+		);
+	}
+
+	@Test
+	public void equals() {
+		final IntSeq seq = IntSeq.of(3, 1, 5, 4, 2);
+		final MIntSeq mseq = MIntSeq.of(3, 1, 5, 4, 2);
+
+		Assert.assertEquals(mseq, seq);
+		Assert.assertEquals(mseq.hashCode(), seq.hashCode());
+		Assert.assertEquals(seq.subSeq(1, 3), IntSeq.of(1, 5));
+		Assert.assertNotEquals(seq.subSeq(1, 3), IntSeq.of(1, 4));
+	}
+
+	@Test
+	public void statistics() {
+		final IntMomentStatistics statistics = new IntMomentStatistics();
+		statistics.accept(IntSeq.of(3, 1, 5, 4, 2));
+
+		Assert.assertEquals(statistics.count(), 5);
+		Assert.assertEquals(statistics.sum(), 15);
+		Assert.assertEquals(statistics.min(), 1);
+		Assert.assertEquals(statistics.max(), 5);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		Serialize.object.test(IntSeq.of(3, 1, 5, 4, 2));
+		Serialize.object.test(MIntSeq.of(3, 1, 5, 4, 2).subSeq(1, 4));
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.stat.LongMomentStatistics;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LongSeqTest {
+
+	@Test
+	public void of() {
+		final long[] values = {3L, 1L, 5L, 4L, 2L};
+		final LongSeq seq = LongSeq.of(values);
+		values[0] = 2L;
+
+		Assert.assertEquals(seq.length(), 5);
+		Assert.assertEquals(seq.get(0), 3L);
+		Assert.assertEquals(seq.toArray(), new long[]{3L, 1L, 5L, 4L, 2L});
+		Assert.assertTrue(LongSeq.empty().isEmpty());
+	}
+
+	@Test
+	public void ofSupplier() {
+		final Random random = new Random(123);
+		final long[] expected = new Random(123).longs(10).toArray();
+
+		final LongSeq seq = LongSeq.of(random::nextLong, 10);
+		Assert.assertEquals(seq.length(), 10);
+		Assert.assertEquals(seq.toArray(), expected);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		LongSeq.of(3L, 1L, 5L, 4L, 2L).subSeq(1, 3).get(2);
+	}
+
+	@Test
+	public void map() {
+		final LongSeq seq = LongSeq.of(3L, 1L, 5L, 4L, 2L);
+		Assert.assertEquals(seq.map(v -> v*2).toArray(), new long[]{6L, 2L, 10L, 8L, 4L});
+		Assert.assertEquals(seq.toArray(), new long[]{3L, 1L, 5L, 4L, 2L});
+	}
+
+	@Test
+	public void stream() {
+		Assert.assertEquals(LongSeq.of(3L, 1L, 5L, 4L, 2L).stream().sum(), 15L);
+		Assert.assertEquals(LongSeq.of(3L, 1L, 5L, 4L, 2L).subSeq(1, 3).stream().toArray(), new long[]{1L, 5L});
+	}
+
+	@Test
+	public void sort() {
+		final MLongSeq seq = MLongSeq.of(3L, 1L, 5L, 4L, 2L);
+		final long[] expected = {3L, 1L, 5L, 4L, 2L};
+		Arrays.sort(expected);
+
+		Assert.assertEquals(seq.sort().toArray(), expected);
+	}
+
+	@Test
+	public void sortRange() {
+		final MLongSeq seq = MLongSeq.of(3L, 1L, 5L, 4L, 2L);
+		final long[] expected = {3L, 1L, 5L, 4L, 2L};
+		Arrays.sort(expected, 1, 4);
+
+		Assert.assertEquals(seq.sort(1, 4).toArray(), expected);
+	}
+
+	@Test
+	public void subSeqView() {
+		final MLongSeq seq = MLongSeq.of(3L, 1L, 5L, 4L, 2L);
+		final MLongSeq sub = seq.subSeq(2);
+		sub.set(0, 2L);
+
+		Assert.assertEquals(sub.length(), 3);
+		Assert.assertEquals(seq.get(2), 2L);
+	}
+
+	@Test
+	public void copy() {
+		final LongSeq seq = LongSeq.of(3L, 1L, 5L, 4L, 2L);
+		final MLongSeq copy = seq.copy();
+		copy.set(0, 2L);
+
+		Assert.assertEquals(seq.get(0), 3L);
+		Assert.assertEquals(copy.get(0), 2L);
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final MLongSeq seq = MLongSeq.of(3L, 1L, 5L, 4L, 2L);
+		final LongSeq immutable = seq.toLongSeq();
+		final ISeq<Long> boxed = seq.boxed();
+		seq.set(0, 2L);
+
+		Assert.assertEquals(seq.get(0), 2L);
+		Assert.assertEquals(immutable.get(0), 3L);
+		Assert.assertEquals(boxed.get(0).longValue(), 3L);
+	}
+
+	@Test
+	public void boxed() {
+		Assert.assertEquals(
+			LongSeq.of(3L, 1L, 5L, 4L, 2L).boxed(),
+			ISeq.of(3L, 1L, 5L, 4L, 2L)
+		);
+	}
+
+	@Test
+	public void equals() {
+		final LongSeq seq = LongSeq.of(3L, 1L, 5L, 4L, 2L);
+		final MLongSeq mseq = MLongSeq.of(3L, 1L, 5L, 4L, 2L);
+
+		Assert.assertEquals(mseq, seq);
+		Assert.assertEquals(mseq.hashCode(), seq.hashCode());
+		Assert.assertEquals(seq.subSeq(1, 3), LongSeq.of(1L, 5L));
+		Assert.assertNotEquals(seq.subSeq(1, 3), LongSeq.of(1L, 4L));
+	}
+
+	@Test
+	public void statistics() {
+		final LongMomentStatistics statistics = new LongMomentStatistics();
+		statistics.accept(LongSeq.of(3L, 1L, 5L, 4L, 2L));
+
+		Assert.assertEquals(statistics.count(), 5);
+		Assert.assertEquals(statistics.sum(), 15L);
+		Assert.assertEquals(statistics.min(), 1L);
+		Assert.assertEquals(statistics.max(), 5L);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		Serialize.object.test(LongSeq.of(3L, 1L, 5L, 4L, 2L));
+		Serialize.object.test(MLongSeq.of(3L, 1L, 5L, 4L, 2L).subSeq(1, 4));
+	}
+
+}
@@ -75,6 +75,18 @@ public class ProxySorterTest {
 	}
 
 
+	@Test(dataProvider = "arrayLengths")
+	public void timSortSeqSize(final int size) {
+		final double[] array = new Random().doubles(size).toArray();
+
+		final int[] indexes = ProxySorter.sort(DoubleSeq.of(array));
+		final double[] sorted = array.clone();
+		Arrays.sort(sorted);
+		for (int i = 0; i < array.length; ++i) {
+			Assert.assertEquals(array[indexes[i]], sorted[i]);
+		}
+	}
+
 	@DataProvider(name = "arrays")
 	public Object[][] arrays() {
 		return new Object[][] {
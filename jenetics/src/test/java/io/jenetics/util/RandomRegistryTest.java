@@ -183,4 +183,51 @@ public class RandomRegistryTest {
 		assertEquals(genotypes1, genotypes2);
 	}
 
+	@Test
+	public void splitTask() {
+		final SplitRandom random = new SplitRandom(123);
+
+		final long value = RandomRegistry.with(random, r ->
+			RandomRegistry.split(7, 3, () -> RandomRegistry.random().nextLong())
+		);
+		Assert.assertEquals(value, random.split(7, 3).nextLong());
+		final long captured = RandomRegistry.split(random, 7, 3, () ->
+			RandomRegistry.random().nextLong()
+		);
+		Assert.assertEquals(captured, value);
+	}
+
+	@Test
+	public void splitTaskNonSplittable() {
+		final Random random = new Random(123);
+
+		final Random task = RandomRegistry.with(random, r ->
+			RandomRegistry.split(7, 3, RandomRegistry::random)
+		);
+		assertSame(task, random);
+	}
+
+	@Test
+	public void splitTaskThreading() throws Exception {
+		final SplitRandom random = new SplitRandom(456);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(10);
+		try {
+			final List<Future<Long>> futures = IntStream.range(0, 500)
+				.mapToObj(i -> executor.submit(() ->
+					RandomRegistry.split(random, 1, i, () ->
+						RandomRegistry.random().nextLong())))
+				.collect(toList());
+
+			for (int i = 0; i < futures.size(); ++i) {
+				Assert.assertEquals(
+					futures.get(i).get().longValue(),
+					random.split(1, i).nextLong()
+				);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SplitRandomTest {
+
+	@Test
+	public void sameSeed() {
+		final Random random1 = new SplitRandom(123);
+		final Random random2 = new SplitRandom(123);
+
+		for (int i = 0; i < 1000; ++i) {
+			Assert.assertEquals(random1.nextLong(), random2.nextLong());
+		}
+	}
+
+	@Test
+	public void setSeed() {
+		final SplitRandom random = new SplitRandom(123);
+		final long[] values = LongStream.generate(random::nextLong)
+			.limit(100)
+			.toArray();
+
+		random.setSeed(123);
+		Assert.assertEquals(random.seed(), 123L);
+		Assert.assertEquals(
+			LongStream.generate(random::nextLong).limit(100).toArray(),
+			values
+		);
+	}
+
+	@Test
+	public void splitIndependentOfState() {
+		final SplitRandom random = new SplitRandom(123);
+		final SplitRandom child1 = random.split(10, 3);
+		for (int i = 0; i < 100; ++i) {
+			random.nextLong();
+		}
+		final SplitRandom child2 = random.split(10, 3);
+
+		Assert.assertEquals(child1.seed(), child2.seed());
+		for (int i = 0; i < 100; ++i) {
+			Assert.assertEquals(child1.nextLong(), child2.nextLong());
+		}
+	}
+
+	@Test
+	public void splitDifferentKeys() {
+		final SplitRandom random = new SplitRandom(123);
+
+		final long count = LongStream.range(0, 1000)
+			.flatMap(g -> LongStream.range(0, 10)
+				.map(i -> random.split(g, i).nextLong()))
+			.distinct()
+			.count();
+
+		Assert.assertEquals(count, 10_000L);
+		Assert.assertNotEquals(random.split(1).seed(), random.split(1, 0).seed());
+	}
+
+	@Test
+	public void nextDoubleRange() {
+		final Random random = new SplitRandom(456);
+		final double mean = DoubleStream.generate(random::nextDouble)
+			.limit(100_000)
+			.peek(v -> Assert.assertTrue(v >= 0 && v < 1, "Invalid value: " + v))
+			.average()
+			.orElseThrow();
+
+		Assert.assertEquals(mean, 0.5, 0.01);
+	}
+
+	@Test
+	public void nextIntBound() {
+		final Random random = new SplitRandom(789);
+		for (int i = 0; i < 10_000; ++i) {
+			final int value = random.nextInt(17);
+			Assert.assertTrue(value >= 0 && value < 17);
+		}
+	}
+
+}